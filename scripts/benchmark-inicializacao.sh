@@ -0,0 +1,52 @@
+#!/usr/bin/env bash
+#
+# Mede o tempo até a primeira requisição respondida e o RSS após essa requisição
+# para cada modo de inicialização disponível em target/:
+#   - padrao:              java -jar (jar executável)
+#   - aot-cds:             target/inicializacao-rapida/executar.sh (perfil inicializacao-rapida)
+#   - nativo:              target/sistema-suporte-tecnico (perfil native, requer GraalVM)
+#
+# Uso: scripts/benchmark-inicializacao.sh [repeticoes]
+#
+set -uo pipefail
+
+cd "$(dirname "$0")/.."
+REPETICOES="${1:-5}"
+PORTA=18080
+URL="http://localhost:$PORTA/api/suporte"
+
+medir() {
+    local modo="$1"; shift
+    local soma_ms=0 soma_rss=0
+    for _ in $(seq 1 "$REPETICOES"); do
+        local inicio fim pid rss
+        inicio=$(date +%s%N)
+        "$@" --server.port=$PORTA > /dev/null 2>&1 &
+        pid=$!
+        until curl -sf -o /dev/null "$URL"; do
+            if ! kill -0 "$pid" 2>/dev/null; then
+                echo "$modo: processo encerrou antes de responder" >&2
+                return
+            fi
+            sleep 0.01
+        done
+        fim=$(date +%s%N)
+        rss=$(awk '/VmRSS/ {print $2}' "/proc/$pid/status" 2>/dev/null || echo 0)
+        kill "$pid"; wait "$pid" 2>/dev/null
+        soma_ms=$((soma_ms + (fim - inicio) / 1000000))
+        soma_rss=$((soma_rss + rss))
+    done
+    printf "%-10s primeira requisição: %6d ms   RSS: %7d KB\n" \
+        "$modo" $((soma_ms / REPETICOES)) $((soma_rss / REPETICOES))
+}
+
+JAR=target/sistema-suporte-tecnico-1.0.0.jar
+if [ -f "$JAR" ]; then
+    medir padrao java -jar "$JAR"
+fi
+if [ -x target/inicializacao-rapida/executar.sh ]; then
+    medir aot-cds target/inicializacao-rapida/executar.sh
+fi
+if [ -x target/sistema-suporte-tecnico ]; then
+    medir nativo target/sistema-suporte-tecnico
+fi
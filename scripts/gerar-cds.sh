@@ -0,0 +1,37 @@
+#!/usr/bin/env bash
+#
+# Gera a distribuição de inicialização rápida (perfil Maven "inicializacao-rapida"):
+# extrai o jar processado pelo Spring AOT e cria o arquivo AppCDS com uma execução
+# de treino que encerra logo após o refresh do contexto.
+#
+# Uso: scripts/gerar-cds.sh target/sistema-suporte-tecnico-1.0.0.jar
+#
+set -euo pipefail
+
+JAR="$(cd "$(dirname "$1")" && pwd)/$(basename "$1")"
+DESTINO="$(dirname "$JAR")/inicializacao-rapida"
+
+rm -rf "$DESTINO"
+mkdir -p "$DESTINO/app"
+cd "$DESTINO/app"
+unzip -q "$JAR"
+cd "$DESTINO"
+
+MAIN=$(grep '^Start-Class:' app/META-INF/MANIFEST.MF | cut -d' ' -f2 | tr -d '\r')
+
+# O AppCDS não aceita diretórios não vazios no classpath: as classes da aplicação viram um jar
+jar cf app/aplicacao.jar -C app/BOOT-INF/classes .
+CLASSPATH="app/aplicacao.jar$(find app/BOOT-INF/lib -name '*.jar' | sort | sed 's/^/:/' | tr -d '\n')"
+
+# O classpath precisa ser idêntico no treino e na execução para o arquivo CDS ser aceito
+cat > executar.sh <<SCRIPT
+#!/usr/bin/env bash
+cd "\$(dirname "\$0")"
+exec java -XX:SharedArchiveFile=app.jsa -Dspring.aot.enabled=true \${JAVA_OPTS:-} -cp "$CLASSPATH" $MAIN "\$@"
+SCRIPT
+chmod +x executar.sh
+
+java -XX:ArchiveClassesAtExit=app.jsa -Dspring.aot.enabled=true -Dspring.context.exit=onRefresh \
+    -cp "$CLASSPATH" "$MAIN" --server.port=0 > treino-cds.log 2>&1
+
+echo "Distribuição gerada em $DESTINO (execute $DESTINO/executar.sh)"
@@ -0,0 +1,33 @@
+#!/usr/bin/env bash
+#
+# Sobe um líder e N seguidores em JVMs separadas no localhost
+#   líder:       HTTP 8080, log de replicação na porta 7070
+#   seguidor i:  HTTP 8080+i
+# Cada instância grava o arquivo frio no próprio diretório (dados/lider, dados/seguidor-i)
+#
+# Uso: scripts/replicacao-local.sh [seguidores]   (Ctrl+C encerra todas as instâncias)
+#
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+SEGUIDORES="${1:-2}"
+JAR=target/sistema-suporte-tecnico-1.0.0.jar
+[ -f "$JAR" ] || ./mvnw -q -DskipTests package
+
+PIDS=()
+trap 'kill "${PIDS[@]}" 2>/dev/null' EXIT
+
+java -jar "$JAR" --server.port=8080 --suporte.replicacao.modo=LIDER --suporte.replicacao.porta=7070 \
+    --suporte.arquivo.diretorio=dados/lider > target/replicacao-lider.log 2>&1 &
+PIDS+=($!)
+echo "Líder:      http://localhost:8080 (log em target/replicacao-lider.log)"
+
+for i in $(seq 1 "$SEGUIDORES"); do
+    java -jar "$JAR" --server.port=$((8080 + i)) --suporte.replicacao.modo=SEGUIDOR \
+        --suporte.replicacao.lider-porta=7070 --suporte.replicacao.lider-url=http://localhost:8080 \
+        --suporte.arquivo.diretorio="dados/seguidor-$i" > "target/replicacao-seguidor-$i.log" 2>&1 &
+    PIDS+=($!)
+    echo "Seguidor $i: http://localhost:$((8080 + i)) (log em target/replicacao-seguidor-$i.log)"
+done
+
+wait
@@ -0,0 +1,64 @@
+package br.com.fiap.byteshoponlineapp.api;
+
+import java.util.List;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import br.com.fiap.byteshoponlineapp.api.diagnostico.RequisicoesLentas;
+import br.com.fiap.byteshoponlineapp.webhook.DespachanteWebhook;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/**
+ * Controller REST de diagnóstico de desempenho
+ *
+ * Endpoints disponíveis:
+ * GET /api/diagnostico/requisicoes-lentas - Últimas requisições acima do limiar, com o tempo por fase
+ * GET /api/diagnostico/webhooks - Fila e contadores de entrega de cada destino de webhook
+ */
+@Tag(name = "Diagnóstico", description = "Informações de desempenho da aplicação")
+@RestController
+@RequestMapping("/api/diagnostico")
+@ConditionalOnProperty(prefix = "suporte.diagnostico", name = "habilitado", havingValue = "true", matchIfMissing = true)
+public class DiagnosticoController {
+
+    private final RequisicoesLentas requisicoesLentas;
+    private final ObjectProvider<DespachanteWebhook> webhooks;
+
+    public DiagnosticoController(RequisicoesLentas requisicoesLentas, ObjectProvider<DespachanteWebhook> webhooks) {
+        this.requisicoesLentas = requisicoesLentas;
+        this.webhooks = webhooks;
+    }
+
+    @Operation(
+        summary = "Listar requisições lentas",
+        description = "Retorna as últimas requisições acima de suporte.diagnostico.lentas.limiar, da mais lenta para a mais rápida, com o tempo de cada fase (entrada, validacao, mapeamento, servico, repositorio, serializacao) em milissegundos."
+    )
+    @GetMapping("/requisicoes-lentas")
+    public ResponseEntity<RequisicoesLentasResponse> listarRequisicoesLentas() {
+        return ResponseEntity.ok(new RequisicoesLentasResponse(
+                requisicoesLentas.totalRegistradas(),
+                requisicoesLentas.listar()
+        ));
+    }
+
+    @Operation(
+        summary = "Estado dos webhooks",
+        description = "Para cada destino configurado em suporte.webhook.destinos: eventos pendentes na fila, entregues, lotes, tentativas que falharam e eventos descartados (fila cheia ou tentativas esgotadas). Lista vazia com os webhooks desabilitados."
+    )
+    @GetMapping("/webhooks")
+    public ResponseEntity<List<DespachanteWebhook.EstatisticasDestino>> listarWebhooks() {
+        DespachanteWebhook despachante = webhooks.getIfAvailable();
+        return ResponseEntity.ok(despachante != null ? despachante.estatisticas() : List.of());
+    }
+
+    /**
+     * Record com o total já registrado e as requisições lentas retidas no anel
+     */
+    public record RequisicoesLentasResponse(long totalRegistradas, List<RequisicoesLentas.RequisicaoLenta> requisicoes) {}
+}
@@ -0,0 +1,95 @@
+package br.com.fiap.byteshoponlineapp.api;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import br.com.fiap.byteshoponlineapp.api.diagnostico.AcessoDiagnosticoNegadoException;
+import br.com.fiap.byteshoponlineapp.jfr.GravacaoJfr;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/**
+ * Controller REST da gravação JFR sob demanda
+ *
+ * Todos os endpoints exigem o header X-Diagnostico-Token igual a suporte.diagnostico.jfr.token;
+ * com o token vazio (padrão), ficam desabilitados.
+ *
+ * Endpoints disponíveis:
+ * GET  /api/diagnostico/jfr           - Estado da gravação
+ * POST /api/diagnostico/jfr/iniciar   - Inicia uma gravação (?configuracao=default|profile)
+ * POST /api/diagnostico/jfr/despejar  - Grava o conteúdo atual em disco sem parar
+ * POST /api/diagnostico/jfr/parar     - Para a gravação e grava em disco
+ */
+@Tag(name = "Diagnóstico", description = "Informações de desempenho da aplicação")
+@RestController
+@RequestMapping("/api/diagnostico/jfr")
+public class GravacaoJfrController {
+
+    public static final String HEADER_TOKEN = "X-Diagnostico-Token";
+
+    private final GravacaoJfr gravacao;
+    private final byte[] token;
+
+    public GravacaoJfrController(GravacaoJfr gravacao,
+                                 @Value("${suporte.diagnostico.jfr.token:}") String token) {
+        this.gravacao = gravacao;
+        this.token = token.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Operation(summary = "Estado da gravação JFR")
+    @GetMapping
+    public ResponseEntity<GravacaoJfr.EstadoGravacao> estado(
+            @Parameter(description = "Token de diagnóstico") @RequestHeader(name = HEADER_TOKEN, required = false) String token) {
+        autorizar(token);
+        return ResponseEntity.ok(gravacao.estado());
+    }
+
+    @Operation(
+        summary = "Iniciar gravação JFR",
+        description = "Inicia uma gravação com a configuração do JDK informada mais os eventos do sistema (repositório, transições de status e exceções tratadas). Para sozinha após suporte.diagnostico.jfr.duracao-maxima."
+    )
+    @PostMapping("/iniciar")
+    public ResponseEntity<GravacaoJfr.EstadoGravacao> iniciar(
+            @Parameter(description = "Token de diagnóstico") @RequestHeader(name = HEADER_TOKEN, required = false) String token,
+            @Parameter(description = "Configuração do JDK: default (~1% de overhead) ou profile (mais detalhada)")
+            @RequestParam(defaultValue = "default") String configuracao) {
+        autorizar(token);
+        return ResponseEntity.ok(gravacao.iniciar(configuracao));
+    }
+
+    @Operation(summary = "Gravar em disco o conteúdo atual da gravação JFR, sem pará-la")
+    @PostMapping("/despejar")
+    public ResponseEntity<GravacaoJfr.ArquivoGravacao> despejar(
+            @Parameter(description = "Token de diagnóstico") @RequestHeader(name = HEADER_TOKEN, required = false) String token) {
+        autorizar(token);
+        return ResponseEntity.ok(gravacao.despejar());
+    }
+
+    @Operation(summary = "Parar a gravação JFR e gravar o resultado em disco")
+    @PostMapping("/parar")
+    public ResponseEntity<GravacaoJfr.ArquivoGravacao> parar(
+            @Parameter(description = "Token de diagnóstico") @RequestHeader(name = HEADER_TOKEN, required = false) String token) {
+        autorizar(token);
+        return ResponseEntity.ok(gravacao.parar());
+    }
+
+    private void autorizar(String recebido) {
+        if (token.length == 0) {
+            throw new AcessoDiagnosticoNegadoException(
+                    "Gravação JFR desabilitada: configure suporte.diagnostico.jfr.token");
+        }
+        if (recebido == null || !MessageDigest.isEqual(token, recebido.getBytes(StandardCharsets.UTF_8))) {
+            throw new AcessoDiagnosticoNegadoException("Token de diagnóstico ausente ou inválido");
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package br.com.fiap.byteshoponlineapp.api;
+
+import java.io.InputStream;
+import java.util.List;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import br.com.fiap.byteshoponlineapp.service.exception.RegraDeNegocioException;
+import br.com.fiap.byteshoponlineapp.service.importacao.FormatoImportacao;
+import br.com.fiap.byteshoponlineapp.service.importacao.ImportadorSolicitacoes;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/**
+ * Controller REST da importação em massa de solicitações
+ *
+ * Fica fora de /api/suporte para não ocupar o limite de concorrência da admissão durante
+ * importações longas; o corpo é lido em streaming, sem ser carregado inteiro em memória.
+ *
+ * Endpoints disponíveis:
+ * POST /api/importacao - Importa um corpo text/csv ou application/x-ndjson
+ * GET  /api/importacao - Progresso das importações em andamento e das últimas concluídas
+ */
+@Tag(name = "Importação", description = "Importação em massa de solicitações de suporte")
+@RestController
+@RequestMapping("/api/importacao")
+public class ImportacaoController {
+
+    private final ImportadorSolicitacoes importador;
+
+    public ImportacaoController(ImportadorSolicitacoes importador) {
+        this.importador = importador;
+    }
+
+    @Operation(
+        summary = "Importar solicitações em massa",
+        description = "CSV (com cabeçalho titulo,descricao,prioridade[,status,dataCriacao,dataAtualizacao]) ou NDJSON (um objeto por linha com os mesmos campos). Registros inválidos são rejeitados individualmente e listados no resumo."
+    )
+    @PostMapping
+    public ResponseEntity<ImportadorSolicitacoes.ResumoImportacao> importar(
+            @Parameter(description = "text/csv ou application/x-ndjson") @RequestHeader(HttpHeaders.CONTENT_TYPE) String tipo,
+            InputStream corpo) {
+        FormatoImportacao formato = FormatoImportacao.doContentType(tipo);
+        if (formato == null) {
+            throw new RegraDeNegocioException("Content-Type não suportado na importação: " + tipo);
+        }
+        return ResponseEntity.ok(importador.importar(corpo, formato));
+    }
+
+    @Operation(summary = "Progresso das importações em andamento e das últimas concluídas")
+    @GetMapping
+    public ResponseEntity<List<ImportadorSolicitacoes.ResumoImportacao>> listar() {
+        return ResponseEntity.ok(importador.listar());
+    }
+}
@@ -0,0 +1,43 @@
+package br.com.fiap.byteshoponlineapp.api;
+
+import java.util.Map;
+
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/**
+ * Controller REST da prontidão da aplicação (para o readiness probe do balanceador ou do orquestrador)
+ *
+ * Endpoints disponíveis:
+ * GET /api/prontidao - 200 quando a aplicação aceita tráfego; 503 durante a inicialização e o aquecimento do JIT
+ */
+@Tag(name = "Prontidão", description = "Estado de prontidão da aplicação")
+@RestController
+@RequestMapping("/api/prontidao")
+public class ProntidaoController {
+
+    private final ApplicationAvailability disponibilidade;
+
+    public ProntidaoController(ApplicationAvailability disponibilidade) {
+        this.disponibilidade = disponibilidade;
+    }
+
+    @Operation(
+        summary = "Consultar prontidão",
+        description = "Responde 200 (ACCEPTING_TRAFFIC) só depois que a inicialização, incluindo o aquecimento do JIT, terminou; antes disso responde 503 (REFUSING_TRAFFIC)."
+    )
+    @GetMapping
+    public ResponseEntity<Map<String, ReadinessState>> consultar() {
+        ReadinessState estado = disponibilidade.getReadinessState();
+        HttpStatus status = estado == ReadinessState.ACCEPTING_TRAFFIC ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE;
+        return ResponseEntity.status(status).body(Map.of("estado", estado));
+    }
+}
@@ -1,8 +1,11 @@
 package br.com.fiap.byteshoponlineapp.api;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -12,16 +15,27 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import br.com.fiap.byteshoponlineapp.api.dto.AtualizarSolicitacaoRequest;
 import br.com.fiap.byteshoponlineapp.api.dto.AtualizarStatusRequest;
+import br.com.fiap.byteshoponlineapp.api.dto.LoteSolicitacoesResponse;
 import br.com.fiap.byteshoponlineapp.api.dto.SolicitacaoSuporteRequest;
 import br.com.fiap.byteshoponlineapp.api.dto.SolicitacaoSuporteResponse;
+import br.com.fiap.byteshoponlineapp.api.idempotencia.CacheIdempotencia;
+import br.com.fiap.byteshoponlineapp.api.json.Projecao;
+import br.com.fiap.byteshoponlineapp.api.json.SolicitacoesProjetadas;
+import br.com.fiap.byteshoponlineapp.domain.HistoricoStatus;
 import br.com.fiap.byteshoponlineapp.domain.SolicitacaoSuporte;
+import br.com.fiap.byteshoponlineapp.domain.enums.Prioridade;
 import br.com.fiap.byteshoponlineapp.domain.enums.StatusSolicitacao;
+import br.com.fiap.byteshoponlineapp.domain.repository.indice.Ordenacao;
+import br.com.fiap.byteshoponlineapp.service.MetricasTempoService;
 import br.com.fiap.byteshoponlineapp.service.SolicitacaoSuporteService;
+import br.com.fiap.byteshoponlineapp.service.exception.RegraDeNegocioException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -37,29 +51,43 @@ import jakarta.validation.Valid;
  * 
  * Endpoints disponíveis:
  * POST   /api/suporte              - Cria nova solicitação
- * GET    /api/suporte              - Lista todas as solicitações
+ * GET    /api/suporte              - Lista todas as solicitações (?sort=prioridade&limite=N)
  * GET    /api/suporte/{id}         - Busca solicitação por ID
+ * GET    /api/suporte/lote?ids=1,2 - Busca várias solicitações por ID
  * GET    /api/suporte/status/{status} - Lista por status
+ * GET    /api/suporte/consulta     - Consulta com filtros combinados (status, prioridade, data)
  * PUT    /api/suporte/{id}         - Atualiza solicitação
  * PATCH  /api/suporte/{id}/status  - Atualiza status
  * PATCH  /api/suporte/{id}/encerrar - Encerra solicitação
  * DELETE /api/suporte/{id}         - Remove solicitação
  * GET    /api/suporte/estatisticas - Obtém estatísticas
+ * GET    /api/suporte/{id}/historico - Lista o histórico de status
+ * GET    /api/suporte/metricas/tempos - Obtém quantis de tempo por status e prioridade
  */
 @Tag(name = "Suporte Técnico", description = "APIs para gerenciamento de solicitações de suporte técnico")
 @RestController
 @RequestMapping("/api/suporte")
 public class SolicitacaoSuporteController {
 
+    private static final String HEADER_TOTAL = "X-Total-Count";
+    private static final int LIMITE_MAXIMO_CONSULTA = 1000;
+    private static final int LIMITE_MAXIMO_LOTE = 500;
+
     private final SolicitacaoSuporteService service;
+    private final MetricasTempoService metricasTempo;
+    private final CacheIdempotencia idempotencia;
 
-    public SolicitacaoSuporteController(SolicitacaoSuporteService service) {
+    public SolicitacaoSuporteController(SolicitacaoSuporteService service, MetricasTempoService metricasTempo,
+                                        CacheIdempotencia idempotencia) {
         this.service = service;
+        this.metricasTempo = metricasTempo;
+        this.idempotencia = idempotencia;
     }
 
     /**
      * POST /api/suporte
      * Cria uma nova solicitação de suporte
+     * Com o header Idempotency-Key, repetições devolvem a resposta original
      * Status Code: 201 Created
      */
     @Operation(
@@ -111,16 +139,29 @@ public class SolicitacaoSuporteController {
                     """
                 )
             )
+        ),
+        @ApiResponse(
+            responseCode = "422", 
+            description = "Idempotency-Key inválido ou já usado com outro corpo de requisição"
         )
     })
     @PostMapping
     public ResponseEntity<SolicitacaoSuporteResponse> criar(
-            @Valid @RequestBody SolicitacaoSuporteRequest request) {
+            @Valid @RequestBody SolicitacaoSuporteRequest request,
+            @Parameter(description = "Chave única da tentativa: repetições com a mesma chave devolvem a resposta original sem criar outra solicitação")
+            @RequestHeader(value = CacheIdempotencia.HEADER_CHAVE, required = false) String chaveIdempotencia) {
         
-        SolicitacaoSuporte solicitacao = service.criar(request);
-        SolicitacaoSuporteResponse response = new SolicitacaoSuporteResponse(solicitacao);
+        if (chaveIdempotencia == null) {
+            SolicitacaoSuporte solicitacao = service.criar(request);
+            return ResponseEntity.status(HttpStatus.CREATED).body(new SolicitacaoSuporteResponse(solicitacao));
+        }
         
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        CacheIdempotencia.Resultado resultado = idempotencia.executar(chaveIdempotencia, request,
+                () -> new SolicitacaoSuporteResponse(service.criar(request)));
+        
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .header(CacheIdempotencia.HEADER_REPETIDA, String.valueOf(resultado.repetida()))
+                .body(resultado.resposta());
     }
 
     /**
@@ -130,7 +171,7 @@ public class SolicitacaoSuporteController {
      */
     @Operation(
         summary = "Listar todas as solicitações",
-        description = "Retorna uma lista com todas as solicitações de suporte cadastradas no sistema, independente do status."
+        description = "Retorna uma lista com todas as solicitações de suporte cadastradas no sistema, independente do status. Com sort, os resultados vêm já ordenados do índice (ex.: ?sort=prioridade&limite=20)."
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -143,8 +184,22 @@ public class SolicitacaoSuporteController {
         )
     })
     @GetMapping
-    public ResponseEntity<List<SolicitacaoSuporteResponse>> listarTodas() {
-        List<SolicitacaoSuporte> solicitacoes = service.listarTodas();
+    public ResponseEntity<?> listarTodas(
+            @Parameter(description = "Ordenação: prioridade (mais alta e mais antiga primeiro), dataCriacao ou -dataCriacao")
+            @RequestParam(required = false) String sort,
+            @Parameter(description = "Quantidade máxima de resultados")
+            @RequestParam(required = false) Integer limite,
+            @Parameter(description = "Campos a incluir na resposta, separados por vírgula (ex.: id,status,prioridade,titulo)")
+            @RequestParam(required = false) String fields) {
+        
+        Projecao projecao = projecaoDe(fields);
+        Ordenacao ordenacao = ordenacaoDe(sort);
+        List<SolicitacaoSuporte> solicitacoes = ordenacao != null
+                ? service.listarTodas(ordenacao, limiteDe(limite))
+                : service.listarTodas(limiteDe(limite));
+        if (projecao != null) {
+            return ResponseEntity.ok(SolicitacoesProjetadas.lista(solicitacoes, projecao));
+        }
         
         List<SolicitacaoSuporteResponse> response = solicitacoes.stream()
                 .map(SolicitacaoSuporteResponse::new)
@@ -191,15 +246,71 @@ public class SolicitacaoSuporteController {
         )
     })
     @GetMapping("/{id}")
-    public ResponseEntity<SolicitacaoSuporteResponse> buscarPorId(
+    public ResponseEntity<?> buscarPorId(
             @Parameter(description = "ID da solicitação", required = true, example = "1")
-            @PathVariable Long id) {
+            @PathVariable Long id,
+            @Parameter(description = "Campos a incluir na resposta, separados por vírgula (ex.: id,status,prioridade,titulo)")
+            @RequestParam(required = false) String fields) {
+        Projecao projecao = projecaoDe(fields);
         SolicitacaoSuporte solicitacao = service.buscarPorId(id);
+        if (projecao != null) {
+            return ResponseEntity.ok(SolicitacoesProjetadas.unica(solicitacao, projecao));
+        }
         SolicitacaoSuporteResponse response = new SolicitacaoSuporteResponse(solicitacao);
         
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * GET /api/suporte/lote?ids=1,2,3
+     * Busca várias solicitações por ID em uma chamada
+     * Status Code: 200 OK
+     */
+    @Operation(
+        summary = "Buscar várias solicitações por ID",
+        description = "Retorna as solicitações dos IDs informados (até " + LIMITE_MAXIMO_LOTE + "), na ordem pedida. IDs inexistentes são listados em naoEncontradas em vez de gerar 404."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200", 
+            description = "Busca realizada (mesmo que algum ID não exista)",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = LoteSolicitacoesResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400", 
+            description = "Nenhum ID, ID inválido ou IDs demais",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    @GetMapping("/lote")
+    public ResponseEntity<LoteSolicitacoesResponse> buscarVarias(
+            @Parameter(description = "IDs separados por vírgula", required = true, example = "1,2,3")
+            @RequestParam List<Long> ids,
+            @Parameter(description = "Campos a incluir na resposta, separados por vírgula (ex.: id,status,prioridade,titulo)")
+            @RequestParam(required = false) String fields) {
+        
+        Projecao projecao = projecaoDe(fields);
+        if (ids.isEmpty() || ids.contains(null)) {
+            throw new RegraDeNegocioException("Informe ao menos um ID válido");
+        }
+        if (ids.size() > LIMITE_MAXIMO_LOTE) {
+            throw new RegraDeNegocioException("No máximo " + LIMITE_MAXIMO_LOTE + " IDs por chamada");
+        }
+        SolicitacaoSuporteService.ResultadoLote resultado = service.buscarVarias(ids);
+        List<?> encontradas = projecao != null
+                ? resultado.encontradas().stream()
+                        .map(solicitacao -> SolicitacoesProjetadas.unica(solicitacao, projecao))
+                        .collect(Collectors.toList())
+                : resultado.encontradas().stream()
+                        .map(SolicitacaoSuporteResponse::new)
+                        .collect(Collectors.toList());
+        
+        return ResponseEntity.ok(new LoteSolicitacoesResponse(encontradas, resultado.naoEncontradas()));
+    }
+
     /**
      * GET /api/suporte/status/{status}
      * Lista solicitações por status
@@ -225,7 +336,7 @@ public class SolicitacaoSuporteController {
         )
     })
     @GetMapping("/status/{status}")
-    public ResponseEntity<List<SolicitacaoSuporteResponse>> listarPorStatus(
+    public ResponseEntity<?> listarPorStatus(
             @Parameter(
                 description = "Status da solicitação para filtrar", 
                 required = true,
@@ -235,9 +346,22 @@ public class SolicitacaoSuporteController {
                     allowableValues = {"ABERTA", "EM_ANDAMENTO", "RESOLVIDA", "FECHADA"}
                 )
             )
-            @PathVariable StatusSolicitacao status) {
+            @PathVariable StatusSolicitacao status,
+            @Parameter(description = "Ordenação: prioridade (mais alta e mais antiga primeiro), dataCriacao ou -dataCriacao")
+            @RequestParam(required = false) String sort,
+            @Parameter(description = "Quantidade máxima de resultados")
+            @RequestParam(required = false) Integer limite,
+            @Parameter(description = "Campos a incluir na resposta, separados por vírgula (ex.: id,status,prioridade,titulo)")
+            @RequestParam(required = false) String fields) {
         
-        List<SolicitacaoSuporte> solicitacoes = service.listarPorStatus(status);
+        Projecao projecao = projecaoDe(fields);
+        Ordenacao ordenacao = ordenacaoDe(sort);
+        List<SolicitacaoSuporte> solicitacoes = ordenacao != null
+                ? service.listarPorStatus(status, ordenacao, limiteDe(limite))
+                : service.listarPorStatus(status, limiteDe(limite));
+        if (projecao != null) {
+            return ResponseEntity.ok(SolicitacoesProjetadas.lista(solicitacoes, projecao));
+        }
         
         List<SolicitacaoSuporteResponse> response = solicitacoes.stream()
                 .map(SolicitacaoSuporteResponse::new)
@@ -246,6 +370,71 @@ public class SolicitacaoSuporteController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * GET /api/suporte/consulta
+     * Consulta combinando filtros de status, prioridade e data de criação
+     * Status Code: 200 OK (total de resultados no header X-Total-Count)
+     */
+    @Operation(
+        summary = "Consultar solicitações com filtros combinados",
+        description = "Valores repetidos de um mesmo filtro são combinados com OU; filtros diferentes, com E. Resultado ordenado da solicitação mais recente para a mais antiga. Ex.: ?status=ABERTA&status=EM_ANDAMENTO&prioridade=ALTA&prioridade=CRITICA&criadaDe=2025-11-03"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200", 
+            description = "Consulta realizada com sucesso (pode estar vazia)",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = SolicitacaoSuporteResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400", 
+            description = "Filtro ou limite inválido",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    @GetMapping("/consulta")
+    public ResponseEntity<?> consultar(
+            @Parameter(description = "Status aceitos (repetível)")
+            @RequestParam(name = "status", required = false) Set<StatusSolicitacao> status,
+            @Parameter(description = "Prioridades aceitas (repetível)")
+            @RequestParam(name = "prioridade", required = false) Set<Prioridade> prioridades,
+            @Parameter(description = "Primeiro dia de criação (inclusive)", example = "2025-11-03")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate criadaDe,
+            @Parameter(description = "Último dia de criação (inclusive)", example = "2025-11-09")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate criadaAte,
+            @Parameter(description = "Quantidade máxima de resultados (1 a 1000)", example = "100")
+            @RequestParam(defaultValue = "100") int limite,
+            @Parameter(description = "Campos a incluir na resposta, separados por vírgula (ex.: id,status,prioridade,titulo)")
+            @RequestParam(required = false) String fields) {
+        
+        Projecao projecao = projecaoDe(fields);
+        if (limite < 1 || limite > LIMITE_MAXIMO_CONSULTA) {
+            throw new RegraDeNegocioException("O limite deve estar entre 1 e " + LIMITE_MAXIMO_CONSULTA);
+        }
+        
+        SolicitacaoSuporteService.ResultadoConsulta resultado = service.consultar(
+                status != null ? status : Set.of(),
+                prioridades != null ? prioridades : Set.of(),
+                criadaDe,
+                criadaAte,
+                limite
+        );
+        
+        ResponseEntity.BodyBuilder ok = ResponseEntity.ok()
+                .header(HEADER_TOTAL, String.valueOf(resultado.total()));
+        if (projecao != null) {
+            return ok.body(SolicitacoesProjetadas.lista(resultado.solicitacoes(), projecao));
+        }
+        
+        List<SolicitacaoSuporteResponse> response = resultado.solicitacoes().stream()
+                .map(SolicitacaoSuporteResponse::new)
+                .collect(Collectors.toList());
+        
+        return ok.body(response);
+    }
+
     /**
      * PUT /api/suporte/{id}
      * Atualiza informações de uma solicitação
@@ -492,4 +681,98 @@ public class SolicitacaoSuporteController {
         SolicitacaoSuporteService.EstatisticasSuporte estatisticas = service.obterEstatisticas();
         return ResponseEntity.ok(estatisticas);
     }
+
+    /**
+     * GET /api/suporte/{id}/historico
+     * Lista o histórico de transições de status de uma solicitação
+     * Status Code: 200 OK ou 404 Not Found
+     */
+    @Operation(
+        summary = "Listar histórico de status",
+        description = "Retorna as transições de status registradas para a solicitação, da criação até o status atual."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200", 
+            description = "Histórico retornado com sucesso",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    value = """
+                    [
+                      { "status": "ABERTA", "instante": "2025-11-06T21:15:30" },
+                      { "status": "EM_ANDAMENTO", "instante": "2025-11-06T21:25:00" }
+                    ]
+                    """
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "404", 
+            description = "Solicitação não encontrada",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    @GetMapping("/{id}/historico")
+    public ResponseEntity<List<HistoricoStatus.Transicao>> listarHistorico(
+            @Parameter(description = "ID da solicitação", required = true, example = "1")
+            @PathVariable Long id) {
+        return ResponseEntity.ok(service.listarHistorico(id));
+    }
+
+    /**
+     * GET /api/suporte/metricas/tempos
+     * Obtém os quantis de tempo em cada status e até a resolução, por prioridade
+     * Status Code: 200 OK
+     */
+    @Operation(
+        summary = "Obter métricas de tempo",
+        description = "Retorna p50, p90 e p99 (em milissegundos) do tempo em cada status e do tempo até a resolução, agrupados por prioridade."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200", 
+            description = "Métricas retornadas com sucesso",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    @GetMapping("/metricas/tempos")
+    public ResponseEntity<MetricasTempoService.MetricasTempo> obterMetricasTempo() {
+        return ResponseEntity.ok(metricasTempo.obterMetricas());
+    }
+
+    /**
+     * Converte o parâmetro sort (null quando ausente)
+     */
+    private static Ordenacao ordenacaoDe(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return null;
+        }
+        return Ordenacao.doParametro(sort).orElseThrow(() -> new RegraDeNegocioException(
+                "Ordenação inválida: '" + sort + "'. Valores aceitos: prioridade, dataCriacao, -dataCriacao"));
+    }
+
+    /**
+     * Converte o parâmetro fields (null quando ausente: resposta completa)
+     */
+    private static Projecao projecaoDe(String fields) {
+        if (fields == null) {
+            return null;
+        }
+        try {
+            return Projecao.de(fields);
+        } catch (IllegalArgumentException e) {
+            throw new RegraDeNegocioException(e.getMessage());
+        }
+    }
+
+    private static int limiteDe(Integer limite) {
+        if (limite == null) {
+            return Integer.MAX_VALUE;
+        }
+        if (limite < 1) {
+            throw new RegraDeNegocioException("O limite deve ser maior que zero");
+        }
+        return limite;
+    }
 }
@@ -0,0 +1,46 @@
+package br.com.fiap.byteshoponlineapp.api.admissao;
+
+import java.security.Principal;
+
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Aplica o controle de admissão antes de o controller ser executado
+ *
+ * As recusas são lançadas como exceção e convertidas em 429/503 pelo GlobalExceptionHandler.
+ * O cliente é o usuário autenticado, se houver, ou o endereço remoto; um header enviado pelo
+ * próprio cliente não serve de chave, porque bastaria trocá-lo a cada requisição para ganhar
+ * um balde cheio. Atrás de um proxy, server.forward-headers-strategy faz o endereço remoto
+ * ser o do cliente original.
+ */
+public class AdmissaoInterceptor implements HandlerInterceptor {
+
+    private static final String ATRIBUTO_INICIO = AdmissaoInterceptor.class.getName() + ".inicio";
+
+    private final ControleAdmissao controle;
+
+    public AdmissaoInterceptor(ControleAdmissao controle) {
+        this.controle = controle;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Principal usuario = request.getUserPrincipal();
+        String cliente = usuario != null ? "usuario:" + usuario.getName() : request.getRemoteAddr();
+        controle.admitir(ClasseEndpoint.doMetodo(request.getMethod()), cliente);
+        request.setAttribute(ATRIBUTO_INICIO, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        Object inicio = request.getAttribute(ATRIBUTO_INICIO);
+        if (inicio != null) {
+            controle.concluir(ClasseEndpoint.doMetodo(request.getMethod()), (Long) inicio);
+        }
+    }
+}
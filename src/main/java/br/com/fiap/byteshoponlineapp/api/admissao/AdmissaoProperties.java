@@ -0,0 +1,156 @@
+package br.com.fiap.byteshoponlineapp.api.admissao;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Propriedades do controle de admissão (prefixo suporte.admissao)
+ */
+@ConfigurationProperties(prefix = "suporte.admissao")
+public class AdmissaoProperties {
+
+    private boolean habilitada = false;
+
+    /**
+     * Quantidade máxima de baldes de clientes por classe (LRU: sai o usado há mais tempo)
+     */
+    private int maximoClientes = 100_000;
+
+    private Taxa criacao = new Taxa(20, 40);
+    private Taxa leitura = new Taxa(200, 400);
+    private Taxa agente = new Taxa(100, 200);
+    private Concorrencia concorrencia = new Concorrencia();
+
+    public boolean isHabilitada() {
+        return habilitada;
+    }
+
+    public void setHabilitada(boolean habilitada) {
+        this.habilitada = habilitada;
+    }
+
+    public int getMaximoClientes() {
+        return maximoClientes;
+    }
+
+    public void setMaximoClientes(int maximoClientes) {
+        this.maximoClientes = maximoClientes;
+    }
+
+    public Taxa getCriacao() {
+        return criacao;
+    }
+
+    public void setCriacao(Taxa criacao) {
+        this.criacao = criacao;
+    }
+
+    public Taxa getLeitura() {
+        return leitura;
+    }
+
+    public void setLeitura(Taxa leitura) {
+        this.leitura = leitura;
+    }
+
+    public Taxa getAgente() {
+        return agente;
+    }
+
+    public void setAgente(Taxa agente) {
+        this.agente = agente;
+    }
+
+    public Concorrencia getConcorrencia() {
+        return concorrencia;
+    }
+
+    public void setConcorrencia(Concorrencia concorrencia) {
+        this.concorrencia = concorrencia;
+    }
+
+    public Taxa taxaDe(ClasseEndpoint classe) {
+        return switch (classe) {
+            case CRIACAO -> criacao;
+            case LEITURA -> leitura;
+            case AGENTE -> agente;
+        };
+    }
+
+    /**
+     * Taxa sustentada e rajada permitidas por cliente
+     */
+    public static class Taxa {
+
+        private double porSegundo;
+        private int rajada;
+
+        public Taxa() {
+        }
+
+        public Taxa(double porSegundo, int rajada) {
+            this.porSegundo = porSegundo;
+            this.rajada = rajada;
+        }
+
+        public double getPorSegundo() {
+            return porSegundo;
+        }
+
+        public void setPorSegundo(double porSegundo) {
+            this.porSegundo = porSegundo;
+        }
+
+        public int getRajada() {
+            return rajada;
+        }
+
+        public void setRajada(int rajada) {
+            this.rajada = rajada;
+        }
+    }
+
+    /**
+     * Limite adaptativo de requisições simultâneas (um por classe de endpoint)
+     */
+    public static class Concorrencia {
+
+        private int inicial = 32;
+        private int minimo = 4;
+        private int maximo = 512;
+        private Duration latenciaAlvo = Duration.ofMillis(250);
+
+        public int getInicial() {
+            return inicial;
+        }
+
+        public void setInicial(int inicial) {
+            this.inicial = inicial;
+        }
+
+        public int getMinimo() {
+            return minimo;
+        }
+
+        public void setMinimo(int minimo) {
+            this.minimo = minimo;
+        }
+
+        public int getMaximo() {
+            return maximo;
+        }
+
+        public void setMaximo(int maximo) {
+            this.maximo = maximo;
+        }
+
+        public Duration getLatenciaAlvo() {
+            return latenciaAlvo;
+        }
+
+        public void setLatenciaAlvo(Duration latenciaAlvo) {
+            this.latenciaAlvo = latenciaAlvo;
+        }
+    }
+}
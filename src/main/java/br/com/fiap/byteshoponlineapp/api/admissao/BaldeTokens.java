@@ -0,0 +1,49 @@
+package br.com.fiap.byteshoponlineapp.api.admissao;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket sem locks, implementado como GCRA (generic cell rate algorithm)
+ *
+ * Todo o estado é um único long, o instante teórico de chegada (TAT): cada requisição
+ * admitida o avança em um intervalo de emissão, e a requisição é recusada quando o TAT
+ * ficaria mais de "rajada" intervalos à frente do relógio. A atualização é um CAS.
+ */
+final class BaldeTokens {
+
+    private final long intervaloNanos;
+    private final long toleranciaNanos;
+    private final AtomicLong instanteTeorico;
+
+    BaldeTokens(double taxaPorSegundo, int rajada, long agoraNanos) {
+        this.intervaloNanos = (long) (1_000_000_000L / taxaPorSegundo);
+        this.toleranciaNanos = intervaloNanos * Math.max(1, rajada);
+        this.instanteTeorico = new AtomicLong(agoraNanos);
+    }
+
+    /**
+     * Tenta consumir um token
+     *
+     * @return 0 se admitida, ou quantos nanossegundos faltam para haver um token disponível
+     */
+    long tentarConsumir(long agoraNanos) {
+        while (true) {
+            long atual = instanteTeorico.get();
+            long novo = Math.max(atual, agoraNanos) + intervaloNanos;
+            long espera = novo - toleranciaNanos - agoraNanos;
+            if (espera > 0) {
+                return espera;
+            }
+            if (instanteTeorico.compareAndSet(atual, novo)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Indica se o balde voltou a ficar cheio (pode ser descartado sem perder estado)
+     */
+    boolean cheio(long agoraNanos) {
+        return instanteTeorico.get() <= agoraNanos;
+    }
+}
@@ -0,0 +1,70 @@
+package br.com.fiap.byteshoponlineapp.api.admissao;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Baldes de uma classe de endpoint por cliente, em um LRU limitado
+ *
+ * Dividido em segmentos com lock próprio; ao passar da capacidade, cada segmento descarta o
+ * cliente usado há mais tempo em O(1). Um cliente descartado volta com o balde cheio, o que só
+ * acontece depois de maximoClientes outros clientes terem sido vistos.
+ */
+final class BaldesPorCliente {
+
+    private final Segmento[] segmentos;
+
+    BaldesPorCliente(int capacidade, int numeroSegmentos) {
+        this.segmentos = new Segmento[numeroSegmentos];
+        int capacidadeSegmento = Math.max(1, capacidade / numeroSegmentos);
+        for (int i = 0; i < numeroSegmentos; i++) {
+            segmentos[i] = new Segmento(capacidadeSegmento);
+        }
+    }
+
+    /**
+     * Balde do cliente, criado cheio se ele ainda não tem um
+     */
+    BaldeTokens obter(String cliente, AdmissaoProperties.Taxa taxa, long agoraNanos) {
+        Segmento segmento = segmento(cliente);
+        synchronized (segmento) {
+            BaldeTokens balde = segmento.get(cliente);
+            if (balde == null) {
+                balde = new BaldeTokens(taxa.getPorSegundo(), taxa.getRajada(), agoraNanos);
+                segmento.put(cliente, balde);
+            }
+            return balde;
+        }
+    }
+
+    int tamanho() {
+        int total = 0;
+        for (Segmento segmento : segmentos) {
+            synchronized (segmento) {
+                total += segmento.size();
+            }
+        }
+        return total;
+    }
+
+    private Segmento segmento(String cliente) {
+        int hash = cliente.hashCode();
+        hash ^= hash >>> 16;
+        return segmentos[Math.floorMod(hash, segmentos.length)];
+    }
+
+    private static final class Segmento extends LinkedHashMap<String, BaldeTokens> {
+
+        private final int capacidade;
+
+        Segmento(int capacidade) {
+            super(16, 0.75f, true);
+            this.capacidade = capacidade;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, BaldeTokens> maisAntigo) {
+            return size() > capacidade;
+        }
+    }
+}
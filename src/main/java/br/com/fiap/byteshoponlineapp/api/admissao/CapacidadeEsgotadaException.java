@@ -0,0 +1,19 @@
+package br.com.fiap.byteshoponlineapp.api.admissao;
+
+/**
+ * Exceção lançada quando o limite de requisições simultâneas da classe de endpoint foi atingido
+ */
+public class CapacidadeEsgotadaException extends RuntimeException {
+
+    private final long retryAfterSegundos;
+
+    public CapacidadeEsgotadaException(ClasseEndpoint classe, long retryAfterSegundos) {
+        super("Servidor sobrecarregado para operações de " + classe.name().toLowerCase()
+                + ". Tente novamente em " + retryAfterSegundos + "s");
+        this.retryAfterSegundos = retryAfterSegundos;
+    }
+
+    public long getRetryAfterSegundos() {
+        return retryAfterSegundos;
+    }
+}
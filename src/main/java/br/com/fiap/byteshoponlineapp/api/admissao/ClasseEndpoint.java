@@ -0,0 +1,21 @@
+package br.com.fiap.byteshoponlineapp.api.admissao;
+
+/**
+ * Classes de endpoint com limites de admissão independentes
+ */
+public enum ClasseEndpoint {
+    /** Abertura de solicitações (POST) */
+    CRIACAO,
+    /** Consultas (GET) */
+    LEITURA,
+    /** Operações dos atendentes: atualizar, mudar status, encerrar e remover */
+    AGENTE;
+
+    public static ClasseEndpoint doMetodo(String metodoHttp) {
+        return switch (metodoHttp) {
+            case "POST" -> CRIACAO;
+            case "PUT", "PATCH", "DELETE" -> AGENTE;
+            default -> LEITURA;
+        };
+    }
+}
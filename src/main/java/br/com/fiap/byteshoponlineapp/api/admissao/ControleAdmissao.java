@@ -0,0 +1,59 @@
+package br.com.fiap.byteshoponlineapp.api.admissao;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decide, antes de qualquer trabalho, se uma requisição é admitida
+ *
+ * Duas barreiras por classe de endpoint: um token bucket por cliente (taxa) e um limite
+ * adaptativo de concorrência compartilhado. Cada classe tem limites próprios, então uma
+ * rajada de criações não consome a capacidade das operações dos atendentes.
+ *
+ * Os baldes ficam em um LRU limitado a maximoClientes por classe.
+ */
+public class ControleAdmissao {
+
+    private static final long NANOS_POR_SEGUNDO = TimeUnit.SECONDS.toNanos(1);
+
+    private final AdmissaoProperties properties;
+    private final Map<ClasseEndpoint, BaldesPorCliente> baldes = new EnumMap<>(ClasseEndpoint.class);
+    private final Map<ClasseEndpoint, LimiteConcorrenciaAdaptativo> limites = new EnumMap<>(ClasseEndpoint.class);
+
+    public ControleAdmissao(AdmissaoProperties properties) {
+        this.properties = properties;
+        AdmissaoProperties.Concorrencia concorrencia = properties.getConcorrencia();
+        for (ClasseEndpoint classe : ClasseEndpoint.values()) {
+            baldes.put(classe, new BaldesPorCliente(properties.getMaximoClientes(),
+                    Runtime.getRuntime().availableProcessors() * 4));
+            limites.put(classe, new LimiteConcorrenciaAdaptativo(
+                    concorrencia.getInicial(),
+                    concorrencia.getMinimo(),
+                    concorrencia.getMaximo(),
+                    concorrencia.getLatenciaAlvo().toNanos()
+            ));
+        }
+    }
+
+    /**
+     * Admite a requisição ou lança LimiteTaxaExcedidoException / CapacidadeEsgotadaException
+     *
+     * Quando admitida, o chamador deve invocar concluir() ao terminar.
+     */
+    public void admitir(ClasseEndpoint classe, String cliente) {
+        long agora = System.nanoTime();
+        long espera = baldes.get(classe).obter(cliente, properties.taxaDe(classe), agora).tentarConsumir(agora);
+        if (espera > 0) {
+            throw new LimiteTaxaExcedidoException(classe, (espera + NANOS_POR_SEGUNDO - 1) / NANOS_POR_SEGUNDO);
+        }
+        if (!limites.get(classe).tentarAdquirir()) {
+            throw new CapacidadeEsgotadaException(classe, 1);
+        }
+    }
+
+    public void concluir(ClasseEndpoint classe, long inicioNanos) {
+        long agora = System.nanoTime();
+        limites.get(classe).liberar(agora - inicioNanos, agora);
+    }
+}
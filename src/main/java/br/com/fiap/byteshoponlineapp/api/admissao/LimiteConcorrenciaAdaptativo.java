@@ -0,0 +1,69 @@
+package br.com.fiap.byteshoponlineapp.api.admissao;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Limite de requisições simultâneas ajustado por AIMD (additive increase, multiplicative decrease)
+ *
+ * Enquanto a latência fica abaixo do alvo, o limite cresce ~1 a cada "limite" requisições
+ * concluídas; quando uma requisição passa do alvo, o limite é reduzido por um fator (no máximo
+ * uma vez por janela de latência-alvo). O que passa do limite é recusado de imediato.
+ */
+final class LimiteConcorrenciaAdaptativo {
+
+    private static final double FATOR_REDUCAO = 0.9;
+
+    private final int minimo;
+    private final int maximo;
+    private final long latenciaAlvoNanos;
+    private final AtomicInteger emExecucao = new AtomicInteger();
+    private final AtomicLong limite;
+    private final AtomicLong ultimaReducao = new AtomicLong();
+
+    LimiteConcorrenciaAdaptativo(int inicial, int minimo, int maximo, long latenciaAlvoNanos) {
+        this.minimo = minimo;
+        this.maximo = maximo;
+        this.latenciaAlvoNanos = latenciaAlvoNanos;
+        this.limite = new AtomicLong(Double.doubleToRawLongBits(inicial));
+    }
+
+    boolean tentarAdquirir() {
+        if (emExecucao.incrementAndGet() > (int) limite()) {
+            emExecucao.decrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    void liberar(long latenciaNanos, long agoraNanos) {
+        emExecucao.decrementAndGet();
+        if (latenciaNanos > latenciaAlvoNanos) {
+            long ultima = ultimaReducao.get();
+            if (agoraNanos - ultima >= latenciaAlvoNanos && ultimaReducao.compareAndSet(ultima, agoraNanos)) {
+                ajustar(atual -> Math.max(minimo, atual * FATOR_REDUCAO));
+            }
+        } else {
+            ajustar(atual -> Math.min(maximo, atual + 1 / atual));
+        }
+    }
+
+    double limite() {
+        return Double.longBitsToDouble(limite.get());
+    }
+
+    int emExecucao() {
+        return emExecucao.get();
+    }
+
+    private void ajustar(DoubleUnaryOperator funcao) {
+        while (true) {
+            long atual = limite.get();
+            long novo = Double.doubleToRawLongBits(funcao.applyAsDouble(Double.longBitsToDouble(atual)));
+            if (atual == novo || limite.compareAndSet(atual, novo)) {
+                return;
+            }
+        }
+    }
+}
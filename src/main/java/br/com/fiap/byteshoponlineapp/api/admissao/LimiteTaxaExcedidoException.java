@@ -0,0 +1,19 @@
+package br.com.fiap.byteshoponlineapp.api.admissao;
+
+/**
+ * Exceção lançada quando o cliente excede a taxa permitida para a classe de endpoint
+ */
+public class LimiteTaxaExcedidoException extends RuntimeException {
+
+    private final long retryAfterSegundos;
+
+    public LimiteTaxaExcedidoException(ClasseEndpoint classe, long retryAfterSegundos) {
+        super("Limite de requisições de " + classe.name().toLowerCase() + " excedido. Tente novamente em "
+                + retryAfterSegundos + "s");
+        this.retryAfterSegundos = retryAfterSegundos;
+    }
+
+    public long getRetryAfterSegundos() {
+        return retryAfterSegundos;
+    }
+}
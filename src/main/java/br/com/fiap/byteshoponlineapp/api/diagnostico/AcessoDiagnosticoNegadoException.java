@@ -0,0 +1,11 @@
+package br.com.fiap.byteshoponlineapp.api.diagnostico;
+
+/**
+ * Exceção lançada quando o token de diagnóstico está ausente, incorreto ou não configurado
+ */
+public class AcessoDiagnosticoNegadoException extends RuntimeException {
+
+    public AcessoDiagnosticoNegadoException(String mensagem) {
+        super(mensagem);
+    }
+}
@@ -0,0 +1,110 @@
+package br.com.fiap.byteshoponlineapp.api.diagnostico;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Acumula o tempo próprio de cada fase da requisição em andamento na thread
+ *
+ * Entrar em uma fase pausa a anterior, então uma chamada ao repositório feita pelo serviço
+ * conta só como repositório. Cada transição custa duas leituras de System.nanoTime().
+ * Tarefas executadas em outras threads (ExecucaoParalela) não são medidas.
+ */
+public final class CronometroRequisicao {
+
+    private static final ThreadLocal<CronometroRequisicao> ATUAL = new ThreadLocal<>();
+    private static final Fase[] FASES = Fase.values();
+
+    private final long inicio;
+    private final long[] nanosPorFase = new long[FASES.length];
+    private Fase fase;
+    private long marca;
+
+    private CronometroRequisicao(long agora) {
+        this.inicio = agora;
+        this.marca = agora;
+        this.fase = Fase.ENTRADA;
+    }
+
+    static CronometroRequisicao iniciar() {
+        CronometroRequisicao cronometro = new CronometroRequisicao(System.nanoTime());
+        ATUAL.set(cronometro);
+        return cronometro;
+    }
+
+    static void limpar() {
+        ATUAL.remove();
+    }
+
+    /**
+     * Cronômetro da requisição atual (null fora de uma requisição medida)
+     */
+    public static CronometroRequisicao atual() {
+        return ATUAL.get();
+    }
+
+    /**
+     * Passa a contar o tempo na fase informada e retorna a fase anterior
+     */
+    public Fase entrar(Fase nova) {
+        long agora = System.nanoTime();
+        nanosPorFase[fase.ordinal()] += agora - marca;
+        Fase anterior = fase;
+        fase = nova;
+        marca = agora;
+        return anterior;
+    }
+
+    /**
+     * Volta para a fase anterior (retornada por entrar)
+     */
+    public void voltar(Fase anterior) {
+        entrar(anterior);
+    }
+
+    /**
+     * Fecha a fase atual e retorna o tempo total desde o início, em nanossegundos
+     */
+    long encerrar() {
+        long agora = System.nanoTime();
+        nanosPorFase[fase.ordinal()] += agora - marca;
+        marca = agora;
+        return agora - inicio;
+    }
+
+    /**
+     * Valor do header Server-Timing com as fases já concluídas e o total até agora
+     */
+    String serverTiming() {
+        long total = encerrar();
+        StringBuilder valor = new StringBuilder(160);
+        for (Fase f : FASES) {
+            if (nanosPorFase[f.ordinal()] > 0 && f != Fase.SERIALIZACAO) {
+                valor.append(f.getNome()).append(";dur=").append(milissegundos(nanosPorFase[f.ordinal()])).append(", ");
+            }
+        }
+        return valor.append("total;dur=").append(milissegundos(total)).toString();
+    }
+
+    /**
+     * Tempo de cada fase em milissegundos (com precisão de microssegundos)
+     */
+    Map<String, Double> fasesMs() {
+        Map<String, Double> fases = new LinkedHashMap<>();
+        for (Fase f : FASES) {
+            if (nanosPorFase[f.ordinal()] > 0) {
+                fases.put(f.getNome(), emMs(nanosPorFase[f.ordinal()]));
+            }
+        }
+        return fases;
+    }
+
+    static double emMs(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+
+    static String milissegundos(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,29 @@
+package br.com.fiap.byteshoponlineapp.api.diagnostico;
+
+/**
+ * Fases em que o tempo de uma requisição é dividido (nomes usados no header Server-Timing)
+ */
+public enum Fase {
+    /** Interceptors, leitura do corpo e conversão dos argumentos */
+    ENTRADA("entrada"),
+    /** Bean Validation dos argumentos @Valid */
+    VALIDACAO("validacao"),
+    /** Tempo próprio do controller, essencialmente a conversão para DTO */
+    MAPEAMENTO("mapeamento"),
+    /** Tempo próprio do SolicitacaoSuporteService */
+    SERVICO("servico"),
+    /** Chamadas ao SolicitacaoSuporteRepository */
+    REPOSITORIO("repositorio"),
+    /** Escrita do corpo da resposta (não entra no header, que é enviado antes do corpo) */
+    SERIALIZACAO("serializacao");
+
+    private final String nome;
+
+    Fase(String nome) {
+        this.nome = nome;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+}
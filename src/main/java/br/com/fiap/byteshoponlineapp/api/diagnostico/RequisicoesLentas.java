@@ -0,0 +1,76 @@
+package br.com.fiap.byteshoponlineapp.api.diagnostico;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Anel sem locks com as últimas requisições acima do limiar de lentidão
+ *
+ * Cada registro reserva uma posição com um incremento atômico e a sobrescreve; com o anel cheio,
+ * as entradas mais antigas dão lugar às novas. A leitura é uma cópia das posições preenchidas.
+ */
+public class RequisicoesLentas {
+
+    private final AtomicReferenceArray<RequisicaoLenta> anel;
+    private final AtomicLong proxima = new AtomicLong();
+    private final long limiarNanos;
+
+    public RequisicoesLentas(int capacidade, long limiarNanos) {
+        if (capacidade < 1) {
+            throw new IllegalArgumentException("A capacidade deve ser maior que zero");
+        }
+        this.anel = new AtomicReferenceArray<>(capacidade);
+        this.limiarNanos = limiarNanos;
+    }
+
+    /**
+     * Indica se uma requisição com essa duração deve ser registrada
+     */
+    public boolean lenta(long totalNanos) {
+        return totalNanos >= limiarNanos;
+    }
+
+    public void registrar(RequisicaoLenta requisicao) {
+        int posicao = (int) (proxima.getAndIncrement() % anel.length());
+        anel.set(posicao, requisicao);
+    }
+
+    /**
+     * Requisições registradas, da mais lenta para a mais rápida
+     */
+    public List<RequisicaoLenta> listar() {
+        List<RequisicaoLenta> requisicoes = new ArrayList<>(anel.length());
+        for (int i = 0; i < anel.length(); i++) {
+            RequisicaoLenta requisicao = anel.get(i);
+            if (requisicao != null) {
+                requisicoes.add(requisicao);
+            }
+        }
+        requisicoes.sort(Comparator.comparingDouble(RequisicaoLenta::totalMs).reversed());
+        return requisicoes;
+    }
+
+    /**
+     * Total de requisições lentas registradas desde a inicialização
+     */
+    public long totalRegistradas() {
+        return proxima.get();
+    }
+
+    /**
+     * Record de uma requisição lenta com o tempo de cada fase em milissegundos
+     */
+    public record RequisicaoLenta(
+            Instant instante,
+            String metodo,
+            String caminho,
+            int status,
+            double totalMs,
+            Map<String, Double> fasesMs
+    ) {}
+}
@@ -0,0 +1,40 @@
+package br.com.fiap.byteshoponlineapp.api.diagnostico;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Escreve o header Server-Timing logo antes da serialização do corpo
+ *
+ * Os headers saem antes do corpo, então a serialização só aparece no registro de requisições lentas.
+ * Respostas sem corpo (204) não recebem o header.
+ */
+@RestControllerAdvice
+@ConditionalOnProperty(prefix = "suporte.diagnostico", name = "habilitado", havingValue = "true", matchIfMissing = true)
+public class ServerTimingAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String HEADER_SERVER_TIMING = "Server-Timing";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        CronometroRequisicao cronometro = CronometroRequisicao.atual();
+        if (cronometro != null) {
+            response.getHeaders().set(HEADER_SERVER_TIMING, cronometro.serverTiming());
+            cronometro.entrar(Fase.SERIALIZACAO);
+        }
+        return body;
+    }
+}
@@ -0,0 +1,40 @@
+package br.com.fiap.byteshoponlineapp.api.diagnostico;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+/**
+ * Atribui o tempo das chamadas ao controller, ao serviço e ao repositório às respectivas fases
+ */
+@Aspect
+public class TempoFasesAspect {
+
+    @Around("execution(public * br.com.fiap.byteshoponlineapp.api.SolicitacaoSuporteController.*(..))")
+    public Object controller(ProceedingJoinPoint chamada) throws Throwable {
+        return medir(chamada, Fase.MAPEAMENTO);
+    }
+
+    @Around("execution(public * br.com.fiap.byteshoponlineapp.service.SolicitacaoSuporteService.*(..))")
+    public Object servico(ProceedingJoinPoint chamada) throws Throwable {
+        return medir(chamada, Fase.SERVICO);
+    }
+
+    @Around("execution(public * br.com.fiap.byteshoponlineapp.domain.repository.SolicitacaoSuporteRepository+.*(..))")
+    public Object repositorio(ProceedingJoinPoint chamada) throws Throwable {
+        return medir(chamada, Fase.REPOSITORIO);
+    }
+
+    private static Object medir(ProceedingJoinPoint chamada, Fase fase) throws Throwable {
+        CronometroRequisicao cronometro = CronometroRequisicao.atual();
+        if (cronometro == null) {
+            return chamada.proceed();
+        }
+        Fase anterior = cronometro.entrar(fase);
+        try {
+            return chamada.proceed();
+        } finally {
+            cronometro.voltar(anterior);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package br.com.fiap.byteshoponlineapp.api.diagnostico;
+
+import java.time.Instant;
+
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Inicia o cronômetro da requisição e, ao final, registra as requisições lentas
+ */
+public class TempoRequisicaoInterceptor implements HandlerInterceptor {
+
+    private final RequisicoesLentas requisicoesLentas;
+
+    public TempoRequisicaoInterceptor(RequisicoesLentas requisicoesLentas) {
+        this.requisicoesLentas = requisicoesLentas;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        CronometroRequisicao.iniciar();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        CronometroRequisicao cronometro = CronometroRequisicao.atual();
+        CronometroRequisicao.limpar();
+        if (cronometro == null) {
+            return;
+        }
+        long total = cronometro.encerrar();
+        if (requisicoesLentas.lenta(total)) {
+            String consulta = request.getQueryString();
+            requisicoesLentas.registrar(new RequisicoesLentas.RequisicaoLenta(
+                    Instant.now(),
+                    request.getMethod(),
+                    consulta == null ? request.getRequestURI() : request.getRequestURI() + "?" + consulta,
+                    response.getStatus(),
+                    CronometroRequisicao.emMs(total),
+                    cronometro.fasesMs()
+            ));
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package br.com.fiap.byteshoponlineapp.api.diagnostico;
+
+import org.springframework.validation.Errors;
+import org.springframework.validation.SmartValidator;
+
+/**
+ * Validator do Spring MVC que conta o tempo da Bean Validation na fase VALIDACAO
+ */
+public class ValidadorCronometrado implements SmartValidator {
+
+    private final SmartValidator delegado;
+
+    public ValidadorCronometrado(SmartValidator delegado) {
+        this.delegado = delegado;
+    }
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return delegado.supports(clazz);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        validate(target, errors, new Object[0]);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors, Object... validationHints) {
+        CronometroRequisicao cronometro = CronometroRequisicao.atual();
+        if (cronometro == null) {
+            delegado.validate(target, errors, validationHints);
+            return;
+        }
+        Fase anterior = cronometro.entrar(Fase.VALIDACAO);
+        try {
+            delegado.validate(target, errors, validationHints);
+        } finally {
+            cronometro.voltar(anterior);
+        }
+    }
+
+    @Override
+    public void validateValue(Class<?> targetType, String fieldName, Object value, Errors errors,
+                              Object... validationHints) {
+        delegado.validateValue(targetType, fieldName, value, errors, validationHints);
+    }
+}
@@ -0,0 +1,38 @@
+package br.com.fiap.byteshoponlineapp.api.dto;
+
+import java.util.List;
+
+/**
+ * DTO de resposta da busca de várias solicitações por ID
+ *
+ * encontradas contém SolicitacaoSuporteResponse ou, com fields=, as solicitações projetadas.
+ */
+public class LoteSolicitacoesResponse {
+
+    private List<?> encontradas;
+    private List<Long> naoEncontradas;
+
+    public LoteSolicitacoesResponse() {
+    }
+
+    public LoteSolicitacoesResponse(List<?> encontradas, List<Long> naoEncontradas) {
+        this.encontradas = encontradas;
+        this.naoEncontradas = naoEncontradas;
+    }
+
+    public List<?> getEncontradas() {
+        return encontradas;
+    }
+
+    public void setEncontradas(List<?> encontradas) {
+        this.encontradas = encontradas;
+    }
+
+    public List<Long> getNaoEncontradas() {
+        return naoEncontradas;
+    }
+
+    public void setNaoEncontradas(List<Long> naoEncontradas) {
+        this.naoEncontradas = naoEncontradas;
+    }
+}
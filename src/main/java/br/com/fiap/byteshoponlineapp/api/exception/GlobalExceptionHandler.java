@@ -3,6 +3,7 @@ package br.com.fiap.byteshoponlineapp.api.exception;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -12,6 +13,10 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
+import br.com.fiap.byteshoponlineapp.api.admissao.CapacidadeEsgotadaException;
+import br.com.fiap.byteshoponlineapp.api.admissao.LimiteTaxaExcedidoException;
+import br.com.fiap.byteshoponlineapp.api.diagnostico.AcessoDiagnosticoNegadoException;
+import br.com.fiap.byteshoponlineapp.api.idempotencia.ChaveIdempotenciaInvalidaException;
 import br.com.fiap.byteshoponlineapp.service.exception.RegraDeNegocioException;
 import br.com.fiap.byteshoponlineapp.service.exception.SolicitacaoNaoEncontradaException;
 import br.com.fiap.byteshoponlineapp.service.exception.TransicaoStatusInvalidaException;
@@ -153,6 +158,86 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(erro);
     }
 
+    /**
+     * Trata Idempotency-Key inválido ou reutilizado com outro corpo
+     * Status Code: 422 Unprocessable Entity
+     */
+    @ExceptionHandler(ChaveIdempotenciaInvalidaException.class)
+    public ResponseEntity<ErroResposta> handleChaveIdempotenciaInvalida(
+            ChaveIdempotenciaInvalidaException ex, 
+            WebRequest request) {
+        
+        ErroResposta erro = new ErroResposta(
+                HttpStatus.UNPROCESSABLE_ENTITY.value(),
+                "Chave de Idempotência Inválida",
+                ex.getMessage(),
+                request.getDescription(false).replace("uri=", "")
+        );
+        
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(erro);
+    }
+
+    /**
+     * Trata requisição recusada por exceder a taxa permitida ao cliente
+     * Status Code: 429 Too Many Requests
+     */
+    @ExceptionHandler(LimiteTaxaExcedidoException.class)
+    public ResponseEntity<ErroResposta> handleLimiteTaxaExcedido(
+            LimiteTaxaExcedidoException ex, 
+            WebRequest request) {
+        
+        ErroResposta erro = new ErroResposta(
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                "Limite de Requisições Excedido",
+                ex.getMessage(),
+                request.getDescription(false).replace("uri=", "")
+        );
+        
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSegundos()))
+                .body(erro);
+    }
+
+    /**
+     * Trata requisição recusada pelo limite de concorrência (descarte de carga)
+     * Status Code: 503 Service Unavailable
+     */
+    @ExceptionHandler(CapacidadeEsgotadaException.class)
+    public ResponseEntity<ErroResposta> handleCapacidadeEsgotada(
+            CapacidadeEsgotadaException ex, 
+            WebRequest request) {
+        
+        ErroResposta erro = new ErroResposta(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Serviço Sobrecarregado",
+                ex.getMessage(),
+                request.getDescription(false).replace("uri=", "")
+        );
+        
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSegundos()))
+                .body(erro);
+    }
+
+    /**
+     * Trata acesso aos endpoints de diagnóstico sem o token correto
+     * Status Code: 403 Forbidden
+     */
+    @ExceptionHandler(AcessoDiagnosticoNegadoException.class)
+    public ResponseEntity<ErroResposta> handleAcessoDiagnosticoNegado(
+            AcessoDiagnosticoNegadoException ex, 
+            WebRequest request) {
+        
+        ErroResposta erro = new ErroResposta(
+                HttpStatus.FORBIDDEN.value(),
+                "Acesso Negado",
+                ex.getMessage(),
+                request.getDescription(false).replace("uri=", "")
+        );
+        
+        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(erro);
+    }
+
     /**
      * Trata exceções genéricas não capturadas
      * Status Code: 500 Internal Server Error
@@ -0,0 +1,148 @@
+package br.com.fiap.byteshoponlineapp.api.idempotencia;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import br.com.fiap.byteshoponlineapp.api.dto.SolicitacaoSuporteRequest;
+import br.com.fiap.byteshoponlineapp.api.dto.SolicitacaoSuporteResponse;
+import br.com.fiap.byteshoponlineapp.domain.enums.Prioridade;
+
+/**
+ * Cache das respostas de criação associadas a um Idempotency-Key
+ *
+ * A primeira requisição com uma chave registra um CompletableFuture antes de criar a solicitação;
+ * duplicatas concorrentes encontram o mesmo future e aguardam o resultado, então a criação
+ * acontece uma única vez. O cache é limitado em tamanho e as entradas expiram após o TTL:
+ * como o TTL é fixo, a fila de inserção também é a ordem de expiração. Entradas cuja criação
+ * ainda está em andamento nunca são despejadas: isso abriria espaço para uma segunda criação
+ * com a mesma chave. Acima da capacidade, sai a entrada concluída mais antiga.
+ */
+@Component
+public class CacheIdempotencia {
+
+    public static final String HEADER_CHAVE = "Idempotency-Key";
+    public static final String HEADER_REPETIDA = "Idempotent-Replayed";
+
+    private static final int TAMANHO_MAXIMO_CHAVE = 255;
+
+    private final ConcurrentHashMap<String, Entrada> entradas = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Entrada> ordemInsercao = new ConcurrentLinkedQueue<>();
+    private final int capacidade;
+    private final long ttlNanos;
+    private final LongSupplier relogio;
+
+    @Autowired
+    public CacheIdempotencia(
+            @Value("${suporte.idempotencia.capacidade:100000}") int capacidade,
+            @Value("${suporte.idempotencia.ttl:24h}") Duration ttl) {
+        this(capacidade, ttl, System::nanoTime);
+    }
+
+    CacheIdempotencia(int capacidade, Duration ttl, LongSupplier relogio) {
+        this.capacidade = capacidade;
+        this.ttlNanos = ttl.toNanos();
+        this.relogio = relogio;
+    }
+
+    /**
+     * Executa a criação uma única vez por chave, devolvendo a resposta original nas repetições
+     *
+     * @throws ChaveIdempotenciaInvalidaException se a chave for inválida ou já usada com outro corpo
+     */
+    public Resultado executar(String chave, SolicitacaoSuporteRequest request,
+                              Supplier<SolicitacaoSuporteResponse> criacao) {
+        if (chave.isBlank() || chave.length() > TAMANHO_MAXIMO_CHAVE) {
+            throw new ChaveIdempotenciaInvalidaException(
+                    "O header " + HEADER_CHAVE + " deve ter entre 1 e " + TAMANHO_MAXIMO_CHAVE + " caracteres");
+        }
+        Assinatura assinatura = new Assinatura(request.getTitulo(), request.getDescricao(), request.getPrioridade());
+        long agora = relogio.getAsLong();
+        Entrada nova = new Entrada(chave, assinatura, new CompletableFuture<>(), agora + ttlNanos);
+
+        while (true) {
+            Entrada existente = entradas.putIfAbsent(chave, nova);
+            if (existente == null) {
+                ordemInsercao.add(nova);
+                despejar(agora);
+                return new Resultado(criar(nova, criacao), false);
+            }
+            if (existente.expiraEm() - agora <= 0 && existente.resposta().isDone()) {
+                entradas.remove(chave, existente);
+                continue;
+            }
+            if (!existente.assinatura().equals(assinatura)) {
+                throw new ChaveIdempotenciaInvalidaException(
+                        "A chave " + HEADER_CHAVE + " '" + chave + "' já foi usada com outro corpo de requisição");
+            }
+            return new Resultado(aguardar(existente.resposta()), true);
+        }
+    }
+
+    public int tamanho() {
+        return entradas.size();
+    }
+
+    private SolicitacaoSuporteResponse criar(Entrada entrada, Supplier<SolicitacaoSuporteResponse> criacao) {
+        try {
+            SolicitacaoSuporteResponse resposta = criacao.get();
+            entrada.resposta().complete(resposta);
+            return resposta;
+        } catch (RuntimeException e) {
+            // Falhas não são memorizadas: a próxima tentativa com a mesma chave executa de novo
+            entradas.remove(entrada.chave(), entrada);
+            entrada.resposta().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private static SolicitacaoSuporteResponse aguardar(CompletableFuture<SolicitacaoSuporteResponse> resposta) {
+        try {
+            return resposta.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Remove entradas concluídas expiradas e, acima da capacidade, as concluídas mais antigas
+     *
+     * As em andamento são puladas; como a criação é limitada pelas requisições em execução,
+     * o excesso sobre a capacidade é no máximo esse número.
+     */
+    private void despejar(long agora) {
+        Iterator<Entrada> iterador = ordemInsercao.iterator();
+        while (iterador.hasNext()) {
+            Entrada entrada = iterador.next();
+            if (entrada.expiraEm() - agora > 0 && entradas.size() <= capacidade) {
+                return;
+            }
+            if (entrada.resposta().isDone()) {
+                iterador.remove();
+                entradas.remove(entrada.chave(), entrada);
+            }
+        }
+    }
+
+    private record Assinatura(String titulo, String descricao, Prioridade prioridade) {}
+
+    private record Entrada(String chave, Assinatura assinatura,
+                           CompletableFuture<SolicitacaoSuporteResponse> resposta, long expiraEm) {}
+
+    /**
+     * Resposta da criação e se ela foi servida do cache
+     */
+    public record Resultado(SolicitacaoSuporteResponse resposta, boolean repetida) {}
+}
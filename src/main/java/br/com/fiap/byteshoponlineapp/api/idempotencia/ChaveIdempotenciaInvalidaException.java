@@ -0,0 +1,11 @@
+package br.com.fiap.byteshoponlineapp.api.idempotencia;
+
+/**
+ * Exceção lançada quando o Idempotency-Key é inválido ou foi reutilizado com outro corpo
+ */
+public class ChaveIdempotenciaInvalidaException extends RuntimeException {
+
+    public ChaveIdempotenciaInvalidaException(String mensagem) {
+        super(mensagem);
+    }
+}
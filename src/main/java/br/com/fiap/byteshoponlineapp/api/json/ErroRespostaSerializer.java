@@ -0,0 +1,72 @@
+package br.com.fiap.byteshoponlineapp.api.json;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.springframework.boot.jackson.JsonComponent;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import br.com.fiap.byteshoponlineapp.api.exception.ErroResposta;
+
+/**
+ * Serializer escrito à mão para ErroResposta (incluindo a lista de CampoErro)
+ */
+@JsonComponent
+public class ErroRespostaSerializer extends StdSerializer<ErroResposta> {
+
+    private static final SerializedString TIMESTAMP = new SerializedString("timestamp");
+    private static final SerializedString STATUS = new SerializedString("status");
+    private static final SerializedString ERRO = new SerializedString("erro");
+    private static final SerializedString MENSAGEM = new SerializedString("mensagem");
+    private static final SerializedString CAMINHO = new SerializedString("caminho");
+    private static final SerializedString ERROS = new SerializedString("erros");
+    private static final SerializedString CAMPO = new SerializedString("campo");
+
+    public ErroRespostaSerializer() {
+        super(ErroResposta.class);
+    }
+
+    @Override
+    public void serialize(ErroResposta value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+
+        gen.writeFieldName(TIMESTAMP);
+        FormatadorDataHora.escrever(gen, value.getTimestamp());
+
+        gen.writeFieldName(STATUS);
+        gen.writeNumber(value.getStatus());
+
+        gen.writeFieldName(ERRO);
+        gen.writeString(value.getErro());
+
+        gen.writeFieldName(MENSAGEM);
+        gen.writeString(value.getMensagem());
+
+        gen.writeFieldName(CAMINHO);
+        gen.writeString(value.getCaminho());
+
+        gen.writeFieldName(ERROS);
+        List<ErroResposta.CampoErro> erros = value.getErros();
+        if (erros == null) {
+            gen.writeNull();
+        } else {
+            gen.writeStartArray(erros, erros.size());
+            for (int i = 0; i < erros.size(); i++) {
+                ErroResposta.CampoErro campoErro = erros.get(i);
+                gen.writeStartObject(campoErro);
+                gen.writeFieldName(CAMPO);
+                gen.writeString(campoErro.getCampo());
+                gen.writeFieldName(MENSAGEM);
+                gen.writeString(campoErro.getMensagem());
+                gen.writeEndObject();
+            }
+            gen.writeEndArray();
+        }
+
+        gen.writeEndObject();
+    }
+}
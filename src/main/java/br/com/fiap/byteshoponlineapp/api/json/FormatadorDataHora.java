@@ -0,0 +1,84 @@
+package br.com.fiap.byteshoponlineapp.api.json;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * Escreve LocalDateTime no formato ISO-8601 (mesmo de DateTimeFormatter.ISO_LOCAL_DATE_TIME)
+ * direto no gerador, usando um buffer reaproveitado por thread em vez de criar Strings
+ */
+public final class FormatadorDataHora {
+
+    private static final int TAMANHO_MAXIMO = 29; // yyyy-MM-ddTHH:mm:ss.nnnnnnnnn
+
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[TAMANHO_MAXIMO]);
+
+    private FormatadorDataHora() {
+    }
+
+    /**
+     * Escreve o valor (ou null) como string no gerador
+     */
+    public static void escrever(JsonGenerator gen, LocalDateTime valor) throws IOException {
+        if (valor == null) {
+            gen.writeNull();
+            return;
+        }
+        int ano = valor.getYear();
+        if (ano < 0 || ano > 9999) {
+            gen.writeString(valor.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+            return;
+        }
+        char[] buffer = BUFFER.get();
+        int tamanho = formatar(valor, buffer);
+        gen.writeString(buffer, 0, tamanho);
+    }
+
+    /**
+     * Formata o valor no buffer informado e retorna a quantidade de caracteres escritos
+     */
+    static int formatar(LocalDateTime valor, char[] b) {
+        int ano = valor.getYear();
+        b[0] = digito(ano / 1000);
+        b[1] = digito(ano / 100 % 10);
+        b[2] = digito(ano / 10 % 10);
+        b[3] = digito(ano % 10);
+        b[4] = '-';
+        doisDigitos(b, 5, valor.getMonthValue());
+        b[7] = '-';
+        doisDigitos(b, 8, valor.getDayOfMonth());
+        b[10] = 'T';
+        doisDigitos(b, 11, valor.getHour());
+        b[13] = ':';
+        doisDigitos(b, 14, valor.getMinute());
+        b[16] = ':';
+        doisDigitos(b, 17, valor.getSecond());
+
+        int nano = valor.getNano();
+        if (nano == 0) {
+            return 19;
+        }
+        b[19] = '.';
+        for (int i = 28; i >= 20; i--) {
+            b[i] = digito(nano % 10);
+            nano /= 10;
+        }
+        int fim = TAMANHO_MAXIMO;
+        while (b[fim - 1] == '0') {
+            fim--;
+        }
+        return fim;
+    }
+
+    private static void doisDigitos(char[] b, int posicao, int valor) {
+        b[posicao] = digito(valor / 10);
+        b[posicao + 1] = digito(valor % 10);
+    }
+
+    private static char digito(int valor) {
+        return (char) ('0' + valor);
+    }
+}
@@ -0,0 +1,23 @@
+package br.com.fiap.byteshoponlineapp.api.json;
+
+import com.fasterxml.jackson.core.io.SerializedString;
+
+/**
+ * Cache dos nomes de um enum já codificados para escrita direta no gerador
+ */
+final class NomesEnum<E extends Enum<E>> {
+
+    private final SerializedString[] nomes;
+
+    NomesEnum(Class<E> tipo) {
+        E[] constantes = tipo.getEnumConstants();
+        this.nomes = new SerializedString[constantes.length];
+        for (E constante : constantes) {
+            nomes[constante.ordinal()] = new SerializedString(constante.name());
+        }
+    }
+
+    SerializedString de(E valor) {
+        return nomes[valor.ordinal()];
+    }
+}
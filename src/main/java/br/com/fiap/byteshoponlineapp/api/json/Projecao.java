@@ -0,0 +1,137 @@
+package br.com.fiap.byteshoponlineapp.api.json;
+
+import java.io.IOException;
+import java.util.StringJoiner;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import br.com.fiap.byteshoponlineapp.domain.SolicitacaoSuporte;
+
+/**
+ * Conjunto de campos de uma solicitação a serializar (parâmetro fields=)
+ *
+ * Cada combinação de campos é compilada uma única vez em um array de campos, na mesma ordem
+ * da resposta completa, e reaproveitada por todas as requisições com o mesmo conjunto,
+ * independente da ordem ou repetição no parâmetro.
+ */
+public final class Projecao {
+
+    /**
+     * Campos que podem ser pedidos em fields=
+     */
+    enum Campo {
+        ID(SolicitacaoSuporteResponseSerializer.ID),
+        TITULO(SolicitacaoSuporteResponseSerializer.TITULO),
+        DESCRICAO(SolicitacaoSuporteResponseSerializer.DESCRICAO),
+        STATUS(SolicitacaoSuporteResponseSerializer.STATUS),
+        PRIORIDADE(SolicitacaoSuporteResponseSerializer.PRIORIDADE),
+        DATA_CRIACAO(SolicitacaoSuporteResponseSerializer.DATA_CRIACAO),
+        DATA_ATUALIZACAO(SolicitacaoSuporteResponseSerializer.DATA_ATUALIZACAO);
+
+        private final SerializedString nome;
+
+        Campo(SerializedString nome) {
+            this.nome = nome;
+        }
+
+        static Campo doNome(String nome) {
+            for (Campo campo : VALORES) {
+                if (campo.nome.getValue().equals(nome)) {
+                    return campo;
+                }
+            }
+            return null;
+        }
+    }
+
+    private static final Campo[] VALORES = Campo.values();
+    private static final AtomicReferenceArray<Projecao> COMPILADAS = new AtomicReferenceArray<>(1 << VALORES.length);
+
+    private final Campo[] campos;
+
+    private Projecao(Campo[] campos) {
+        this.campos = campos;
+    }
+
+    /**
+     * Projeção dos campos informados, separados por vírgula
+     *
+     * @throws IllegalArgumentException se algum campo não existir ou nenhum for informado
+     */
+    public static Projecao de(String fields) {
+        int mascara = 0;
+        for (String parte : fields.split(",")) {
+            String nome = parte.trim();
+            if (nome.isEmpty()) {
+                continue;
+            }
+            Campo campo = Campo.doNome(nome);
+            if (campo == null) {
+                throw new IllegalArgumentException("Campo desconhecido em fields: '" + nome
+                        + "'. Campos disponíveis: " + nomesDisponiveis());
+            }
+            mascara |= 1 << campo.ordinal();
+        }
+        if (mascara == 0) {
+            throw new IllegalArgumentException("Informe ao menos um campo em fields. Campos disponíveis: "
+                    + nomesDisponiveis());
+        }
+        Projecao compilada = COMPILADAS.get(mascara);
+        if (compilada == null) {
+            compilada = compilar(mascara);
+            if (!COMPILADAS.compareAndSet(mascara, null, compilada)) {
+                compilada = COMPILADAS.get(mascara);
+            }
+        }
+        return compilada;
+    }
+
+    private static Projecao compilar(int mascara) {
+        Campo[] campos = new Campo[Integer.bitCount(mascara)];
+        int i = 0;
+        for (Campo campo : VALORES) {
+            if ((mascara & (1 << campo.ordinal())) != 0) {
+                campos[i++] = campo;
+            }
+        }
+        return new Projecao(campos);
+    }
+
+    private static String nomesDisponiveis() {
+        StringJoiner nomes = new StringJoiner(", ");
+        for (Campo campo : VALORES) {
+            nomes.add(campo.nome.getValue());
+        }
+        return nomes.toString();
+    }
+
+    /**
+     * Escreve a solicitação como objeto JSON só com os campos da projeção
+     */
+    void escrever(JsonGenerator gen, SolicitacaoSuporte solicitacao) throws IOException {
+        gen.writeStartObject(solicitacao);
+        for (Campo campo : campos) {
+            gen.writeFieldName(campo.nome);
+            switch (campo) {
+                case ID -> {
+                    if (solicitacao.getId() == null) {
+                        gen.writeNull();
+                    } else {
+                        gen.writeNumber(solicitacao.getId());
+                    }
+                }
+                case TITULO -> gen.writeString(solicitacao.getTitulo());
+                case DESCRICAO -> gen.writeString(solicitacao.getDescricao());
+                case STATUS -> SolicitacaoSuporteResponseSerializer.escreverEnum(
+                        gen, solicitacao.getStatus(), SolicitacaoSuporteResponseSerializer.NOMES_STATUS);
+                case PRIORIDADE -> SolicitacaoSuporteResponseSerializer.escreverEnum(
+                        gen, solicitacao.getPrioridade(), SolicitacaoSuporteResponseSerializer.NOMES_PRIORIDADE);
+                case DATA_CRIACAO -> FormatadorDataHora.escrever(gen, solicitacao.getDataCriacao());
+                case DATA_ATUALIZACAO -> FormatadorDataHora.escrever(gen, solicitacao.getDataAtualizacao());
+            }
+        }
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,81 @@
+package br.com.fiap.byteshoponlineapp.api.json;
+
+import java.io.IOException;
+
+import org.springframework.boot.jackson.JsonComponent;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import br.com.fiap.byteshoponlineapp.api.dto.SolicitacaoSuporteResponse;
+import br.com.fiap.byteshoponlineapp.domain.enums.Prioridade;
+import br.com.fiap.byteshoponlineapp.domain.enums.StatusSolicitacao;
+
+/**
+ * Serializer escrito à mão para SolicitacaoSuporteResponse
+ *
+ * Evita a introspecção de beans do Jackson: nomes de campos e de enums são
+ * pré-codificados e as datas são formatadas sem alocação. A saída é idêntica
+ * à da serialização padrão (mesma ordem de campos, nulls e formato de data).
+ */
+@JsonComponent
+public class SolicitacaoSuporteResponseSerializer extends StdSerializer<SolicitacaoSuporteResponse> {
+
+    static final SerializedString ID = new SerializedString("id");
+    static final SerializedString TITULO = new SerializedString("titulo");
+    static final SerializedString DESCRICAO = new SerializedString("descricao");
+    static final SerializedString STATUS = new SerializedString("status");
+    static final SerializedString PRIORIDADE = new SerializedString("prioridade");
+    static final SerializedString DATA_CRIACAO = new SerializedString("dataCriacao");
+    static final SerializedString DATA_ATUALIZACAO = new SerializedString("dataAtualizacao");
+
+    static final NomesEnum<StatusSolicitacao> NOMES_STATUS = new NomesEnum<>(StatusSolicitacao.class);
+    static final NomesEnum<Prioridade> NOMES_PRIORIDADE = new NomesEnum<>(Prioridade.class);
+
+    public SolicitacaoSuporteResponseSerializer() {
+        super(SolicitacaoSuporteResponse.class);
+    }
+
+    @Override
+    public void serialize(SolicitacaoSuporteResponse value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        gen.writeStartObject(value);
+
+        gen.writeFieldName(ID);
+        if (value.getId() == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value.getId());
+        }
+
+        gen.writeFieldName(TITULO);
+        gen.writeString(value.getTitulo());
+
+        gen.writeFieldName(DESCRICAO);
+        gen.writeString(value.getDescricao());
+
+        gen.writeFieldName(STATUS);
+        escreverEnum(gen, value.getStatus(), NOMES_STATUS);
+
+        gen.writeFieldName(PRIORIDADE);
+        escreverEnum(gen, value.getPrioridade(), NOMES_PRIORIDADE);
+
+        gen.writeFieldName(DATA_CRIACAO);
+        FormatadorDataHora.escrever(gen, value.getDataCriacao());
+
+        gen.writeFieldName(DATA_ATUALIZACAO);
+        FormatadorDataHora.escrever(gen, value.getDataAtualizacao());
+
+        gen.writeEndObject();
+    }
+
+    static <E extends Enum<E>> void escreverEnum(JsonGenerator gen, E valor, NomesEnum<E> nomes) throws IOException {
+        if (valor == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(nomes.de(valor));
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package br.com.fiap.byteshoponlineapp.api.json;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.jackson.JsonComponent;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import br.com.fiap.byteshoponlineapp.domain.SolicitacaoSuporte;
+
+/**
+ * Corpo de resposta com solicitações serializadas direto da entidade, só com os campos da projeção
+ *
+ * Substitui a lista de SolicitacaoSuporteResponse quando a requisição traz fields=; nenhum DTO é criado.
+ * unica = true serializa um único objeto em vez de um array.
+ *
+ * A serialização acontece depois do retorno do controller, fora da trava da solicitação: as fábricas
+ * guardam cópias das entidades, como o DTO faz ao copiar os campos, para que uma atualização concorrente
+ * não apareça pela metade na resposta.
+ */
+@JsonSerialize(using = SolicitacoesProjetadas.Serializer.class)
+public record SolicitacoesProjetadas(List<SolicitacaoSuporte> solicitacoes, Projecao projecao, boolean unica) {
+
+    public static SolicitacoesProjetadas lista(List<SolicitacaoSuporte> solicitacoes, Projecao projecao) {
+        List<SolicitacaoSuporte> copias = new ArrayList<>(solicitacoes.size());
+        for (SolicitacaoSuporte solicitacao : solicitacoes) {
+            copias.add(new SolicitacaoSuporte(solicitacao));
+        }
+        return new SolicitacoesProjetadas(copias, projecao, false);
+    }
+
+    public static SolicitacoesProjetadas unica(SolicitacaoSuporte solicitacao, Projecao projecao) {
+        return new SolicitacoesProjetadas(List.of(new SolicitacaoSuporte(solicitacao)), projecao, true);
+    }
+
+    @JsonComponent
+    public static class Serializer extends StdSerializer<SolicitacoesProjetadas> {
+
+        public Serializer() {
+            super(SolicitacoesProjetadas.class);
+        }
+
+        @Override
+        public void serialize(SolicitacoesProjetadas value, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            Projecao projecao = value.projecao();
+            List<SolicitacaoSuporte> solicitacoes = value.solicitacoes();
+            if (value.unica()) {
+                projecao.escrever(gen, solicitacoes.get(0));
+                return;
+            }
+            gen.writeStartArray(solicitacoes, solicitacoes.size());
+            for (int i = 0; i < solicitacoes.size(); i++) {
+                projecao.escrever(gen, solicitacoes.get(i));
+            }
+            gen.writeEndArray();
+        }
+    }
+}
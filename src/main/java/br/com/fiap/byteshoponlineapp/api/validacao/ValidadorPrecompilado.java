@@ -0,0 +1,227 @@
+package br.com.fiap.byteshoponlineapp.api.validacao;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.ElementType;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.validation.Errors;
+import org.springframework.validation.SmartValidator;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import jakarta.validation.groups.Default;
+import jakarta.validation.metadata.BeanDescriptor;
+import jakarta.validation.metadata.ConstraintDescriptor;
+import jakarta.validation.metadata.PropertyDescriptor;
+
+/**
+ * Validator do Spring MVC que compila uma única vez as regras de cada DTO
+ *
+ * Na primeira validação de uma classe, lê os metadados da Bean Validation e gera uma lista de
+ * regras com acesso direto aos campos (MethodHandle). Nas seguintes, só executa as regras: sem
+ * metadados, sem reflexão e sem alocação quando o objeto é válido.
+ *
+ * Suporta @NotNull, @NotBlank e @Size em campos CharSequence, no grupo Default e com mensagem
+ * literal. Classes com qualquer outra coisa (constraints de classe, @Valid aninhado, outras
+ * anotações, mensagens com {parâmetros}) são validadas pelo validator padrão.
+ */
+public class ValidadorPrecompilado implements SmartValidator {
+
+    private static final ValidadorCompilado NAO_SUPORTADO = new ValidadorCompilado(List.of());
+    private static final MethodType LEITURA = MethodType.methodType(Object.class, Object.class);
+
+    private final SmartValidator padrao;
+    private final jakarta.validation.Validator metadados;
+    private final ClassValue<ValidadorCompilado> compilados = new ClassValue<>() {
+        @Override
+        protected ValidadorCompilado computeValue(Class<?> tipo) {
+            return compilar(tipo);
+        }
+    };
+
+    public ValidadorPrecompilado(SmartValidator padrao, jakarta.validation.Validator metadados) {
+        this.padrao = padrao;
+        this.metadados = metadados;
+    }
+
+    /**
+     * Indica se a classe é validada pelas regras compiladas (e não pelo validator padrão)
+     */
+    public boolean compilado(Class<?> tipo) {
+        return compilados.get(tipo) != NAO_SUPORTADO;
+    }
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return padrao.supports(clazz);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        ValidadorCompilado compilado = compilados.get(target.getClass());
+        if (compilado == NAO_SUPORTADO) {
+            padrao.validate(target, errors);
+        } else {
+            compilado.validar(target, errors);
+        }
+    }
+
+    @Override
+    public void validate(Object target, Errors errors, Object... validationHints) {
+        if (validationHints.length > 0) {
+            padrao.validate(target, errors, validationHints);
+        } else {
+            validate(target, errors);
+        }
+    }
+
+    @Override
+    public void validateValue(Class<?> targetType, String fieldName, Object value, Errors errors,
+                              Object... validationHints) {
+        padrao.validateValue(targetType, fieldName, value, errors, validationHints);
+    }
+
+    private ValidadorCompilado compilar(Class<?> tipo) {
+        BeanDescriptor descritor = metadados.getConstraintsForClass(tipo);
+        if (!descritor.getConstraintDescriptors().isEmpty()) {
+            return NAO_SUPORTADO;
+        }
+        List<PropertyDescriptor> propriedades = new ArrayList<>(descritor.getConstrainedProperties());
+        List<String> ordemCampos = new ArrayList<>();
+        for (Class<?> atual = tipo; atual != null; atual = atual.getSuperclass()) {
+            for (Field campo : atual.getDeclaredFields()) {
+                ordemCampos.add(campo.getName());
+            }
+        }
+        propriedades.sort(Comparator.comparingInt(p -> ordemCampos.indexOf(p.getPropertyName())));
+
+        List<Regra> regras = new ArrayList<>();
+        try {
+            MethodHandles.Lookup acesso = MethodHandles.privateLookupIn(tipo, MethodHandles.lookup());
+            for (PropertyDescriptor propriedade : propriedades) {
+                Set<ConstraintDescriptor<?>> todas = propriedade.getConstraintDescriptors();
+                Set<ConstraintDescriptor<?>> nosCampos = propriedade.findConstraints()
+                        .declaredOn(ElementType.FIELD).getConstraintDescriptors();
+                if (propriedade.isCascaded() || todas.size() != nosCampos.size()) {
+                    return NAO_SUPORTADO;
+                }
+                String campo = propriedade.getPropertyName();
+                Class<?> tipoCampo = propriedade.getElementClass();
+                Class<?> declarante = declarante(tipo, campo);
+                MethodHandle leitura = MethodHandles.privateLookupIn(declarante, acesso)
+                        .findGetter(declarante, campo, tipoCampo)
+                        .asType(LEITURA);
+                for (ConstraintDescriptor<?> restricao : todas) {
+                    Regra regra = regra(campo, tipoCampo, leitura, restricao);
+                    if (regra == null) {
+                        return NAO_SUPORTADO;
+                    }
+                    regras.add(regra);
+                }
+            }
+        } catch (ReflectiveOperationException | IllegalArgumentException e) {
+            return NAO_SUPORTADO;
+        }
+        return new ValidadorCompilado(List.copyOf(regras));
+    }
+
+    private static Class<?> declarante(Class<?> tipo, String campo) throws NoSuchFieldException {
+        for (Class<?> atual = tipo; atual != null; atual = atual.getSuperclass()) {
+            try {
+                atual.getDeclaredField(campo);
+                return atual;
+            } catch (NoSuchFieldException e) {
+                // procura na superclasse
+            }
+        }
+        throw new NoSuchFieldException(campo);
+    }
+
+    private static Regra regra(String campo, Class<?> tipoCampo, MethodHandle leitura, ConstraintDescriptor<?> restricao) {
+        Set<Class<?>> grupos = restricao.getGroups();
+        String mensagem = restricao.getMessageTemplate();
+        if (!grupos.equals(Set.of(Default.class)) || !restricao.getPayload().isEmpty()
+                || !restricao.getComposingConstraints().isEmpty() || mensagem.indexOf('{') >= 0) {
+            return null;
+        }
+        Annotation anotacao = restricao.getAnnotation();
+        Map<String, Object> atributos = restricao.getAttributes();
+        if (anotacao instanceof NotNull) {
+            return new Regra(campo, leitura, Verificacao.NAO_NULO, 0, 0, "NotNull", mensagem);
+        }
+        if (!CharSequence.class.isAssignableFrom(tipoCampo)) {
+            return null;
+        }
+        if (anotacao instanceof NotBlank) {
+            return new Regra(campo, leitura, Verificacao.NAO_VAZIO, 0, 0, "NotBlank", mensagem);
+        }
+        if (anotacao instanceof Size) {
+            return new Regra(campo, leitura, Verificacao.TAMANHO,
+                    (Integer) atributos.get("min"), (Integer) atributos.get("max"), "Size", mensagem);
+        }
+        return null;
+    }
+
+    private enum Verificacao { NAO_NULO, NAO_VAZIO, TAMANHO }
+
+    /**
+     * Uma restrição compilada: leitura do campo, verificação e mensagem
+     */
+    private record Regra(String campo, MethodHandle leitura, Verificacao verificacao, int minimo, int maximo,
+                         String codigo, String mensagem) {
+
+        Object ler(Object alvo) {
+            try {
+                return (Object) leitura.invokeExact(alvo);
+            } catch (Throwable e) {
+                throw new IllegalStateException("Falha ao ler o campo " + campo, e);
+            }
+        }
+
+        boolean valido(Object valor) {
+            return switch (verificacao) {
+                case NAO_NULO -> valor != null;
+                case NAO_VAZIO -> valor != null && temConteudo((CharSequence) valor);
+                case TAMANHO -> valor == null || dentroDoTamanho(((CharSequence) valor).length());
+            };
+        }
+
+        private boolean dentroDoTamanho(int tamanho) {
+            return tamanho >= minimo && tamanho <= maximo;
+        }
+
+        // Mesmo critério do NotBlankValidator do Hibernate (trim(): caracteres <= ' ' são espaço)
+        private static boolean temConteudo(CharSequence texto) {
+            for (int i = 0; i < texto.length(); i++) {
+                if (texto.charAt(i) > ' ') {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Regras compiladas de uma classe, na ordem de declaração dos campos
+     */
+    private record ValidadorCompilado(List<Regra> regras) {
+
+        void validar(Object alvo, Errors errors) {
+            for (int i = 0; i < regras.size(); i++) {
+                Regra regra = regras.get(i);
+                if (!regra.valido(regra.ler(alvo))) {
+                    errors.rejectValue(regra.campo(), regra.codigo(), regra.mensagem());
+                }
+            }
+        }
+    }
+}
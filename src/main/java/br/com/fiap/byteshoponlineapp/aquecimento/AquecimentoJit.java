@@ -0,0 +1,272 @@
+package br.com.fiap.byteshoponlineapp.aquecimento;
+
+import java.io.IOException;
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Validator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.fiap.byteshoponlineapp.api.SolicitacaoSuporteController;
+import br.com.fiap.byteshoponlineapp.api.dto.AtualizarStatusRequest;
+import br.com.fiap.byteshoponlineapp.api.dto.SolicitacaoSuporteRequest;
+import br.com.fiap.byteshoponlineapp.api.dto.SolicitacaoSuporteResponse;
+import br.com.fiap.byteshoponlineapp.api.idempotencia.CacheIdempotencia;
+import br.com.fiap.byteshoponlineapp.domain.enums.Prioridade;
+import br.com.fiap.byteshoponlineapp.domain.enums.StatusSolicitacao;
+import br.com.fiap.byteshoponlineapp.domain.repository.MemoriaSolicitacaoSuporteRepository;
+import br.com.fiap.byteshoponlineapp.domain.repository.SolicitacaoSuporteRepository;
+import br.com.fiap.byteshoponlineapp.domain.repository.arquivo.ArquivoFrio;
+import br.com.fiap.byteshoponlineapp.domain.repository.indice.IndiceBitmap;
+import br.com.fiap.byteshoponlineapp.domain.repository.indice.IndiceOrdenado;
+import br.com.fiap.byteshoponlineapp.domain.repository.mvcc.MvccSolicitacaoSuporteRepository;
+import br.com.fiap.byteshoponlineapp.service.MetricasTempoService;
+import br.com.fiap.byteshoponlineapp.service.SolicitacaoSuporteService;
+import br.com.fiap.byteshoponlineapp.service.execucao.ExecucaoParalela;
+
+/**
+ * Aquecimento do JIT antes de a aplicação se declarar pronta
+ *
+ * Roda como ApplicationRunner: o Spring Boot só publica ReadinessState.ACCEPTING_TRAFFIC depois
+ * que os runners terminam. Exercita o mesmo código das requisições (leitura do JSON, validação,
+ * controller, serviço, índices e serialização) sobre um repositório descartável, montado só
+ * para isso e sem ouvintes (replicação e webhooks não veem nada). Para quando o tempo gasto
+ * pelo JIT por rodada se assenta, ou em duracaoMaxima.
+ *
+ * Como os runners rodam com o servidor já no ar, parte das iterações também faz requisições HTTP
+ * reais para exercitar o Tomcat e o despacho do Spring MVC: só leituras, um 404 e uma criação
+ * inválida (recusada na validação), então os dados da aplicação não são alterados.
+ */
+public class AquecimentoJit implements ApplicationRunner, Ordered {
+
+    private static final Logger log = LoggerFactory.getLogger(AquecimentoJit.class);
+
+    // Acima disso o repositório descartável é limpo, para as listagens não crescerem sem limite
+    private static final int MAXIMO_SOLICITACOES = 2_000;
+
+    // Uma rodada de requisições HTTP a cada tantas iterações (abaixo do limite de taxa de leitura)
+    private static final int INTERVALO_HTTP = 50;
+
+    private static final StatusSolicitacao[] CICLO = {
+            StatusSolicitacao.EM_ANDAMENTO, StatusSolicitacao.RESOLVIDA, StatusSolicitacao.FECHADA
+    };
+    private static final Prioridade[] PRIORIDADES = Prioridade.values();
+
+    private final AquecimentoProperties properties;
+    private final ObjectMapper mapper;
+    private final Validator validator;
+    private final ExecucaoParalela execucao;
+    private final ApplicationContext contexto;
+
+    public AquecimentoJit(AquecimentoProperties properties, ObjectMapper mapper, Validator validator,
+                          ExecucaoParalela execucao, ApplicationContext contexto) {
+        this.properties = properties;
+        this.mapper = mapper;
+        this.validator = validator;
+        this.execucao = execucao;
+        this.contexto = contexto;
+    }
+
+    /**
+     * Roda depois dos demais runners, imediatamente antes de a aplicação ficar pronta
+     */
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        Path diretorio = Files.createTempDirectory("aquecimento");
+        ArquivoFrio arquivoFrio = new ArquivoFrio(diretorio.toString());
+        try {
+            aquecer(arquivoFrio);
+        } finally {
+            arquivoFrio.fechar();
+            FileSystemUtils.deleteRecursively(diretorio);
+        }
+    }
+
+    /**
+     * Executa rodadas até o JIT assentar; retorna o resumo do aquecimento
+     */
+    Resultado aquecer(ArquivoFrio arquivoFrio) throws IOException {
+        // O descartável é do mesmo tipo que o da aplicação no modo mvcc, cujo código de leitura é outro
+        SolicitacaoSuporteRepository repository =
+                "mvcc".equals(contexto.getEnvironment().getProperty("suporte.repositorio.tipo"))
+                        ? new MvccSolicitacaoSuporteRepository(1024)
+                        : new MemoriaSolicitacaoSuporteRepository(0, 1024);
+        IndiceBitmap indiceBitmap = new IndiceBitmap(repository, arquivoFrio);
+        indiceBitmap.iniciar();
+        IndiceOrdenado indiceOrdenado = new IndiceOrdenado(repository, arquivoFrio);
+        indiceOrdenado.iniciar();
+        MetricasTempoService metricasTempo = new MetricasTempoService();
+        SolicitacaoSuporteService service = new SolicitacaoSuporteService(repository, metricasTempo, arquivoFrio,
+                indiceBitmap, indiceOrdenado, execucao, evento -> { });
+        SolicitacaoSuporteController controller = new SolicitacaoSuporteController(service, metricasTempo,
+                new CacheIdempotencia(1_000, Duration.ofMinutes(1)));
+
+        List<HttpRequest> requisicoesHttp = requisicoesHttp();
+        HttpClient cliente = requisicoesHttp.isEmpty() ? null
+                : HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+        CompilationMXBean jit = ManagementFactory.getCompilationMXBean();
+        boolean medeJit = jit != null && jit.isCompilationTimeMonitoringSupported();
+        long inicio = System.nanoTime();
+        long minimo = properties.getDuracaoMinima().toNanos();
+        long maximo = properties.getDuracaoMaxima().toNanos();
+        int rodadas = 0;
+        int estaveis = 0;
+        long primeiraRodadaNs = 0;
+        long ultimaRodadaNs = 0;
+        long iteracao = 0;
+
+        while (true) {
+            long compilacaoAntes = medeJit ? jit.getTotalCompilationTime() : 0;
+            long inicioRodada = System.nanoTime();
+            for (int i = 0; i < properties.getIteracoesPorRodada(); i++) {
+                if (repository.count() >= MAXIMO_SOLICITACOES) {
+                    repository.deleteAll();
+                }
+                iterar(controller, iteracao);
+                if (cliente != null && iteracao % INTERVALO_HTTP == 0) {
+                    enviar(cliente, requisicoesHttp);
+                }
+                iteracao++;
+            }
+            long duracaoRodada = System.nanoTime() - inicioRodada;
+            long compilacaoMs = medeJit ? jit.getTotalCompilationTime() - compilacaoAntes : 0;
+            rodadas++;
+            if (rodadas == 1) {
+                primeiraRodadaNs = duracaoRodada;
+            }
+            ultimaRodadaNs = duracaoRodada;
+
+            double fracaoJit = TimeUnit.MILLISECONDS.toNanos(compilacaoMs) / (double) duracaoRodada;
+            estaveis = medeJit && fracaoJit < properties.getLimiarCompilacao() ? estaveis + 1 : 0;
+            long decorrido = System.nanoTime() - inicio;
+            boolean assentado = !medeJit || estaveis >= properties.getRodadasEstaveis();
+            if ((assentado && decorrido >= minimo) || decorrido >= maximo) {
+                Resultado resultado = new Resultado(rodadas, iteracao, TimeUnit.NANOSECONDS.toMillis(decorrido),
+                        assentado, primeiraRodadaNs / properties.getIteracoesPorRodada() / 1_000,
+                        ultimaRodadaNs / properties.getIteracoesPorRodada() / 1_000);
+                log.info("Aquecimento do JIT: {} iterações em {} rodadas, {} ms, compilação {}; "
+                                + "{} µs/iteração na primeira rodada, {} µs na última",
+                        resultado.iteracoes(), resultado.rodadas(), resultado.duracaoMs(),
+                        assentado ? "assentada" : "ainda ativa (duração máxima atingida)",
+                        resultado.primeiraRodadaUs(), resultado.ultimaRodadaUs());
+                return resultado;
+            }
+        }
+    }
+
+    /**
+     * Uma iteração: criação a partir do JSON com validação, listagens, busca e mudanças de status,
+     * com as respostas serializadas como nas requisições reais
+     */
+    private void iterar(SolicitacaoSuporteController controller, long iteracao) throws IOException {
+        String json = "{\"titulo\":\"Aquecimento " + iteracao + "\",\"descricao\":\"Solicitação descartável do aquecimento "
+                + iteracao + "\",\"prioridade\":\"" + PRIORIDADES[(int) (iteracao % PRIORIDADES.length)] + "\"}";
+        SolicitacaoSuporteRequest request = mapper.readValue(json.getBytes(StandardCharsets.UTF_8),
+                SolicitacaoSuporteRequest.class);
+        validar(request);
+        SolicitacaoSuporteResponse criada = controller.criar(request, null).getBody();
+        serializar(criada);
+        long id = criada.getId();
+
+        serializar(controller.buscarPorId(id, null));
+        serializar(controller.listarTodas(null, 50, null));
+        serializar(controller.listarTodas("prioridade", 20, "id,status,prioridade,titulo"));
+        serializar(controller.listarPorStatus(StatusSolicitacao.ABERTA, "-dataCriacao", 20, null));
+        serializar(controller.consultar(Set.of(StatusSolicitacao.ABERTA), Set.of(Prioridade.ALTA), null, null, 20, null));
+        serializar(controller.buscarVarias(Arrays.asList(id, id - 1, id - 2), null));
+
+        AtualizarStatusRequest status = new AtualizarStatusRequest(CICLO[(int) (iteracao % CICLO.length)]);
+        validar(status);
+        try {
+            serializar(controller.atualizarStatus(id, status));
+        } catch (RuntimeException recusada) {
+            // Transições inválidas também fazem parte do caminho exercitado
+        }
+    }
+
+    /**
+     * Requisições HTTP do aquecimento; vazia quando não há servidor web (testes sem servidor)
+     */
+    private List<HttpRequest> requisicoesHttp() {
+        if (!(contexto instanceof WebServerApplicationContext web) || web.getWebServer() == null
+                || web.getWebServer().getPort() <= 0) {
+            return List.of();
+        }
+        String base = "http://localhost:" + web.getWebServer().getPort();
+        return List.of(
+                get(base + "/api/suporte?limite=20"),
+                get(base + "/api/suporte?sort=prioridade&limite=20&fields=id,status,prioridade,titulo"),
+                get(base + "/api/suporte/consulta?status=ABERTA&prioridade=ALTA&limite=20"),
+                get(base + "/api/suporte/0"),
+                HttpRequest.newBuilder(URI.create(base + "/api/suporte"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString("{\"titulo\":\"\",\"prioridade\":\"ALTA\"}"))
+                        .build()
+        );
+    }
+
+    private static HttpRequest get(String url) {
+        return HttpRequest.newBuilder(URI.create(url)).build();
+    }
+
+    private static void enviar(HttpClient cliente, List<HttpRequest> requisicoes) {
+        for (HttpRequest requisicao : requisicoes) {
+            try {
+                cliente.send(requisicao, HttpResponse.BodyHandlers.ofByteArray());
+            } catch (IOException e) {
+                log.debug("Requisição de aquecimento falhou: {}", e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void validar(Object request) {
+        BeanPropertyBindingResult erros = new BeanPropertyBindingResult(request, "request");
+        validator.validate(request, erros);
+        if (erros.hasErrors()) {
+            throw new IllegalStateException("Requisição de aquecimento inválida: " + erros);
+        }
+    }
+
+    private void serializar(Object corpo) throws IOException {
+        Object valor = corpo instanceof ResponseEntity<?> resposta ? resposta.getBody() : corpo;
+        mapper.writeValueAsBytes(valor);
+    }
+
+    /**
+     * Resumo do aquecimento
+     */
+    public record Resultado(int rodadas, long iteracoes, long duracaoMs, boolean assentado,
+                            long primeiraRodadaUs, long ultimaRodadaUs) {}
+}
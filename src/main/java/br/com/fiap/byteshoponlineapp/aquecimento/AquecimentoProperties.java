@@ -0,0 +1,77 @@
+package br.com.fiap.byteshoponlineapp.aquecimento;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Propriedades do aquecimento do JIT na inicialização (prefixo suporte.aquecimento)
+ */
+@ConfigurationProperties(prefix = "suporte.aquecimento")
+public class AquecimentoProperties {
+
+    private boolean habilitado = true;
+
+    /**
+     * Iterações por rodada (cada iteração cria, lista, busca e altera solicitações)
+     */
+    private int iteracoesPorRodada = 200;
+
+    /**
+     * A compilação é considerada assentada quando o tempo gasto pelo JIT em uma rodada
+     * fica abaixo desta fração do tempo da rodada por rodadasEstaveis rodadas seguidas
+     */
+    private double limiarCompilacao = 0.05;
+    private int rodadasEstaveis = 3;
+
+    private Duration duracaoMinima = Duration.ofSeconds(2);
+    private Duration duracaoMaxima = Duration.ofSeconds(30);
+
+    public boolean isHabilitado() {
+        return habilitado;
+    }
+
+    public void setHabilitado(boolean habilitado) {
+        this.habilitado = habilitado;
+    }
+
+    public int getIteracoesPorRodada() {
+        return iteracoesPorRodada;
+    }
+
+    public void setIteracoesPorRodada(int iteracoesPorRodada) {
+        this.iteracoesPorRodada = iteracoesPorRodada;
+    }
+
+    public double getLimiarCompilacao() {
+        return limiarCompilacao;
+    }
+
+    public void setLimiarCompilacao(double limiarCompilacao) {
+        this.limiarCompilacao = limiarCompilacao;
+    }
+
+    public int getRodadasEstaveis() {
+        return rodadasEstaveis;
+    }
+
+    public void setRodadasEstaveis(int rodadasEstaveis) {
+        this.rodadasEstaveis = rodadasEstaveis;
+    }
+
+    public Duration getDuracaoMinima() {
+        return duracaoMinima;
+    }
+
+    public void setDuracaoMinima(Duration duracaoMinima) {
+        this.duracaoMinima = duracaoMinima;
+    }
+
+    public Duration getDuracaoMaxima() {
+        return duracaoMaxima;
+    }
+
+    public void setDuracaoMaxima(Duration duracaoMaxima) {
+        this.duracaoMaxima = duracaoMaxima;
+    }
+}
@@ -0,0 +1,43 @@
+package br.com.fiap.byteshoponlineapp.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import br.com.fiap.byteshoponlineapp.api.admissao.AdmissaoInterceptor;
+import br.com.fiap.byteshoponlineapp.api.admissao.AdmissaoProperties;
+import br.com.fiap.byteshoponlineapp.api.admissao.ControleAdmissao;
+
+/**
+ * Configuração do controle de admissão (rate limiting e limite adaptativo de concorrência)
+ *
+ * Desligado por padrão: habilitar com suporte.admissao.habilitada=true.
+ */
+@Configuration
+@EnableConfigurationProperties(AdmissaoProperties.class)
+public class AdmissaoConfig implements WebMvcConfigurer {
+
+    private final AdmissaoProperties properties;
+
+    public AdmissaoConfig(AdmissaoProperties properties) {
+        this.properties = properties;
+    }
+
+    @Bean
+    public ControleAdmissao controleAdmissao() {
+        return new ControleAdmissao(properties);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (properties.isHabilitada()) {
+            // Primeiro da cadeia: recusar deve custar o mínimo possível
+            registry.addInterceptor(new AdmissaoInterceptor(controleAdmissao()))
+                    .addPathPatterns("/api/suporte", "/api/suporte/**")
+                    .order(Ordered.HIGHEST_PRECEDENCE);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package br.com.fiap.byteshoponlineapp.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita as tarefas periódicas (@Scheduled), como o arquivamento de solicitações fechadas
+ */
+@Configuration
+@EnableScheduling
+public class AgendamentoConfig {
+}
@@ -0,0 +1,31 @@
+package br.com.fiap.byteshoponlineapp.config;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.Validator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.fiap.byteshoponlineapp.aquecimento.AquecimentoJit;
+import br.com.fiap.byteshoponlineapp.aquecimento.AquecimentoProperties;
+import br.com.fiap.byteshoponlineapp.service.execucao.ExecucaoParalela;
+
+/**
+ * Configuração do aquecimento do JIT executado antes de a aplicação ficar pronta
+ */
+@Configuration
+@EnableConfigurationProperties(AquecimentoProperties.class)
+public class AquecimentoConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "suporte.aquecimento", name = "habilitado", havingValue = "true", matchIfMissing = true)
+    public AquecimentoJit aquecimentoJit(AquecimentoProperties properties, ObjectMapper mapper,
+                                         @Qualifier("mvcValidator") Validator validator, ExecucaoParalela execucao,
+                                         ApplicationContext contexto) {
+        return new AquecimentoJit(properties, mapper, validator, execucao, contexto);
+    }
+}
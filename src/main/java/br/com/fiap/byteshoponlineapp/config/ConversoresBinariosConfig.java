@@ -0,0 +1,34 @@
+package br.com.fiap.byteshoponlineapp.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * Configuração dos formatos binários (CBOR e Smile) para negociação de conteúdo
+ *
+ * Os conversores usam o mesmo ObjectMapper configurado pelo Spring Boot (módulos,
+ * serializers de api/json), então o esquema é idêntico ao do JSON. Eles substituem
+ * os conversores padrão na mesma posição, depois do JSON, de modo que clientes sem
+ * Accept explícito (navegadores, Swagger) continuam recebendo application/json.
+ *
+ * Accept/Content-Type suportados: application/cbor e application/x-jackson-smile
+ */
+@Configuration
+public class ConversoresBinariosConfig {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
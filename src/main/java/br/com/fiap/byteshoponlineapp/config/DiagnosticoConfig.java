@@ -0,0 +1,50 @@
+package br.com.fiap.byteshoponlineapp.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import br.com.fiap.byteshoponlineapp.api.diagnostico.RequisicoesLentas;
+import br.com.fiap.byteshoponlineapp.api.diagnostico.TempoFasesAspect;
+import br.com.fiap.byteshoponlineapp.api.diagnostico.TempoRequisicaoInterceptor;
+
+/**
+ * Configuração da medição por fase (header Server-Timing) e do registro de requisições lentas
+ *
+ * A fase de validação é medida pelo ValidadorCronometrado registrado em ValidacaoConfig.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "suporte.diagnostico", name = "habilitado", havingValue = "true", matchIfMissing = true)
+public class DiagnosticoConfig implements WebMvcConfigurer {
+
+    private final RequisicoesLentas requisicoesLentas;
+
+    public DiagnosticoConfig(@Value("${suporte.diagnostico.lentas.capacidade:256}") int capacidade,
+                             @Value("${suporte.diagnostico.lentas.limiar:200ms}") Duration limiar) {
+        this.requisicoesLentas = new RequisicoesLentas(capacidade, limiar.toNanos());
+    }
+
+    @Bean
+    public RequisicoesLentas requisicoesLentas() {
+        return requisicoesLentas;
+    }
+
+    @Bean
+    public TempoFasesAspect tempoFasesAspect() {
+        return new TempoFasesAspect();
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // Logo depois do controle de admissão: requisições recusadas não são medidas
+        registry.addInterceptor(new TempoRequisicaoInterceptor(requisicoesLentas))
+                .addPathPatterns("/api/suporte", "/api/suporte/**")
+                .order(Ordered.HIGHEST_PRECEDENCE + 1);
+    }
+}
@@ -0,0 +1,40 @@
+package br.com.fiap.byteshoponlineapp.config;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import br.com.fiap.byteshoponlineapp.service.execucao.ExecucaoParalela;
+import br.com.fiap.byteshoponlineapp.service.execucao.FabricaExecutor;
+
+/**
+ * Configuração da execução paralela usada pelas listagens e cargas em lote
+ *
+ * Usa a FabricaExecutor registrada pelo build Java 21 quando spring.threads.virtual.enabled=true;
+ * caso contrário, um pool fixo de threads de plataforma.
+ */
+@Configuration
+public class ExecucaoConfig {
+
+    @Bean(destroyMethod = "close")
+    public ExecucaoParalela execucaoParalela(
+            ObjectProvider<FabricaExecutor> fabricas,
+            @Value("${suporte.execucao.paralelismo-maximo:16}") int paralelismoMaximo) {
+        FabricaExecutor fabrica = fabricas.getIfAvailable(() -> ExecucaoConfig::poolPlataforma);
+        return new ExecucaoParalela(fabrica.criar("suporte-paralela", paralelismoMaximo), paralelismoMaximo);
+    }
+
+    private static ExecutorService poolPlataforma(String nome, int paralelismo) {
+        AtomicInteger contador = new AtomicInteger();
+        return Executors.newFixedThreadPool(paralelismo, tarefa -> {
+            Thread thread = new Thread(tarefa, nome + "-" + contador.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
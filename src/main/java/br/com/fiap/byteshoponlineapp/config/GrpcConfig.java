@@ -0,0 +1,32 @@
+package br.com.fiap.byteshoponlineapp.config;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.Validator;
+
+import br.com.fiap.byteshoponlineapp.grpc.GrpcProperties;
+import br.com.fiap.byteshoponlineapp.grpc.ServidorGrpc;
+import br.com.fiap.byteshoponlineapp.grpc.SuporteGrpcService;
+import br.com.fiap.byteshoponlineapp.replicacao.ModoReplicacao;
+import br.com.fiap.byteshoponlineapp.replicacao.ReplicacaoProperties;
+import br.com.fiap.byteshoponlineapp.service.SolicitacaoSuporteService;
+
+/**
+ * Configuração da API gRPC para serviços internos (ligada só com suporte.grpc.habilitado=true)
+ */
+@Configuration
+@EnableConfigurationProperties(GrpcProperties.class)
+public class GrpcConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "suporte.grpc", name = "habilitado", havingValue = "true")
+    public ServidorGrpc servidorGrpc(GrpcProperties properties, SolicitacaoSuporteService service,
+                                     @Qualifier("mvcValidator") Validator validator,
+                                     ReplicacaoProperties replicacao) {
+        boolean somenteLeitura = replicacao.getModo() == ModoReplicacao.SEGUIDOR;
+        return new ServidorGrpc(properties, new SuporteGrpcService(service, validator, somenteLeitura));
+    }
+}
@@ -0,0 +1,51 @@
+package br.com.fiap.byteshoponlineapp.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import br.com.fiap.byteshoponlineapp.domain.repository.jdbc.JdbcSolicitacaoSuporteRepository;
+
+/**
+ * Configuração do repositório JDBC (suporte.repositorio.tipo=jdbc)
+ *
+ * O DataSource é criado aqui em vez da autoconfiguração do Spring Boot, que continua
+ * desabilitada para o modo em memória.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "suporte.repositorio", name = "tipo", havingValue = "jdbc")
+public class JdbcRepositorioConfig {
+
+    @Bean
+    public DataSource dataSourceSuporte(
+            @Value("${suporte.repositorio.jdbc.url:jdbc:h2:mem:suporte;DB_CLOSE_DELAY=-1}") String url,
+            @Value("${suporte.repositorio.jdbc.usuario:sa}") String usuario,
+            @Value("${suporte.repositorio.jdbc.senha:}") String senha,
+            @Value("${suporte.repositorio.jdbc.tamanho-pool:4}") int tamanhoPool) {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(url);
+        config.setUsername(usuario);
+        config.setPassword(senha);
+        config.setMaximumPoolSize(tamanhoPool);
+        config.setPoolName("suporte-jdbc");
+        HikariDataSource dataSource = new HikariDataSource(config);
+        new ResourceDatabasePopulator(new ClassPathResource("schema-suporte.sql")).execute(dataSource);
+        return dataSource;
+    }
+
+    @Bean(destroyMethod = "close")
+    public JdbcSolicitacaoSuporteRepository jdbcSolicitacaoSuporteRepository(
+            DataSource dataSourceSuporte,
+            @Value("${suporte.repositorio.cache.capacidade:10000}") int capacidadeCache,
+            @Value("${suporte.repositorio.grupo-commit.tamanho-lote:256}") int tamanhoLote) {
+        return new JdbcSolicitacaoSuporteRepository(dataSourceSuporte, capacidadeCache, tamanhoLote);
+    }
+}
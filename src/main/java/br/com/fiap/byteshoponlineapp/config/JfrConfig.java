@@ -0,0 +1,32 @@
+package br.com.fiap.byteshoponlineapp.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import br.com.fiap.byteshoponlineapp.jfr.EventosJfrAspect;
+import br.com.fiap.byteshoponlineapp.jfr.GravacaoJfr;
+
+/**
+ * Configuração dos eventos JFR customizados e da gravação sob demanda
+ */
+@Configuration
+public class JfrConfig {
+
+    @Bean
+    public EventosJfrAspect eventosJfrAspect() {
+        return new EventosJfrAspect();
+    }
+
+    @Bean(destroyMethod = "fechar")
+    public GravacaoJfr gravacaoJfr(
+            @Value("${suporte.diagnostico.jfr.diretorio:dados/jfr}") String diretorio,
+            @Value("${suporte.diagnostico.jfr.duracao-maxima:10m}") Duration duracaoMaxima,
+            @Value("${suporte.diagnostico.jfr.tamanho-maximo:256MB}") DataSize tamanhoMaximo) {
+        return new GravacaoJfr(Path.of(diretorio), duracaoMaxima, tamanhoMaximo.toBytes());
+    }
+}
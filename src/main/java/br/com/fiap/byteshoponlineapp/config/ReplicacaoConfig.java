@@ -0,0 +1,45 @@
+package br.com.fiap.byteshoponlineapp.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import br.com.fiap.byteshoponlineapp.replicacao.LiderReplicacao;
+import br.com.fiap.byteshoponlineapp.replicacao.ReplicacaoProperties;
+import br.com.fiap.byteshoponlineapp.replicacao.RoteamentoReplicacaoInterceptor;
+import br.com.fiap.byteshoponlineapp.replicacao.SeguidorReplicacao;
+
+/**
+ * Configuração da replicação líder/seguidor do repositório
+ */
+@Configuration
+@EnableConfigurationProperties(ReplicacaoProperties.class)
+public class ReplicacaoConfig implements WebMvcConfigurer {
+
+    private final ObjectProvider<LiderReplicacao> lider;
+    private final ObjectProvider<SeguidorReplicacao> seguidor;
+    private final ReplicacaoProperties properties;
+
+    public ReplicacaoConfig(ObjectProvider<LiderReplicacao> lider, ObjectProvider<SeguidorReplicacao> seguidor,
+                            ReplicacaoProperties properties) {
+        this.lider = lider;
+        this.seguidor = seguidor;
+        this.properties = properties;
+    }
+
+    /**
+     * Diagnóstico (gravação JFR, métricas) é local a cada instância e não passa pelo roteamento
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        LiderReplicacao instanciaLider = lider.getIfAvailable();
+        SeguidorReplicacao instanciaSeguidor = seguidor.getIfAvailable();
+        if (instanciaLider != null || instanciaSeguidor != null) {
+            registry.addInterceptor(new RoteamentoReplicacaoInterceptor(instanciaLider, instanciaSeguidor, properties))
+                    .addPathPatterns("/api/**")
+                    .excludePathPatterns("/api/diagnostico/**");
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package br.com.fiap.byteshoponlineapp.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import br.com.fiap.byteshoponlineapp.domain.repository.SolicitacaoSuporteRepository;
+import br.com.fiap.byteshoponlineapp.service.SolicitacaoSuporteService;
+import br.com.fiap.byteshoponlineapp.service.sla.EscalonadorSla;
+import br.com.fiap.byteshoponlineapp.service.sla.SlaProperties;
+
+/**
+ * Configuração da escalada de prioridade por SLA
+ *
+ * Seguidores da replicação não escalam: recebem as escaladas do líder como qualquer outra alteração.
+ */
+@Configuration
+@EnableConfigurationProperties(SlaProperties.class)
+public class SlaConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "suporte.sla", name = "habilitado", havingValue = "true", matchIfMissing = true)
+    @ConditionalOnExpression("!'${suporte.replicacao.modo:DESATIVADA}'.equalsIgnoreCase('SEGUIDOR')")
+    public EscalonadorSla escalonadorSla(SlaProperties properties, SolicitacaoSuporteRepository repository,
+                                         SolicitacaoSuporteService service) {
+        return new EscalonadorSla(properties, repository, service, System::currentTimeMillis);
+    }
+}
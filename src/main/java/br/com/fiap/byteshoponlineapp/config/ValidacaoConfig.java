@@ -0,0 +1,40 @@
+package br.com.fiap.byteshoponlineapp.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.SmartValidator;
+import org.springframework.validation.Validator;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import br.com.fiap.byteshoponlineapp.api.diagnostico.ValidadorCronometrado;
+import br.com.fiap.byteshoponlineapp.api.validacao.ValidadorPrecompilado;
+
+/**
+ * Configuração do Validator usado nos argumentos @Valid dos controllers
+ *
+ * Por padrão as regras dos DTOs são compiladas uma vez (ValidadorPrecompilado); com o
+ * diagnóstico habilitado, o tempo da validação entra na fase "validacao" do Server-Timing.
+ */
+@Configuration
+public class ValidacaoConfig implements WebMvcConfigurer {
+
+    private final jakarta.validation.Validator validador;
+    private final boolean precompilada;
+    private final boolean diagnostico;
+
+    public ValidacaoConfig(jakarta.validation.Validator validador,
+                           @Value("${suporte.validacao.precompilada:true}") boolean precompilada,
+                           @Value("${suporte.diagnostico.habilitado:true}") boolean diagnostico) {
+        this.validador = validador;
+        this.precompilada = precompilada;
+        this.diagnostico = diagnostico;
+    }
+
+    @Override
+    public Validator getValidator() {
+        SmartValidator padrao = new SpringValidatorAdapter(validador);
+        SmartValidator escolhido = precompilada ? new ValidadorPrecompilado(padrao, validador) : padrao;
+        return diagnostico ? new ValidadorCronometrado(escolhido) : escolhido;
+    }
+}
@@ -0,0 +1,25 @@
+package br.com.fiap.byteshoponlineapp.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.fiap.byteshoponlineapp.webhook.DespachanteWebhook;
+import br.com.fiap.byteshoponlineapp.webhook.WebhookProperties;
+
+/**
+ * Configuração dos webhooks de saída (eventos de criação e mudança de status)
+ */
+@Configuration
+@EnableConfigurationProperties(WebhookProperties.class)
+public class WebhookConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "suporte.webhook", name = "habilitado", havingValue = "true")
+    public DespachanteWebhook despachanteWebhook(WebhookProperties properties, ObjectMapper mapper) {
+        return new DespachanteWebhook(properties, mapper);
+    }
+}
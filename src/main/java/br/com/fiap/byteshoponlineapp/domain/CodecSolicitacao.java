@@ -0,0 +1,101 @@
+package br.com.fiap.byteshoponlineapp.domain;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import br.com.fiap.byteshoponlineapp.domain.enums.Prioridade;
+import br.com.fiap.byteshoponlineapp.domain.enums.StatusSolicitacao;
+
+/**
+ * Codificação binária de uma solicitação, incluindo o histórico de status
+ *
+ * Usada pela replicação e pelo arquivo frio.
+ */
+public final class CodecSolicitacao {
+
+    private static final StatusSolicitacao[] STATUS = StatusSolicitacao.values();
+    private static final Prioridade[] PRIORIDADES = Prioridade.values();
+
+    private CodecSolicitacao() {
+    }
+
+    /**
+     * Codifica o estado atual de uma solicitação
+     */
+    public static byte[] codificar(SolicitacaoSuporte solicitacao) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeLong(solicitacao.getId());
+            escreverTexto(out, solicitacao.getTitulo());
+            escreverTexto(out, solicitacao.getDescricao());
+            out.writeByte(solicitacao.getStatus().ordinal());
+            out.writeByte(solicitacao.getPrioridade() == null ? -1 : solicitacao.getPrioridade().ordinal());
+            escreverDataHora(out, solicitacao.getDataCriacao());
+            escreverDataHora(out, solicitacao.getDataAtualizacao());
+            long[] historico = solicitacao.getHistorico().copiarEntradas();
+            out.writeByte(historico.length);
+            for (long entrada : historico) {
+                out.writeLong(entrada);
+            }
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Decodifica uma solicitação escrita por codificar()
+     */
+    public static SolicitacaoSuporte decodificar(DataInputStream in) throws IOException {
+        long id = in.readLong();
+        String titulo = lerTexto(in);
+        String descricao = lerTexto(in);
+        StatusSolicitacao status = STATUS[in.readByte()];
+        byte prioridade = in.readByte();
+        LocalDateTime dataCriacao = lerDataHora(in);
+        LocalDateTime dataAtualizacao = lerDataHora(in);
+        long[] historico = new long[in.readByte()];
+        for (int i = 0; i < historico.length; i++) {
+            historico[i] = in.readLong();
+        }
+
+        SolicitacaoSuporte solicitacao = new SolicitacaoSuporte(
+                id, titulo, descricao, prioridade < 0 ? null : PRIORIDADES[prioridade]);
+        solicitacao.setStatus(status);
+        solicitacao.getHistorico().restaurar(historico);
+        solicitacao.setDataCriacao(dataCriacao);
+        solicitacao.setDataAtualizacao(dataAtualizacao);
+        return solicitacao;
+    }
+
+    private static void escreverTexto(DataOutputStream out, String texto) throws IOException {
+        out.writeBoolean(texto != null);
+        if (texto != null) {
+            out.writeUTF(texto);
+        }
+    }
+
+    private static String lerTexto(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static void escreverDataHora(DataOutputStream out, LocalDateTime dataHora) throws IOException {
+        out.writeBoolean(dataHora != null);
+        if (dataHora != null) {
+            out.writeLong(dataHora.toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(dataHora.getNano());
+        }
+    }
+
+    private static LocalDateTime lerDataHora(DataInputStream in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+    }
+}
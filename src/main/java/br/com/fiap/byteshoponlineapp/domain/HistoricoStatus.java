@@ -0,0 +1,143 @@
+package br.com.fiap.byteshoponlineapp.domain;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import br.com.fiap.byteshoponlineapp.domain.enums.StatusSolicitacao;
+
+/**
+ * Histórico compacto das transições de status de uma solicitação
+ *
+ * Cada entrada é um único long: (epochMillis << 2) | ordinal do status.
+ * O histórico é limitado a CAPACIDADE_MAXIMA entradas; quando cheio, a entrada
+ * inicial (criação) é preservada e a transição mais antiga depois dela é descartada.
+ */
+public class HistoricoStatus {
+
+    public static final int CAPACIDADE_MAXIMA = 16;
+
+    private static final int BITS_STATUS = 2;
+    private static final long MASCARA_STATUS = (1L << BITS_STATUS) - 1;
+    private static final StatusSolicitacao[] STATUS = StatusSolicitacao.values();
+
+    static {
+        if (STATUS.length > (1 << BITS_STATUS)) {
+            throw new IllegalStateException("BITS_STATUS comporta no máximo " + (1 << BITS_STATUS)
+                    + " status; StatusSolicitacao tem " + STATUS.length);
+        }
+    }
+
+    private long[] entradas = new long[4];
+    private int tamanho;
+
+    public HistoricoStatus(StatusSolicitacao statusInicial, long epochMillis) {
+        registrar(statusInicial, epochMillis);
+    }
+
+    /**
+     * Cópia independente do histórico informado
+     */
+    public HistoricoStatus(HistoricoStatus origem) {
+        synchronized (origem) {
+            entradas = Arrays.copyOf(origem.entradas, Math.max(4, origem.tamanho));
+            tamanho = origem.tamanho;
+        }
+    }
+
+    /**
+     * Registra uma transição para o status informado
+     */
+    public synchronized void registrar(StatusSolicitacao status, long epochMillis) {
+        long entrada = (epochMillis << BITS_STATUS) | status.ordinal();
+        if (tamanho == entradas.length) {
+            if (tamanho == CAPACIDADE_MAXIMA) {
+                System.arraycopy(entradas, 2, entradas, 1, tamanho - 2);
+                tamanho--;
+            } else {
+                long[] maior = new long[Math.min(CAPACIDADE_MAXIMA, entradas.length * 2)];
+                System.arraycopy(entradas, 0, maior, 0, tamanho);
+                entradas = maior;
+            }
+        }
+        entradas[tamanho++] = entrada;
+    }
+
+    /**
+     * Indica se o histórico registra alguma entrada no status informado
+     *
+     * Quando o histórico chega a CAPACIDADE_MAXIMA, as transições mais antigas depois da criação
+     * são descartadas e deixam de contar aqui.
+     */
+    public synchronized boolean contem(StatusSolicitacao status) {
+        for (int i = 0; i < tamanho; i++) {
+            if ((entradas[i] & MASCARA_STATUS) == status.ordinal()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Cópia das entradas codificadas (usada para replicar o histórico)
+     */
+    public synchronized long[] copiarEntradas() {
+        long[] copia = new long[tamanho];
+        System.arraycopy(entradas, 0, copia, 0, tamanho);
+        return copia;
+    }
+
+    /**
+     * Substitui o histórico pelas entradas codificadas informadas
+     */
+    public synchronized void restaurar(long[] codificadas) {
+        if (codificadas.length == 0 || codificadas.length > CAPACIDADE_MAXIMA) {
+            throw new IllegalArgumentException("Histórico deve ter entre 1 e " + CAPACIDADE_MAXIMA + " entradas");
+        }
+        entradas = new long[Math.max(4, codificadas.length)];
+        System.arraycopy(codificadas, 0, entradas, 0, codificadas.length);
+        tamanho = codificadas.length;
+    }
+
+    /**
+     * Instante (epoch millis) da última transição registrada
+     */
+    public synchronized long instanteUltimaTransicao() {
+        return entradas[tamanho - 1] >>> BITS_STATUS;
+    }
+
+    /**
+     * Instante (epoch millis) da entrada inicial
+     */
+    public synchronized long instanteInicial() {
+        return entradas[0] >>> BITS_STATUS;
+    }
+
+    public synchronized int tamanho() {
+        return tamanho;
+    }
+
+    /**
+     * Decodifica o histórico em uma lista de transições
+     */
+    public synchronized List<Transicao> listar() {
+        List<Transicao> transicoes = new ArrayList<>(tamanho);
+        ZoneId zona = ZoneId.systemDefault();
+        for (int i = 0; i < tamanho; i++) {
+            long entrada = entradas[i];
+            transicoes.add(new Transicao(
+                    STATUS[(int) (entrada & MASCARA_STATUS)],
+                    LocalDateTime.ofInstant(Instant.ofEpochMilli(entrada >>> BITS_STATUS), zona)
+            ));
+        }
+        return transicoes;
+    }
+
+    /**
+     * Transição decodificada do histórico
+     */
+    public record Transicao(StatusSolicitacao status, LocalDateTime instante) {}
+}
@@ -17,11 +17,13 @@ public class SolicitacaoSuporte {
     private Prioridade prioridade;
     private LocalDateTime dataCriacao;
     private LocalDateTime dataAtualizacao;
+    private final HistoricoStatus historico;
 
     public SolicitacaoSuporte() {
         this.dataCriacao = LocalDateTime.now();
         this.dataAtualizacao = LocalDateTime.now();
         this.status = StatusSolicitacao.ABERTA;
+        this.historico = new HistoricoStatus(StatusSolicitacao.ABERTA, System.currentTimeMillis());
     }
 
     public SolicitacaoSuporte(Long id, String titulo, String descricao, Prioridade prioridade) {
@@ -32,6 +34,20 @@ public class SolicitacaoSuporte {
         this.prioridade = prioridade;
     }
 
+    /**
+     * Cópia independente, inclusive do histórico (usada pelo repositório mvcc para gravar versões)
+     */
+    public SolicitacaoSuporte(SolicitacaoSuporte origem) {
+        this.id = origem.id;
+        this.titulo = origem.titulo;
+        this.descricao = origem.descricao;
+        this.status = origem.status;
+        this.prioridade = origem.prioridade;
+        this.dataCriacao = origem.dataCriacao;
+        this.dataAtualizacao = origem.dataAtualizacao;
+        this.historico = new HistoricoStatus(origem.historico);
+    }
+
     // Getters and Setters
     public Long getId() {
         return id;
@@ -62,6 +78,9 @@ public class SolicitacaoSuporte {
     }
 
     public void setStatus(StatusSolicitacao status) {
+        if (this.status != status) {
+            historico.registrar(status, System.currentTimeMillis());
+        }
         this.status = status;
         this.dataAtualizacao = LocalDateTime.now();
     }
@@ -90,6 +109,10 @@ public class SolicitacaoSuporte {
         this.dataAtualizacao = dataAtualizacao;
     }
 
+    public HistoricoStatus getHistorico() {
+        return historico;
+    }
+
     public void atualizarDataModificacao() {
         this.dataAtualizacao = LocalDateTime.now();
     }
@@ -0,0 +1,25 @@
+package br.com.fiap.byteshoponlineapp.domain.repository;
+
+import java.util.Map;
+
+import org.springframework.dao.DataAccessResourceFailureException;
+
+/**
+ * Falha de saveAll em que só parte das solicitações foi gravada
+ *
+ * As gravadas já estão no repositório (e os ouvintes foram avisados); falhas traz o ID e o
+ * motivo de cada uma das que não foram.
+ */
+public class GravacaoParcialException extends DataAccessResourceFailureException {
+
+    private final Map<Long, String> falhas;
+
+    public GravacaoParcialException(Map<Long, String> falhas, Throwable causa) {
+        super(falhas.size() + " solicitações não foram gravadas", causa);
+        this.falhas = Map.copyOf(falhas);
+    }
+
+    public Map<Long, String> getFalhas() {
+        return falhas;
+    }
+}
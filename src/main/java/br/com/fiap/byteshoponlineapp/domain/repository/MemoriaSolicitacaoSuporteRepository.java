@@ -0,0 +1,210 @@
+package br.com.fiap.byteshoponlineapp.domain.repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import br.com.fiap.byteshoponlineapp.domain.SolicitacaoSuporte;
+import br.com.fiap.byteshoponlineapp.domain.enums.StatusSolicitacao;
+
+/**
+ * Repositório em memória para gerenciar Solicitações de Suporte
+ *
+ * Os dados são divididos em N partições independentes (um ConcurrentHashMap cada),
+ * roteadas pelo ID (particao = (id - 1) % N). Cada thread reserva um bloco de BLOCO_IDS IDs
+ * do contador compartilhado e os entrega sem tocar nele: o CAS disputado acontece uma vez por
+ * bloco, não por criação. Os IDs são únicos e crescem dentro de cada thread, mas não são
+ * densos entre threads (um bloco não usado até o fim deixa lacunas). IDs consecutivos caem em
+ * partições diferentes, o que espalha as rajadas de criação entre os mapas.
+ *
+ * Cada mutação e a notificação dos ouvintes acontecem dentro do compute da chave, então
+ * mutações concorrentes do mesmo ID chegam aos ouvintes (índices, replicação) na mesma
+ * ordem em que foram aplicadas ao mapa.
+ */
+@Repository
+@ConditionalOnProperty(prefix = "suporte.repositorio", name = "tipo", havingValue = "memoria", matchIfMissing = true)
+public class MemoriaSolicitacaoSuporteRepository extends RepositorioComOuvintes {
+
+    static final int BLOCO_IDS = 64;
+
+    private final int numeroParticoes;
+    private final List<Map<Long, SolicitacaoSuporte>> particoes;
+    private final AtomicLong sequencia = new AtomicLong();
+
+    // Próximo ID e fim (exclusivo) do bloco reservado pela thread
+    private final ThreadLocal<long[]> blocoDaThread = ThreadLocal.withInitial(() -> new long[2]);
+
+    public MemoriaSolicitacaoSuporteRepository(
+            @Value("${suporte.repositorio.particoes:0}") int particoes,
+            @Value("${suporte.repositorio.capacidade-inicial:1024}") int capacidadeInicial) {
+        this.numeroParticoes = particoes > 0 ? particoes : Runtime.getRuntime().availableProcessors();
+        this.particoes = new ArrayList<>(numeroParticoes);
+        for (int i = 0; i < numeroParticoes; i++) {
+            this.particoes.add(new ConcurrentHashMap<>(Math.max(16, capacidadeInicial / numeroParticoes)));
+        }
+    }
+
+    /**
+     * Salva uma nova solicitação de suporte
+     */
+    @Override
+    public SolicitacaoSuporte save(SolicitacaoSuporte solicitacao) {
+        if (solicitacao.getId() == null) {
+            solicitacao.setId(proximoId());
+        }
+        return gravar(solicitacao);
+    }
+
+    /**
+     * Busca uma solicitação por ID
+     */
+    @Override
+    public Optional<SolicitacaoSuporte> findById(Long id) {
+        return Optional.ofNullable(particaoDe(id).get(id));
+    }
+
+    /**
+     * Busca as solicitações dos IDs informados
+     */
+    @Override
+    public List<SolicitacaoSuporte> findAllById(Collection<Long> ids) {
+        List<SolicitacaoSuporte> encontradas = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            SolicitacaoSuporte solicitacao = particaoDe(id).get(id);
+            if (solicitacao != null) {
+                encontradas.add(solicitacao);
+            }
+        }
+        return encontradas;
+    }
+
+    /**
+     * Lista todas as solicitações
+     */
+    @Override
+    public List<SolicitacaoSuporte> findAll() {
+        List<SolicitacaoSuporte> todas = new ArrayList<>((int) count());
+        for (Map<Long, SolicitacaoSuporte> particao : particoes) {
+            todas.addAll(particao.values());
+        }
+        return todas;
+    }
+
+    /**
+     * Lista solicitações por status
+     */
+    @Override
+    public List<SolicitacaoSuporte> findByStatus(StatusSolicitacao status) {
+        List<SolicitacaoSuporte> resultado = new ArrayList<>();
+        for (Map<Long, SolicitacaoSuporte> particao : particoes) {
+            for (SolicitacaoSuporte solicitacao : particao.values()) {
+                if (solicitacao.getStatus() == status) {
+                    resultado.add(solicitacao);
+                }
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Atualiza uma solicitação existente
+     */
+    @Override
+    public SolicitacaoSuporte update(SolicitacaoSuporte solicitacao) {
+        return gravar(solicitacao);
+    }
+
+    /**
+     * Remove uma solicitação por ID
+     */
+    @Override
+    public void deleteById(Long id) {
+        particaoDe(id).computeIfPresent(id, (chave, atual) -> {
+            notificarRemocao(id);
+            return null;
+        });
+    }
+
+    /**
+     * Verifica se uma solicitação existe
+     */
+    @Override
+    public boolean existsById(Long id) {
+        return particaoDe(id).containsKey(id);
+    }
+
+    /**
+     * Conta o total de solicitações
+     */
+    @Override
+    public long count() {
+        long total = 0;
+        for (Map<Long, SolicitacaoSuporte> particao : particoes) {
+            total += particao.size();
+        }
+        return total;
+    }
+
+    /**
+     * Limpa todo o repositório (útil para testes)
+     */
+    @Override
+    public void deleteAll() {
+        for (Map<Long, SolicitacaoSuporte> particao : particoes) {
+            particao.clear();
+        }
+        notificarLimpeza();
+    }
+
+    /**
+     * Retira uma solicitação arquivada
+     */
+    @Override
+    public void evictById(Long id) {
+        particaoDe(id).computeIfPresent(id, (chave, atual) -> {
+            notificarArquivamento(id);
+            return null;
+        });
+    }
+
+    /**
+     * Avança a sequência; blocos já reservados pelas threads não mudam, então deve vir antes das criações
+     */
+    @Override
+    public void reservarIdsAte(long id) {
+        sequencia.accumulateAndGet(id, Math::max);
+    }
+
+    public int getNumeroParticoes() {
+        return numeroParticoes;
+    }
+
+    private long proximoId() {
+        long[] bloco = blocoDaThread.get();
+        if (bloco[0] == bloco[1]) {
+            bloco[0] = sequencia.getAndAdd(BLOCO_IDS) + 1;
+            bloco[1] = bloco[0] + BLOCO_IDS;
+        }
+        return bloco[0]++;
+    }
+
+    private SolicitacaoSuporte gravar(SolicitacaoSuporte solicitacao) {
+        particaoDe(solicitacao.getId()).compute(solicitacao.getId(), (id, anterior) -> {
+            notificarSalvamento(solicitacao);
+            return solicitacao;
+        });
+        return solicitacao;
+    }
+
+    private Map<Long, SolicitacaoSuporte> particaoDe(Long id) {
+        return particoes.get((int) Math.floorMod(id - 1, (long) numeroParticoes));
+    }
+}
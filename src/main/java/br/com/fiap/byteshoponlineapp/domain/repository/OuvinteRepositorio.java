@@ -0,0 +1,33 @@
+package br.com.fiap.byteshoponlineapp.domain.repository;
+
+import br.com.fiap.byteshoponlineapp.domain.SolicitacaoSuporte;
+
+/**
+ * Ouvinte notificado após cada mutação aplicada no repositório
+ *
+ * As notificações acontecem na thread que executou a mutação, depois da escrita.
+ */
+public interface OuvinteRepositorio {
+
+    /**
+     * Chamado após save/update
+     */
+    void aoSalvar(SolicitacaoSuporte solicitacao);
+
+    /**
+     * Chamado após a remoção de uma solicitação existente
+     */
+    void aoRemover(Long id);
+
+    /**
+     * Chamado após deleteAll
+     */
+    default void aoLimpar() {
+    }
+
+    /**
+     * Chamado após evictById (solicitação movida para o arquivo frio)
+     */
+    default void aoArquivar(Long id) {
+    }
+}
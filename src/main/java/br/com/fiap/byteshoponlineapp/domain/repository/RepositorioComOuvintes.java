@@ -0,0 +1,43 @@
+package br.com.fiap.byteshoponlineapp.domain.repository;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import br.com.fiap.byteshoponlineapp.domain.SolicitacaoSuporte;
+
+/**
+ * Base das implementações de repositório: mantém e notifica os ouvintes de mutações
+ */
+public abstract class RepositorioComOuvintes implements SolicitacaoSuporteRepository {
+
+    private final List<OuvinteRepositorio> ouvintes = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void adicionarOuvinte(OuvinteRepositorio ouvinte) {
+        ouvintes.add(ouvinte);
+    }
+
+    protected void notificarSalvamento(SolicitacaoSuporte solicitacao) {
+        for (OuvinteRepositorio ouvinte : ouvintes) {
+            ouvinte.aoSalvar(solicitacao);
+        }
+    }
+
+    protected void notificarRemocao(Long id) {
+        for (OuvinteRepositorio ouvinte : ouvintes) {
+            ouvinte.aoRemover(id);
+        }
+    }
+
+    protected void notificarArquivamento(Long id) {
+        for (OuvinteRepositorio ouvinte : ouvintes) {
+            ouvinte.aoArquivar(id);
+        }
+    }
+
+    protected void notificarLimpeza() {
+        for (OuvinteRepositorio ouvinte : ouvintes) {
+            ouvinte.aoLimpar();
+        }
+    }
+}
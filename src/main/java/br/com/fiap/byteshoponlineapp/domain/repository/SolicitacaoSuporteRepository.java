@@ -1,95 +1,105 @@
 package br.com.fiap.byteshoponlineapp.domain.repository;
 
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicLong;
-import java.util.stream.Collectors;
-
-import org.springframework.stereotype.Repository;
 
 import br.com.fiap.byteshoponlineapp.domain.SolicitacaoSuporte;
 import br.com.fiap.byteshoponlineapp.domain.enums.StatusSolicitacao;
 
 /**
- * Repositório em memória para gerenciar Solicitações de Suporte
- * Utiliza ConcurrentHashMap para thread-safety
+ * Repositório de Solicitações de Suporte
+ *
+ * Implementações disponíveis (propriedade suporte.repositorio.tipo):
+ * - memoria (padrão): MemoriaSolicitacaoSuporteRepository
+ * - jdbc: JdbcSolicitacaoSuporteRepository
+ * - mvcc: MvccSolicitacaoSuporteRepository (leituras de listas em um instantâneo consistente)
  */
-@Repository
-public class SolicitacaoSuporteRepository {
-    
-    private final Map<Long, SolicitacaoSuporte> database = new ConcurrentHashMap<>();
-    private final AtomicLong idGenerator = new AtomicLong(1);
+public interface SolicitacaoSuporteRepository {
+
+    /**
+     * Salva uma nova solicitação de suporte (gera o ID quando ausente)
+     */
+    SolicitacaoSuporte save(SolicitacaoSuporte solicitacao);
 
     /**
-     * Salva uma nova solicitação de suporte
+     * Salva várias novas solicitações (usado pela importação em massa)
+     *
+     * A implementação padrão chama save para cada uma; implementações com custo fixo por escrita
+     * (como o commit no JDBC) gravam o lote de uma vez. Se só parte do lote for gravada, lança
+     * GravacaoParcialException com as que falharam.
      */
-    public SolicitacaoSuporte save(SolicitacaoSuporte solicitacao) {
-        if (solicitacao.getId() == null) {
-            solicitacao.setId(idGenerator.getAndIncrement());
+    default List<SolicitacaoSuporte> saveAll(List<SolicitacaoSuporte> solicitacoes) {
+        for (SolicitacaoSuporte solicitacao : solicitacoes) {
+            save(solicitacao);
         }
-        database.put(solicitacao.getId(), solicitacao);
-        return solicitacao;
+        return solicitacoes;
     }
 
     /**
      * Busca uma solicitação por ID
      */
-    public Optional<SolicitacaoSuporte> findById(Long id) {
-        return Optional.ofNullable(database.get(id));
-    }
+    Optional<SolicitacaoSuporte> findById(Long id);
+
+    /**
+     * Busca as solicitações dos IDs informados em uma única passada
+     *
+     * IDs inexistentes são omitidos; a ordem do resultado não é garantida.
+     */
+    List<SolicitacaoSuporte> findAllById(Collection<Long> ids);
 
     /**
      * Lista todas as solicitações
      */
-    public List<SolicitacaoSuporte> findAll() {
-        return new ArrayList<>(database.values());
-    }
+    List<SolicitacaoSuporte> findAll();
 
     /**
      * Lista solicitações por status
      */
-    public List<SolicitacaoSuporte> findByStatus(StatusSolicitacao status) {
-        return database.values().stream()
-                .filter(s -> s.getStatus() == status)
-                .collect(Collectors.toList());
-    }
+    List<SolicitacaoSuporte> findByStatus(StatusSolicitacao status);
 
     /**
      * Atualiza uma solicitação existente
      */
-    public SolicitacaoSuporte update(SolicitacaoSuporte solicitacao) {
-        database.put(solicitacao.getId(), solicitacao);
-        return solicitacao;
-    }
+    SolicitacaoSuporte update(SolicitacaoSuporte solicitacao);
 
     /**
      * Remove uma solicitação por ID
      */
-    public void deleteById(Long id) {
-        database.remove(id);
-    }
+    void deleteById(Long id);
 
     /**
      * Verifica se uma solicitação existe
      */
-    public boolean existsById(Long id) {
-        return database.containsKey(id);
-    }
+    boolean existsById(Long id);
 
     /**
      * Conta o total de solicitações
      */
-    public long count() {
-        return database.size();
-    }
+    long count();
 
     /**
      * Limpa todo o repositório (útil para testes)
      */
-    public void deleteAll() {
-        database.clear();
-    }
+    void deleteAll();
+
+    /**
+     * Retira do repositório uma solicitação que foi movida para o arquivo frio
+     *
+     * Diferente de deleteById, notifica os ouvintes com aoArquivar: a solicitação continua existindo.
+     */
+    void evictById(Long id);
+
+    /**
+     * Garante que os IDs gerados daqui em diante sejam maiores que o informado
+     *
+     * Chamado na inicialização com o maior ID do arquivo frio: as solicitações arquivadas
+     * saem do repositório, e sem isso um contador reiniciado reutilizaria seus IDs.
+     */
+    void reservarIdsAte(long id);
+
+    /**
+     * Registra um ouvinte notificado após cada mutação
+     */
+    void adicionarOuvinte(OuvinteRepositorio ouvinte);
 }
@@ -0,0 +1,391 @@
+package br.com.fiap.byteshoponlineapp.domain.repository.arquivo;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import br.com.fiap.byteshoponlineapp.domain.CodecSolicitacao;
+import br.com.fiap.byteshoponlineapp.domain.SolicitacaoSuporte;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Arquivo frio: armazenamento local, compactado e append-only de solicitações encerradas
+ *
+ * O arquivo é uma sequência de blocos. Cada bloco guarda até REGISTROS_POR_BLOCO solicitações
+ * compactadas juntas (Deflate), precedidas de um cabeçalho com os IDs em claro e um CRC:
+ *
+ *   quantidade (int) | tamanho compactado (int) | crc32 (int) | ids (long[quantidade]) | dados
+ *
+ * O índice em memória aponta cada ID para o início do seu bloco e é reconstruído na abertura
+ * lendo apenas os cabeçalhos. Um bloco final incompleto (queda durante a escrita) é descartado.
+ *
+ * A leitura sequencial é feita bloco a bloco (só um bloco descompactado em memória) e pode parar
+ * no meio, quando quem lê já tem o que precisa.
+ */
+@Repository
+public class ArquivoFrio {
+
+    private static final Logger log = LoggerFactory.getLogger(ArquivoFrio.class);
+
+    private static final String NOME_ARQUIVO = "solicitacoes-arquivadas.dat";
+    private static final int REGISTROS_POR_BLOCO = 256;
+    private static final int TAMANHO_CABECALHO = 12;
+
+    private final Path arquivo;
+    private final IndiceIds indice = new IndiceIds();
+    private FileChannel canal;
+
+    public ArquivoFrio(@Value("${suporte.arquivo.diretorio:dados}") String diretorio) {
+        this.arquivo = Path.of(diretorio).resolve(NOME_ARQUIVO);
+        if (Files.exists(arquivo)) {
+            try {
+                abrir();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Falha ao abrir o arquivo frio " + arquivo, e);
+            }
+        }
+    }
+
+    /**
+     * Acrescenta as solicitações ao arquivo e só retorna depois de gravadas em disco
+     */
+    public synchronized void arquivar(List<SolicitacaoSuporte> solicitacoes) {
+        try {
+            if (canal == null) {
+                Files.createDirectories(arquivo.getParent());
+                abrir();
+            }
+            for (int inicio = 0; inicio < solicitacoes.size(); inicio += REGISTROS_POR_BLOCO) {
+                List<SolicitacaoSuporte> bloco =
+                        solicitacoes.subList(inicio, Math.min(solicitacoes.size(), inicio + REGISTROS_POR_BLOCO));
+                long posicao = canal.size();
+                escreverBloco(bloco, posicao);
+                canal.force(false);
+                for (SolicitacaoSuporte solicitacao : bloco) {
+                    indice.colocar(solicitacao.getId(), posicao);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao gravar no arquivo frio", e);
+        }
+    }
+
+    /**
+     * Busca uma solicitação arquivada por ID
+     */
+    public Optional<SolicitacaoSuporte> buscar(long id) {
+        long posicao = indice.obter(id);
+        if (posicao < 0) {
+            return Optional.empty();
+        }
+        for (SolicitacaoSuporte solicitacao : lerBloco(posicao)) {
+            if (solicitacao.getId() == id) {
+                return Optional.of(solicitacao);
+            }
+        }
+        return Optional.empty();
+    }
+
+    public boolean contem(long id) {
+        return indice.obter(id) >= 0;
+    }
+
+    /**
+     * Maior ID arquivado, ou 0 se o arquivo está vazio (sem ler o arquivo)
+     */
+    public long maiorId() {
+        return indice.maiorId();
+    }
+
+    /**
+     * Quantidade de solicitações arquivadas (sem ler o arquivo)
+     */
+    public long quantidade() {
+        return indice.tamanho();
+    }
+
+    /**
+     * Quantidade de arquivadas que não estão entre os IDs informados (os que ainda estão no
+     * repositório, entre o arquivamento e a retirada), contada sem um arquivamento no meio
+     */
+    public synchronized long quantidadeExceto(Collection<Long> ids) {
+        long quantidade = indice.tamanho();
+        for (Long id : ids) {
+            if (indice.obter(id) >= 0) {
+                quantidade--;
+            }
+        }
+        return quantidade;
+    }
+
+    /**
+     * Lê todas as solicitações arquivadas, na ordem em que foram arquivadas
+     */
+    public List<SolicitacaoSuporte> listar() {
+        List<SolicitacaoSuporte> todas = new ArrayList<>(indice.tamanho());
+        percorrer(todas::add);
+        return todas;
+    }
+
+    /**
+     * Entrega cada solicitação arquivada, na ordem em que foram arquivadas, sem montar a lista
+     */
+    public void percorrer(Consumer<SolicitacaoSuporte> consumidor) {
+        iterador().forEachRemaining(consumidor);
+    }
+
+    /**
+     * Percorre as solicitações arquivadas sob demanda, descompactando um bloco por vez
+     *
+     * Percorre o que estava arquivado no início da leitura; o que for arquivado durante ela
+     * pode ou não aparecer.
+     */
+    public Iterator<SolicitacaoSuporte> iterador() {
+        FileChannel atual = canalAtual();
+        if (atual == null) {
+            return Collections.emptyIterator();
+        }
+        try {
+            return new Leitura(atual, atual.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao ler o arquivo frio", e);
+        }
+    }
+
+    @PreDestroy
+    public synchronized void fechar() throws IOException {
+        if (canal != null) {
+            canal.close();
+            canal = null;
+        }
+    }
+
+    private synchronized FileChannel canalAtual() {
+        return canal;
+    }
+
+    /**
+     * Abre o arquivo e reconstrói o índice a partir dos cabeçalhos dos blocos
+     */
+    private void abrir() throws IOException {
+        canal = FileChannel.open(arquivo, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long tamanho = canal.size();
+        long posicao = 0;
+        while (posicao + TAMANHO_CABECALHO <= tamanho) {
+            ByteBuffer cabecalho = lerCabecalho(canal, posicao);
+            int quantidade = cabecalho.getInt(0);
+            int compactado = cabecalho.getInt(4);
+            long fimBloco = posicao + TAMANHO_CABECALHO + (long) quantidade * Long.BYTES + compactado;
+            if (quantidade <= 0 || compactado <= 0 || fimBloco > tamanho || !blocoIntegro(posicao, cabecalho)) {
+                break;
+            }
+            ByteBuffer ids = ByteBuffer.allocate(quantidade * Long.BYTES);
+            lerTudo(canal, ids, posicao + TAMANHO_CABECALHO);
+            ids.flip();
+            for (int i = 0; i < quantidade; i++) {
+                indice.colocar(ids.getLong(), posicao);
+            }
+            posicao = fimBloco;
+        }
+        if (posicao < tamanho) {
+            log.warn("Descartando {} bytes incompletos no fim do arquivo frio {}", tamanho - posicao, arquivo);
+            canal.truncate(posicao);
+        }
+        log.info("Arquivo frio {} aberto com {} solicitações", arquivo, indice.tamanho());
+    }
+
+    private void escreverBloco(List<SolicitacaoSuporte> bloco, long posicao) throws IOException {
+        ByteArrayOutputStream bruto = new ByteArrayOutputStream(bloco.size() * 256);
+        DataOutputStream out = new DataOutputStream(bruto);
+        for (SolicitacaoSuporte solicitacao : bloco) {
+            byte[] codificada = CodecSolicitacao.codificar(solicitacao);
+            out.writeInt(codificada.length);
+            out.write(codificada);
+        }
+        byte[] compactado = compactar(bruto.toByteArray());
+
+        ByteBuffer buffer = ByteBuffer.allocate(TAMANHO_CABECALHO + bloco.size() * Long.BYTES + compactado.length);
+        buffer.putInt(bloco.size()).putInt(compactado.length).putInt(0);
+        for (SolicitacaoSuporte solicitacao : bloco) {
+            buffer.putLong(solicitacao.getId());
+        }
+        buffer.put(compactado);
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), TAMANHO_CABECALHO, buffer.capacity() - TAMANHO_CABECALHO);
+        buffer.putInt(8, (int) crc.getValue());
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            posicao += canal.write(buffer, posicao);
+        }
+    }
+
+    private List<SolicitacaoSuporte> lerBloco(long posicao) {
+        FileChannel atual = canalAtual();
+        try {
+            ByteBuffer cabecalho = lerCabecalho(atual, posicao);
+            int quantidade = cabecalho.getInt(0);
+            int compactado = cabecalho.getInt(4);
+            ByteBuffer dados = ByteBuffer.allocate(compactado);
+            lerTudo(atual, dados, posicao + TAMANHO_CABECALHO + (long) quantidade * Long.BYTES);
+
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(descompactar(dados.array())));
+            List<SolicitacaoSuporte> solicitacoes = new ArrayList<>(quantidade);
+            for (int i = 0; i < quantidade; i++) {
+                in.readInt();
+                solicitacoes.add(CodecSolicitacao.decodificar(in));
+            }
+            return solicitacoes;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao ler o arquivo frio", e);
+        }
+    }
+
+    private boolean blocoIntegro(long posicao, ByteBuffer cabecalho) throws IOException {
+        int quantidade = cabecalho.getInt(0);
+        int compactado = cabecalho.getInt(4);
+        ByteBuffer corpo = ByteBuffer.allocate(quantidade * Long.BYTES + compactado);
+        lerTudo(canal, corpo, posicao + TAMANHO_CABECALHO);
+        CRC32 crc = new CRC32();
+        crc.update(corpo.array());
+        return (int) crc.getValue() == cabecalho.getInt(8);
+    }
+
+    private static ByteBuffer lerCabecalho(FileChannel canal, long posicao) throws IOException {
+        ByteBuffer cabecalho = ByteBuffer.allocate(TAMANHO_CABECALHO);
+        lerTudo(canal, cabecalho, posicao);
+        return cabecalho;
+    }
+
+    private static void lerTudo(FileChannel canal, ByteBuffer destino, long posicao) throws IOException {
+        while (destino.hasRemaining()) {
+            int lidos = canal.read(destino, posicao);
+            if (lidos < 0) {
+                throw new IOException("Fim inesperado do arquivo frio");
+            }
+            posicao += lidos;
+        }
+    }
+
+    private static byte[] compactar(byte[] dados) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setInput(dados);
+            deflater.finish();
+            ByteArrayOutputStream saida = new ByteArrayOutputStream(dados.length / 4 + 64);
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                saida.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return saida.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] descompactar(byte[] dados) throws IOException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(dados);
+            ByteArrayOutputStream saida = new ByteArrayOutputStream(dados.length * 4);
+            byte[] buffer = new byte[8192];
+            while (!inflater.finished()) {
+                int produzidos = inflater.inflate(buffer);
+                if (produzidos == 0 && inflater.needsInput()) {
+                    throw new IOException("Bloco compactado truncado");
+                }
+                saida.write(buffer, 0, produzidos);
+            }
+            return saida.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IOException("Bloco compactado corrompido", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * Leitura sequencial até o tamanho que o arquivo tinha ao começar
+     */
+    private final class Leitura implements Iterator<SolicitacaoSuporte> {
+
+        private final FileChannel origem;
+        private final long tamanho;
+        private long proximoBloco;
+        private long blocoAtual;
+        private Iterator<SolicitacaoSuporte> bloco = Collections.emptyIterator();
+        private SolicitacaoSuporte proxima;
+
+        Leitura(FileChannel origem, long tamanho) {
+            this.origem = origem;
+            this.tamanho = tamanho;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (proxima == null) {
+                if (bloco.hasNext()) {
+                    SolicitacaoSuporte solicitacao = bloco.next();
+                    // Um ID arquivado de novo aparece só na versão mais recente (ou nesta, se a
+                    // mais recente foi escrita depois do início da leitura)
+                    long posicaoAtual = indice.obter(solicitacao.getId());
+                    if (posicaoAtual == blocoAtual || posicaoAtual >= tamanho) {
+                        proxima = solicitacao;
+                    }
+                } else if (proximoBloco < tamanho) {
+                    avancarBloco();
+                } else {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public SolicitacaoSuporte next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            SolicitacaoSuporte solicitacao = proxima;
+            proxima = null;
+            return solicitacao;
+        }
+
+        private void avancarBloco() {
+            try {
+                ByteBuffer cabecalho = lerCabecalho(origem, proximoBloco);
+                int quantidade = cabecalho.getInt(0);
+                int compactado = cabecalho.getInt(4);
+                blocoAtual = proximoBloco;
+                bloco = lerBloco(blocoAtual).iterator();
+                proximoBloco += TAMANHO_CABECALHO + (long) quantidade * Long.BYTES + compactado;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Falha ao ler o arquivo frio", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package br.com.fiap.byteshoponlineapp.domain.repository.arquivo;
+
+import java.util.Arrays;
+
+/**
+ * Índice ID → posição no arquivo, com endereçamento aberto sobre arrays de long
+ *
+ * Evita o boxing de um HashMap<Long, Long>: cada entrada ocupa 16 bytes. Os IDs são
+ * sempre positivos, então 0 marca posição livre.
+ */
+final class IndiceIds {
+
+    private static final long LIVRE = 0;
+
+    private long[] chaves = new long[1024];
+    private long[] valores = new long[1024];
+    private int tamanho;
+    private long maiorId;
+
+    synchronized void colocar(long id, long posicao) {
+        if ((tamanho + 1) * 2 > chaves.length) {
+            redimensionar();
+        }
+        int indice = localizar(chaves, id);
+        if (chaves[indice] == LIVRE) {
+            chaves[indice] = id;
+            tamanho++;
+            maiorId = Math.max(maiorId, id);
+        }
+        valores[indice] = posicao;
+    }
+
+    /**
+     * Posição associada ao ID, ou -1 se ausente
+     */
+    synchronized long obter(long id) {
+        int indice = localizar(chaves, id);
+        return chaves[indice] == LIVRE ? -1 : valores[indice];
+    }
+
+    synchronized int tamanho() {
+        return tamanho;
+    }
+
+    /**
+     * Maior ID indexado, ou 0 se vazio
+     */
+    synchronized long maiorId() {
+        return maiorId;
+    }
+
+    synchronized void limpar() {
+        Arrays.fill(chaves, LIVRE);
+        tamanho = 0;
+        maiorId = 0;
+    }
+
+    private void redimensionar() {
+        long[] antigasChaves = chaves;
+        long[] antigosValores = valores;
+        chaves = new long[antigasChaves.length * 2];
+        valores = new long[antigasChaves.length * 2];
+        for (int i = 0; i < antigasChaves.length; i++) {
+            if (antigasChaves[i] != LIVRE) {
+                int indice = localizar(chaves, antigasChaves[i]);
+                chaves[indice] = antigasChaves[i];
+                valores[indice] = antigosValores[i];
+            }
+        }
+    }
+
+    /**
+     * Hash multiplicativo: os bits altos do produto dependem de todos os bits do ID,
+     * então a posição usa exatamente log2(capacidade) deles
+     */
+    private static int localizar(long[] chaves, long id) {
+        int mascara = chaves.length - 1;
+        int indice = (int) (id * 0x9E3779B97F4A7C15L >>> (64 - Integer.numberOfTrailingZeros(chaves.length)));
+        while (chaves[indice] != LIVRE && chaves[indice] != id) {
+            indice = (indice + 1) & mascara;
+        }
+        return indice;
+    }
+}
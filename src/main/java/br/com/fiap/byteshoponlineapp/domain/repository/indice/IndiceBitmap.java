@@ -0,0 +1,222 @@
+package br.com.fiap.byteshoponlineapp.domain.repository.indice;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.stereotype.Component;
+
+import br.com.fiap.byteshoponlineapp.domain.SolicitacaoSuporte;
+import br.com.fiap.byteshoponlineapp.domain.enums.Prioridade;
+import br.com.fiap.byteshoponlineapp.domain.enums.StatusSolicitacao;
+import br.com.fiap.byteshoponlineapp.domain.repository.OuvinteRepositorio;
+import br.com.fiap.byteshoponlineapp.domain.repository.SolicitacaoSuporteRepository;
+import br.com.fiap.byteshoponlineapp.domain.repository.arquivo.ArquivoFrio;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Índices bitmap (Roaring) dos IDs por status, por prioridade e por dia de criação
+ *
+ * Uma consulta com vários filtros vira OR dentro de cada filtro e AND entre eles, sem percorrer
+ * as solicitações. Os índices são mantidos como ouvinte do repositório; as solicitações movidas
+ * para o arquivo frio continuam indexadas (estão sempre FECHADAS e não mudam mais).
+ *
+ * Os IDs são repartidos em faixas (id módulo {@value #FAIXAS}), cada uma com os próprios bitmaps
+ * e a própria trava: gravações de IDs diferentes raramente disputam a mesma trava, e a consulta
+ * combina o resultado de cada faixa (os conjuntos de IDs são disjuntos).
+ */
+@Component
+public class IndiceBitmap implements OuvinteRepositorio {
+
+    static final int FAIXAS = 16;
+
+    private static final StatusSolicitacao[] STATUS = StatusSolicitacao.values();
+    private static final Prioridade[] PRIORIDADES = Prioridade.values();
+
+    private final SolicitacaoSuporteRepository repository;
+    private final ArquivoFrio arquivoFrio;
+    private final Faixa[] faixas = new Faixa[FAIXAS];
+
+    public IndiceBitmap(SolicitacaoSuporteRepository repository, ArquivoFrio arquivoFrio) {
+        this.repository = repository;
+        this.arquivoFrio = arquivoFrio;
+        for (int i = 0; i < faixas.length; i++) {
+            faixas[i] = new Faixa();
+        }
+    }
+
+    /**
+     * Registra o índice no repositório e indexa o que já existe (repositório e arquivo frio)
+     */
+    @PostConstruct
+    public void iniciar() {
+        repository.adicionarOuvinte(this);
+        arquivoFrio.percorrer(this::aoSalvar);
+        repository.findAll().forEach(this::aoSalvar);
+    }
+
+    @Override
+    public void aoSalvar(SolicitacaoSuporte solicitacao) {
+        faixa(solicitacao.getId()).salvar(solicitacao);
+    }
+
+    @Override
+    public void aoRemover(Long id) {
+        faixa(id).remover(id);
+    }
+
+    @Override
+    public void aoLimpar() {
+        for (Faixa faixa : faixas) {
+            faixa.limpar();
+        }
+    }
+
+    /**
+     * IDs que atendem a todos os filtros informados (coleções vazias e datas nulas não filtram)
+     *
+     * @param criadaDe primeiro dia de criação (inclusive)
+     * @param criadaAte último dia de criação (inclusive)
+     */
+    public Roaring64Bitmap consultar(Set<StatusSolicitacao> status, Set<Prioridade> prioridades,
+                                     LocalDate criadaDe, LocalDate criadaAte) {
+        Roaring64Bitmap resultado = new Roaring64Bitmap();
+        for (Faixa faixa : faixas) {
+            resultado.or(faixa.consultar(status, prioridades, criadaDe, criadaAte));
+        }
+        return resultado;
+    }
+
+    private Faixa faixa(long id) {
+        return faixas[(int) Math.floorMod(id, (long) FAIXAS)];
+    }
+
+    private static Roaring64Bitmap uniao(Collection<Roaring64Bitmap> bitmaps) {
+        Roaring64Bitmap uniao = new Roaring64Bitmap();
+        for (Roaring64Bitmap bitmap : bitmaps) {
+            uniao.or(bitmap);
+        }
+        return uniao;
+    }
+
+    private static Roaring64Bitmap intersecao(Roaring64Bitmap atual, Roaring64Bitmap filtro) {
+        if (atual == null) {
+            return filtro;
+        }
+        atual.and(filtro);
+        return atual;
+    }
+
+    /**
+     * Bitmaps dos IDs de uma faixa, protegidos pela trava da faixa
+     */
+    private static final class Faixa {
+
+        private final Roaring64Bitmap[] porStatus = new Roaring64Bitmap[STATUS.length];
+        private final Roaring64Bitmap[] porPrioridade = new Roaring64Bitmap[PRIORIDADES.length];
+        private final NavigableMap<Long, Roaring64Bitmap> porDia = new TreeMap<>();
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+        Faixa() {
+            for (int i = 0; i < porStatus.length; i++) {
+                porStatus[i] = new Roaring64Bitmap();
+            }
+            for (int i = 0; i < porPrioridade.length; i++) {
+                porPrioridade[i] = new Roaring64Bitmap();
+            }
+        }
+
+        void salvar(SolicitacaoSuporte solicitacao) {
+            long id = solicitacao.getId();
+            lock.writeLock().lock();
+            try {
+                for (Roaring64Bitmap bitmap : porStatus) {
+                    bitmap.removeLong(id);
+                }
+                for (Roaring64Bitmap bitmap : porPrioridade) {
+                    bitmap.removeLong(id);
+                }
+                porStatus[solicitacao.getStatus().ordinal()].addLong(id);
+                if (solicitacao.getPrioridade() != null) {
+                    porPrioridade[solicitacao.getPrioridade().ordinal()].addLong(id);
+                }
+                if (solicitacao.getDataCriacao() != null) {
+                    porDia.computeIfAbsent(solicitacao.getDataCriacao().toLocalDate().toEpochDay(), d -> new Roaring64Bitmap())
+                            .addLong(id);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        /**
+         * Sem a data de criação da solicitação removida, o ID é retirado de todos os dias da faixa
+         * (uma operação barata por dia indexado)
+         */
+        void remover(long id) {
+            lock.writeLock().lock();
+            try {
+                for (Roaring64Bitmap bitmap : porStatus) {
+                    bitmap.removeLong(id);
+                }
+                for (Roaring64Bitmap bitmap : porPrioridade) {
+                    bitmap.removeLong(id);
+                }
+                Iterator<Roaring64Bitmap> dias = porDia.values().iterator();
+                while (dias.hasNext()) {
+                    Roaring64Bitmap dia = dias.next();
+                    dia.removeLong(id);
+                    if (dia.isEmpty()) {
+                        dias.remove();
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void limpar() {
+            lock.writeLock().lock();
+            try {
+                for (Roaring64Bitmap bitmap : porStatus) {
+                    bitmap.clear();
+                }
+                for (Roaring64Bitmap bitmap : porPrioridade) {
+                    bitmap.clear();
+                }
+                porDia.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        Roaring64Bitmap consultar(Set<StatusSolicitacao> status, Set<Prioridade> prioridades,
+                                  LocalDate criadaDe, LocalDate criadaAte) {
+            lock.readLock().lock();
+            try {
+                Roaring64Bitmap resultado = null;
+                if (!status.isEmpty()) {
+                    resultado = uniao(status.stream().map(s -> porStatus[s.ordinal()]).toList());
+                }
+                if (!prioridades.isEmpty()) {
+                    resultado = intersecao(resultado, uniao(prioridades.stream().map(p -> porPrioridade[p.ordinal()]).toList()));
+                }
+                if (criadaDe != null || criadaAte != null) {
+                    long de = criadaDe != null ? criadaDe.toEpochDay() : Long.MIN_VALUE;
+                    long ate = criadaAte != null ? criadaAte.toEpochDay() : Long.MAX_VALUE;
+                    resultado = intersecao(resultado, de > ate ? new Roaring64Bitmap() : uniao(porDia.subMap(de, true, ate, true).values()));
+                }
+                // Sem filtros: todos os IDs da faixa (todo ID está em exatamente um status)
+                return resultado != null ? resultado : uniao(List.of(porStatus));
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package br.com.fiap.byteshoponlineapp.domain.repository.indice;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.LongPredicate;
+
+import org.springframework.stereotype.Component;
+
+import br.com.fiap.byteshoponlineapp.domain.SolicitacaoSuporte;
+import br.com.fiap.byteshoponlineapp.domain.enums.StatusSolicitacao;
+import br.com.fiap.byteshoponlineapp.domain.repository.OuvinteRepositorio;
+import br.com.fiap.byteshoponlineapp.domain.repository.SolicitacaoSuporteRepository;
+import br.com.fiap.byteshoponlineapp.domain.repository.arquivo.ArquivoFrio;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Índices ordenados (skip lists concorrentes) das solicitações, globais e por status
+ *
+ * Mantém as chaves (prioridade desc, dataCriacao, id) e (dataCriacao, id), de modo que os
+ * primeiros N de uma listagem ordenada saem do índice em O(log n + N), sem ordenar a cada
+ * requisição. As leituras são fracamente consistentes: uma solicitação que muda de chave
+ * pode, por um instante, não aparecer.
+ */
+@Component
+public class IndiceOrdenado implements OuvinteRepositorio {
+
+    private static final Comparator<Chave> POR_PRIORIDADE = Comparator
+            .comparingInt(Chave::prioridade).reversed()
+            .thenComparing(Chave::dataCriacao)
+            .thenComparingLong(Chave::id);
+
+    private static final Comparator<Chave> POR_DATA = Comparator
+            .comparing(Chave::dataCriacao)
+            .thenComparingLong(Chave::id);
+
+    private final SolicitacaoSuporteRepository repository;
+    private final ArquivoFrio arquivoFrio;
+
+    private final ConcurrentHashMap<Long, Chave> chaves = new ConcurrentHashMap<>();
+    private final NavigableSet<Chave> globalPorPrioridade = new ConcurrentSkipListSet<>(POR_PRIORIDADE);
+    private final NavigableSet<Chave> globalPorData = new ConcurrentSkipListSet<>(POR_DATA);
+    private final Map<StatusSolicitacao, NavigableSet<Chave>> statusPorPrioridade = new EnumMap<>(StatusSolicitacao.class);
+    private final Map<StatusSolicitacao, NavigableSet<Chave>> statusPorData = new EnumMap<>(StatusSolicitacao.class);
+
+    public IndiceOrdenado(SolicitacaoSuporteRepository repository, ArquivoFrio arquivoFrio) {
+        this.repository = repository;
+        this.arquivoFrio = arquivoFrio;
+        for (StatusSolicitacao status : StatusSolicitacao.values()) {
+            statusPorPrioridade.put(status, new ConcurrentSkipListSet<>(POR_PRIORIDADE));
+            statusPorData.put(status, new ConcurrentSkipListSet<>(POR_DATA));
+        }
+    }
+
+    /**
+     * Registra o índice no repositório e indexa o que já existe (repositório e arquivo frio)
+     */
+    @PostConstruct
+    public void iniciar() {
+        repository.adicionarOuvinte(this);
+        arquivoFrio.percorrer(this::aoSalvar);
+        repository.findAll().forEach(this::aoSalvar);
+    }
+
+    @Override
+    public void aoSalvar(SolicitacaoSuporte solicitacao) {
+        Chave nova = new Chave(
+                solicitacao.getId(),
+                solicitacao.getPrioridade() != null ? solicitacao.getPrioridade().ordinal() : -1,
+                solicitacao.getDataCriacao() != null ? solicitacao.getDataCriacao() : LocalDateTime.MIN,
+                solicitacao.getStatus()
+        );
+        // compute serializa as atualizações do mesmo ID
+        chaves.compute(nova.id(), (id, anterior) -> {
+            if (nova.equals(anterior)) {
+                return anterior;
+            }
+            if (anterior != null) {
+                desindexar(anterior);
+            }
+            globalPorPrioridade.add(nova);
+            globalPorData.add(nova);
+            statusPorPrioridade.get(nova.status()).add(nova);
+            statusPorData.get(nova.status()).add(nova);
+            return nova;
+        });
+    }
+
+    @Override
+    public void aoRemover(Long id) {
+        chaves.computeIfPresent(id, (chave, anterior) -> {
+            desindexar(anterior);
+            return null;
+        });
+    }
+
+    @Override
+    public void aoLimpar() {
+        chaves.clear();
+        globalPorPrioridade.clear();
+        globalPorData.clear();
+        statusPorPrioridade.values().forEach(NavigableSet::clear);
+        statusPorData.values().forEach(NavigableSet::clear);
+    }
+
+    /**
+     * IDs na ordem pedida, opcionalmente restritos a um status e a um filtro de ID
+     *
+     * @param status status das solicitações, ou null para todas
+     * @param limite quantidade máxima de IDs
+     * @param filtro filtro aplicado a cada ID percorrido
+     */
+    public List<Long> primeiros(Ordenacao ordenacao, StatusSolicitacao status, int limite, LongPredicate filtro) {
+        List<Long> ids = new ArrayList<>(Math.min(limite, 1024));
+        Iterator<Chave> iterador = iterador(ordenacao, status);
+        while (ids.size() < limite && iterador.hasNext()) {
+            long id = iterador.next().id();
+            if (filtro.test(id)) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+
+    public List<Long> primeiros(Ordenacao ordenacao, StatusSolicitacao status, int limite) {
+        return primeiros(ordenacao, status, limite, id -> true);
+    }
+
+    private Iterator<Chave> iterador(Ordenacao ordenacao, StatusSolicitacao status) {
+        return switch (ordenacao) {
+            case PRIORIDADE -> (status == null ? globalPorPrioridade : statusPorPrioridade.get(status)).iterator();
+            case MAIS_ANTIGAS -> (status == null ? globalPorData : statusPorData.get(status)).iterator();
+            case MAIS_RECENTES -> (status == null ? globalPorData : statusPorData.get(status)).descendingIterator();
+        };
+    }
+
+    private void desindexar(Chave chave) {
+        globalPorPrioridade.remove(chave);
+        globalPorData.remove(chave);
+        statusPorPrioridade.get(chave.status()).remove(chave);
+        statusPorData.get(chave.status()).remove(chave);
+    }
+
+    private record Chave(long id, int prioridade, LocalDateTime dataCriacao, StatusSolicitacao status) {}
+}
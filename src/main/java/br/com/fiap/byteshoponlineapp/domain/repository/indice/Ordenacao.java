@@ -0,0 +1,34 @@
+package br.com.fiap.byteshoponlineapp.domain.repository.indice;
+
+import java.util.Optional;
+
+/**
+ * Ordenações mantidas pelo IndiceOrdenado, com o valor aceito no parâmetro sort
+ */
+public enum Ordenacao {
+    /** Prioridade mais alta primeiro; na mesma prioridade, a mais antiga primeiro */
+    PRIORIDADE("prioridade"),
+    /** Mais antigas primeiro */
+    MAIS_ANTIGAS("dataCriacao"),
+    /** Mais recentes primeiro */
+    MAIS_RECENTES("-dataCriacao");
+
+    private final String parametro;
+
+    Ordenacao(String parametro) {
+        this.parametro = parametro;
+    }
+
+    public String getParametro() {
+        return parametro;
+    }
+
+    public static Optional<Ordenacao> doParametro(String parametro) {
+        for (Ordenacao ordenacao : values()) {
+            if (ordenacao.parametro.equals(parametro)) {
+                return Optional.of(ordenacao);
+            }
+        }
+        return Optional.empty();
+    }
+}
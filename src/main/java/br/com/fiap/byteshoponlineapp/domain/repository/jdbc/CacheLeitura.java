@@ -0,0 +1,117 @@
+package br.com.fiap.byteshoponlineapp.domain.repository.jdbc;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cache LRU limitado, dividido em segmentos com lock próprio para reduzir contenção
+ *
+ * Cada segmento conta as escritas (put/remove/clear) que recebeu. Quem lê do banco depois
+ * de um cache miss anota a geração antes da consulta e só preenche o cache se nenhuma
+ * escrita atingiu o segmento nesse intervalo: uma remoção confirmada entre a consulta e o
+ * preenchimento não ressuscita a linha no cache.
+ */
+final class CacheLeitura<K, V> {
+
+    private final List<Segmento<K, V>> segmentos;
+
+    CacheLeitura(int capacidade, int numeroSegmentos) {
+        this.segmentos = new ArrayList<>(numeroSegmentos);
+        int capacidadeSegmento = Math.max(1, capacidade / numeroSegmentos);
+        for (int i = 0; i < numeroSegmentos; i++) {
+            segmentos.add(new Segmento<>(capacidadeSegmento));
+        }
+    }
+
+    V get(K chave) {
+        Segmento<K, V> segmento = segmento(chave);
+        synchronized (segmento) {
+            return segmento.get(chave);
+        }
+    }
+
+    boolean containsKey(K chave) {
+        Segmento<K, V> segmento = segmento(chave);
+        synchronized (segmento) {
+            return segmento.containsKey(chave);
+        }
+    }
+
+    void put(K chave, V valor) {
+        Segmento<K, V> segmento = segmento(chave);
+        synchronized (segmento) {
+            segmento.geracao++;
+            segmento.put(chave, valor);
+        }
+    }
+
+    /**
+     * Geração atual do segmento da chave, a anotar antes de ler do banco
+     */
+    long geracao(K chave) {
+        Segmento<K, V> segmento = segmento(chave);
+        synchronized (segmento) {
+            return segmento.geracao;
+        }
+    }
+
+    /**
+     * Preenche o cache com um valor lido do banco, se a chave está ausente e o segmento
+     * não recebeu escritas desde a geração anotada; retorna o valor que ficou no cache
+     * (ou o lido, quando o preenchimento foi descartado)
+     */
+    V preencher(K chave, V valor, long geracao) {
+        Segmento<K, V> segmento = segmento(chave);
+        synchronized (segmento) {
+            V existente = segmento.get(chave);
+            if (existente != null) {
+                return existente;
+            }
+            if (segmento.geracao == geracao) {
+                segmento.put(chave, valor);
+            }
+            return valor;
+        }
+    }
+
+    void remove(K chave) {
+        Segmento<K, V> segmento = segmento(chave);
+        synchronized (segmento) {
+            segmento.geracao++;
+            segmento.remove(chave);
+        }
+    }
+
+    void clear() {
+        for (Segmento<K, V> segmento : segmentos) {
+            synchronized (segmento) {
+                segmento.geracao++;
+                segmento.clear();
+            }
+        }
+    }
+
+    private Segmento<K, V> segmento(K chave) {
+        int hash = chave.hashCode();
+        hash ^= hash >>> 16;
+        return segmentos.get(Math.floorMod(hash, segmentos.size()));
+    }
+
+    private static final class Segmento<K, V> extends LinkedHashMap<K, V> {
+
+        private final int capacidade;
+        private long geracao;
+
+        Segmento(int capacidade) {
+            super(16, 0.75f, true);
+            this.capacidade = capacidade;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, V> maisAntiga) {
+            return size() > capacidade;
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package br.com.fiap.byteshoponlineapp.domain.repository.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Agrupa escritas concorrentes em transações únicas (group commit)
+ *
+ * Cada chamador enfileira sua operação e aguarda o commit. Uma única thread escritora
+ * drena a fila e aplica tudo o que chegou em uma transação, com statements em batch,
+ * de modo que N escritas simultâneas custam um commit em vez de N.
+ *
+ * Se a transação do lote falha, as operações são reaplicadas uma a uma, cada uma na sua
+ * transação: só as que falham de novo recebem o erro, e uma linha inválida não derruba as
+ * escritas que chegaram junto com ela.
+ *
+ * Depois que close começa, novas operações falham na hora, e as que ainda estiverem na fila
+ * quando a escritora terminar falham com o mesmo erro: nenhum chamador fica esperando para sempre.
+ */
+final class GrupoCommit implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(GrupoCommit.class);
+
+    private static final String SQL_UPDATE = "UPDATE solicitacao_suporte SET titulo = ?, descricao = ?, status = ?, "
+            + "prioridade = ?, data_criacao = ?, data_atualizacao = ?, historico = ? WHERE id = ?";
+    private static final String SQL_INSERT = "INSERT INTO solicitacao_suporte (titulo, descricao, status, prioridade, "
+            + "data_criacao, data_atualizacao, historico, id) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String SQL_DELETE = "DELETE FROM solicitacao_suporte WHERE id = ?";
+    private static final String SQL_DELETE_ALL = "DELETE FROM solicitacao_suporte";
+
+    enum Tipo { GRAVAR, REMOVER, LIMPAR }
+
+    /**
+     * Estado de uma linha capturado no momento em que a escrita foi pedida
+     */
+    record Linha(long id, String titulo, String descricao, String status, String prioridade,
+                 LocalDateTime dataCriacao, LocalDateTime dataAtualizacao, byte[] historico) {}
+
+    private record Operacao(Tipo tipo, long id, Linha linha, CompletableFuture<Void> conclusao) {}
+
+    private final DataSource dataSource;
+    private final BlockingQueue<Operacao> fila;
+    private final int tamanhoMaximoLote;
+    private final Thread escritor;
+    private volatile boolean ativo = true;
+
+    GrupoCommit(DataSource dataSource, int tamanhoMaximoLote) {
+        this.dataSource = dataSource;
+        this.tamanhoMaximoLote = tamanhoMaximoLote;
+        this.fila = new ArrayBlockingQueue<>(tamanhoMaximoLote * 16);
+        this.escritor = new Thread(this::executar, "grupo-commit-jdbc");
+        this.escritor.setDaemon(true);
+        this.escritor.start();
+    }
+
+    CompletableFuture<Void> gravar(Linha linha) {
+        return enfileirar(new Operacao(Tipo.GRAVAR, linha.id(), linha, new CompletableFuture<>()));
+    }
+
+    CompletableFuture<Void> remover(long id) {
+        return enfileirar(new Operacao(Tipo.REMOVER, id, null, new CompletableFuture<>()));
+    }
+
+    CompletableFuture<Void> limpar() {
+        return enfileirar(new Operacao(Tipo.LIMPAR, 0, null, new CompletableFuture<>()));
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        ativo = false;
+        escritor.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    private CompletableFuture<Void> enfileirar(Operacao operacao) {
+        try {
+            // Com a fila cheia, espera em fatias para notar um close que começou no meio tempo
+            while (!fila.offer(operacao, 100, TimeUnit.MILLISECONDS)) {
+                if (!ativo) {
+                    recusar(operacao);
+                    return operacao.conclusao();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            operacao.conclusao().completeExceptionally(e);
+            return operacao.conclusao();
+        }
+        // close pode ter começado depois da checagem e a escritora já ter saído sem ver esta operação
+        if (!ativo && fila.remove(operacao)) {
+            recusar(operacao);
+        }
+        return operacao.conclusao();
+    }
+
+    private static void recusar(Operacao operacao) {
+        operacao.conclusao().completeExceptionally(new IllegalStateException("Group commit encerrado"));
+    }
+
+    private void executar() {
+        List<Operacao> lote = new ArrayList<>(tamanhoMaximoLote);
+        try {
+            while (ativo || !fila.isEmpty()) {
+                try {
+                    Operacao primeira = fila.poll(100, TimeUnit.MILLISECONDS);
+                    if (primeira == null) {
+                        continue;
+                    }
+                    lote.add(primeira);
+                    fila.drainTo(lote, tamanhoMaximoLote - 1);
+                    aplicar(lote);
+                    for (Operacao operacao : lote) {
+                        operacao.conclusao().complete(null);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (SQLException | RuntimeException e) {
+                    if (lote.size() == 1) {
+                        log.error("Falha ao aplicar escrita", e);
+                        lote.get(0).conclusao().completeExceptionally(e);
+                    } else {
+                        log.warn("Falha ao aplicar lote de {} escritas; reaplicando uma a uma: {}", lote.size(), e.getMessage());
+                        aplicarIndividualmente(lote);
+                    }
+                }
+                lote.clear();
+            }
+        } finally {
+            // Operações do lote interrompido (complete é ignorado nas já concluídas) e as que ficaram na fila
+            lote.forEach(GrupoCommit::recusar);
+            Operacao restante;
+            while ((restante = fila.poll()) != null) {
+                recusar(restante);
+            }
+        }
+    }
+
+    private void aplicarIndividualmente(List<Operacao> lote) {
+        for (Operacao operacao : lote) {
+            try {
+                aplicar(List.of(operacao));
+                operacao.conclusao().complete(null);
+            } catch (SQLException | RuntimeException e) {
+                log.error("Falha ao aplicar escrita {} do ID {}", operacao.tipo(), operacao.id(), e);
+                operacao.conclusao().completeExceptionally(e);
+            }
+        }
+    }
+
+    /**
+     * Aplica o lote em uma transação. Como cada operação carrega o estado completo da linha,
+     * basta a última operação de cada ID (depois do último LIMPAR, se houver).
+     */
+    private void aplicar(List<Operacao> lote) throws SQLException {
+        boolean limpar = false;
+        Map<Long, Operacao> ultimas = new LinkedHashMap<>();
+        for (Operacao operacao : lote) {
+            if (operacao.tipo() == Tipo.LIMPAR) {
+                limpar = true;
+                ultimas.clear();
+            } else {
+                ultimas.put(operacao.id(), operacao);
+            }
+        }
+
+        try (Connection conexao = dataSource.getConnection()) {
+            conexao.setAutoCommit(false);
+            try {
+                if (limpar) {
+                    try (Statement statement = conexao.createStatement()) {
+                        statement.executeUpdate(SQL_DELETE_ALL);
+                    }
+                }
+                List<Linha> gravacoes = new ArrayList<>();
+                try (PreparedStatement delete = conexao.prepareStatement(SQL_DELETE)) {
+                    boolean possuiRemocoes = false;
+                    for (Operacao operacao : ultimas.values()) {
+                        if (operacao.tipo() == Tipo.REMOVER) {
+                            delete.setLong(1, operacao.id());
+                            delete.addBatch();
+                            possuiRemocoes = true;
+                        } else {
+                            gravacoes.add(operacao.linha());
+                        }
+                    }
+                    if (possuiRemocoes) {
+                        delete.executeBatch();
+                    }
+                }
+                gravar(conexao, gravacoes);
+                conexao.commit();
+            } catch (SQLException | RuntimeException e) {
+                conexao.rollback();
+                throw e;
+            }
+        }
+    }
+
+    private static void gravar(Connection conexao, List<Linha> linhas) throws SQLException {
+        if (linhas.isEmpty()) {
+            return;
+        }
+        int[] atualizadas;
+        try (PreparedStatement update = conexao.prepareStatement(SQL_UPDATE)) {
+            for (Linha linha : linhas) {
+                preencher(update, linha);
+                update.addBatch();
+            }
+            atualizadas = update.executeBatch();
+        }
+        try (PreparedStatement insert = conexao.prepareStatement(SQL_INSERT)) {
+            boolean possuiInsercoes = false;
+            for (int i = 0; i < linhas.size(); i++) {
+                if (atualizadas[i] == 0) {
+                    preencher(insert, linhas.get(i));
+                    insert.addBatch();
+                    possuiInsercoes = true;
+                }
+            }
+            if (possuiInsercoes) {
+                insert.executeBatch();
+            }
+        }
+    }
+
+    private static void preencher(PreparedStatement statement, Linha linha) throws SQLException {
+        statement.setString(1, linha.titulo());
+        statement.setString(2, linha.descricao());
+        statement.setString(3, linha.status());
+        statement.setString(4, linha.prioridade());
+        statement.setObject(5, linha.dataCriacao());
+        statement.setObject(6, linha.dataAtualizacao());
+        statement.setBytes(7, linha.historico());
+        statement.setLong(8, linha.id());
+    }
+}
@@ -0,0 +1,387 @@
+package br.com.fiap.byteshoponlineapp.domain.repository.jdbc;
+
+import java.nio.ByteBuffer;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import javax.sql.DataSource;
+
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import br.com.fiap.byteshoponlineapp.domain.SolicitacaoSuporte;
+import br.com.fiap.byteshoponlineapp.domain.enums.Prioridade;
+import br.com.fiap.byteshoponlineapp.domain.enums.StatusSolicitacao;
+import br.com.fiap.byteshoponlineapp.domain.repository.GravacaoParcialException;
+import br.com.fiap.byteshoponlineapp.domain.repository.RepositorioComOuvintes;
+
+/**
+ * Repositório de Solicitações de Suporte persistido via JDBC
+ *
+ * As escritas passam pelo GrupoCommit (várias escritas concorrentes por transação) e
+ * as leituras por ID são servidas por um cache LRU read-through. Como toda escrita passa
+ * por esta instância, o cache nunca fica desatualizado em relação ao banco.
+ *
+ * O cache guarda cópias privadas: a cópia entra só depois do commit (uma escrita que falha
+ * retira a entrada) e as leituras devolvem outra cópia, então quem altera a instância
+ * recebida antes de chamar update não muda o que o cache serve.
+ *
+ * Escritas do mesmo ID são serializadas por uma trava (da faixa do ID), do envio ao GrupoCommit
+ * até a atualização do cache e o aviso aos ouvintes: cache e índices veem as escritas na mesma
+ * ordem em que o banco as aplicou.
+ */
+public class JdbcSolicitacaoSuporteRepository extends RepositorioComOuvintes implements AutoCloseable {
+
+    private static final String COLUNAS =
+            "id, titulo, descricao, status, prioridade, data_criacao, data_atualizacao, historico";
+
+    // Máximo de parâmetros por SELECT ... WHERE id IN (...)
+    private static final int TAMANHO_IN = 500;
+
+    private static final int FAIXAS_TRAVA = 256;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final GrupoCommit grupoCommit;
+    private final CacheLeitura<Long, SolicitacaoSuporte> cache;
+    private final AtomicLong proximoId;
+    private final ReentrantLock[] travas = new ReentrantLock[FAIXAS_TRAVA];
+
+    public JdbcSolicitacaoSuporteRepository(DataSource dataSource, int capacidadeCache, int tamanhoLote) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.grupoCommit = new GrupoCommit(dataSource, tamanhoLote);
+        this.cache = new CacheLeitura<>(capacidadeCache, Runtime.getRuntime().availableProcessors() * 4);
+        Long maiorId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM solicitacao_suporte", Long.class);
+        this.proximoId = new AtomicLong(maiorId != null ? maiorId + 1 : 1);
+        for (int i = 0; i < travas.length; i++) {
+            travas[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Salva uma nova solicitação de suporte
+     */
+    @Override
+    public SolicitacaoSuporte save(SolicitacaoSuporte solicitacao) {
+        if (solicitacao.getId() == null) {
+            solicitacao.setId(proximoId.getAndIncrement());
+        } else {
+            proximoId.accumulateAndGet(solicitacao.getId() + 1, Math::max);
+        }
+        return gravar(solicitacao);
+    }
+
+    /**
+     * Salva várias solicitações enfileirando todas no group commit antes de esperar:
+     * o lote inteiro vira poucas transações em vez de uma por solicitação
+     *
+     * Cada escrita é confirmada por conta própria (o GrupoCommit reaplica uma a uma um lote que
+     * falhou): as gravadas entram no cache e avisam os ouvintes mesmo que outras falhem.
+     */
+    @Override
+    public List<SolicitacaoSuporte> saveAll(List<SolicitacaoSuporte> solicitacoes) {
+        // Faixas travadas em ordem crescente, para não haver deadlock entre lotes concorrentes
+        Set<Integer> faixas = new TreeSet<>();
+        for (SolicitacaoSuporte solicitacao : solicitacoes) {
+            if (solicitacao.getId() == null) {
+                solicitacao.setId(proximoId.getAndIncrement());
+            } else {
+                proximoId.accumulateAndGet(solicitacao.getId() + 1, Math::max);
+            }
+            faixas.add(faixa(solicitacao.getId()));
+        }
+        for (int faixa : faixas) {
+            travas[faixa].lock();
+        }
+        try {
+            return gravarLote(solicitacoes);
+        } finally {
+            for (int faixa : faixas) {
+                travas[faixa].unlock();
+            }
+        }
+    }
+
+    private List<SolicitacaoSuporte> gravarLote(List<SolicitacaoSuporte> solicitacoes) {
+        List<CompletableFuture<Void>> escritas = new ArrayList<>(solicitacoes.size());
+        for (SolicitacaoSuporte solicitacao : solicitacoes) {
+            escritas.add(grupoCommit.gravar(linhaDe(solicitacao)));
+        }
+        Map<Long, String> falhas = new LinkedHashMap<>();
+        Throwable primeiraFalha = null;
+        for (int i = 0; i < solicitacoes.size(); i++) {
+            SolicitacaoSuporte solicitacao = solicitacoes.get(i);
+            Throwable falha = falhaDe(escritas.get(i));
+            if (falha == null) {
+                cache.put(solicitacao.getId(), new SolicitacaoSuporte(solicitacao));
+                notificarSalvamento(solicitacao);
+            } else {
+                cache.remove(solicitacao.getId());
+                falhas.put(solicitacao.getId(), motivo(falha));
+                primeiraFalha = primeiraFalha == null ? falha : primeiraFalha;
+            }
+        }
+        if (!falhas.isEmpty()) {
+            throw new GravacaoParcialException(falhas, primeiraFalha);
+        }
+        return solicitacoes;
+    }
+
+    /**
+     * Busca uma solicitação por ID
+     */
+    @Override
+    public Optional<SolicitacaoSuporte> findById(Long id) {
+        SolicitacaoSuporte emCache = cache.get(id);
+        if (emCache != null) {
+            return Optional.of(new SolicitacaoSuporte(emCache));
+        }
+        long geracao = cache.geracao(id);
+        List<SolicitacaoSuporte> encontradas = jdbcTemplate.query(
+                "SELECT " + COLUNAS + " FROM solicitacao_suporte WHERE id = ?", this::mapear, id);
+        if (encontradas.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(new SolicitacaoSuporte(cache.preencher(id, encontradas.get(0), geracao)));
+    }
+
+    /**
+     * Busca as solicitações dos IDs informados: o que está no cache sai dele e o restante
+     * é lido com SELECT ... WHERE id IN (...), em blocos de TAMANHO_IN IDs
+     */
+    @Override
+    public List<SolicitacaoSuporte> findAllById(Collection<Long> ids) {
+        List<SolicitacaoSuporte> encontradas = new ArrayList<>(ids.size());
+        List<Long> faltantes = new ArrayList<>();
+        for (Long id : ids) {
+            SolicitacaoSuporte emCache = cache.get(id);
+            if (emCache != null) {
+                encontradas.add(new SolicitacaoSuporte(emCache));
+            } else {
+                faltantes.add(id);
+            }
+        }
+        for (int inicio = 0; inicio < faltantes.size(); inicio += TAMANHO_IN) {
+            List<Long> bloco = faltantes.subList(inicio, Math.min(faltantes.size(), inicio + TAMANHO_IN));
+            Map<Long, Long> geracoes = new HashMap<>(bloco.size() * 2);
+            for (Long id : bloco) {
+                geracoes.put(id, cache.geracao(id));
+            }
+            String parametros = String.join(",", Collections.nCopies(bloco.size(), "?"));
+            List<SolicitacaoSuporte> lidas = jdbcTemplate.query(
+                    "SELECT " + COLUNAS + " FROM solicitacao_suporte WHERE id IN (" + parametros + ")",
+                    this::mapear, bloco.toArray());
+            for (SolicitacaoSuporte lida : lidas) {
+                encontradas.add(new SolicitacaoSuporte(cache.preencher(lida.getId(), lida, geracoes.get(lida.getId()))));
+            }
+        }
+        return encontradas;
+    }
+
+    /**
+     * Lista todas as solicitações
+     */
+    @Override
+    public List<SolicitacaoSuporte> findAll() {
+        return jdbcTemplate.query("SELECT " + COLUNAS + " FROM solicitacao_suporte ORDER BY id", this::mapearComCache);
+    }
+
+    /**
+     * Lista solicitações por status
+     */
+    @Override
+    public List<SolicitacaoSuporte> findByStatus(StatusSolicitacao status) {
+        return jdbcTemplate.query("SELECT " + COLUNAS + " FROM solicitacao_suporte WHERE status = ? ORDER BY id",
+                this::mapearComCache, status.name());
+    }
+
+    /**
+     * Atualiza uma solicitação existente
+     */
+    @Override
+    public SolicitacaoSuporte update(SolicitacaoSuporte solicitacao) {
+        return gravar(solicitacao);
+    }
+
+    /**
+     * Remove uma solicitação por ID
+     */
+    @Override
+    public void deleteById(Long id) {
+        retirar(id, this::notificarRemocao);
+    }
+
+    /**
+     * Verifica se uma solicitação existe
+     */
+    @Override
+    public boolean existsById(Long id) {
+        if (cache.containsKey(id)) {
+            return true;
+        }
+        Integer total = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM solicitacao_suporte WHERE id = ?", Integer.class, id);
+        return total != null && total > 0;
+    }
+
+    /**
+     * Conta o total de solicitações
+     */
+    @Override
+    public long count() {
+        Long total = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM solicitacao_suporte", Long.class);
+        return total != null ? total : 0;
+    }
+
+    /**
+     * Limpa todo o repositório (útil para testes)
+     */
+    @Override
+    public void deleteAll() {
+        aguardar(grupoCommit.limpar());
+        cache.clear();
+        notificarLimpeza();
+    }
+
+    /**
+     * Retira uma solicitação arquivada
+     */
+    @Override
+    public void evictById(Long id) {
+        retirar(id, this::notificarArquivamento);
+    }
+
+    @Override
+    public void reservarIdsAte(long id) {
+        proximoId.accumulateAndGet(id + 1, Math::max);
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        grupoCommit.close();
+    }
+
+    /**
+     * Apaga a linha e tira o ID do cache; os ouvintes só são avisados se ela existia
+     */
+    private void retirar(Long id, Consumer<Long> aviso) {
+        ReentrantLock trava = travas[faixa(id)];
+        trava.lock();
+        try {
+            boolean existia = existsById(id);
+            try {
+                aguardar(grupoCommit.remover(id));
+            } finally {
+                cache.remove(id);
+            }
+            if (existia) {
+                aviso.accept(id);
+            }
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    private SolicitacaoSuporte gravar(SolicitacaoSuporte solicitacao) {
+        ReentrantLock trava = travas[faixa(solicitacao.getId())];
+        trava.lock();
+        try {
+            try {
+                aguardar(grupoCommit.gravar(linhaDe(solicitacao)));
+            } catch (RuntimeException e) {
+                cache.remove(solicitacao.getId());
+                throw e;
+            }
+            cache.put(solicitacao.getId(), new SolicitacaoSuporte(solicitacao));
+            notificarSalvamento(solicitacao);
+            return solicitacao;
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    private static int faixa(long id) {
+        return (int) Math.floorMod(id, (long) FAIXAS_TRAVA);
+    }
+
+    private static String motivo(Throwable falha) {
+        Throwable causa = NestedExceptionUtils.getMostSpecificCause(falha);
+        return causa.getMessage() != null ? causa.getMessage() : causa.getClass().getSimpleName();
+    }
+
+    private static Throwable falhaDe(CompletableFuture<Void> escrita) {
+        try {
+            escrita.join();
+            return null;
+        } catch (CompletionException e) {
+            return e.getCause();
+        }
+    }
+
+    private static void aguardar(CompletableFuture<Void> escrita) {
+        try {
+            escrita.join();
+        } catch (CompletionException e) {
+            throw new DataAccessResourceFailureException("Falha ao gravar no banco de dados", e.getCause());
+        }
+    }
+
+    /**
+     * Prefere a versão em cache (sem remontar o histórico), devolvendo uma cópia
+     */
+    private SolicitacaoSuporte mapearComCache(ResultSet rs, int linha) throws SQLException {
+        SolicitacaoSuporte emCache = cache.get(rs.getLong("id"));
+        return emCache != null ? new SolicitacaoSuporte(emCache) : mapear(rs, linha);
+    }
+
+    private SolicitacaoSuporte mapear(ResultSet rs, int linha) throws SQLException {
+        SolicitacaoSuporte solicitacao = new SolicitacaoSuporte();
+        solicitacao.setId(rs.getLong("id"));
+        solicitacao.setTitulo(rs.getString("titulo"));
+        solicitacao.setDescricao(rs.getString("descricao"));
+        String prioridade = rs.getString("prioridade");
+        solicitacao.setPrioridade(prioridade != null ? Prioridade.valueOf(prioridade) : null);
+        solicitacao.setStatus(StatusSolicitacao.valueOf(rs.getString("status")));
+        solicitacao.setDataCriacao(rs.getObject("data_criacao", LocalDateTime.class));
+        solicitacao.setDataAtualizacao(rs.getObject("data_atualizacao", LocalDateTime.class));
+        byte[] historico = rs.getBytes("historico");
+        if (historico != null && historico.length > 0) {
+            long[] entradas = new long[historico.length / Long.BYTES];
+            ByteBuffer.wrap(historico).asLongBuffer().get(entradas);
+            solicitacao.getHistorico().restaurar(entradas);
+        }
+        return solicitacao;
+    }
+
+    private static GrupoCommit.Linha linhaDe(SolicitacaoSuporte solicitacao) {
+        long[] entradas = solicitacao.getHistorico().copiarEntradas();
+        ByteBuffer historico = ByteBuffer.allocate(entradas.length * Long.BYTES);
+        historico.asLongBuffer().put(entradas);
+        return new GrupoCommit.Linha(
+                solicitacao.getId(),
+                solicitacao.getTitulo(),
+                solicitacao.getDescricao(),
+                solicitacao.getStatus().name(),
+                solicitacao.getPrioridade() != null ? solicitacao.getPrioridade().name() : null,
+                solicitacao.getDataCriacao(),
+                solicitacao.getDataAtualizacao(),
+                historico.array()
+        );
+    }
+}
@@ -0,0 +1,423 @@
+package br.com.fiap.byteshoponlineapp.domain.repository.mvcc;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import br.com.fiap.byteshoponlineapp.domain.SolicitacaoSuporte;
+import br.com.fiap.byteshoponlineapp.domain.enums.StatusSolicitacao;
+import br.com.fiap.byteshoponlineapp.domain.repository.RepositorioComOuvintes;
+
+/**
+ * Repositório em memória multiversão (MVCC) para leituras consistentes sem bloquear escritas
+ *
+ * Cada ID guarda uma cadeia de versões imutáveis, da mais nova para a mais antiga, numeradas por
+ * um relógio global. Uma escrita nunca altera uma versão: grava uma cópia da solicitação como nova
+ * cabeça da cadeia (ou uma lápide, na remoção). Um Instantaneo fixa a última versão publicada e
+ * enxerga, para cada ID, a versão mais nova até ela: listagens e estatísticas veem um ponto único
+ * no tempo, mesmo com escritas simultâneas, e nenhuma das duas partes espera pela outra.
+ *
+ * As versões são publicadas na ordem do relógio, então um instantâneo sempre vê um prefixo das
+ * escritas. Versões que nenhum instantâneo aberto alcança são desligadas da cadeia pelas próprias
+ * escritas e no fechamento dos instantâneos.
+ *
+ * findById devolve uma cópia da versão atual (o serviço altera o objeto e chama update); as listagens
+ * devolvem as próprias versões, que não devem ser alteradas.
+ */
+@Repository
+@ConditionalOnProperty(prefix = "suporte.repositorio", name = "tipo", havingValue = "mvcc")
+public class MvccSolicitacaoSuporteRepository extends RepositorioComOuvintes {
+
+    // Cadeias pendentes de limpeza processadas por escrita: amortiza a limpeza sem uma thread própria
+    private static final int LIMPEZA_POR_ESCRITA = 2;
+    private static final int LIMPEZA_POR_FECHAMENTO = 1024;
+
+    private final Map<Long, Versao> cadeias;
+    private final AtomicLong proximoId = new AtomicLong(1);
+    private final AtomicLong relogio = new AtomicLong();
+    private final AtomicLong publicada = new AtomicLong();
+    // Instantâneos abertos por versão (valores imutáveis: o compute do skip list pode repetir a função)
+    private final ConcurrentSkipListMap<Long, Integer> leitores = new ConcurrentSkipListMap<>();
+    private final Queue<Long> comVersoesAntigas = new ConcurrentLinkedQueue<>();
+    private final Set<Long> naFila = ConcurrentHashMap.newKeySet();
+    private final LongAdder vivas = new LongAdder();
+    private final LongAdder versoesAntigas = new LongAdder();
+
+    public MvccSolicitacaoSuporteRepository(
+            @Value("${suporte.repositorio.capacidade-inicial:1024}") int capacidadeInicial) {
+        this.cadeias = new ConcurrentHashMap<>(Math.max(16, capacidadeInicial));
+    }
+
+    /**
+     * Salva uma nova solicitação de suporte
+     */
+    @Override
+    public SolicitacaoSuporte save(SolicitacaoSuporte solicitacao) {
+        if (solicitacao.getId() == null) {
+            solicitacao.setId(proximoId.getAndIncrement());
+        } else {
+            proximoId.accumulateAndGet(solicitacao.getId() + 1, Math::max);
+        }
+        return gravar(solicitacao);
+    }
+
+    /**
+     * Busca a versão atual de uma solicitação (cópia que pode ser alterada e gravada com update)
+     */
+    @Override
+    public Optional<SolicitacaoSuporte> findById(Long id) {
+        Versao cabeca = cadeias.get(id);
+        return cabeca == null || cabeca.valor == null ? Optional.empty() : Optional.of(new SolicitacaoSuporte(cabeca.valor));
+    }
+
+    /**
+     * Busca as solicitações dos IDs informados em um único instantâneo
+     */
+    @Override
+    public List<SolicitacaoSuporte> findAllById(Collection<Long> ids) {
+        try (Instantaneo instantaneo = abrirInstantaneo()) {
+            List<SolicitacaoSuporte> encontradas = new ArrayList<>(ids.size());
+            for (Long id : ids) {
+                SolicitacaoSuporte solicitacao = instantaneo.visivel(cadeias.get(id));
+                if (solicitacao != null) {
+                    encontradas.add(solicitacao);
+                }
+            }
+            return encontradas;
+        }
+    }
+
+    /**
+     * Lista todas as solicitações de um único instantâneo
+     */
+    @Override
+    public List<SolicitacaoSuporte> findAll() {
+        try (Instantaneo instantaneo = abrirInstantaneo()) {
+            return instantaneo.listar();
+        }
+    }
+
+    /**
+     * Lista solicitações por status a partir de um único instantâneo
+     */
+    @Override
+    public List<SolicitacaoSuporte> findByStatus(StatusSolicitacao status) {
+        try (Instantaneo instantaneo = abrirInstantaneo()) {
+            return instantaneo.listar(status);
+        }
+    }
+
+    /**
+     * Atualiza uma solicitação existente (grava uma nova versão)
+     */
+    @Override
+    public SolicitacaoSuporte update(SolicitacaoSuporte solicitacao) {
+        return gravar(solicitacao);
+    }
+
+    /**
+     * Remove uma solicitação por ID (grava uma lápide)
+     */
+    @Override
+    public void deleteById(Long id) {
+        escrever(id, null, () -> notificarRemocao(id));
+    }
+
+    /**
+     * Verifica se uma solicitação existe na versão atual
+     */
+    @Override
+    public boolean existsById(Long id) {
+        Versao cabeca = cadeias.get(id);
+        return cabeca != null && cabeca.valor != null;
+    }
+
+    /**
+     * Conta as solicitações da versão atual (para uma contagem consistente com uma listagem, use um Instantaneo)
+     */
+    @Override
+    public long count() {
+        return vivas.sum();
+    }
+
+    /**
+     * Limpa todo o repositório, com lápides para não alterar instantâneos abertos
+     */
+    @Override
+    public void deleteAll() {
+        for (Long id : cadeias.keySet()) {
+            escrever(id, null, () -> { });
+        }
+        notificarLimpeza();
+    }
+
+    /**
+     * Retira uma solicitação arquivada
+     */
+    @Override
+    public void evictById(Long id) {
+        escrever(id, null, () -> notificarArquivamento(id));
+    }
+
+    @Override
+    public void reservarIdsAte(long id) {
+        proximoId.accumulateAndGet(id + 1, Math::max);
+    }
+
+    /**
+     * Abre um instantâneo na última versão publicada; deve ser fechado para liberar as versões antigas
+     */
+    public Instantaneo abrirInstantaneo() {
+        while (true) {
+            long versao = publicada.get();
+            leitores.merge(versao, 1, Integer::sum);
+            // Se uma escrita foi publicada antes do registro, ela pode ter podado as cadeias sem
+            // este leitor e com uma publicada maior: tenta de novo com a versão nova
+            if (publicada.get() == versao) {
+                return new Instantaneo(versao);
+            }
+            liberar(versao);
+        }
+    }
+
+    /**
+     * Versões antigas ainda ligadas às cadeias (além da versão atual de cada ID)
+     */
+    public long versoesRetidas() {
+        return versoesAntigas.sum();
+    }
+
+    /**
+     * Instantâneos abertos no momento
+     */
+    public int instantaneosAbertos() {
+        int abertos = 0;
+        for (int quantidade : leitores.values()) {
+            abertos += quantidade;
+        }
+        return abertos;
+    }
+
+    private SolicitacaoSuporte gravar(SolicitacaoSuporte solicitacao) {
+        SolicitacaoSuporte versao = new SolicitacaoSuporte(solicitacao);
+        escrever(versao.getId(), versao, () -> notificarSalvamento(versao));
+        return solicitacao;
+    }
+
+    /**
+     * Grava uma nova versão (null = lápide) como cabeça da cadeia do ID
+     *
+     * Os ouvintes são notificados dentro do compute, como no repositório em memória, então chegam
+     * na ordem das versões de cada ID. O número da versão é tirado depois da notificação, para que
+     * a janela até a publicação seja curta.
+     */
+    private void escrever(Long id, SolicitacaoSuporte valor, Runnable notificacao) {
+        long[] numero = new long[1];
+        try {
+            cadeias.compute(id, (chave, cabeca) -> {
+                boolean existia = cabeca != null && cabeca.valor != null;
+                if (valor == null && !existia) {
+                    return cabeca;
+                }
+                notificacao.run();
+                numero[0] = relogio.incrementAndGet();
+                if (existia != (valor != null)) {
+                    vivas.add(existia ? -1 : 1);
+                }
+                if (cabeca != null) {
+                    versoesAntigas.increment();
+                }
+                return podar(chave, new Versao(numero[0], valor, cabeca), publicada.get());
+            });
+        } finally {
+            if (numero[0] != 0) {
+                publicar(numero[0]);
+                limparPendentes(LIMPEZA_POR_ESCRITA);
+            }
+        }
+    }
+
+    /**
+     * Torna visível a versão informada depois de todas as anteriores
+     */
+    private void publicar(long numero) {
+        int tentativas = 0;
+        while (publicada.get() != numero - 1) {
+            if (++tentativas < 64) {
+                Thread.onSpinWait();
+            } else {
+                Thread.yield();
+            }
+        }
+        publicada.set(numero);
+    }
+
+    /**
+     * Desliga da cadeia as versões que nenhum instantâneo aberto, nem um aberto daqui em diante, enxerga
+     *
+     * Uma versão é necessária se for a mais nova até a versão de algum instantâneo aberto. Versões
+     * acima da publicada (lida antes dos leitores, ver abrirInstantaneo) e a mais nova até ela são
+     * sempre mantidas: são as que um instantâneo aberto agora enxergaria.
+     *
+     * @return a nova cabeça, ou null se a cadeia é só uma lápide que ninguém mais enxerga
+     */
+    private Versao podar(Long id, Versao cabeca, long publicadaLida) {
+        Versao mantida = cabeca;
+        long acima = cabeca.numero;
+        boolean alcancouPublicada = cabeca.numero <= publicadaLida;
+        for (Versao atual = cabeca.anterior; atual != null; ) {
+            Versao anterior = atual.anterior;
+            boolean necessaria;
+            if (atual.numero > publicadaLida) {
+                necessaria = true;
+            } else if (!alcancouPublicada) {
+                necessaria = true;
+                alcancouPublicada = true;
+            } else {
+                Long leitor = leitores.ceilingKey(atual.numero);
+                necessaria = leitor != null && leitor < acima;
+            }
+            if (necessaria) {
+                mantida.anterior = atual;
+                mantida = atual;
+            } else {
+                versoesAntigas.decrement();
+            }
+            acima = atual.numero;
+            atual = anterior;
+        }
+        mantida.anterior = null;
+
+        if (cabeca.valor == null && cabeca.anterior == null && cabeca.numero <= publicadaLida) {
+            return null;
+        }
+        if (cabeca.anterior != null || cabeca.valor == null) {
+            enfileirar(id);
+        }
+        return cabeca;
+    }
+
+    private void limparPendentes(int limite) {
+        for (int i = 0; i < limite; i++) {
+            Long id = comVersoesAntigas.poll();
+            if (id == null) {
+                return;
+            }
+            naFila.remove(id);
+            long publicadaLida = publicada.get();
+            cadeias.computeIfPresent(id, (chave, cabeca) -> podar(chave, cabeca, publicadaLida));
+        }
+    }
+
+    private void enfileirar(Long id) {
+        if (naFila.add(id)) {
+            comVersoesAntigas.add(id);
+        }
+    }
+
+    private void liberar(long versao) {
+        leitores.computeIfPresent(versao, (chave, quantidade) -> quantidade == 1 ? null : quantidade - 1);
+    }
+
+    /**
+     * Versão imutável de uma solicitação (valor null = lápide); só o elo para a anterior muda, na poda
+     */
+    private static final class Versao {
+
+        final long numero;
+        final SolicitacaoSuporte valor;
+        volatile Versao anterior;
+
+        Versao(long numero, SolicitacaoSuporte valor, Versao anterior) {
+            this.numero = numero;
+            this.valor = valor;
+            this.anterior = anterior;
+        }
+    }
+
+    /**
+     * Leitura de um ponto fixo no tempo: enxerga só as versões publicadas até a sua abertura
+     *
+     * Pode ser usado por várias leituras seguidas (por exemplo, listar e contar) com resultado
+     * coerente entre elas. Enquanto aberto, retém as versões que enxerga.
+     */
+    public final class Instantaneo implements AutoCloseable {
+
+        private final long versao;
+        private boolean fechado;
+
+        private Instantaneo(long versao) {
+            this.versao = versao;
+        }
+
+        public long versao() {
+            return versao;
+        }
+
+        public Optional<SolicitacaoSuporte> buscar(Long id) {
+            return Optional.ofNullable(visivel(cadeias.get(id)));
+        }
+
+        public List<SolicitacaoSuporte> listar() {
+            List<SolicitacaoSuporte> todas = new ArrayList<>(cadeias.size());
+            percorrer(todas::add);
+            return todas;
+        }
+
+        public List<SolicitacaoSuporte> listar(StatusSolicitacao status) {
+            List<SolicitacaoSuporte> resultado = new ArrayList<>();
+            percorrer(solicitacao -> {
+                if (solicitacao.getStatus() == status) {
+                    resultado.add(solicitacao);
+                }
+            });
+            return resultado;
+        }
+
+        public long contar() {
+            long[] total = new long[1];
+            percorrer(solicitacao -> total[0]++);
+            return total[0];
+        }
+
+        public void percorrer(Consumer<SolicitacaoSuporte> acao) {
+            for (Versao cabeca : cadeias.values()) {
+                SolicitacaoSuporte solicitacao = visivel(cabeca);
+                if (solicitacao != null) {
+                    acao.accept(solicitacao);
+                }
+            }
+        }
+
+        SolicitacaoSuporte visivel(Versao cabeca) {
+            Versao atual = cabeca;
+            while (atual != null && atual.numero > versao) {
+                atual = atual.anterior;
+            }
+            return atual == null ? null : atual.valor;
+        }
+
+        @Override
+        public void close() {
+            if (!fechado) {
+                fechado = true;
+                liberar(versao);
+                limparPendentes(LIMPEZA_POR_FECHAMENTO);
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package br.com.fiap.byteshoponlineapp.grpc;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import br.com.fiap.byteshoponlineapp.api.dto.SolicitacaoSuporteRequest;
+import br.com.fiap.byteshoponlineapp.domain.SolicitacaoSuporte;
+import br.com.fiap.byteshoponlineapp.domain.enums.Prioridade;
+import br.com.fiap.byteshoponlineapp.domain.enums.StatusSolicitacao;
+import br.com.fiap.byteshoponlineapp.grpc.proto.CriarRequest;
+import br.com.fiap.byteshoponlineapp.grpc.proto.Solicitacao;
+import br.com.fiap.byteshoponlineapp.grpc.proto.Status;
+
+/**
+ * Conversões entre o domínio e as mensagens protobuf
+ *
+ * Os enums protobuf reservam o número 0 para "não informado": número = ordinal do domínio + 1.
+ */
+final class ConversorGrpc {
+
+    private static final StatusSolicitacao[] STATUS = StatusSolicitacao.values();
+    private static final Prioridade[] PRIORIDADES = Prioridade.values();
+
+    private ConversorGrpc() {
+    }
+
+    static Solicitacao paraMensagem(SolicitacaoSuporte solicitacao) {
+        Solicitacao.Builder mensagem = Solicitacao.newBuilder()
+                .setId(solicitacao.getId())
+                .setTitulo(solicitacao.getTitulo())
+                .setDataCriacao(epochMillis(solicitacao.getDataCriacao()))
+                .setDataAtualizacao(epochMillis(solicitacao.getDataAtualizacao()));
+        if (solicitacao.getDescricao() != null) {
+            mensagem.setDescricao(solicitacao.getDescricao());
+        }
+        if (solicitacao.getStatus() != null) {
+            mensagem.setStatusValue(solicitacao.getStatus().ordinal() + 1);
+        }
+        if (solicitacao.getPrioridade() != null) {
+            mensagem.setPrioridadeValue(solicitacao.getPrioridade().ordinal() + 1);
+        }
+        return mensagem.build();
+    }
+
+    static SolicitacaoSuporteRequest paraRequest(CriarRequest mensagem) {
+        return new SolicitacaoSuporteRequest(mensagem.getTitulo(), mensagem.getDescricao(),
+                prioridade(mensagem.getPrioridadeValue()));
+    }
+
+    /**
+     * Status do domínio, ou null quando não informado
+     */
+    static StatusSolicitacao status(Status status) {
+        int numero = status == Status.UNRECOGNIZED ? -1 : status.getNumber();
+        if (numero == 0) {
+            return null;
+        }
+        if (numero < 0 || numero > STATUS.length) {
+            throw new IllegalArgumentException("Status desconhecido");
+        }
+        return STATUS[numero - 1];
+    }
+
+    private static Prioridade prioridade(int numero) {
+        return numero >= 1 && numero <= PRIORIDADES.length ? PRIORIDADES[numero - 1] : null;
+    }
+
+    private static long epochMillis(LocalDateTime data) {
+        return data == null ? 0 : data.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,77 @@
+package br.com.fiap.byteshoponlineapp.grpc;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Propriedades do servidor gRPC interno (prefixo suporte.grpc)
+ */
+@ConfigurationProperties(prefix = "suporte.grpc")
+public class GrpcProperties {
+
+    /**
+     * Desligado por padrão: o gRPC não tem TLS nem passa pelo controle de admissão
+     */
+    private boolean habilitado = false;
+
+    /**
+     * Endereço em que o servidor escuta; o padrão aceita só conexões da própria máquina
+     */
+    private String endereco = "127.0.0.1";
+
+    /**
+     * Porta própria do gRPC, separada da porta HTTP (0 escolhe uma porta livre)
+     */
+    private int porta = 9090;
+
+    /**
+     * Threads que executam as chamadas (o Netty usa as suas próprias para a rede)
+     */
+    private int threads = 16;
+
+    /**
+     * Tempo que o encerramento da aplicação espera pelas chamadas em andamento
+     */
+    private Duration prazoEncerramento = Duration.ofSeconds(5);
+
+    public boolean isHabilitado() {
+        return habilitado;
+    }
+
+    public void setHabilitado(boolean habilitado) {
+        this.habilitado = habilitado;
+    }
+
+    public String getEndereco() {
+        return endereco;
+    }
+
+    public void setEndereco(String endereco) {
+        this.endereco = endereco;
+    }
+
+    public int getPorta() {
+        return porta;
+    }
+
+    public void setPorta(int porta) {
+        this.porta = porta;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    public Duration getPrazoEncerramento() {
+        return prazoEncerramento;
+    }
+
+    public void setPrazoEncerramento(Duration prazoEncerramento) {
+        this.prazoEncerramento = prazoEncerramento;
+    }
+}
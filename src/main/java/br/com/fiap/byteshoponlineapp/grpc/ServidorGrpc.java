@@ -0,0 +1,95 @@
+package br.com.fiap.byteshoponlineapp.grpc;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import io.grpc.BindableService;
+import io.grpc.InsecureServerCredentials;
+import io.grpc.Server;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+
+/**
+ * Servidor gRPC embutido, na mesma JVM da API REST e em porta própria
+ *
+ * Sobe e desce com o contexto do Spring (SmartLifecycle): começa a aceitar chamadas junto com
+ * o servidor HTTP e, no encerramento, espera até prazoEncerramento pelas chamadas em andamento.
+ * Escuta só no endereço configurado (loopback por padrão), sem TLS.
+ */
+public class ServidorGrpc implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(ServidorGrpc.class);
+
+    private final GrpcProperties properties;
+    private final BindableService servico;
+
+    private Server servidor;
+    private ExecutorService executor;
+
+    public ServidorGrpc(GrpcProperties properties, BindableService servico) {
+        this.properties = properties;
+        this.servico = servico;
+    }
+
+    @Override
+    public synchronized void start() {
+        AtomicInteger contador = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(properties.getThreads(), tarefa -> {
+            Thread thread = new Thread(tarefa, "grpc-" + contador.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            servidor = NettyServerBuilder.forAddress(
+                            new InetSocketAddress(properties.getEndereco(), properties.getPorta()),
+                            InsecureServerCredentials.create())
+                    .executor(executor)
+                    .addService(servico)
+                    .build()
+                    .start();
+        } catch (IOException e) {
+            executor.shutdownNow();
+            throw new UncheckedIOException("Não foi possível abrir a porta gRPC "
+                    + properties.getEndereco() + ":" + properties.getPorta(), e);
+        }
+        log.info("Servidor gRPC escutando em {}:{}", properties.getEndereco(), servidor.getPort());
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (servidor == null) {
+            return;
+        }
+        servidor.shutdown();
+        try {
+            if (!servidor.awaitTermination(properties.getPrazoEncerramento().toMillis(), TimeUnit.MILLISECONDS)) {
+                servidor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            servidor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        executor.shutdownNow();
+        servidor = null;
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return servidor != null;
+    }
+
+    /**
+     * Porta efetivamente aberta (útil com suporte.grpc.porta=0)
+     */
+    public synchronized int getPorta() {
+        return servidor == null ? -1 : servidor.getPort();
+    }
+}
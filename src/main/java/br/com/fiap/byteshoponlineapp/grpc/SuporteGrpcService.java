@@ -0,0 +1,223 @@
+package br.com.fiap.byteshoponlineapp.grpc;
+
+import java.util.Iterator;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+
+import br.com.fiap.byteshoponlineapp.api.dto.SolicitacaoSuporteRequest;
+import br.com.fiap.byteshoponlineapp.domain.SolicitacaoSuporte;
+import br.com.fiap.byteshoponlineapp.domain.enums.StatusSolicitacao;
+import br.com.fiap.byteshoponlineapp.grpc.proto.AtualizarStatusRequest;
+import br.com.fiap.byteshoponlineapp.grpc.proto.BuscarRequest;
+import br.com.fiap.byteshoponlineapp.grpc.proto.BuscarVariasRequest;
+import br.com.fiap.byteshoponlineapp.grpc.proto.BuscarVariasResponse;
+import br.com.fiap.byteshoponlineapp.grpc.proto.CriarRequest;
+import br.com.fiap.byteshoponlineapp.grpc.proto.EncerrarRequest;
+import br.com.fiap.byteshoponlineapp.grpc.proto.ListarRequest;
+import br.com.fiap.byteshoponlineapp.grpc.proto.LoteSolicitacoes;
+import br.com.fiap.byteshoponlineapp.grpc.proto.Solicitacao;
+import br.com.fiap.byteshoponlineapp.grpc.proto.SuporteGrpc;
+import br.com.fiap.byteshoponlineapp.service.SolicitacaoSuporteService;
+import br.com.fiap.byteshoponlineapp.service.exception.RegraDeNegocioException;
+import br.com.fiap.byteshoponlineapp.service.exception.SolicitacaoNaoEncontradaException;
+import br.com.fiap.byteshoponlineapp.service.exception.TransicaoStatusInvalidaException;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+
+/**
+ * Implementação gRPC das operações de Solicitações de Suporte sobre o SolicitacaoSuporteService
+ *
+ * Mesmas regras e validações da API REST; as exceções do serviço viram status gRPC
+ * (NOT_FOUND, FAILED_PRECONDITION, INVALID_ARGUMENT). Em um seguidor da replicação, as
+ * escritas respondem UNAVAILABLE: o cliente deve enviá-las ao líder.
+ */
+public class SuporteGrpcService extends SuporteGrpc.SuporteImplBase {
+
+    private static final Logger log = LoggerFactory.getLogger(SuporteGrpcService.class);
+    private static final int LIMITE_MAXIMO_LOTE = 500;
+    private static final int LOTE_LISTAGEM_PADRAO = 500;
+    private static final int LOTE_LISTAGEM_MAXIMO = 5_000;
+
+    private final SolicitacaoSuporteService service;
+    private final Validator validator;
+    private final boolean somenteLeitura;
+
+    public SuporteGrpcService(SolicitacaoSuporteService service, Validator validator, boolean somenteLeitura) {
+        this.service = service;
+        this.validator = validator;
+        this.somenteLeitura = somenteLeitura;
+    }
+
+    @Override
+    public void criar(CriarRequest request, StreamObserver<Solicitacao> resposta) {
+        responder(resposta, true, () -> {
+            SolicitacaoSuporteRequest dados = ConversorGrpc.paraRequest(request);
+            validar(dados);
+            return ConversorGrpc.paraMensagem(service.criar(dados));
+        });
+    }
+
+    @Override
+    public void buscar(BuscarRequest request, StreamObserver<Solicitacao> resposta) {
+        responder(resposta, false, () -> ConversorGrpc.paraMensagem(service.buscarPorId(request.getId())));
+    }
+
+    @Override
+    public void buscarVarias(BuscarVariasRequest request, StreamObserver<BuscarVariasResponse> resposta) {
+        responder(resposta, false, () -> {
+            if (request.getIdsCount() == 0) {
+                throw new IllegalArgumentException("Informe ao menos um ID");
+            }
+            if (request.getIdsCount() > LIMITE_MAXIMO_LOTE) {
+                throw new IllegalArgumentException("No máximo " + LIMITE_MAXIMO_LOTE + " IDs por chamada");
+            }
+            SolicitacaoSuporteService.ResultadoLote resultado = service.buscarVarias(request.getIdsList());
+            BuscarVariasResponse.Builder mensagem = BuscarVariasResponse.newBuilder()
+                    .addAllNaoEncontradas(resultado.naoEncontradas());
+            for (SolicitacaoSuporte solicitacao : resultado.encontradas()) {
+                mensagem.addEncontradas(ConversorGrpc.paraMensagem(solicitacao));
+            }
+            return mensagem.build();
+        });
+    }
+
+    /**
+     * Envia as solicitações em lotes só enquanto o cliente consegue receber (isReady),
+     * retomando no onReady: listas grandes não acumulam no buffer do servidor, e as arquivadas
+     * só são lidas do arquivo frio quando o próximo lote é montado
+     *
+     * Lotes em vez de uma mensagem por solicitação: o custo fixo de cada mensagem do stream
+     * (enquadramento HTTP/2, despacho e controle de fluxo) é dividido pelo lote.
+     */
+    @Override
+    public void listar(ListarRequest request, StreamObserver<LoteSolicitacoes> resposta) {
+        Iterator<SolicitacaoSuporte> solicitacoes;
+        int tamanhoLote = request.getTamanhoLote() == 0 ? LOTE_LISTAGEM_PADRAO : request.getTamanhoLote();
+        try {
+            if (tamanhoLote < 1 || tamanhoLote > LOTE_LISTAGEM_MAXIMO) {
+                throw new IllegalArgumentException("O tamanho do lote deve estar entre 1 e " + LOTE_LISTAGEM_MAXIMO);
+            }
+            StatusSolicitacao status = ConversorGrpc.status(request.getStatus());
+            solicitacoes = service.percorrer(status);
+        } catch (RuntimeException e) {
+            resposta.onError(traduzir(e));
+            return;
+        }
+        ServerCallStreamObserver<LoteSolicitacoes> chamada = (ServerCallStreamObserver<LoteSolicitacoes>) resposta;
+        EnvioControlado envio = new EnvioControlado(chamada, solicitacoes, tamanhoLote);
+        chamada.setOnReadyHandler(envio);
+        envio.run();
+    }
+
+    @Override
+    public void atualizarStatus(AtualizarStatusRequest request, StreamObserver<Solicitacao> resposta) {
+        responder(resposta, true, () -> {
+            StatusSolicitacao status = ConversorGrpc.status(request.getStatus());
+            if (status == null) {
+                throw new IllegalArgumentException("O novo status é obrigatório");
+            }
+            return ConversorGrpc.paraMensagem(service.atualizarStatus(request.getId(), status));
+        });
+    }
+
+    @Override
+    public void encerrar(EncerrarRequest request, StreamObserver<Solicitacao> resposta) {
+        responder(resposta, true, () -> ConversorGrpc.paraMensagem(service.encerrar(request.getId())));
+    }
+
+    private <T> void responder(StreamObserver<T> resposta, boolean escrita, Supplier<T> operacao) {
+        if (escrita && somenteLeitura) {
+            resposta.onError(Status.UNAVAILABLE
+                    .withDescription("Instância seguidora da replicação: envie escritas ao líder")
+                    .asRuntimeException());
+            return;
+        }
+        T mensagem;
+        try {
+            mensagem = operacao.get();
+        } catch (RuntimeException e) {
+            resposta.onError(traduzir(e));
+            return;
+        }
+        resposta.onNext(mensagem);
+        resposta.onCompleted();
+    }
+
+    private void validar(SolicitacaoSuporteRequest dados) {
+        Errors erros = new BeanPropertyBindingResult(dados, "request");
+        validator.validate(dados, erros);
+        if (erros.hasErrors()) {
+            throw new IllegalArgumentException(erros.getFieldErrors().stream()
+                    .map(erro -> erro.getField() + ": " + erro.getDefaultMessage())
+                    .collect(Collectors.joining("; ")));
+        }
+    }
+
+    private static RuntimeException traduzir(RuntimeException e) {
+        Status status;
+        if (e instanceof SolicitacaoNaoEncontradaException) {
+            status = Status.NOT_FOUND;
+        } else if (e instanceof RegraDeNegocioException || e instanceof TransicaoStatusInvalidaException) {
+            status = Status.FAILED_PRECONDITION;
+        } else if (e instanceof IllegalArgumentException) {
+            status = Status.INVALID_ARGUMENT;
+        } else {
+            log.error("Erro inesperado em chamada gRPC", e);
+            return Status.INTERNAL.withDescription("Erro interno").asRuntimeException();
+        }
+        return status.withDescription(e.getMessage()).asRuntimeException();
+    }
+
+    /**
+     * Envio de uma listagem respeitando o controle de fluxo do HTTP/2
+     */
+    private static final class EnvioControlado implements Runnable {
+
+        private final ServerCallStreamObserver<LoteSolicitacoes> chamada;
+        private final Iterator<SolicitacaoSuporte> restantes;
+        private final int tamanhoLote;
+        private boolean concluido;
+
+        EnvioControlado(ServerCallStreamObserver<LoteSolicitacoes> chamada, Iterator<SolicitacaoSuporte> restantes,
+                        int tamanhoLote) {
+            this.chamada = chamada;
+            this.restantes = restantes;
+            this.tamanhoLote = tamanhoLote;
+        }
+
+        @Override
+        public synchronized void run() {
+            if (concluido) {
+                return;
+            }
+            try {
+                while (chamada.isReady() && restantes.hasNext()) {
+                    if (chamada.isCancelled()) {
+                        concluido = true;
+                        return;
+                    }
+                    LoteSolicitacoes.Builder lote = LoteSolicitacoes.newBuilder();
+                    for (int i = 0; i < tamanhoLote && restantes.hasNext(); i++) {
+                        lote.addSolicitacoes(ConversorGrpc.paraMensagem(restantes.next()));
+                    }
+                    chamada.onNext(lote.build());
+                }
+                if (!restantes.hasNext()) {
+                    concluido = true;
+                    chamada.onCompleted();
+                }
+            } catch (RuntimeException e) {
+                // Falha de leitura do arquivo frio no meio do stream
+                concluido = true;
+                chamada.onError(traduzir(e));
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package br.com.fiap.byteshoponlineapp.jfr;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Emite os eventos JFR das chamadas ao repositório e dos @ExceptionHandler
+ *
+ * Sem gravação ativa, isEnabled() é falso e o custo fica no teste de um campo.
+ */
+@Aspect
+public class EventosJfrAspect {
+
+    @Around("execution(public * br.com.fiap.byteshoponlineapp.domain.repository.SolicitacaoSuporteRepository+.*(..))")
+    public Object repositorio(ProceedingJoinPoint chamada) throws Throwable {
+        OperacaoRepositorioEvento evento = new OperacaoRepositorioEvento();
+        if (!evento.isEnabled()) {
+            return chamada.proceed();
+        }
+        evento.begin();
+        try {
+            return chamada.proceed();
+        } catch (Throwable e) {
+            evento.falhou = true;
+            throw e;
+        } finally {
+            evento.end();
+            if (evento.shouldCommit()) {
+                evento.operacao = chamada.getSignature().getName();
+                evento.implementacao = chamada.getTarget().getClass().getSimpleName();
+                Object[] argumentos = chamada.getArgs();
+                if (argumentos.length == 1 && argumentos[0] instanceof Long id) {
+                    evento.solicitacaoId = id;
+                }
+                evento.commit();
+            }
+        }
+    }
+
+    @Around("execution(* br.com.fiap.byteshoponlineapp.api.exception.GlobalExceptionHandler.*(..)) "
+            + "&& @annotation(org.springframework.web.bind.annotation.ExceptionHandler)")
+    public Object tratamentoExcecao(ProceedingJoinPoint chamada) throws Throwable {
+        ExcecaoTratadaEvento evento = new ExcecaoTratadaEvento();
+        if (!evento.isEnabled()) {
+            return chamada.proceed();
+        }
+        evento.begin();
+        Object resposta = chamada.proceed();
+        evento.end();
+        if (evento.shouldCommit()) {
+            for (Object argumento : chamada.getArgs()) {
+                if (argumento instanceof Throwable excecao) {
+                    evento.excecao = excecao.getClass().getName();
+                    evento.mensagem = excecao.getMessage();
+                } else if (argumento instanceof WebRequest request) {
+                    evento.caminho = request.getDescription(false).replace("uri=", "");
+                }
+            }
+            if (resposta instanceof ResponseEntity<?> entidade) {
+                evento.statusHttp = entidade.getStatusCode().value();
+            }
+            evento.commit();
+        }
+        return resposta;
+    }
+}
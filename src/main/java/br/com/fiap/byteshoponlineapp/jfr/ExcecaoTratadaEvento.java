@@ -0,0 +1,31 @@
+package br.com.fiap.byteshoponlineapp.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento JFR de uma exceção convertida em resposta de erro pelo GlobalExceptionHandler
+ */
+@Name("br.com.fiap.suporte.ExcecaoTratada")
+@Label("Exceção Tratada")
+@Description("Invocação de um @ExceptionHandler do GlobalExceptionHandler")
+@Category({"Suporte Técnico", "API"})
+@StackTrace(false)
+public class ExcecaoTratadaEvento extends Event {
+
+    @Label("Exceção")
+    public String excecao;
+
+    @Label("Mensagem")
+    public String mensagem;
+
+    @Label("Status HTTP")
+    public int statusHttp;
+
+    @Label("Caminho")
+    public String caminho;
+}
@@ -0,0 +1,141 @@
+package br.com.fiap.byteshoponlineapp.jfr;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+
+import br.com.fiap.byteshoponlineapp.service.exception.RegraDeNegocioException;
+
+/**
+ * Gravação JFR sob demanda, iniciada e gravada em disco pelo endpoint de diagnóstico
+ *
+ * Só existe uma gravação por vez. Ela para sozinha após a duração máxima e ocupa no máximo
+ * tamanhoMaximo bytes no repositório do JFR; os arquivos .jfr vão para o diretório configurado.
+ */
+public class GravacaoJfr {
+
+    private static final DateTimeFormatter NOME_ARQUIVO =
+            DateTimeFormatter.ofPattern("'suporte-'yyyyMMdd-HHmmss-SSS'.jfr'").withZone(ZoneOffset.UTC);
+
+    private final Path diretorio;
+    private final Duration duracaoMaxima;
+    private final long tamanhoMaximo;
+
+    private Recording gravacao;
+    private String configuracao;
+
+    public GravacaoJfr(Path diretorio, Duration duracaoMaxima, long tamanhoMaximo) {
+        this.diretorio = diretorio;
+        this.duracaoMaxima = duracaoMaxima;
+        this.tamanhoMaximo = tamanhoMaximo;
+    }
+
+    /**
+     * Inicia uma gravação com a configuração do JDK informada ("default" ou "profile")
+     */
+    public synchronized EstadoGravacao iniciar(String nomeConfiguracao) {
+        if (gravacao != null && gravacao.getState() == RecordingState.RUNNING) {
+            throw new RegraDeNegocioException("Já existe uma gravação JFR em andamento");
+        }
+        fecharAnterior();
+        Configuration base;
+        try {
+            base = Configuration.getConfiguration(nomeConfiguracao);
+        } catch (IOException | ParseException e) {
+            throw new RegraDeNegocioException("Configuração JFR inválida: '" + nomeConfiguracao
+                    + "'. Valores aceitos: default, profile");
+        }
+        Recording nova = new Recording(base);
+        nova.setName("suporte-sob-demanda");
+        nova.setToDisk(true);
+        nova.setDuration(duracaoMaxima);
+        nova.setMaxSize(tamanhoMaximo);
+        nova.enable(OperacaoRepositorioEvento.class);
+        nova.enable(TransicaoStatusEvento.class);
+        nova.enable(ExcecaoTratadaEvento.class);
+        nova.start();
+        gravacao = nova;
+        configuracao = nomeConfiguracao;
+        return estado();
+    }
+
+    /**
+     * Grava em disco o conteúdo atual sem parar a gravação
+     */
+    public synchronized ArquivoGravacao despejar() {
+        if (gravacao == null) {
+            throw new RegraDeNegocioException("Nenhuma gravação JFR foi iniciada");
+        }
+        return gravarArquivo();
+    }
+
+    /**
+     * Para a gravação e grava o resultado em disco
+     */
+    public synchronized ArquivoGravacao parar() {
+        if (gravacao == null) {
+            throw new RegraDeNegocioException("Nenhuma gravação JFR foi iniciada");
+        }
+        if (gravacao.getState() == RecordingState.RUNNING) {
+            gravacao.stop();
+        }
+        ArquivoGravacao arquivo = gravarArquivo();
+        fecharAnterior();
+        return arquivo;
+    }
+
+    public synchronized EstadoGravacao estado() {
+        if (gravacao == null) {
+            return new EstadoGravacao(false, null, null, null);
+        }
+        return new EstadoGravacao(
+                gravacao.getState() == RecordingState.RUNNING,
+                configuracao,
+                gravacao.getStartTime(),
+                gravacao.getStopTime()
+        );
+    }
+
+    public synchronized void fechar() {
+        fecharAnterior();
+    }
+
+    private ArquivoGravacao gravarArquivo() {
+        try {
+            Files.createDirectories(diretorio);
+            Path arquivo = diretorio.resolve(NOME_ARQUIVO.format(Instant.now())).toAbsolutePath();
+            gravacao.dump(arquivo);
+            return new ArquivoGravacao(arquivo.toString(), Files.size(arquivo));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao gravar o arquivo JFR", e);
+        }
+    }
+
+    private void fecharAnterior() {
+        if (gravacao != null) {
+            gravacao.close();
+            gravacao = null;
+            configuracao = null;
+        }
+    }
+
+    /**
+     * Record com o estado da gravação (fim é o horário previsto de parada quando ainda ativa)
+     */
+    public record EstadoGravacao(boolean ativa, String configuracao, Instant inicio, Instant fim) {}
+
+    /**
+     * Record com o arquivo .jfr gravado
+     */
+    public record ArquivoGravacao(String caminho, long bytes) {}
+}
@@ -0,0 +1,32 @@
+package br.com.fiap.byteshoponlineapp.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento JFR de uma chamada ao SolicitacaoSuporteRepository
+ */
+@Name("br.com.fiap.suporte.OperacaoRepositorio")
+@Label("Operação no Repositório")
+@Description("Chamada a um método do SolicitacaoSuporteRepository")
+@Category({"Suporte Técnico", "Repositório"})
+@StackTrace(false)
+public class OperacaoRepositorioEvento extends Event {
+
+    @Label("Operação")
+    public String operacao;
+
+    @Label("Implementação")
+    public String implementacao;
+
+    @Label("ID da Solicitação")
+    @Description("-1 quando a operação não recebe um ID")
+    public long solicitacaoId = -1;
+
+    @Label("Falhou")
+    public boolean falhou;
+}
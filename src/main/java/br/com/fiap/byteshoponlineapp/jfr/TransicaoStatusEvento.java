@@ -0,0 +1,34 @@
+package br.com.fiap.byteshoponlineapp.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento JFR de uma transição de status (atualizarStatus ou encerrar), com a duração da operação
+ */
+@Name("br.com.fiap.suporte.TransicaoStatus")
+@Label("Transição de Status")
+@Description("Mudança de status feita por atualizarStatus ou encerrar")
+@Category({"Suporte Técnico", "Serviço"})
+@StackTrace(false)
+public class TransicaoStatusEvento extends Event {
+
+    @Label("Operação")
+    public String operacao;
+
+    @Label("ID da Solicitação")
+    public long solicitacaoId;
+
+    @Label("Status Anterior")
+    public String statusAnterior;
+
+    @Label("Novo Status")
+    public String novoStatus;
+
+    @Label("Prioridade")
+    public String prioridade;
+}
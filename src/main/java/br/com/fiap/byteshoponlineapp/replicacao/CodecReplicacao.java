@@ -0,0 +1,24 @@
+package br.com.fiap.byteshoponlineapp.replicacao;
+
+/**
+ * Codificação binária dos quadros trocados entre líder e seguidores
+ *
+ * Quadro: tipo (byte) + sequência (long) + conteúdo específico do tipo.
+ * As solicitações são codificadas com CodecSolicitacao.
+ *
+ * SALVAR e ARQUIVAR: solicitação. REMOVER: id. LIMPAR e PULSACAO: nada.
+ * SNAPSHOT: quantidade (int) + solicitações quentes, seguidas das arquivadas, cada uma precedida
+ * de true (boolean), e de um false final.
+ */
+final class CodecReplicacao {
+
+    static final byte SALVAR = 1;
+    static final byte REMOVER = 2;
+    static final byte LIMPAR = 3;
+    static final byte SNAPSHOT = 4;
+    static final byte PULSACAO = 5;
+    static final byte ARQUIVAR = 6;
+
+    private CodecReplicacao() {
+    }
+}
@@ -0,0 +1,300 @@
+package br.com.fiap.byteshoponlineapp.replicacao;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import br.com.fiap.byteshoponlineapp.domain.CodecSolicitacao;
+import br.com.fiap.byteshoponlineapp.domain.SolicitacaoSuporte;
+import br.com.fiap.byteshoponlineapp.domain.repository.OuvinteRepositorio;
+import br.com.fiap.byteshoponlineapp.domain.repository.SolicitacaoSuporteRepository;
+import br.com.fiap.byteshoponlineapp.domain.repository.arquivo.ArquivoFrio;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Líder da replicação: registra cada mutação do repositório em um log ordenado
+ * e o transmite por TCP aos seguidores
+ *
+ * O log fica em um buffer circular de capacidadeLog posições. Um seguidor que se
+ * conecta informando a última sequência aplicada recebe apenas as mutações seguintes,
+ * se ainda estiverem no buffer; caso contrário recebe um snapshot completo seguido do log.
+ *
+ * Para o snapshot, o líder mantém a última versão codificada de cada solicitação quente,
+ * atualizada junto com o log: o snapshot copia só as referências sob o monitor (a mesma trava
+ * que registrar usa dentro do compute do repositório) e é escrito no socket fora dele. Em
+ * seguida vão as solicitações do arquivo frio, para que o seguidor arquive as que não tem.
+ *
+ * Codificação e leitura do arquivo frio acontecem antes do monitor: sob ele ficam só a
+ * atualização do estado e a escrita da posição no buffer.
+ *
+ * O socket escuta em suporte.replicacao.endereco (loopback por padrão): o log não tem
+ * autenticação e só deve ser exposto em rede confiável.
+ */
+@Component
+@ConditionalOnProperty(prefix = "suporte.replicacao", name = "modo", havingValue = "lider")
+public class LiderReplicacao implements OuvinteRepositorio {
+
+    private static final Logger log = LoggerFactory.getLogger(LiderReplicacao.class);
+
+    private static final int LOTE_ENVIO = 1024;
+    private static final long INTERVALO_PULSACAO_MS = 1_000;
+
+    private final SolicitacaoSuporteRepository repository;
+    private final ArquivoFrio arquivoFrio;
+    private final ReplicacaoProperties properties;
+
+    private final int capacidade;
+    private final byte[] tipos;
+    private final long[] ids;
+    private final byte[][] dados;
+    private long sequencia;
+    private final Map<Long, byte[]> estado = new HashMap<>();
+
+    // Sequência da última mutação feita pela thread atual (para read-your-writes)
+    private final ThreadLocal<long[]> ultimaSequenciaDaThread = ThreadLocal.withInitial(() -> new long[1]);
+
+    private volatile boolean ativo = true;
+    private ServerSocket servidor;
+
+    public LiderReplicacao(SolicitacaoSuporteRepository repository, ArquivoFrio arquivoFrio,
+                           ReplicacaoProperties properties) {
+        this.repository = repository;
+        this.arquivoFrio = arquivoFrio;
+        this.properties = properties;
+        this.capacidade = properties.getCapacidadeLog();
+        this.tipos = new byte[capacidade];
+        this.ids = new long[capacidade];
+        this.dados = new byte[capacidade][];
+    }
+
+    @PostConstruct
+    public void iniciar() throws IOException {
+        servidor = new ServerSocket(properties.getPorta(), 50, InetAddress.getByName(properties.getEndereco()));
+        synchronized (this) {
+            // Mutações concorrentes esperam o monitor e sobrescrevem o estado inicial
+            repository.adicionarOuvinte(this);
+            for (SolicitacaoSuporte solicitacao : repository.findAll()) {
+                estado.put(solicitacao.getId(), CodecSolicitacao.codificar(solicitacao));
+            }
+        }
+        Thread aceitador = new Thread(this::aceitarSeguidores, "replicacao-lider");
+        aceitador.setDaemon(true);
+        aceitador.start();
+        log.info("Líder de replicação publicando o log em {}:{}", properties.getEndereco(), servidor.getLocalPort());
+    }
+
+    @PreDestroy
+    public void encerrar() throws IOException {
+        ativo = false;
+        servidor.close();
+        synchronized (this) {
+            notifyAll();
+        }
+    }
+
+    @Override
+    public void aoSalvar(SolicitacaoSuporte solicitacao) {
+        registrar(CodecReplicacao.SALVAR, solicitacao.getId(), CodecSolicitacao.codificar(solicitacao));
+    }
+
+    @Override
+    public void aoRemover(Long id) {
+        registrar(CodecReplicacao.REMOVER, id, null);
+    }
+
+    @Override
+    public void aoLimpar() {
+        registrar(CodecReplicacao.LIMPAR, 0, null);
+    }
+
+    /**
+     * O quadro leva a solicitação, para o seguidor gravá-la no próprio arquivo frio
+     *
+     * Vem do estado quando ela é quente; senão é lida do arquivo fora do monitor. O compute do
+     * repositório serializa as mutações do mesmo ID, então o estado dela não muda entre as duas etapas.
+     */
+    @Override
+    public void aoArquivar(Long id) {
+        byte[] conteudo;
+        synchronized (this) {
+            conteudo = estado.get(id);
+        }
+        if (conteudo == null) {
+            conteudo = arquivoFrio.buscar(id).map(CodecSolicitacao::codificar).orElse(null);
+        }
+        if (conteudo != null) {
+            registrar(CodecReplicacao.ARQUIVAR, id, conteudo);
+        }
+    }
+
+    /**
+     * Porta TCP efetiva do log (útil quando a configurada é 0)
+     */
+    public int porta() {
+        return servidor.getLocalPort();
+    }
+
+    /**
+     * Sequência da última mutação registrada pela thread atual (0 se nenhuma)
+     */
+    public long ultimaSequenciaDaThread() {
+        return ultimaSequenciaDaThread.get()[0];
+    }
+
+    public void limparSequenciaDaThread() {
+        ultimaSequenciaDaThread.get()[0] = 0;
+    }
+
+    public synchronized long sequenciaAtual() {
+        return sequencia;
+    }
+
+    private void registrar(byte tipo, long id, byte[] conteudo) {
+        long seq;
+        synchronized (this) {
+            switch (tipo) {
+                case CodecReplicacao.SALVAR -> estado.put(id, conteudo);
+                case CodecReplicacao.REMOVER, CodecReplicacao.ARQUIVAR -> estado.remove(id);
+                case CodecReplicacao.LIMPAR -> estado.clear();
+            }
+            seq = ++sequencia;
+            int posicao = (int) (seq % capacidade);
+            tipos[posicao] = tipo;
+            ids[posicao] = id;
+            dados[posicao] = conteudo;
+            notifyAll();
+        }
+        ultimaSequenciaDaThread.get()[0] = seq;
+    }
+
+    private void aceitarSeguidores() {
+        while (ativo) {
+            try {
+                Socket socket = servidor.accept();
+                Thread transmissor = new Thread(() -> transmitir(socket), "replicacao-lider-" + socket.getPort());
+                transmissor.setDaemon(true);
+                transmissor.start();
+            } catch (IOException e) {
+                if (ativo) {
+                    log.warn("Falha ao aceitar seguidor: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void transmitir(Socket socket) {
+        try (socket) {
+            socket.setTcpNoDelay(true);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream(), 64 * 1024));
+            long enviada = in.readLong();
+            log.info("Seguidor {} conectado a partir da sequência {}", socket.getRemoteSocketAddress(), enviada);
+
+            byte[] loteTipos = new byte[LOTE_ENVIO];
+            long[] loteIds = new long[LOTE_ENVIO];
+            byte[][] loteDados = new byte[LOTE_ENVIO][];
+
+            while (ativo) {
+                int quantidade = 0;
+                long primeira = enviada + 1;
+                List<byte[]> snapshot = null;
+                long sequenciaLida;
+                synchronized (this) {
+                    if (sequencia == enviada) {
+                        wait(INTERVALO_PULSACAO_MS);
+                    }
+                    sequenciaLida = sequencia;
+                    if (enviada > sequencia || enviada < sequencia - capacidade) {
+                        snapshot = new ArrayList<>(estado.values());
+                    } else {
+                        quantidade = (int) Math.min(LOTE_ENVIO, sequencia - enviada);
+                        for (int i = 0; i < quantidade; i++) {
+                            int posicao = (int) ((primeira + i) % capacidade);
+                            loteTipos[i] = tipos[posicao];
+                            loteIds[i] = ids[posicao];
+                            loteDados[i] = dados[posicao];
+                        }
+                    }
+                }
+
+                if (snapshot != null) {
+                    escreverSnapshot(out, sequenciaLida, snapshot);
+                    enviada = sequenciaLida;
+                } else if (quantidade == 0) {
+                    out.writeByte(CodecReplicacao.PULSACAO);
+                    out.writeLong(sequenciaLida);
+                } else {
+                    for (int i = 0; i < quantidade; i++) {
+                        escreverRegistro(out, loteTipos[i], primeira + i, loteIds[i], loteDados[i]);
+                        loteDados[i] = null;
+                    }
+                    enviada = primeira + quantidade - 1;
+                }
+                out.flush();
+            }
+        } catch (IOException e) {
+            log.info("Seguidor {} desconectado: {}", socket.getRemoteSocketAddress(), e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Escreve o snapshot: as solicitações quentes na sequência informada e depois as arquivadas
+     *
+     * O arquivo frio é lido depois da cópia do estado: toda solicitação retirada do repositório
+     * até essa sequência já foi gravada nele. As arquivadas depois disso podem vir repetidas
+     * (no estado e no arquivo); o seguidor as arquiva quando o quadro ARQUIVAR chegar.
+     */
+    private void escreverSnapshot(DataOutputStream out, long sequenciaLida, List<byte[]> quentes) throws IOException {
+        out.writeByte(CodecReplicacao.SNAPSHOT);
+        out.writeLong(sequenciaLida);
+        out.writeInt(quentes.size());
+        for (byte[] codificada : quentes) {
+            out.write(codificada);
+        }
+        // Lidas bloco a bloco direto para o socket; cada uma vem precedida de true e a lista termina em false
+        try {
+            arquivoFrio.percorrer(arquivada -> {
+                try {
+                    out.writeBoolean(true);
+                    out.write(CodecSolicitacao.codificar(arquivada));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        out.writeBoolean(false);
+    }
+
+    private static void escreverRegistro(DataOutputStream out, byte tipo, long seq, long id, byte[] conteudo)
+            throws IOException {
+        out.writeByte(tipo);
+        out.writeLong(seq);
+        switch (tipo) {
+            case CodecReplicacao.SALVAR, CodecReplicacao.ARQUIVAR -> out.write(conteudo);
+            case CodecReplicacao.REMOVER -> out.writeLong(id);
+            default -> {
+                // LIMPAR não tem conteúdo
+            }
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package br.com.fiap.byteshoponlineapp.replicacao;
+
+/**
+ * Papel da instância na replicação do repositório
+ */
+public enum ModoReplicacao {
+    DESATIVADA,
+    LIDER,
+    SEGUIDOR
+}
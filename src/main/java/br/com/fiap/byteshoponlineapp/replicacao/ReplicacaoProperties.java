@@ -0,0 +1,109 @@
+package br.com.fiap.byteshoponlineapp.replicacao;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Propriedades da replicação líder/seguidor (prefixo suporte.replicacao)
+ */
+@ConfigurationProperties(prefix = "suporte.replicacao")
+public class ReplicacaoProperties {
+
+    private ModoReplicacao modo = ModoReplicacao.DESATIVADA;
+
+    /**
+     * Endereço em que o líder publica o log (o log não tem autenticação; loopback por padrão)
+     */
+    private String endereco = "127.0.0.1";
+
+    /**
+     * Porta TCP em que o líder publica o log de mutações
+     */
+    private int porta = 7070;
+
+    /**
+     * Endereço TCP do líder (usado pelos seguidores)
+     */
+    private String liderHost = "localhost";
+    private int liderPorta = 7070;
+
+    /**
+     * URL HTTP do líder, para onde os seguidores redirecionam escritas
+     */
+    private String liderUrl = "http://localhost:8080";
+
+    /**
+     * Quantidade de mutações mantidas em memória pelo líder para catch-up incremental
+     */
+    private int capacidadeLog = 100_000;
+
+    /**
+     * Tempo máximo que um seguidor espera para alcançar a sequência pedida pelo cliente
+     */
+    private Duration esperaMaxima = Duration.ofMillis(200);
+
+    public ModoReplicacao getModo() {
+        return modo;
+    }
+
+    public void setModo(ModoReplicacao modo) {
+        this.modo = modo;
+    }
+
+    public String getEndereco() {
+        return endereco;
+    }
+
+    public void setEndereco(String endereco) {
+        this.endereco = endereco;
+    }
+
+    public int getPorta() {
+        return porta;
+    }
+
+    public void setPorta(int porta) {
+        this.porta = porta;
+    }
+
+    public String getLiderHost() {
+        return liderHost;
+    }
+
+    public void setLiderHost(String liderHost) {
+        this.liderHost = liderHost;
+    }
+
+    public int getLiderPorta() {
+        return liderPorta;
+    }
+
+    public void setLiderPorta(int liderPorta) {
+        this.liderPorta = liderPorta;
+    }
+
+    public String getLiderUrl() {
+        return liderUrl;
+    }
+
+    public void setLiderUrl(String liderUrl) {
+        this.liderUrl = liderUrl;
+    }
+
+    public int getCapacidadeLog() {
+        return capacidadeLog;
+    }
+
+    public void setCapacidadeLog(int capacidadeLog) {
+        this.capacidadeLog = capacidadeLog;
+    }
+
+    public Duration getEsperaMaxima() {
+        return esperaMaxima;
+    }
+
+    public void setEsperaMaxima(Duration esperaMaxima) {
+        this.esperaMaxima = esperaMaxima;
+    }
+}
@@ -0,0 +1,85 @@
+package br.com.fiap.byteshoponlineapp.replicacao;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Roteamento de requisições conforme o papel da instância na replicação
+ *
+ * Líder: zera a sequência da thread, para que o header X-Replicacao-Seq reflita
+ * apenas as escritas da requisição atual.
+ * Seguidor: redireciona escritas para o líder (307 preserva método e corpo) e, quando o
+ * cliente envia X-Replicacao-Min-Seq, espera a réplica alcançar essa sequência antes de
+ * responder; se não alcançar a tempo, redireciona a leitura para o líder (read-your-writes).
+ */
+public class RoteamentoReplicacaoInterceptor implements HandlerInterceptor {
+
+    public static final String HEADER_SEQUENCIA = "X-Replicacao-Seq";
+    public static final String HEADER_SEQUENCIA_MINIMA = "X-Replicacao-Min-Seq";
+
+    private final LiderReplicacao lider;
+    private final SeguidorReplicacao seguidor;
+    private final ReplicacaoProperties properties;
+
+    public RoteamentoReplicacaoInterceptor(LiderReplicacao lider, SeguidorReplicacao seguidor,
+                                           ReplicacaoProperties properties) {
+        this.lider = lider;
+        this.seguidor = seguidor;
+        this.properties = properties;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws Exception {
+        if (lider != null) {
+            lider.limparSequenciaDaThread();
+            return true;
+        }
+        if (seguidor == null) {
+            return true;
+        }
+
+        if (!isLeitura(request.getMethod())) {
+            redirecionarParaLider(request, response);
+            return false;
+        }
+
+        long minima = sequenciaMinima(request);
+        if (minima > 0 && !seguidor.aguardarSequencia(minima, properties.getEsperaMaxima().toMillis())) {
+            redirecionarParaLider(request, response);
+            return false;
+        }
+
+        response.setHeader(HEADER_SEQUENCIA, Long.toString(seguidor.sequenciaAplicada()));
+        return true;
+    }
+
+    private void redirecionarParaLider(HttpServletRequest request, HttpServletResponse response) {
+        StringBuilder destino = new StringBuilder(properties.getLiderUrl()).append(request.getRequestURI());
+        if (request.getQueryString() != null) {
+            destino.append('?').append(request.getQueryString());
+        }
+        response.setStatus(HttpStatus.TEMPORARY_REDIRECT.value());
+        response.setHeader(HttpHeaders.LOCATION, destino.toString());
+    }
+
+    private static boolean isLeitura(String metodo) {
+        return "GET".equals(metodo) || "HEAD".equals(metodo) || "OPTIONS".equals(metodo);
+    }
+
+    private static long sequenciaMinima(HttpServletRequest request) {
+        String valor = request.getHeader(HEADER_SEQUENCIA_MINIMA);
+        if (valor == null) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(valor.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
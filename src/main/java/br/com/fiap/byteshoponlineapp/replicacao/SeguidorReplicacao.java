@@ -0,0 +1,230 @@
+package br.com.fiap.byteshoponlineapp.replicacao;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import br.com.fiap.byteshoponlineapp.domain.CodecSolicitacao;
+import br.com.fiap.byteshoponlineapp.domain.SolicitacaoSuporte;
+import br.com.fiap.byteshoponlineapp.domain.repository.SolicitacaoSuporteRepository;
+import br.com.fiap.byteshoponlineapp.domain.repository.arquivo.ArquivoFrio;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Seguidor da replicação: conecta ao líder, aplica o log de mutações no repositório
+ * local e atende apenas leituras
+ *
+ * Ao reconectar, informa a última sequência aplicada para receber só o que faltou.
+ *
+ * Um snapshot é montado à parte e aplicado como diferença (grava o que mudou, arquiva ou
+ * remove o que sumiu), então leituras concorrentes nunca veem o repositório vazio. As
+ * solicitações arquivadas pelo líder são gravadas no arquivo frio local antes de saírem do
+ * repositório, como faz o ArquivadorSolicitacoes (que fica desligado no seguidor).
+ */
+@Component
+@ConditionalOnProperty(prefix = "suporte.replicacao", name = "modo", havingValue = "seguidor")
+public class SeguidorReplicacao {
+
+    private static final Logger log = LoggerFactory.getLogger(SeguidorReplicacao.class);
+
+    private static final long ESPERA_RECONEXAO_MAXIMA_MS = 5_000;
+    private static final int LOTE_ARQUIVAMENTO = 256;
+
+    private final SolicitacaoSuporteRepository repository;
+    private final ArquivoFrio arquivoFrio;
+    private final ReplicacaoProperties properties;
+
+    private final Object monitorAplicacao = new Object();
+    private volatile long sequenciaAplicada;
+    private volatile long sequenciaLider;
+    private volatile boolean ativo = true;
+    private volatile Socket socket;
+
+    public SeguidorReplicacao(SolicitacaoSuporteRepository repository, ArquivoFrio arquivoFrio,
+                              ReplicacaoProperties properties) {
+        this.repository = repository;
+        this.arquivoFrio = arquivoFrio;
+        this.properties = properties;
+    }
+
+    @PostConstruct
+    public void iniciar() {
+        Thread replicador = new Thread(this::replicar, "replicacao-seguidor");
+        replicador.setDaemon(true);
+        replicador.start();
+    }
+
+    @PreDestroy
+    public void encerrar() throws IOException {
+        ativo = false;
+        Socket atual = socket;
+        if (atual != null) {
+            atual.close();
+        }
+    }
+
+    public long sequenciaAplicada() {
+        return sequenciaAplicada;
+    }
+
+    public long sequenciaLider() {
+        return sequenciaLider;
+    }
+
+    /**
+     * Aguarda até que a sequência informada tenha sido aplicada ou o tempo se esgote
+     *
+     * @return true se a sequência foi alcançada
+     */
+    public boolean aguardarSequencia(long alvo, long esperaMs) throws InterruptedException {
+        long limite = System.currentTimeMillis() + esperaMs;
+        synchronized (monitorAplicacao) {
+            long restante;
+            while (sequenciaAplicada < alvo && (restante = limite - System.currentTimeMillis()) > 0) {
+                monitorAplicacao.wait(restante);
+            }
+        }
+        return sequenciaAplicada >= alvo;
+    }
+
+    private void replicar() {
+        long espera = 100;
+        while (ativo) {
+            try (Socket conexao = new Socket(properties.getLiderHost(), properties.getLiderPorta())) {
+                socket = conexao;
+                conexao.setTcpNoDelay(true);
+                DataOutputStream out = new DataOutputStream(conexao.getOutputStream());
+                out.writeLong(sequenciaAplicada);
+                out.flush();
+                log.info("Conectado ao líder {}:{} a partir da sequência {}",
+                        properties.getLiderHost(), properties.getLiderPorta(), sequenciaAplicada);
+                espera = 100;
+                aplicar(new DataInputStream(new BufferedInputStream(conexao.getInputStream(), 64 * 1024)));
+            } catch (IOException e) {
+                if (ativo) {
+                    log.warn("Conexão com o líder perdida ({}); nova tentativa em {} ms", e.getMessage(), espera);
+                }
+            }
+            try {
+                Thread.sleep(espera);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            espera = Math.min(ESPERA_RECONEXAO_MAXIMA_MS, espera * 2);
+        }
+    }
+
+    private void aplicar(DataInputStream in) throws IOException {
+        // Quadros ARQUIVAR consecutivos são gravados no arquivo frio em lote (um fsync por lote)
+        List<SolicitacaoSuporte> arquivar = new ArrayList<>();
+        long sequenciaArquivar = 0;
+        while (ativo) {
+            byte tipo = in.readByte();
+            long seq = in.readLong();
+            if (tipo == CodecReplicacao.ARQUIVAR) {
+                arquivar.add(CodecSolicitacao.decodificar(in));
+                sequenciaArquivar = seq;
+                if (arquivar.size() < LOTE_ARQUIVAMENTO && in.available() > 0) {
+                    continue;
+                }
+                arquivarLocalmente(arquivar);
+                arquivar.clear();
+                concluir(sequenciaArquivar, in);
+                continue;
+            }
+            if (!arquivar.isEmpty()) {
+                arquivarLocalmente(arquivar);
+                arquivar.clear();
+            }
+            switch (tipo) {
+                case CodecReplicacao.SALVAR -> repository.save(CodecSolicitacao.decodificar(in));
+                case CodecReplicacao.REMOVER -> repository.deleteById(in.readLong());
+                case CodecReplicacao.LIMPAR -> repository.deleteAll();
+                case CodecReplicacao.SNAPSHOT -> aplicarSnapshot(in, seq);
+                case CodecReplicacao.PULSACAO -> {
+                    sequenciaLider = seq;
+                    continue;
+                }
+                default -> throw new IOException("Tipo de quadro desconhecido: " + tipo);
+            }
+            concluir(seq, in);
+        }
+    }
+
+    private void concluir(long seq, DataInputStream in) throws IOException {
+        sequenciaAplicada = seq;
+        sequenciaLider = Math.max(sequenciaLider, seq);
+        if (in.available() == 0) {
+            synchronized (monitorAplicacao) {
+                monitorAplicacao.notifyAll();
+            }
+        }
+    }
+
+    private void arquivarLocalmente(List<SolicitacaoSuporte> solicitacoes) {
+        arquivoFrio.arquivar(solicitacoes);
+        for (SolicitacaoSuporte solicitacao : solicitacoes) {
+            repository.evictById(solicitacao.getId());
+        }
+    }
+
+    /**
+     * Lê o snapshot inteiro e aplica só a diferença em relação ao repositório local
+     */
+    private void aplicarSnapshot(DataInputStream in, long seq) throws IOException {
+        int quantidade = in.readInt();
+        Map<Long, SolicitacaoSuporte> quentes = new HashMap<>(quantidade * 2);
+        for (int i = 0; i < quantidade; i++) {
+            SolicitacaoSuporte solicitacao = CodecSolicitacao.decodificar(in);
+            quentes.put(solicitacao.getId(), solicitacao);
+        }
+        List<SolicitacaoSuporte> novasArquivadas = new ArrayList<>();
+        while (in.readBoolean()) {
+            SolicitacaoSuporte arquivada = CodecSolicitacao.decodificar(in);
+            if (!arquivoFrio.contem(arquivada.getId())) {
+                novasArquivadas.add(arquivada);
+            }
+        }
+
+        // Arquivo primeiro: uma solicitação que sai do repositório já está no arquivo frio
+        if (!novasArquivadas.isEmpty()) {
+            arquivoFrio.arquivar(novasArquivadas);
+        }
+        int gravadas = 0;
+        for (SolicitacaoSuporte solicitacao : quentes.values()) {
+            SolicitacaoSuporte local = repository.findById(solicitacao.getId()).orElse(null);
+            if (local == null || !Arrays.equals(CodecSolicitacao.codificar(local), CodecSolicitacao.codificar(solicitacao))) {
+                repository.save(solicitacao);
+                gravadas++;
+            }
+        }
+        int retiradas = 0;
+        for (SolicitacaoSuporte local : repository.findAll()) {
+            Long id = local.getId();
+            if (!quentes.containsKey(id)) {
+                if (arquivoFrio.contem(id)) {
+                    repository.evictById(id);
+                } else {
+                    repository.deleteById(id);
+                }
+                retiradas++;
+            }
+        }
+        log.info("Snapshot aplicado até a sequência {}: {} solicitações ({} gravadas, {} retiradas), {} arquivadas novas",
+                seq, quantidade, gravadas, retiradas, novasArquivadas.size());
+    }
+}
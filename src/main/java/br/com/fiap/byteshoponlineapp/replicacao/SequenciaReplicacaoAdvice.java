@@ -0,0 +1,41 @@
+package br.com.fiap.byteshoponlineapp.replicacao;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * No líder, informa ao cliente (header X-Replicacao-Seq) a sequência da escrita feita
+ * pela requisição, para que leituras seguintes em seguidores peçam no mínimo essa sequência
+ */
+@RestControllerAdvice
+@ConditionalOnProperty(prefix = "suporte.replicacao", name = "modo", havingValue = "lider")
+public class SequenciaReplicacaoAdvice implements ResponseBodyAdvice<Object> {
+
+    private final LiderReplicacao lider;
+
+    public SequenciaReplicacaoAdvice(LiderReplicacao lider) {
+        this.lider = lider;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        long sequencia = lider.ultimaSequenciaDaThread();
+        if (sequencia > 0) {
+            response.getHeaders().set(RoteamentoReplicacaoInterceptor.HEADER_SEQUENCIA, Long.toString(sequencia));
+        }
+        return body;
+    }
+}
@@ -0,0 +1,68 @@
+package br.com.fiap.byteshoponlineapp.service;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import br.com.fiap.byteshoponlineapp.domain.SolicitacaoSuporte;
+import br.com.fiap.byteshoponlineapp.domain.enums.StatusSolicitacao;
+import br.com.fiap.byteshoponlineapp.domain.repository.SolicitacaoSuporteRepository;
+import br.com.fiap.byteshoponlineapp.domain.repository.arquivo.ArquivoFrio;
+
+/**
+ * Tarefa periódica que move solicitações FECHADAS antigas do repositório para o arquivo frio
+ *
+ * Solicitações fechadas não mudam mais, então podem sair do conjunto quente: a cópia é gravada
+ * no arquivo (com fsync) antes de ser retirada do repositório. Nessa janela a solicitação está
+ * nos dois lugares; as listagens leem o repositório antes do arquivo e ignoram IDs repetidos, então
+ * ela nunca some nem aparece duas vezes. Nos seguidores da replicação a
+ * tarefa fica desligada: eles arquivam o que o líder arquivou, ao receber o quadro ARQUIVAR.
+ */
+@Component
+@ConditionalOnExpression("${suporte.arquivo.habilitado:true} "
+        + "and !'${suporte.replicacao.modo:desativada}'.equalsIgnoreCase('seguidor')")
+public class ArquivadorSolicitacoes {
+
+    private static final Logger log = LoggerFactory.getLogger(ArquivadorSolicitacoes.class);
+
+    private final SolicitacaoSuporteRepository repository;
+    private final ArquivoFrio arquivoFrio;
+    private final Duration idadeMinima;
+
+    public ArquivadorSolicitacoes(SolicitacaoSuporteRepository repository, ArquivoFrio arquivoFrio,
+                                  @Value("${suporte.arquivo.idade-minima:7d}") Duration idadeMinima) {
+        this.repository = repository;
+        this.arquivoFrio = arquivoFrio;
+        this.idadeMinima = idadeMinima;
+    }
+
+    /**
+     * Arquiva as solicitações fechadas há mais tempo que a idade mínima
+     *
+     * @return quantidade de solicitações arquivadas
+     */
+    @Scheduled(fixedDelayString = "${suporte.arquivo.intervalo:PT5M}", initialDelayString = "${suporte.arquivo.intervalo:PT5M}")
+    public int arquivarFechadas() {
+        long limite = System.currentTimeMillis() - idadeMinima.toMillis();
+        List<SolicitacaoSuporte> candidatas = repository.findByStatus(StatusSolicitacao.FECHADA).stream()
+                .filter(s -> s.getHistorico().instanteUltimaTransicao() <= limite)
+                .toList();
+        if (candidatas.isEmpty()) {
+            return 0;
+        }
+
+        arquivoFrio.arquivar(candidatas);
+        for (SolicitacaoSuporte solicitacao : candidatas) {
+            repository.evictById(solicitacao.getId());
+        }
+        log.info("{} solicitações fechadas movidas para o arquivo frio ({} no total)",
+                candidatas.size(), arquivoFrio.quantidade());
+        return candidatas.size();
+    }
+}
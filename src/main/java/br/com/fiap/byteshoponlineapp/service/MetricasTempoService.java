@@ -0,0 +1,103 @@
+package br.com.fiap.byteshoponlineapp.service;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+
+import br.com.fiap.byteshoponlineapp.domain.enums.Prioridade;
+import br.com.fiap.byteshoponlineapp.domain.enums.StatusSolicitacao;
+import br.com.fiap.byteshoponlineapp.service.metricas.SketchQuantis;
+
+/**
+ * Serviço que acompanha o tempo em cada status e o tempo até a resolução por prioridade
+ *
+ * Mantém um sketch de quantis por (prioridade, status) e por prioridade para a resolução,
+ * com memória fixa independente do número de solicitações.
+ */
+@Service
+public class MetricasTempoService {
+
+    private final Map<Prioridade, Map<StatusSolicitacao, SketchQuantis>> tempoNoEstado = new EnumMap<>(Prioridade.class);
+    private final Map<Prioridade, SketchQuantis> tempoAteResolucao = new EnumMap<>(Prioridade.class);
+
+    public MetricasTempoService() {
+        for (Prioridade prioridade : Prioridade.values()) {
+            Map<StatusSolicitacao, SketchQuantis> porStatus = new EnumMap<>(StatusSolicitacao.class);
+            for (StatusSolicitacao status : StatusSolicitacao.values()) {
+                porStatus.put(status, new SketchQuantis());
+            }
+            tempoNoEstado.put(prioridade, porStatus);
+            tempoAteResolucao.put(prioridade, new SketchQuantis());
+        }
+    }
+
+    /**
+     * Registra uma transição de status
+     *
+     * @param msNoEstadoAnterior tempo que a solicitação permaneceu no status anterior
+     * @param msDesdeCriacao tempo decorrido desde a criação da solicitação
+     * @param jaResolvida se a solicitação já passou por RESOLVIDA antes: o tempo até a resolução
+     *                    conta só a primeira, não as resoluções depois de uma reabertura
+     */
+    public void registrarTransicao(Prioridade prioridade, StatusSolicitacao statusAnterior,
+                                   StatusSolicitacao novoStatus, long msNoEstadoAnterior, long msDesdeCriacao,
+                                   boolean jaResolvida) {
+        if (prioridade == null) {
+            return;
+        }
+        tempoNoEstado.get(prioridade).get(statusAnterior).registrar(msNoEstadoAnterior);
+        if (novoStatus == StatusSolicitacao.RESOLVIDA && !jaResolvida) {
+            tempoAteResolucao.get(prioridade).registrar(msDesdeCriacao);
+        }
+    }
+
+    /**
+     * Retorna os quantis de tempo em cada status e até a resolução, por prioridade
+     */
+    public MetricasTempo obterMetricas() {
+        Map<Prioridade, MetricasPrioridade> porPrioridade = new EnumMap<>(Prioridade.class);
+        for (Prioridade prioridade : Prioridade.values()) {
+            Map<StatusSolicitacao, ResumoQuantis> porStatus = new EnumMap<>(StatusSolicitacao.class);
+            tempoNoEstado.get(prioridade).forEach((status, sketch) -> {
+                if (status != StatusSolicitacao.FECHADA) {
+                    porStatus.put(status, ResumoQuantis.de(sketch));
+                }
+            });
+            porPrioridade.put(prioridade, new MetricasPrioridade(
+                    porStatus,
+                    ResumoQuantis.de(tempoAteResolucao.get(prioridade))
+            ));
+        }
+        return new MetricasTempo(porPrioridade);
+    }
+
+    /**
+     * Record para as métricas de tempo agrupadas por prioridade
+     */
+    public record MetricasTempo(Map<Prioridade, MetricasPrioridade> porPrioridade) {}
+
+    /**
+     * Record para as métricas de uma prioridade
+     */
+    public record MetricasPrioridade(
+            Map<StatusSolicitacao, ResumoQuantis> tempoNoEstado,
+            ResumoQuantis tempoAteResolucao
+    ) {}
+
+    /**
+     * Record com os quantis (em milissegundos) de um sketch
+     */
+    public record ResumoQuantis(long amostras, long p50Ms, long p90Ms, long p99Ms, long maxMs) {
+
+        static ResumoQuantis de(SketchQuantis sketch) {
+            return new ResumoQuantis(
+                    sketch.amostras(),
+                    sketch.quantil(0.50),
+                    sketch.quantil(0.90),
+                    sketch.quantil(0.99),
+                    sketch.maximo()
+            );
+        }
+    }
+}
@@ -1,28 +1,84 @@
 package br.com.fiap.byteshoponlineapp.service;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Callable;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import org.roaringbitmap.longlong.LongIterator;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import br.com.fiap.byteshoponlineapp.api.dto.AtualizarSolicitacaoRequest;
 import br.com.fiap.byteshoponlineapp.api.dto.SolicitacaoSuporteRequest;
+import br.com.fiap.byteshoponlineapp.domain.HistoricoStatus;
 import br.com.fiap.byteshoponlineapp.domain.SolicitacaoSuporte;
+import br.com.fiap.byteshoponlineapp.domain.enums.Prioridade;
 import br.com.fiap.byteshoponlineapp.domain.enums.StatusSolicitacao;
 import br.com.fiap.byteshoponlineapp.domain.repository.SolicitacaoSuporteRepository;
+import br.com.fiap.byteshoponlineapp.domain.repository.arquivo.ArquivoFrio;
+import br.com.fiap.byteshoponlineapp.domain.repository.indice.IndiceBitmap;
+import br.com.fiap.byteshoponlineapp.domain.repository.indice.IndiceOrdenado;
+import br.com.fiap.byteshoponlineapp.domain.repository.indice.Ordenacao;
+import br.com.fiap.byteshoponlineapp.jfr.TransicaoStatusEvento;
+import br.com.fiap.byteshoponlineapp.service.evento.EventoSolicitacao;
 import br.com.fiap.byteshoponlineapp.service.exception.RegraDeNegocioException;
 import br.com.fiap.byteshoponlineapp.service.exception.SolicitacaoNaoEncontradaException;
 import br.com.fiap.byteshoponlineapp.service.exception.TransicaoStatusInvalidaException;
+import br.com.fiap.byteshoponlineapp.service.execucao.ExecucaoParalela;
+import br.com.fiap.byteshoponlineapp.service.execucao.TravasPorId;
 
 /**
  * Serviço responsável pela lógica de negócio das Solicitações de Suporte
+ *
+ * Consultas também procuram no arquivo frio (solicitações fechadas já arquivadas);
+ * alterações valem apenas para solicitações do repositório.
+ * Criações, mudanças de status e escaladas de prioridade publicam um EventoSolicitacao (consumido pelos webhooks).
+ * Cada alteração (leitura, validação da regra e gravação) roda com a trava do ID, então duas
+ * requisições sobre a mesma solicitação nunca validam contra o mesmo estado.
  */
 @Service
 public class SolicitacaoSuporteService {
 
+    // Abaixo disso a carga por ID é feita na própria thread da requisição
+    private static final int LOTE_CARGA = 256;
+    private static final int FAIXAS_TRAVAS = 1024;
+
     private final SolicitacaoSuporteRepository repository;
+    private final MetricasTempoService metricasTempo;
+    private final ArquivoFrio arquivoFrio;
+    private final IndiceBitmap indiceBitmap;
+    private final IndiceOrdenado indiceOrdenado;
+    private final ExecucaoParalela execucao;
+    private final ApplicationEventPublisher eventos;
+    private final TravasPorId travas = new TravasPorId(FAIXAS_TRAVAS);
 
-    public SolicitacaoSuporteService(SolicitacaoSuporteRepository repository) {
+    public SolicitacaoSuporteService(SolicitacaoSuporteRepository repository, MetricasTempoService metricasTempo,
+                                     ArquivoFrio arquivoFrio, IndiceBitmap indiceBitmap, IndiceOrdenado indiceOrdenado,
+                                     ExecucaoParalela execucao, ApplicationEventPublisher eventos) {
         this.repository = repository;
+        this.metricasTempo = metricasTempo;
+        this.arquivoFrio = arquivoFrio;
+        this.indiceBitmap = indiceBitmap;
+        this.indiceOrdenado = indiceOrdenado;
+        this.execucao = execucao;
+        this.eventos = eventos;
+        // Os IDs arquivados não estão mais no repositório: novas solicitações começam depois deles
+        repository.reservarIdsAte(arquivoFrio.maiorId());
     }
 
     /**
@@ -36,7 +92,9 @@ public class SolicitacaoSuporteService {
                 request.getPrioridade()
         );
         
-        return repository.save(solicitacao);
+        SolicitacaoSuporte salva = repository.save(solicitacao);
+        eventos.publishEvent(EventoSolicitacao.de(EventoSolicitacao.Tipo.CRIADA, salva, null));
+        return salva;
     }
 
     /**
@@ -44,6 +102,7 @@ public class SolicitacaoSuporteService {
      */
     public SolicitacaoSuporte buscarPorId(Long id) {
         return repository.findById(id)
+                .or(() -> arquivoFrio.buscar(id))
                 .orElseThrow(() -> new SolicitacaoNaoEncontradaException(id));
     }
 
@@ -51,21 +110,107 @@ public class SolicitacaoSuporteService {
      * Lista todas as solicitações
      */
     public List<SolicitacaoSuporte> listarTodas() {
-        return repository.findAll();
+        return listarTodas(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Lista até limite solicitações, lendo o arquivo frio só enquanto faltar
+     */
+    public List<SolicitacaoSuporte> listarTodas(int limite) {
+        return incluirArquivadas(repository.findAll(), limite);
+    }
+
+    /**
+     * Percorre as solicitações de um status (todas, com status nulo) sob demanda, para quem envia
+     * a listagem aos poucos: o arquivo frio só é lido conforme o iterador avança
+     */
+    public Iterator<SolicitacaoSuporte> percorrer(StatusSolicitacao status) {
+        if (status == null) {
+            return comArquivadas(repository.findAll());
+        }
+        List<SolicitacaoSuporte> doRepositorio = repository.findByStatus(status);
+        // Só solicitações FECHADAS são arquivadas
+        return status == StatusSolicitacao.FECHADA ? comArquivadas(doRepositorio) : doRepositorio.iterator();
+    }
+
+    /**
+     * Lista as primeiras solicitações na ordem pedida, direto do índice ordenado
+     */
+    public List<SolicitacaoSuporte> listarTodas(Ordenacao ordenacao, int limite) {
+        return carregar(indiceOrdenado.primeiros(ordenacao, null, limite));
     }
 
     /**
      * Lista solicitações por status
      */
     public List<SolicitacaoSuporte> listarPorStatus(StatusSolicitacao status) {
-        return repository.findByStatus(status);
+        return listarPorStatus(status, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Lista até limite solicitações de um status
+     */
+    public List<SolicitacaoSuporte> listarPorStatus(StatusSolicitacao status, int limite) {
+        List<SolicitacaoSuporte> doRepositorio = repository.findByStatus(status);
+        // Só solicitações FECHADAS são arquivadas
+        return status == StatusSolicitacao.FECHADA
+                ? incluirArquivadas(doRepositorio, limite)
+                : limitar(doRepositorio, limite);
+    }
+
+    /**
+     * Lista as primeiras solicitações de um status na ordem pedida, direto do índice ordenado
+     */
+    public List<SolicitacaoSuporte> listarPorStatus(StatusSolicitacao status, Ordenacao ordenacao, int limite) {
+        return carregar(indiceOrdenado.primeiros(ordenacao, status, limite));
+    }
+
+    /**
+     * Consulta combinando status, prioridades e intervalo de criação, das mais recentes para as mais antigas
+     *
+     * Os filtros são resolvidos nos índices bitmap; só as solicitações retornadas são carregadas.
+     * Quando há mais resultados que o limite, o índice ordenado é percorrido do mais recente para
+     * o mais antigo até completar a página, sem ordenar o conjunto inteiro.
+     */
+    public ResultadoConsulta consultar(Set<StatusSolicitacao> status, Set<Prioridade> prioridades,
+                                       LocalDate criadaDe, LocalDate criadaAte, int limite) {
+        Roaring64Bitmap ids = indiceBitmap.consultar(status, prioridades, criadaDe, criadaAte);
+        long total = ids.getLongCardinality();
+        if (total > limite) {
+            return new ResultadoConsulta(total,
+                    carregar(indiceOrdenado.primeiros(Ordenacao.MAIS_RECENTES, null, limite, ids::contains)));
+        }
+        List<SolicitacaoSuporte> encontradas = new ArrayList<>((int) total);
+        LongIterator iterador = ids.getLongIterator();
+        while (iterador.hasNext()) {
+            long id = iterador.next();
+            repository.findById(id).or(() -> arquivoFrio.buscar(id)).ifPresent(encontradas::add);
+        }
+        encontradas.sort(Comparator.comparing(SolicitacaoSuporte::getDataCriacao, Comparator.reverseOrder())
+                .thenComparing(SolicitacaoSuporte::getId, Comparator.reverseOrder()));
+        return new ResultadoConsulta(encontradas.size(), encontradas);
+    }
+
+    /**
+     * Busca várias solicitações de uma vez, na ordem pedida (IDs repetidos são considerados uma vez)
+     *
+     * IDs inexistentes vão para naoEncontradas em vez de interromper a busca.
+     */
+    public ResultadoLote buscarVarias(List<Long> ids) {
+        List<Long> naoEncontradas = new ArrayList<>();
+        List<SolicitacaoSuporte> encontradas = resolver(new LinkedHashSet<>(ids), naoEncontradas);
+        return new ResultadoLote(encontradas, naoEncontradas);
     }
 
     /**
      * Atualiza informações de uma solicitação
      */
     public SolicitacaoSuporte atualizar(Long id, AtualizarSolicitacaoRequest request) {
-        SolicitacaoSuporte solicitacao = buscarPorId(id);
+        return travas.executar(id, () -> aplicarAtualizacao(id, request));
+    }
+
+    private SolicitacaoSuporte aplicarAtualizacao(Long id, AtualizarSolicitacaoRequest request) {
+        SolicitacaoSuporte solicitacao = buscarParaAlteracao(id);
 
         // Regra de negócio: não permite atualizar solicitações já fechadas
         if (solicitacao.getStatus() == StatusSolicitacao.FECHADA) {
@@ -92,21 +237,38 @@ public class SolicitacaoSuporteService {
      * Atualiza o status de uma solicitação com validação de transição
      */
     public SolicitacaoSuporte atualizarStatus(Long id, StatusSolicitacao novoStatus) {
-        SolicitacaoSuporte solicitacao = buscarPorId(id);
+        return travas.executar(id, () -> aplicarTransicao(id, novoStatus));
+    }
+
+    private SolicitacaoSuporte aplicarTransicao(Long id, StatusSolicitacao novoStatus) {
+        TransicaoStatusEvento evento = new TransicaoStatusEvento();
+        evento.begin();
+        SolicitacaoSuporte solicitacao = buscarParaAlteracao(id);
         StatusSolicitacao statusAtual = solicitacao.getStatus();
 
         // Regra de negócio: valida transições de status permitidas
         validarTransicaoStatus(statusAtual, novoStatus);
 
-        solicitacao.setStatus(novoStatus);
-        return repository.update(solicitacao);
+        aplicarStatus(solicitacao, novoStatus);
+        SolicitacaoSuporte atualizada = repository.update(solicitacao);
+        registrarEvento(evento, "atualizarStatus", atualizada, statusAtual);
+        if (statusAtual != novoStatus) {
+            eventos.publishEvent(EventoSolicitacao.de(EventoSolicitacao.Tipo.STATUS_ALTERADO, atualizada, statusAtual));
+        }
+        return atualizada;
     }
 
     /**
      * Encerra uma solicitação (marca como FECHADA)
      */
     public SolicitacaoSuporte encerrar(Long id) {
-        SolicitacaoSuporte solicitacao = buscarPorId(id);
+        return travas.executar(id, () -> aplicarEncerramento(id));
+    }
+
+    private SolicitacaoSuporte aplicarEncerramento(Long id) {
+        TransicaoStatusEvento evento = new TransicaoStatusEvento();
+        evento.begin();
+        SolicitacaoSuporte solicitacao = buscarParaAlteracao(id);
 
         // Regra de negócio: só pode encerrar solicitações resolvidas
         if (solicitacao.getStatus() != StatusSolicitacao.RESOLVIDA) {
@@ -116,20 +278,58 @@ public class SolicitacaoSuporteService {
             );
         }
 
-        solicitacao.setStatus(StatusSolicitacao.FECHADA);
-        return repository.update(solicitacao);
+        aplicarStatus(solicitacao, StatusSolicitacao.FECHADA);
+        SolicitacaoSuporte atualizada = repository.update(solicitacao);
+        registrarEvento(evento, "encerrar", atualizada, StatusSolicitacao.RESOLVIDA);
+        eventos.publishEvent(EventoSolicitacao.de(EventoSolicitacao.Tipo.ENCERRADA, atualizada, StatusSolicitacao.RESOLVIDA));
+        return atualizada;
+    }
+
+    /**
+     * Sobe a prioridade de uma solicitação ABERTA que passou do prazo de SLA da prioridade atual
+     *
+     * Sem efeito se, desde o agendamento, a solicitação saiu de ABERTA, mudou de prioridade ou foi retirada.
+     *
+     * @return true se a prioridade foi elevada
+     */
+    public boolean escalarPrioridade(Long id, Prioridade prioridadeAgendada) {
+        return travas.executar(id, () -> aplicarEscalada(id, prioridadeAgendada));
+    }
+
+    private boolean aplicarEscalada(Long id, Prioridade prioridadeAgendada) {
+        SolicitacaoSuporte solicitacao = repository.findById(id).orElse(null);
+        if (solicitacao == null
+                || solicitacao.getStatus() != StatusSolicitacao.ABERTA
+                || solicitacao.getPrioridade() != prioridadeAgendada
+                || prioridadeAgendada == Prioridade.CRITICA) {
+            return false;
+        }
+
+        solicitacao.setPrioridade(Prioridade.values()[prioridadeAgendada.ordinal() + 1]);
+        solicitacao.atualizarDataModificacao();
+        SolicitacaoSuporte atualizada = repository.update(solicitacao);
+        eventos.publishEvent(EventoSolicitacao.de(EventoSolicitacao.Tipo.PRIORIDADE_ESCALADA, atualizada,
+                StatusSolicitacao.ABERTA));
+        return true;
+    }
+
+    /**
+     * Lista o histórico de transições de status de uma solicitação
+     */
+    public List<HistoricoStatus.Transicao> listarHistorico(Long id) {
+        return buscarPorId(id).getHistorico().listar();
     }
 
     /**
      * Remove uma solicitação
      */
     public void remover(Long id) {
-        if (!repository.existsById(id)) {
-            throw new SolicitacaoNaoEncontradaException(id);
-        }
-        
+        travas.executar(id, () -> aplicarRemocao(id));
+    }
+
+    private void aplicarRemocao(Long id) {
         // Regra de negócio: apenas solicitações abertas podem ser removidas
-        SolicitacaoSuporte solicitacao = buscarPorId(id);
+        SolicitacaoSuporte solicitacao = buscarParaAlteracao(id);
         if (solicitacao.getStatus() != StatusSolicitacao.ABERTA) {
             throw new RegraDeNegocioException(
                     "Apenas solicitações com status ABERTA podem ser removidas. Status atual: " + 
@@ -140,6 +340,146 @@ public class SolicitacaoSuporteService {
         repository.deleteById(id);
     }
 
+    /**
+     * Busca uma solicitação que será alterada: solicitações arquivadas são somente leitura
+     */
+    private SolicitacaoSuporte buscarParaAlteracao(Long id) {
+        return repository.findById(id).orElseThrow(() -> {
+            if (arquivoFrio.contem(id)) {
+                return new RegraDeNegocioException(
+                        "A solicitação " + id + " está fechada e arquivada; não pode ser alterada");
+            }
+            return new SolicitacaoNaoEncontradaException(id);
+        });
+    }
+
+    /**
+     * Carrega as solicitações dos IDs, na mesma ordem (do repositório ou do arquivo frio)
+     *
+     * Listas grandes são divididas em lotes carregados em paralelo.
+     */
+    private List<SolicitacaoSuporte> carregar(List<Long> ids) {
+        if (ids.size() <= LOTE_CARGA) {
+            return carregarLote(ids);
+        }
+        List<Callable<List<SolicitacaoSuporte>>> lotes = new ArrayList<>();
+        for (int inicio = 0; inicio < ids.size(); inicio += LOTE_CARGA) {
+            List<Long> lote = ids.subList(inicio, Math.min(ids.size(), inicio + LOTE_CARGA));
+            lotes.add(() -> carregarLote(lote));
+        }
+        List<SolicitacaoSuporte> solicitacoes = new ArrayList<>(ids.size());
+        execucao.executarTodas(lotes).forEach(solicitacoes::addAll);
+        return solicitacoes;
+    }
+
+    private List<SolicitacaoSuporte> carregarLote(List<Long> ids) {
+        return resolver(ids, null);
+    }
+
+    /**
+     * Resolve os IDs em uma passada pelo repositório e procura os ausentes no arquivo frio,
+     * mantendo a ordem dos IDs; os que não existem em nenhum dos dois vão para naoEncontradas
+     */
+    private List<SolicitacaoSuporte> resolver(Collection<Long> ids, List<Long> naoEncontradas) {
+        Map<Long, SolicitacaoSuporte> porId = new HashMap<>(ids.size() * 2);
+        for (SolicitacaoSuporte solicitacao : repository.findAllById(ids)) {
+            porId.put(solicitacao.getId(), solicitacao);
+        }
+        List<SolicitacaoSuporte> solicitacoes = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            SolicitacaoSuporte solicitacao = porId.get(id);
+            if (solicitacao == null) {
+                solicitacao = arquivoFrio.buscar(id).orElse(null);
+            }
+            if (solicitacao != null) {
+                solicitacoes.add(solicitacao);
+            } else if (naoEncontradas != null) {
+                naoEncontradas.add(id);
+            }
+        }
+        return solicitacoes;
+    }
+
+    /**
+     * Acrescenta as solicitações arquivadas que não estão mais no repositório, até o limite
+     */
+    private List<SolicitacaoSuporte> incluirArquivadas(List<SolicitacaoSuporte> doRepositorio, int limite) {
+        if (doRepositorio.size() >= limite || arquivoFrio.quantidade() == 0) {
+            return limitar(doRepositorio, limite);
+        }
+        List<SolicitacaoSuporte> todas = new ArrayList<>();
+        Iterator<SolicitacaoSuporte> solicitacoes = comArquivadas(doRepositorio);
+        while (todas.size() < limite && solicitacoes.hasNext()) {
+            todas.add(solicitacoes.next());
+        }
+        return todas;
+    }
+
+    /**
+     * As solicitações do repositório seguidas das arquivadas que não estão mais nele
+     *
+     * O arquivador grava no arquivo frio antes de remover do repositório, então lendo o
+     * repositório primeiro e o arquivo depois toda solicitação aparece em pelo menos uma das
+     * leituras; as que aparecem nas duas ficam só com a versão do repositório. O arquivo é
+     * lido bloco a bloco, conforme o iterador avança.
+     */
+    private Iterator<SolicitacaoSuporte> comArquivadas(List<SolicitacaoSuporte> doRepositorio) {
+        if (arquivoFrio.quantidade() == 0) {
+            return doRepositorio.iterator();
+        }
+        Set<Long> ids = new HashSet<>();
+        for (SolicitacaoSuporte solicitacao : doRepositorio) {
+            ids.add(solicitacao.getId());
+        }
+        Stream<SolicitacaoSuporte> arquivadas = StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(arquivoFrio.iterador(), Spliterator.ORDERED), false);
+        return Stream.concat(doRepositorio.stream(), arquivadas.filter(s -> !ids.contains(s.getId()))).iterator();
+    }
+
+    private static List<SolicitacaoSuporte> limitar(List<SolicitacaoSuporte> solicitacoes, int limite) {
+        return solicitacoes.size() > limite ? solicitacoes.subList(0, limite) : solicitacoes;
+    }
+
+    /**
+     * Emite o evento JFR da transição (sem gravação ativa, shouldCommit é falso)
+     */
+    private static void registrarEvento(TransicaoStatusEvento evento, String operacao,
+                                        SolicitacaoSuporte solicitacao, StatusSolicitacao statusAnterior) {
+        evento.end();
+        if (evento.shouldCommit()) {
+            evento.operacao = operacao;
+            evento.solicitacaoId = solicitacao.getId();
+            evento.statusAnterior = statusAnterior.name();
+            evento.novoStatus = solicitacao.getStatus().name();
+            evento.prioridade = solicitacao.getPrioridade() == null ? null : solicitacao.getPrioridade().name();
+            evento.commit();
+        }
+    }
+
+    /**
+     * Aplica o novo status e registra o tempo passado no status anterior
+     */
+    private void aplicarStatus(SolicitacaoSuporte solicitacao, StatusSolicitacao novoStatus) {
+        StatusSolicitacao statusAnterior = solicitacao.getStatus();
+        HistoricoStatus historico = solicitacao.getHistorico();
+        long desdeUltimaTransicao = historico.instanteUltimaTransicao();
+        boolean jaResolvida = historico.contem(StatusSolicitacao.RESOLVIDA);
+
+        solicitacao.setStatus(novoStatus);
+
+        if (statusAnterior != novoStatus) {
+            long agora = historico.instanteUltimaTransicao();
+            metricasTempo.registrarTransicao(
+                    solicitacao.getPrioridade(),
+                    statusAnterior,
+                    novoStatus,
+                    agora - desdeUltimaTransicao,
+                    agora - historico.instanteInicial(),
+                    jaResolvida
+            );
+        }
+    }
+
     /**
      * Valida se a transição de status é permitida
      * Regras de negócio:
@@ -173,18 +513,44 @@ public class SolicitacaoSuporteService {
 
     /**
      * Retorna estatísticas das solicitações
+     *
+     * Uma única passada lê o status de cada solicitação uma só vez: cada uma é contada em exatamente
+     * um status. No repositório mvcc, a lista inteira vem de um único instantâneo.
      */
     public EstatisticasSuporte obterEstatisticas() {
         List<SolicitacaoSuporte> todas = repository.findAll();
-        
-        long abertas = todas.stream().filter(s -> s.getStatus() == StatusSolicitacao.ABERTA).count();
-        long emAndamento = todas.stream().filter(s -> s.getStatus() == StatusSolicitacao.EM_ANDAMENTO).count();
-        long resolvidas = todas.stream().filter(s -> s.getStatus() == StatusSolicitacao.RESOLVIDA).count();
-        long fechadas = todas.stream().filter(s -> s.getStatus() == StatusSolicitacao.FECHADA).count();
-        
-        return new EstatisticasSuporte(todas.size(), abertas, emAndamento, resolvidas, fechadas);
+
+        long[] porStatus = new long[StatusSolicitacao.values().length];
+        List<Long> fechadas = new ArrayList<>();
+        for (SolicitacaoSuporte solicitacao : todas) {
+            porStatus[solicitacao.getStatus().ordinal()]++;
+            if (solicitacao.getStatus() == StatusSolicitacao.FECHADA) {
+                fechadas.add(solicitacao.getId());
+            }
+        }
+
+        // Arquivadas são todas FECHADAS: basta o índice do arquivo frio. Como o arquivador grava
+        // antes de retirar do repositório, lido depois dele o arquivo tem todas as que saíram; as
+        // fechadas ainda presentes no repositório não são contadas de novo
+        long arquivadas = arquivoFrio.quantidadeExceto(fechadas);
+
+        return new EstatisticasSuporte(todas.size() + arquivadas,
+                porStatus[StatusSolicitacao.ABERTA.ordinal()],
+                porStatus[StatusSolicitacao.EM_ANDAMENTO.ordinal()],
+                porStatus[StatusSolicitacao.RESOLVIDA.ordinal()],
+                porStatus[StatusSolicitacao.FECHADA.ordinal()] + arquivadas);
     }
 
+    /**
+     * Record com o total de solicitações encontradas e a página retornada
+     */
+    public record ResultadoConsulta(long total, List<SolicitacaoSuporte> solicitacoes) {}
+
+    /**
+     * Record com as solicitações encontradas em uma busca por vários IDs e os IDs ausentes
+     */
+    public record ResultadoLote(List<SolicitacaoSuporte> encontradas, List<Long> naoEncontradas) {}
+
     /**
      * Record para estatísticas
      */
@@ -0,0 +1,43 @@
+package br.com.fiap.byteshoponlineapp.service.evento;
+
+import java.time.LocalDateTime;
+
+import br.com.fiap.byteshoponlineapp.domain.SolicitacaoSuporte;
+import br.com.fiap.byteshoponlineapp.domain.enums.Prioridade;
+import br.com.fiap.byteshoponlineapp.domain.enums.StatusSolicitacao;
+
+/**
+ * Evento publicado pelo serviço após criar uma solicitação, alterar seu status ou escalar sua prioridade
+ *
+ * É um retrato imutável da solicitação no momento da alteração, seguro para ser
+ * entregue por outras threads depois que a requisição terminou.
+ */
+public record EventoSolicitacao(
+        Tipo tipo,
+        Long id,
+        String titulo,
+        StatusSolicitacao status,
+        StatusSolicitacao statusAnterior,
+        Prioridade prioridade,
+        LocalDateTime instante
+) {
+
+    public enum Tipo {
+        CRIADA,
+        STATUS_ALTERADO,
+        ENCERRADA,
+        PRIORIDADE_ESCALADA
+    }
+
+    public static EventoSolicitacao de(Tipo tipo, SolicitacaoSuporte solicitacao, StatusSolicitacao statusAnterior) {
+        return new EventoSolicitacao(
+                tipo,
+                solicitacao.getId(),
+                solicitacao.getTitulo(),
+                solicitacao.getStatus(),
+                statusAnterior,
+                solicitacao.getPrioridade(),
+                solicitacao.getDataAtualizacao()
+        );
+    }
+}
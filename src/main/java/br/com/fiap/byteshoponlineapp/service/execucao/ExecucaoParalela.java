@@ -0,0 +1,102 @@
+package br.com.fiap.byteshoponlineapp.service.execucao;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executa um grupo de tarefas em paralelo com escopo estruturado
+ *
+ * executarTodas só retorna quando todas as tarefas terminaram: na primeira falha as demais
+ * são canceladas e a exceção é repassada a quem chamou. Um semáforo limita quantas tarefas
+ * acessam o repositório ao mesmo tempo, mesmo quando o executor cria uma thread virtual por tarefa.
+ *
+ * Não deve ser chamada de dentro de uma tarefa do próprio grupo (com o pool de plataforma
+ * as tarefas internas poderiam esperar por threads que nunca seriam liberadas).
+ */
+public class ExecucaoParalela implements AutoCloseable {
+
+    private final ExecutorService executor;
+    private final Semaphore permissoes;
+
+    public ExecucaoParalela(ExecutorService executor, int paralelismoMaximo) {
+        if (paralelismoMaximo < 1) {
+            throw new IllegalArgumentException("O paralelismo máximo deve ser maior que zero");
+        }
+        this.executor = executor;
+        this.permissoes = new Semaphore(paralelismoMaximo);
+    }
+
+    /**
+     * Executa as tarefas e retorna os resultados na mesma ordem
+     */
+    public <T> List<T> executarTodas(List<? extends Callable<T>> tarefas) {
+        if (tarefas.size() == 1) {
+            return List.of(executarDiretamente(tarefas.get(0)));
+        }
+        CompletionService<T> conclusoes = new ExecutorCompletionService<>(executor);
+        List<Future<T>> futuros = new ArrayList<>(tarefas.size());
+        try {
+            for (Callable<T> tarefa : tarefas) {
+                futuros.add(conclusoes.submit(() -> executarLimitada(tarefa)));
+            }
+            for (int i = 0; i < futuros.size(); i++) {
+                conclusoes.take().get();
+            }
+            List<T> resultados = new ArrayList<>(futuros.size());
+            for (Future<T> futuro : futuros) {
+                resultados.add(futuro.get());
+            }
+            return resultados;
+        } catch (ExecutionException e) {
+            throw repassar(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Execução paralela interrompida", e);
+        } finally {
+            for (Future<T> futuro : futuros) {
+                futuro.cancel(true);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    private <T> T executarLimitada(Callable<T> tarefa) throws Exception {
+        permissoes.acquire();
+        try {
+            return tarefa.call();
+        } finally {
+            permissoes.release();
+        }
+    }
+
+    private static <T> T executarDiretamente(Callable<T> tarefa) {
+        try {
+            return tarefa.call();
+        } catch (Exception e) {
+            throw repassar(e);
+        }
+    }
+
+    private static RuntimeException repassar(Throwable causa) {
+        if (causa instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        if (causa instanceof Error erro) {
+            throw erro;
+        }
+        return new IllegalStateException("Falha em tarefa paralela", causa);
+    }
+}
@@ -0,0 +1,19 @@
+package br.com.fiap.byteshoponlineapp.service.execucao;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Cria o executor usado pela ExecucaoParalela
+ *
+ * A implementação padrão usa um pool fixo de threads de plataforma; o build Java 21
+ * (perfil java21) registra uma que cria uma thread virtual por tarefa.
+ */
+@FunctionalInterface
+public interface FabricaExecutor {
+
+    /**
+     * @param nome prefixo do nome das threads
+     * @param paralelismo número máximo de tarefas executando ao mesmo tempo
+     */
+    ExecutorService criar(String nome, int paralelismo);
+}
@@ -0,0 +1,55 @@
+package br.com.fiap.byteshoponlineapp.service.execucao;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Travas por ID em faixas (lock striping)
+ *
+ * Um número fixo de travas é compartilhado por todos os IDs: operações sobre o mesmo ID são
+ * serializadas, e operações sobre IDs diferentes só disputam quando caem na mesma faixa.
+ * A memória não cresce com a quantidade de IDs.
+ */
+public class TravasPorId {
+
+    private final ReentrantLock[] travas;
+    private final int mascara;
+
+    /**
+     * @param faixas quantidade de travas (arredondada para a próxima potência de 2)
+     */
+    public TravasPorId(int faixas) {
+        int tamanho = Integer.highestOneBit(Math.max(1, faixas - 1)) << 1;
+        this.travas = new ReentrantLock[tamanho];
+        this.mascara = tamanho - 1;
+        for (int i = 0; i < tamanho; i++) {
+            travas[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Executa a operação com a trava do ID adquirida
+     */
+    public <T> T executar(long id, Supplier<T> operacao) {
+        ReentrantLock trava = travaDe(id);
+        trava.lock();
+        try {
+            return operacao.get();
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    public void executar(long id, Runnable operacao) {
+        executar(id, () -> {
+            operacao.run();
+            return null;
+        });
+    }
+
+    ReentrantLock travaDe(long id) {
+        // Espalha IDs sequenciais (e múltiplos das partições) pelas faixas
+        long misturado = id * 0x9E3779B97F4A7C15L;
+        return travas[(int) (misturado >>> 32) & mascara];
+    }
+}
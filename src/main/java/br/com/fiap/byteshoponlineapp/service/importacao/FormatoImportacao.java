@@ -0,0 +1,46 @@
+package br.com.fiap.byteshoponlineapp.service.importacao;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+/**
+ * Formatos aceitos pela importação em massa, escolhidos pelo Content-Type do corpo
+ */
+public enum FormatoImportacao {
+
+    /** CSV (RFC 4180) com linha de cabeçalho */
+    CSV("text/csv"),
+    /** Um objeto JSON por linha */
+    NDJSON("application/x-ndjson");
+
+    private final String tipoMidia;
+
+    FormatoImportacao(String tipoMidia) {
+        this.tipoMidia = tipoMidia;
+    }
+
+    public String getTipoMidia() {
+        return tipoMidia;
+    }
+
+    /**
+     * Formato do Content-Type informado, ou null se não for suportado
+     */
+    public static FormatoImportacao doContentType(String contentType) {
+        if (contentType == null) {
+            return null;
+        }
+        MediaType tipo;
+        try {
+            tipo = MediaType.parseMediaType(contentType);
+        } catch (InvalidMediaTypeException e) {
+            return null;
+        }
+        for (FormatoImportacao formato : values()) {
+            if (tipo.isCompatibleWith(MediaType.parseMediaType(formato.tipoMidia))) {
+                return formato;
+            }
+        }
+        return null;
+    }
+}
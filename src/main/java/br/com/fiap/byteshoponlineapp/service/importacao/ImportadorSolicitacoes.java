@@ -0,0 +1,455 @@
+package br.com.fiap.byteshoponlineapp.service.importacao;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import br.com.fiap.byteshoponlineapp.api.dto.SolicitacaoSuporteRequest;
+import br.com.fiap.byteshoponlineapp.domain.HistoricoStatus;
+import br.com.fiap.byteshoponlineapp.domain.SolicitacaoSuporte;
+import br.com.fiap.byteshoponlineapp.domain.enums.Prioridade;
+import br.com.fiap.byteshoponlineapp.domain.enums.StatusSolicitacao;
+import br.com.fiap.byteshoponlineapp.domain.repository.GravacaoParcialException;
+import br.com.fiap.byteshoponlineapp.domain.repository.SolicitacaoSuporteRepository;
+import br.com.fiap.byteshoponlineapp.service.exception.RegraDeNegocioException;
+import br.com.fiap.byteshoponlineapp.service.execucao.ExecucaoParalela;
+
+/**
+ * Importação em massa de solicitações a partir de um corpo CSV ou NDJSON em streaming
+ *
+ * A thread da requisição só lê o corpo e separa os registros, em rodadas de até
+ * `paralelismo` lotes de `tamanhoLote` registros. Cada lote é convertido, validado (com as
+ * mesmas regras do DTO de criação) e gravado com saveAll em paralelo pela ExecucaoParalela.
+ * A memória usada não depende do tamanho do corpo: no máximo uma rodada de registros e os
+ * primeiros `maximoErros` erros ficam em memória.
+ *
+ * Status e datas originais são preservados: o histórico registra a criação em dataCriacao e,
+ * para status diferentes de ABERTA, a transição em dataAtualizacao. A importação não publica
+ * EventoSolicitacao (webhooks); os ouvintes do repositório (índices, replicação, SLA) veem tudo.
+ */
+@Service
+public class ImportadorSolicitacoes {
+
+    private static final Logger log = LoggerFactory.getLogger(ImportadorSolicitacoes.class);
+    private static final int HISTORICO_IMPORTACOES = 10;
+
+    private final SolicitacaoSuporteRepository repository;
+    private final ExecucaoParalela execucao;
+    private final Validator validator;
+    private final ObjectReader leitorJson;
+    private final int tamanhoLote;
+    private final int paralelismo;
+    private final int maximoErros;
+
+    private final AtomicLong sequencia = new AtomicLong();
+    private final Deque<Progresso> importacoes = new ConcurrentLinkedDeque<>();
+
+    public ImportadorSolicitacoes(SolicitacaoSuporteRepository repository, ExecucaoParalela execucao,
+                                  @Qualifier("mvcValidator") Validator validator, ObjectMapper mapper,
+                                  @Value("${suporte.importacao.tamanho-lote:1000}") int tamanhoLote,
+                                  @Value("${suporte.importacao.paralelismo:0}") int paralelismo,
+                                  @Value("${suporte.importacao.maximo-erros:100}") int maximoErros) {
+        this.repository = repository;
+        this.execucao = execucao;
+        this.validator = validator;
+        this.leitorJson = mapper.readerFor(RegistroImportacao.class);
+        this.tamanhoLote = tamanhoLote;
+        this.paralelismo = paralelismo > 0 ? paralelismo : Runtime.getRuntime().availableProcessors();
+        this.maximoErros = maximoErros;
+    }
+
+    /**
+     * Importa todos os registros do corpo e retorna o resumo com os erros por linha
+     *
+     * Registros inválidos são pulados (e contados); os válidos são gravados. Um registro válido
+     * que o repositório não consegue gravar também vira erro da sua linha, sem interromper o resto.
+     */
+    public ResumoImportacao importar(InputStream corpo, FormatoImportacao formato) {
+        Progresso progresso = new Progresso(sequencia.incrementAndGet(), formato);
+        importacoes.addFirst(progresso);
+        while (importacoes.size() > HISTORICO_IMPORTACOES) {
+            Progresso antiga = importacoes.peekLast();
+            if (antiga == null || !antiga.concluida()) {
+                break;
+            }
+            importacoes.remove(antiga);
+        }
+
+        BufferedReader leitor = new BufferedReader(new InputStreamReader(corpo, StandardCharsets.UTF_8), 64 * 1024);
+        try {
+            FonteRegistros fonte = formato == FormatoImportacao.CSV ? new FonteCsv(leitor) : new FonteNdjson(leitor);
+            List<Callable<LoteConvertido>> rodada = new ArrayList<>(paralelismo);
+            while (true) {
+                rodada.clear();
+                while (rodada.size() < paralelismo) {
+                    List<LinhaBruta> lote = fonte.proximoLote(tamanhoLote);
+                    if (lote.isEmpty()) {
+                        break;
+                    }
+                    progresso.lidas.add(lote.size());
+                    rodada.add(() -> converterEGravar(lote));
+                }
+                if (rodada.isEmpty()) {
+                    break;
+                }
+                for (LoteConvertido convertido : execucao.executarTodas(rodada)) {
+                    progresso.registrar(convertido, maximoErros);
+                }
+            }
+            progresso.concluir(null);
+        } catch (IOException e) {
+            progresso.concluir("Falha ao ler o corpo: " + e.getMessage());
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            progresso.concluir(e.getMessage());
+            throw e;
+        }
+
+        ResumoImportacao resumo = progresso.resumo();
+        log.info("Importação {} ({}) concluída: {} lidas, {} importadas, {} rejeitadas em {} ms",
+                resumo.id(), formato, resumo.lidas(), resumo.importadas(), resumo.rejeitadas(), resumo.duracaoMs());
+        return resumo;
+    }
+
+    /**
+     * Importações em andamento e as últimas concluídas, da mais recente para a mais antiga
+     */
+    public List<ResumoImportacao> listar() {
+        return importacoes.stream().map(Progresso::resumo).toList();
+    }
+
+    private LoteConvertido converterEGravar(List<LinhaBruta> lote) {
+        List<SolicitacaoSuporte> validas = new ArrayList<>(lote.size());
+        List<Long> numeros = new ArrayList<>(lote.size());
+        List<ErroLinha> erros = new ArrayList<>();
+        for (LinhaBruta linha : lote) {
+            try {
+                validas.add(converter(linha));
+                numeros.add(linha.numero());
+            } catch (IllegalArgumentException e) {
+                erros.add(new ErroLinha(linha.numero(), e.getMessage()));
+            }
+        }
+        if (validas.isEmpty()) {
+            return new LoteConvertido(0, erros);
+        }
+        try {
+            repository.saveAll(validas);
+        } catch (GravacaoParcialException e) {
+            // As demais linhas do lote foram gravadas; as que falharam contam como rejeitadas
+            for (int i = 0; i < validas.size(); i++) {
+                String motivo = e.getFalhas().get(validas.get(i).getId());
+                if (motivo != null) {
+                    erros.add(new ErroLinha(numeros.get(i), "Falha ao gravar: " + motivo));
+                }
+            }
+            erros.sort(Comparator.comparingLong(ErroLinha::linha));
+            return new LoteConvertido(validas.size() - e.getFalhas().size(), erros);
+        }
+        return new LoteConvertido(validas.size(), erros);
+    }
+
+    private SolicitacaoSuporte converter(LinhaBruta linha) {
+        if (linha.erro() != null) {
+            throw new IllegalArgumentException(linha.erro());
+        }
+        RegistroImportacao registro = linha.registro();
+        if (registro == null) {
+            try {
+                registro = leitorJson.readValue(linha.json());
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("JSON inválido: " + e.getOriginalMessage());
+            }
+        }
+
+        SolicitacaoSuporteRequest dados = new SolicitacaoSuporteRequest(
+                registro.titulo(), registro.descricao(), enumDe(Prioridade.class, "prioridade", registro.prioridade()));
+        Errors erros = new BeanPropertyBindingResult(dados, "registro");
+        validator.validate(dados, erros);
+        if (erros.hasErrors()) {
+            throw new IllegalArgumentException(erros.getFieldErrors().stream()
+                    .map(erro -> erro.getField() + ": " + erro.getDefaultMessage())
+                    .collect(Collectors.joining("; ")));
+        }
+
+        StatusSolicitacao status = registro.status() == null || registro.status().isBlank()
+                ? StatusSolicitacao.ABERTA
+                : enumDe(StatusSolicitacao.class, "status", registro.status());
+        LocalDateTime agora = LocalDateTime.now();
+        LocalDateTime dataCriacao = dataHoraDe("dataCriacao", registro.dataCriacao(), agora);
+        LocalDateTime dataAtualizacao = dataHoraDe("dataAtualizacao", registro.dataAtualizacao(), dataCriacao);
+        if (dataCriacao.isAfter(agora)) {
+            throw new IllegalArgumentException("dataCriacao: não pode estar no futuro");
+        }
+        if (dataAtualizacao.isBefore(dataCriacao)) {
+            throw new IllegalArgumentException("dataAtualizacao: não pode ser anterior a dataCriacao");
+        }
+
+        SolicitacaoSuporte solicitacao = new SolicitacaoSuporte(null, dados.getTitulo(), dados.getDescricao(),
+                dados.getPrioridade());
+        ZoneId zona = ZoneId.systemDefault();
+        HistoricoStatus historico = new HistoricoStatus(StatusSolicitacao.ABERTA,
+                dataCriacao.atZone(zona).toInstant().toEpochMilli());
+        if (status != StatusSolicitacao.ABERTA) {
+            historico.registrar(status, dataAtualizacao.atZone(zona).toInstant().toEpochMilli());
+        }
+        solicitacao.setStatus(status);
+        solicitacao.getHistorico().restaurar(historico.copiarEntradas());
+        solicitacao.setDataCriacao(dataCriacao);
+        solicitacao.setDataAtualizacao(dataAtualizacao);
+        return solicitacao;
+    }
+
+    private static <E extends Enum<E>> E enumDe(Class<E> tipo, String campo, String valor) {
+        if (valor == null || valor.isBlank()) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(tipo, valor.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(campo + ": valor inválido '" + valor + "'");
+        }
+    }
+
+    /**
+     * Aceita data e hora local (2024-03-01T10:15:30), com fuso (2024-03-01T10:15:30Z) ou só a data
+     */
+    private static LocalDateTime dataHoraDe(String campo, String valor, LocalDateTime padrao) {
+        if (valor == null || valor.isBlank()) {
+            return padrao;
+        }
+        String texto = valor.trim();
+        try {
+            if (texto.indexOf('T') < 0) {
+                return LocalDate.parse(texto).atStartOfDay();
+            }
+            char ultimo = texto.charAt(texto.length() - 1);
+            if (ultimo == 'Z' || texto.lastIndexOf('+') > 0 || texto.lastIndexOf('-') > texto.indexOf('T')) {
+                return OffsetDateTime.parse(texto).atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+            }
+            return LocalDateTime.parse(texto);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(campo + ": data inválida '" + valor + "'");
+        }
+    }
+
+    /**
+     * Registro ainda não convertido: já separado (CSV), texto JSON (NDJSON) ou erro de leitura
+     */
+    private record LinhaBruta(long numero, RegistroImportacao registro, String json, String erro) {}
+
+    private record LoteConvertido(int importadas, List<ErroLinha> erros) {}
+
+    /**
+     * Erro de um registro, com a linha (a partir de 1) em que ele começa no corpo
+     */
+    public record ErroLinha(long linha, String mensagem) {}
+
+    /**
+     * Resumo de uma importação (parcial enquanto estiver em andamento)
+     */
+    public record ResumoImportacao(
+            long id,
+            FormatoImportacao formato,
+            String estado,
+            long lidas,
+            long importadas,
+            long rejeitadas,
+            long duracaoMs,
+            long registrosPorSegundo,
+            String falha,
+            List<ErroLinha> erros,
+            boolean errosTruncados
+    ) {}
+
+    private interface FonteRegistros {
+
+        /**
+         * Até `quantidade` registros seguintes; lista vazia no fim do corpo
+         */
+        List<LinhaBruta> proximoLote(int quantidade) throws IOException;
+    }
+
+    /**
+     * Registros CSV: a primeira linha é o cabeçalho com os nomes dos campos de RegistroImportacao
+     */
+    private static final class FonteCsv implements FonteRegistros {
+
+        private static final List<String> OBRIGATORIOS = List.of("titulo", "descricao", "prioridade");
+        private static final List<String> CAMPOS =
+                List.of("titulo", "descricao", "prioridade", "status", "datacriacao", "dataatualizacao");
+
+        private final LeitorCsv leitor;
+        private final int[] colunas = new int[CAMPOS.size()];
+        private final int quantidadeColunas;
+        private boolean terminado;
+
+        FonteCsv(BufferedReader origem) throws IOException {
+            this.leitor = new LeitorCsv(origem);
+            String[] cabecalho = leitor.proximo();
+            if (cabecalho == null) {
+                throw new RegraDeNegocioException("O CSV está vazio: a primeira linha deve ser o cabeçalho");
+            }
+            Map<String, Integer> posicoes = new HashMap<>();
+            for (int i = 0; i < cabecalho.length; i++) {
+                String nome = cabecalho[i].trim().toLowerCase(Locale.ROOT);
+                if (i == 0 && nome.startsWith("﻿")) {
+                    nome = nome.substring(1);
+                }
+                posicoes.put(nome, i);
+            }
+            for (String obrigatorio : OBRIGATORIOS) {
+                if (!posicoes.containsKey(obrigatorio)) {
+                    throw new RegraDeNegocioException("O cabeçalho do CSV não tem a coluna obrigatória " + obrigatorio);
+                }
+            }
+            for (int i = 0; i < colunas.length; i++) {
+                colunas[i] = posicoes.getOrDefault(CAMPOS.get(i), -1);
+            }
+            this.quantidadeColunas = cabecalho.length;
+        }
+
+        @Override
+        public List<LinhaBruta> proximoLote(int quantidade) throws IOException {
+            List<LinhaBruta> lote = new ArrayList<>(Math.min(quantidade, 1024));
+            while (!terminado && lote.size() < quantidade) {
+                String[] campos;
+                try {
+                    campos = leitor.proximo();
+                } catch (IllegalArgumentException e) {
+                    terminado = true;
+                    lote.add(new LinhaBruta(leitor.linhaDoRegistro(), null, null, e.getMessage()));
+                    break;
+                }
+                if (campos == null) {
+                    terminado = true;
+                } else if (campos.length != quantidadeColunas) {
+                    lote.add(new LinhaBruta(leitor.linhaDoRegistro(), null, null,
+                            "Esperadas " + quantidadeColunas + " colunas, encontradas " + campos.length));
+                } else {
+                    lote.add(new LinhaBruta(leitor.linhaDoRegistro(), new RegistroImportacao(
+                            campo(campos, 0), campo(campos, 1), campo(campos, 2),
+                            campo(campos, 3), campo(campos, 4), campo(campos, 5)), null, null));
+                }
+            }
+            return lote;
+        }
+
+        private String campo(String[] campos, int indice) {
+            int coluna = colunas[indice];
+            return coluna < 0 ? null : campos[coluna];
+        }
+    }
+
+    /**
+     * Registros NDJSON: a leitura só separa as linhas; o JSON é interpretado em paralelo
+     */
+    private static final class FonteNdjson implements FonteRegistros {
+
+        private final BufferedReader leitor;
+        private long linha;
+
+        FonteNdjson(BufferedReader leitor) {
+            this.leitor = leitor;
+        }
+
+        @Override
+        public List<LinhaBruta> proximoLote(int quantidade) throws IOException {
+            List<LinhaBruta> lote = new ArrayList<>(Math.min(quantidade, 1024));
+            String texto;
+            while (lote.size() < quantidade && (texto = leitor.readLine()) != null) {
+                linha++;
+                if (!texto.isBlank()) {
+                    lote.add(new LinhaBruta(linha, null, texto, null));
+                }
+            }
+            return lote;
+        }
+    }
+
+    /**
+     * Contadores de uma importação, lidos por GET /api/importacao enquanto ela roda
+     */
+    private static final class Progresso {
+
+        private final long id;
+        private final FormatoImportacao formato;
+        private final long inicio = System.nanoTime();
+        private final LongAdder lidas = new LongAdder();
+        private final LongAdder importadas = new LongAdder();
+        private final LongAdder rejeitadas = new LongAdder();
+        private final List<ErroLinha> erros = new ArrayList<>();
+        private volatile boolean errosTruncados;
+        private volatile long fim;
+        private volatile String falha;
+
+        Progresso(long id, FormatoImportacao formato) {
+            this.id = id;
+            this.formato = formato;
+        }
+
+        synchronized void registrar(LoteConvertido lote, int maximoErros) {
+            importadas.add(lote.importadas());
+            rejeitadas.add(lote.erros().size());
+            for (ErroLinha erro : lote.erros()) {
+                if (erros.size() < maximoErros) {
+                    erros.add(erro);
+                } else {
+                    errosTruncados = true;
+                    break;
+                }
+            }
+        }
+
+        void concluir(String motivoFalha) {
+            falha = motivoFalha;
+            fim = System.nanoTime();
+        }
+
+        boolean concluida() {
+            return fim != 0;
+        }
+
+        synchronized ResumoImportacao resumo() {
+            long termino = fim != 0 ? fim : System.nanoTime();
+            long duracaoMs = Math.max(0, (termino - inicio) / 1_000_000);
+            long total = lidas.sum();
+            String estado = fim == 0 ? "EM_ANDAMENTO" : falha == null ? "CONCLUIDA" : "FALHOU";
+            return new ResumoImportacao(id, formato, estado, total, importadas.sum(), rejeitadas.sum(), duracaoMs,
+                    duracaoMs == 0 ? total : total * 1000 / duracaoMs, falha, List.copyOf(erros), errosTruncados);
+        }
+    }
+}
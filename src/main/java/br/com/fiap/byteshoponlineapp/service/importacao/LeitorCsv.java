@@ -0,0 +1,119 @@
+package br.com.fiap.byteshoponlineapp.service.importacao;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Leitor incremental de CSV (RFC 4180): um registro por chamada, sem carregar o corpo inteiro
+ *
+ * Aceita campos entre aspas com vírgulas, quebras de linha e aspas duplicadas (""), e
+ * finais de linha \n ou \r\n. Linhas em branco são ignoradas.
+ */
+final class LeitorCsv {
+
+    private static final int TAMANHO_BUFFER = 64 * 1024;
+
+    private final Reader origem;
+    private final char[] buffer = new char[TAMANHO_BUFFER];
+    private final StringBuilder campo = new StringBuilder();
+    private int posicao;
+    private int limite;
+    private long linhaAtual = 1;
+    private long linhaDoRegistro;
+
+    LeitorCsv(Reader origem) {
+        this.origem = origem;
+    }
+
+    /**
+     * Próximo registro, ou null no fim do corpo
+     *
+     * @throws IllegalArgumentException se o corpo terminar dentro de um campo entre aspas
+     */
+    String[] proximo() throws IOException {
+        int c;
+        do {
+            c = ler();
+            if (c == '\n') {
+                linhaAtual++;
+            }
+        } while (c == '\n' || c == '\r');
+        if (c < 0) {
+            return null;
+        }
+
+        linhaDoRegistro = linhaAtual;
+        List<String> campos = new ArrayList<>();
+        campo.setLength(0);
+        boolean entreAspas = false;
+        while (true) {
+            if (entreAspas) {
+                if (c < 0) {
+                    throw new IllegalArgumentException("Campo entre aspas não terminado");
+                }
+                if (c == '"') {
+                    int seguinte = ler();
+                    if (seguinte == '"') {
+                        campo.append('"');
+                    } else {
+                        entreAspas = false;
+                        c = seguinte;
+                        continue;
+                    }
+                } else {
+                    if (c == '\n') {
+                        linhaAtual++;
+                    }
+                    campo.append((char) c);
+                }
+            } else if (c == '"' && campo.length() == 0) {
+                entreAspas = true;
+            } else if (c == ',') {
+                campos.add(campo.toString());
+                campo.setLength(0);
+            } else if (c == '\n' || c == '\r' || c < 0) {
+                if (c == '\r') {
+                    int seguinte = ler();
+                    if (seguinte != '\n') {
+                        devolver();
+                    }
+                }
+                if (c >= 0) {
+                    linhaAtual++;
+                }
+                campos.add(campo.toString());
+                return campos.toArray(new String[0]);
+            } else {
+                campo.append((char) c);
+            }
+            c = ler();
+        }
+    }
+
+    /**
+     * Linha (a partir de 1) em que começa o último registro lido
+     */
+    long linhaDoRegistro() {
+        return linhaDoRegistro;
+    }
+
+    private int ler() throws IOException {
+        if (posicao == limite) {
+            limite = origem.read(buffer, 0, buffer.length);
+            posicao = 0;
+            if (limite <= 0) {
+                limite = 0;
+                return -1;
+            }
+        }
+        return buffer[posicao++];
+    }
+
+    private void devolver() {
+        if (posicao > 0) {
+            posicao--;
+        }
+    }
+}
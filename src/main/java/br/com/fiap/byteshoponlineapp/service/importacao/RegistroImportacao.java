@@ -0,0 +1,16 @@
+package br.com.fiap.byteshoponlineapp.service.importacao;
+
+/**
+ * Registro lido da importação, ainda sem validação (todos os campos como texto)
+ *
+ * Os nomes são os mesmos do JSON da API e das colunas do cabeçalho CSV. status (padrão ABERTA),
+ * dataCriacao (padrão agora) e dataAtualizacao (padrão dataCriacao) são opcionais.
+ */
+public record RegistroImportacao(
+        String titulo,
+        String descricao,
+        String prioridade,
+        String status,
+        String dataCriacao,
+        String dataAtualizacao
+) {}
@@ -0,0 +1,76 @@
+package br.com.fiap.byteshoponlineapp.service.metricas;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sketch de quantis em streaming com erro relativo limitado
+ *
+ * Os valores (em milissegundos) são agrupados em buckets logarítmicos de razão GAMMA,
+ * o que garante erro relativo de ~1% em qualquer quantil. A memória é fixa
+ * (NUM_BUCKETS contadores) e independe do número de amostras registradas.
+ */
+public class SketchQuantis {
+
+    private static final double GAMMA = 1.02;
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+
+    // Cobre valores até 2^40 ms (~34 anos)
+    private static final int NUM_BUCKETS = (int) Math.ceil(40 * Math.log(2) / LOG_GAMMA) + 1;
+
+    private final AtomicLongArray contagens = new AtomicLongArray(NUM_BUCKETS);
+    private final LongAdder amostras = new LongAdder();
+    private final LongAccumulator maximo = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Registra uma amostra (valores negativos são tratados como zero)
+     */
+    public void registrar(long valorMs) {
+        long valor = Math.max(0, valorMs);
+        contagens.incrementAndGet(indice(valor));
+        amostras.increment();
+        maximo.accumulate(valor);
+    }
+
+    /**
+     * Estima o quantil q (0..1) das amostras registradas
+     */
+    public long quantil(double q) {
+        long total = amostras.sum();
+        if (total == 0) {
+            return 0;
+        }
+        long posicao = Math.max(1, (long) Math.ceil(q * total));
+        long acumulado = 0;
+        for (int i = 0; i < NUM_BUCKETS; i++) {
+            acumulado += contagens.get(i);
+            if (acumulado >= posicao) {
+                return Math.min(valorRepresentativo(i), maximo.get());
+            }
+        }
+        return maximo.get();
+    }
+
+    public long amostras() {
+        return amostras.sum();
+    }
+
+    public long maximo() {
+        return maximo.get();
+    }
+
+    private static int indice(long valor) {
+        if (valor <= 1) {
+            return 0;
+        }
+        return Math.min(NUM_BUCKETS - 1, (int) Math.ceil(Math.log(valor) / LOG_GAMMA));
+    }
+
+    private static long valorRepresentativo(int indice) {
+        if (indice == 0) {
+            return 1;
+        }
+        return Math.round(2 * Math.pow(GAMMA, indice) / (GAMMA + 1));
+    }
+}
@@ -0,0 +1,175 @@
+package br.com.fiap.byteshoponlineapp.service.sla;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import br.com.fiap.byteshoponlineapp.domain.SolicitacaoSuporte;
+import br.com.fiap.byteshoponlineapp.domain.enums.Prioridade;
+import br.com.fiap.byteshoponlineapp.domain.enums.StatusSolicitacao;
+import br.com.fiap.byteshoponlineapp.domain.repository.OuvinteRepositorio;
+import br.com.fiap.byteshoponlineapp.domain.repository.SolicitacaoSuporteRepository;
+import br.com.fiap.byteshoponlineapp.service.SolicitacaoSuporteService;
+
+/**
+ * Escala a prioridade de solicitações ABERTAS que passaram da idade máxima da prioridade atual
+ *
+ * Em vez de varrer o repositório periodicamente, mantém um prazo por solicitação em uma
+ * RodaTemporizacao, atualizado como ouvinte do repositório: criar, mudar a prioridade, sair de
+ * ABERTA, remover ou arquivar reagenda ou cancela o prazo em O(1). Ao vencer, a escalada passa
+ * por SolicitacaoSuporteService.escalarPrioridade, que revalida o estado com a trava do ID.
+ */
+public class EscalonadorSla implements OuvinteRepositorio {
+
+    private static final Logger log = LoggerFactory.getLogger(EscalonadorSla.class);
+    private static final Prioridade[] PRIORIDADES = Prioridade.values();
+
+    private final SolicitacaoSuporteRepository repository;
+    private final SolicitacaoSuporteService service;
+    private final LongSupplier relogio;
+    private final long[] idadeMaximaMs = new long[PRIORIDADES.length];
+    private final RodaTemporizacao roda;
+    private final Map<Long, RodaTemporizacao.Temporizador> prazos = new ConcurrentHashMap<>();
+    private final LongAdder escaladas = new LongAdder();
+
+    private volatile Thread trabalhador;
+    private volatile boolean ativo;
+
+    public EscalonadorSla(SlaProperties properties, SolicitacaoSuporteRepository repository,
+                          SolicitacaoSuporteService service, LongSupplier relogio) {
+        this.repository = repository;
+        this.service = service;
+        this.relogio = relogio;
+        for (Prioridade prioridade : PRIORIDADES) {
+            Duration idade = properties.getIdadeMaxima().get(prioridade);
+            idadeMaximaMs[prioridade.ordinal()] = prioridade == Prioridade.CRITICA || idade == null ? -1 : idade.toMillis();
+        }
+        this.roda = new RodaTemporizacao(properties.getTick().toMillis(), properties.getTamanhoRoda(),
+                relogio.getAsLong(), this::expirou);
+    }
+
+    /**
+     * Registra o ouvinte e agenda os prazos das solicitações já existentes
+     */
+    @PostConstruct
+    public void iniciar() {
+        repository.adicionarOuvinte(this);
+        for (SolicitacaoSuporte solicitacao : repository.findByStatus(StatusSolicitacao.ABERTA)) {
+            aoSalvar(solicitacao);
+        }
+        ativo = true;
+        trabalhador = new Thread(this::executar, "sla-escalonador");
+        trabalhador.setDaemon(true);
+        trabalhador.start();
+        log.info("Escalada por SLA ativa com {} prazos pendentes", roda.pendentes());
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        ativo = false;
+        Thread thread = trabalhador;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    @Override
+    public void aoSalvar(SolicitacaoSuporte solicitacao) {
+        long prazo = prazoDe(solicitacao);
+        int prioridade = prazo < 0 ? -1 : solicitacao.getPrioridade().ordinal();
+        prazos.compute(solicitacao.getId(), (id, atual) -> {
+            if (atual != null) {
+                if (atual.pendente() && atual.getPrazoMs() == prazo && atual.getDado() == prioridade) {
+                    return atual;
+                }
+                atual.cancelar();
+            }
+            return prazo < 0 ? null : roda.agendar(prazo, id, prioridade);
+        });
+    }
+
+    @Override
+    public void aoRemover(Long id) {
+        cancelar(id);
+    }
+
+    @Override
+    public void aoArquivar(Long id) {
+        cancelar(id);
+    }
+
+    @Override
+    public void aoLimpar() {
+        prazos.values().removeIf(temporizador -> {
+            temporizador.cancelar();
+            return true;
+        });
+    }
+
+    /**
+     * Processa os ticks vencidos até agoraMs (chamado pela thread do escalonador ou por testes)
+     */
+    public int avancar(long agoraMs) {
+        return roda.avancar(agoraMs);
+    }
+
+    public long pendentes() {
+        return roda.pendentes();
+    }
+
+    public long escaladas() {
+        return escaladas.sum();
+    }
+
+    private void executar() {
+        while (ativo) {
+            try {
+                long espera = roda.proximoTick() - relogio.getAsLong();
+                if (espera > 0) {
+                    Thread.sleep(espera);
+                }
+                roda.avancar(relogio.getAsLong());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Falha ao processar prazos de SLA", e);
+            }
+        }
+    }
+
+    private void expirou(long id, int prioridade) {
+        try {
+            if (service.escalarPrioridade(id, PRIORIDADES[prioridade])) {
+                escaladas.increment();
+            }
+        } catch (RuntimeException e) {
+            log.warn("Falha ao escalar a prioridade da solicitação {}", id, e);
+        }
+        // Sem escalada (estado mudou nesse meio tempo), o prazo vencido fica sem substituto
+        prazos.computeIfPresent(id, (chave, temporizador) -> temporizador.pendente() ? temporizador : null);
+    }
+
+    private void cancelar(Long id) {
+        RodaTemporizacao.Temporizador temporizador = prazos.remove(id);
+        if (temporizador != null) {
+            temporizador.cancelar();
+        }
+    }
+
+    private long prazoDe(SolicitacaoSuporte solicitacao) {
+        if (solicitacao.getStatus() != StatusSolicitacao.ABERTA || solicitacao.getPrioridade() == null) {
+            return -1;
+        }
+        long idade = idadeMaximaMs[solicitacao.getPrioridade().ordinal()];
+        return idade < 0 ? -1 : solicitacao.getHistorico().instanteInicial() + idade;
+    }
+}
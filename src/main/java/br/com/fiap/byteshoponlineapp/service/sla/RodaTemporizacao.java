@@ -0,0 +1,249 @@
+package br.com.fiap.byteshoponlineapp.service.sla;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Roda de temporização com hash (hashed timing wheel) para milhões de prazos pendentes
+ *
+ * O tempo é dividido em ticks de tickMs; cada prazo cai na posição (tick do prazo % tamanho) e
+ * guarda quantas voltas completas ainda faltam. Agendar e cancelar são O(1) e podem ser feitos
+ * de qualquer thread: só enfileiram o temporizador ou marcam o cancelamento. Uma única thread
+ * chama avancar(), que liga e desliga os temporizadores das posições e dispara os vencidos, com
+ * custo proporcional aos temporizadores da posição do tick, e não ao total pendente.
+ *
+ * Cada temporizador carrega só uma chave (long) e um dado (int), entregues ao ouvinte de
+ * expiração, para que milhões de prazos não precisem de uma tarefa alocada por prazo.
+ * Um prazo dispara no primeiro tick depois dele (atraso de até tickMs).
+ */
+public class RodaTemporizacao {
+
+    /**
+     * Recebe os prazos vencidos, na thread que chama avancar()
+     */
+    @FunctionalInterface
+    public interface OuvinteExpiracao {
+        void expirou(long chave, int dado);
+    }
+
+    private static final int PENDENTE = 0;
+    private static final int CANCELADO = 1;
+    private static final int EXPIRADO = 2;
+
+    private final long tickMs;
+    private final long inicioMs;
+    private final int mascara;
+    private final Posicao[] posicoes;
+    private final OuvinteExpiracao ouvinte;
+
+    private final Queue<Temporizador> novos = new ConcurrentLinkedQueue<>();
+    private final Queue<Temporizador> cancelados = new ConcurrentLinkedQueue<>();
+    private final LongAdder pendentes = new LongAdder();
+
+    // Só alterado pela thread que chama avancar()
+    private long tick;
+
+    /**
+     * @param tamanho quantidade de posições (arredondada para a próxima potência de 2)
+     * @param inicioMs instante (epoch millis) do tick zero
+     */
+    public RodaTemporizacao(long tickMs, int tamanho, long inicioMs, OuvinteExpiracao ouvinte) {
+        if (tickMs <= 0) {
+            throw new IllegalArgumentException("O tick deve ser positivo");
+        }
+        int potencia = Integer.highestOneBit(Math.max(1, tamanho - 1)) << 1;
+        this.tickMs = tickMs;
+        this.inicioMs = inicioMs;
+        this.mascara = potencia - 1;
+        this.posicoes = new Posicao[potencia];
+        for (int i = 0; i < potencia; i++) {
+            posicoes[i] = new Posicao();
+        }
+        this.ouvinte = ouvinte;
+    }
+
+    /**
+     * Agenda um prazo (epoch millis); prazos já vencidos disparam no próximo tick
+     */
+    public Temporizador agendar(long prazoMs, long chave, int dado) {
+        Temporizador temporizador = new Temporizador(prazoMs, chave, dado);
+        pendentes.increment();
+        novos.add(temporizador);
+        return temporizador;
+    }
+
+    /**
+     * Processa todos os ticks terminados até agoraMs, disparando os prazos vencidos
+     *
+     * Deve ser chamado sempre pela mesma thread.
+     *
+     * @return quantidade de prazos disparados
+     */
+    public int avancar(long agoraMs) {
+        int disparados = 0;
+        while (fimDoTick(tick) <= agoraMs) {
+            removerCancelados();
+            transferirNovos();
+            disparados += expirar(posicoes[(int) (tick & mascara)]);
+            tick++;
+        }
+        return disparados;
+    }
+
+    /**
+     * Instante (epoch millis) em que o tick atual termina: a próxima chamada útil de avancar()
+     */
+    public long proximoTick() {
+        return fimDoTick(tick);
+    }
+
+    public long pendentes() {
+        return pendentes.sum();
+    }
+
+    public long getTickMs() {
+        return tickMs;
+    }
+
+    private long fimDoTick(long numero) {
+        return inicioMs + (numero + 1) * tickMs;
+    }
+
+    private void transferirNovos() {
+        Temporizador temporizador;
+        while ((temporizador = novos.poll()) != null) {
+            if (temporizador.estado != PENDENTE) {
+                continue;
+            }
+            long tickDoPrazo = Math.max(0, Math.floorDiv(temporizador.prazoMs - inicioMs, tickMs));
+            temporizador.voltasRestantes = (tickDoPrazo - tick) / posicoes.length;
+            posicoes[(int) (Math.max(tickDoPrazo, tick) & mascara)].adicionar(temporizador);
+        }
+    }
+
+    private void removerCancelados() {
+        Temporizador temporizador;
+        while ((temporizador = cancelados.poll()) != null) {
+            if (temporizador.posicao != null) {
+                temporizador.posicao.remover(temporizador);
+            }
+        }
+    }
+
+    private int expirar(Posicao posicao) {
+        int disparados = 0;
+        Temporizador temporizador = posicao.primeiro;
+        while (temporizador != null) {
+            Temporizador proximo = temporizador.proximo;
+            if (temporizador.voltasRestantes <= 0) {
+                posicao.remover(temporizador);
+                if (temporizador.mudarEstado(PENDENTE, EXPIRADO)) {
+                    pendentes.decrement();
+                    ouvinte.expirou(temporizador.chave, temporizador.dado);
+                    disparados++;
+                }
+            } else if (temporizador.estado == CANCELADO) {
+                posicao.remover(temporizador);
+            } else {
+                temporizador.voltasRestantes--;
+            }
+            temporizador = proximo;
+        }
+        return disparados;
+    }
+
+    /**
+     * Prazo agendado na roda
+     */
+    public final class Temporizador {
+
+        private static final AtomicIntegerFieldUpdater<Temporizador> ESTADO =
+                AtomicIntegerFieldUpdater.newUpdater(Temporizador.class, "estado");
+
+        private final long prazoMs;
+        private final long chave;
+        private final int dado;
+        private volatile int estado = PENDENTE;
+
+        // Estado da lista da posição, só acessado pela thread que chama avancar()
+        private long voltasRestantes;
+        private Posicao posicao;
+        private Temporizador anterior;
+        private Temporizador proximo;
+
+        private Temporizador(long prazoMs, long chave, int dado) {
+            this.prazoMs = prazoMs;
+            this.chave = chave;
+            this.dado = dado;
+        }
+
+        /**
+         * Cancela o prazo; false se ele já tinha disparado ou sido cancelado
+         */
+        public boolean cancelar() {
+            if (!mudarEstado(PENDENTE, CANCELADO)) {
+                return false;
+            }
+            pendentes.decrement();
+            cancelados.add(this);
+            return true;
+        }
+
+        public boolean pendente() {
+            return estado == PENDENTE;
+        }
+
+        public long getPrazoMs() {
+            return prazoMs;
+        }
+
+        public int getDado() {
+            return dado;
+        }
+
+        private boolean mudarEstado(int esperado, int novo) {
+            return ESTADO.compareAndSet(this, esperado, novo);
+        }
+    }
+
+    /**
+     * Lista duplamente ligada dos temporizadores de uma posição da roda
+     */
+    private static final class Posicao {
+
+        private Temporizador primeiro;
+        private Temporizador ultimo;
+
+        void adicionar(Temporizador temporizador) {
+            temporizador.posicao = this;
+            temporizador.anterior = ultimo;
+            if (ultimo == null) {
+                primeiro = temporizador;
+            } else {
+                ultimo.proximo = temporizador;
+            }
+            ultimo = temporizador;
+        }
+
+        void remover(Temporizador temporizador) {
+            if (temporizador.posicao != this) {
+                return;
+            }
+            if (temporizador.anterior == null) {
+                primeiro = temporizador.proximo;
+            } else {
+                temporizador.anterior.proximo = temporizador.proximo;
+            }
+            if (temporizador.proximo == null) {
+                ultimo = temporizador.anterior;
+            } else {
+                temporizador.proximo.anterior = temporizador.anterior;
+            }
+            temporizador.posicao = null;
+            temporizador.anterior = null;
+            temporizador.proximo = null;
+        }
+    }
+}
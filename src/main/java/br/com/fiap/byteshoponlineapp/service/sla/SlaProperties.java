@@ -0,0 +1,70 @@
+package br.com.fiap.byteshoponlineapp.service.sla;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import br.com.fiap.byteshoponlineapp.domain.enums.Prioridade;
+
+/**
+ * Propriedades da escalada automática de prioridade por SLA (prefixo suporte.sla)
+ */
+@ConfigurationProperties(prefix = "suporte.sla")
+public class SlaProperties {
+
+    private boolean habilitado = true;
+
+    /**
+     * Resolução da roda de temporização: uma escalada dispara até um tick depois do prazo
+     */
+    private Duration tick = Duration.ofSeconds(1);
+
+    /**
+     * Posições da roda (potência de 2); prazos além de tick * tamanhoRoda dão voltas extras
+     */
+    private int tamanhoRoda = 4096;
+
+    /**
+     * Idade máxima, contada desde a criação, de uma solicitação ABERTA em cada prioridade
+     * antes de subir para a próxima; prioridades ausentes (e CRITICA) não escalam
+     */
+    private Map<Prioridade, Duration> idadeMaxima = new EnumMap<>(Map.of(
+            Prioridade.BAIXA, Duration.ofHours(24),
+            Prioridade.MEDIA, Duration.ofHours(48),
+            Prioridade.ALTA, Duration.ofHours(72)
+    ));
+
+    public boolean isHabilitado() {
+        return habilitado;
+    }
+
+    public void setHabilitado(boolean habilitado) {
+        this.habilitado = habilitado;
+    }
+
+    public Duration getTick() {
+        return tick;
+    }
+
+    public void setTick(Duration tick) {
+        this.tick = tick;
+    }
+
+    public int getTamanhoRoda() {
+        return tamanhoRoda;
+    }
+
+    public void setTamanhoRoda(int tamanhoRoda) {
+        this.tamanhoRoda = tamanhoRoda;
+    }
+
+    public Map<Prioridade, Duration> getIdadeMaxima() {
+        return idadeMaxima;
+    }
+
+    public void setIdadeMaxima(Map<Prioridade, Duration> idadeMaxima) {
+        this.idadeMaxima = idadeMaxima;
+    }
+}
@@ -0,0 +1,86 @@
+package br.com.fiap.byteshoponlineapp.webhook;
+
+import java.net.http.HttpClient;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.fiap.byteshoponlineapp.service.evento.EventoSolicitacao;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Distribui os eventos de solicitação para os destinos de webhook configurados
+ *
+ * Roda na thread da requisição, mas só filtra e enfileira (sem bloquear): a entrega é feita
+ * pelos trabalhadores de cada destino, então um receptor lento ou fora do ar não atrasa a API.
+ */
+public class DespachanteWebhook {
+
+    private static final Logger log = LoggerFactory.getLogger(DespachanteWebhook.class);
+
+    private final WebhookProperties properties;
+    private final List<DestinoWebhook> destinos = new ArrayList<>();
+
+    public DespachanteWebhook(WebhookProperties properties, ObjectMapper mapper) {
+        this.properties = properties;
+        HttpClient cliente = HttpClient.newBuilder()
+                .connectTimeout(properties.getTimeout())
+                .build();
+        for (WebhookProperties.Destino destino : properties.getDestinos()) {
+            destinos.add(new DestinoWebhook(destino, properties, cliente, mapper));
+        }
+    }
+
+    @PostConstruct
+    public void iniciar() {
+        for (DestinoWebhook destino : destinos) {
+            destino.iniciar();
+        }
+        log.info("Webhooks habilitados para {} destino(s)", destinos.size());
+    }
+
+    @PreDestroy
+    public void encerrar() throws InterruptedException {
+        long prazo = properties.getPrazoEncerramento().toNanos();
+        for (DestinoWebhook destino : destinos) {
+            destino.parar(prazo);
+        }
+    }
+
+    @EventListener
+    public void aoEvento(EventoSolicitacao evento) {
+        for (DestinoWebhook destino : destinos) {
+            if (destino.aceita(evento)) {
+                destino.enfileirar(evento);
+            }
+        }
+    }
+
+    public List<EstatisticasDestino> estatisticas() {
+        List<EstatisticasDestino> estatisticas = new ArrayList<>(destinos.size());
+        for (DestinoWebhook destino : destinos) {
+            estatisticas.add(destino.estatisticas());
+        }
+        return estatisticas;
+    }
+
+    /**
+     * Contadores de entrega de um destino
+     */
+    public record EstatisticasDestino(
+            String nome,
+            String url,
+            int pendentes,
+            long entregues,
+            long lotesEntregues,
+            long tentativasFalhas,
+            long descartadosFilaCheia,
+            long descartadosAposFalhas
+    ) {}
+}
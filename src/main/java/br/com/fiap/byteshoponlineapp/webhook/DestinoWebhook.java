@@ -0,0 +1,210 @@
+package br.com.fiap.byteshoponlineapp.webhook;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.fiap.byteshoponlineapp.service.evento.EventoSolicitacao;
+
+/**
+ * Fila e trabalhadores de entrega de um destino de webhook
+ *
+ * Cada trabalhador retira um lote da fila (até tamanhoLote eventos ou esperaLote depois do
+ * primeiro) e o envia em um único POST com o array de eventos. O número de trabalhadores é o
+ * limite de POSTs simultâneos ao destino. Falhas de rede, 408, 429 e 5xx são repetidas com
+ * backoff exponencial; outros 4xx descartam o lote. A entrega é pelo menos uma vez: o header
+ * X-Webhook-Lote se repete nas novas tentativas para o receptor ignorar duplicatas.
+ */
+class DestinoWebhook {
+
+    private static final Logger log = LoggerFactory.getLogger(DestinoWebhook.class);
+
+    static final String HEADER_LOTE = "X-Webhook-Lote";
+    static final String HEADER_TENTATIVA = "X-Webhook-Tentativa";
+
+    private final WebhookProperties.Destino destino;
+    private final WebhookProperties properties;
+    private final URI url;
+    private final HttpClient cliente;
+    private final ObjectMapper mapper;
+    private final BlockingQueue<EventoSolicitacao> fila;
+    private final Thread[] trabalhadores;
+    private final AtomicLong sequenciaLote = new AtomicLong();
+
+    private final LongAdder entregues = new LongAdder();
+    private final LongAdder lotesEntregues = new LongAdder();
+    private final LongAdder tentativasFalhas = new LongAdder();
+    private final LongAdder descartadosFilaCheia = new LongAdder();
+    private final LongAdder descartadosAposFalhas = new LongAdder();
+
+    private volatile boolean ativo = true;
+
+    DestinoWebhook(WebhookProperties.Destino destino, WebhookProperties properties, HttpClient cliente,
+                   ObjectMapper mapper) {
+        if (destino.getNome() == null || destino.getNome().isBlank() || destino.getUrl() == null) {
+            throw new IllegalArgumentException("Destino de webhook sem nome ou URL");
+        }
+        this.destino = destino;
+        this.properties = properties;
+        this.url = URI.create(destino.getUrl());
+        this.cliente = cliente;
+        this.mapper = mapper;
+        this.fila = new ArrayBlockingQueue<>(properties.getCapacidadeFila());
+        this.trabalhadores = new Thread[Math.max(1, properties.getConcorrencia())];
+        for (int i = 0; i < trabalhadores.length; i++) {
+            trabalhadores[i] = new Thread(this::executar, "webhook-" + destino.getNome() + "-" + (i + 1));
+            trabalhadores[i].setDaemon(true);
+        }
+    }
+
+    void iniciar() {
+        for (Thread trabalhador : trabalhadores) {
+            trabalhador.start();
+        }
+    }
+
+    /**
+     * Para de aceitar eventos e espera os trabalhadores esvaziarem a fila até o prazo
+     */
+    void parar(long prazoNanos) throws InterruptedException {
+        ativo = false;
+        long limite = System.nanoTime() + prazoNanos;
+        for (Thread trabalhador : trabalhadores) {
+            TimeUnit.NANOSECONDS.timedJoin(trabalhador, Math.max(1, limite - System.nanoTime()));
+        }
+        for (Thread trabalhador : trabalhadores) {
+            trabalhador.interrupt();
+        }
+        if (!fila.isEmpty()) {
+            log.warn("Webhook {}: {} eventos não entregues no encerramento", destino.getNome(), fila.size());
+        }
+    }
+
+    boolean aceita(EventoSolicitacao evento) {
+        return (destino.getEventos().isEmpty() || destino.getEventos().contains(evento.tipo()))
+                && (destino.getPrioridades().isEmpty() || destino.getPrioridades().contains(evento.prioridade()));
+    }
+
+    /**
+     * Enfileira sem bloquear: com a fila cheia o evento é descartado e contado
+     */
+    void enfileirar(EventoSolicitacao evento) {
+        if (!ativo || !fila.offer(evento)) {
+            descartadosFilaCheia.increment();
+        }
+    }
+
+    DespachanteWebhook.EstatisticasDestino estatisticas() {
+        return new DespachanteWebhook.EstatisticasDestino(
+                destino.getNome(),
+                url.toString(),
+                fila.size(),
+                entregues.sum(),
+                lotesEntregues.sum(),
+                tentativasFalhas.sum(),
+                descartadosFilaCheia.sum(),
+                descartadosAposFalhas.sum()
+        );
+    }
+
+    private void executar() {
+        List<EventoSolicitacao> lote = new ArrayList<>(properties.getTamanhoLote());
+        try {
+            while (ativo || !fila.isEmpty()) {
+                EventoSolicitacao primeiro = fila.poll(100, TimeUnit.MILLISECONDS);
+                if (primeiro == null) {
+                    continue;
+                }
+                lote.add(primeiro);
+                completarLote(lote);
+                entregar(lote);
+                lote.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void completarLote(List<EventoSolicitacao> lote) throws InterruptedException {
+        int tamanho = properties.getTamanhoLote();
+        long limite = System.nanoTime() + properties.getEsperaLote().toNanos();
+        while (lote.size() < tamanho) {
+            fila.drainTo(lote, tamanho - lote.size());
+            long restante = limite - System.nanoTime();
+            if (lote.size() >= tamanho || restante <= 0 || !ativo) {
+                return;
+            }
+            EventoSolicitacao proximo = fila.poll(restante, TimeUnit.NANOSECONDS);
+            if (proximo == null) {
+                return;
+            }
+            lote.add(proximo);
+        }
+    }
+
+    private void entregar(List<EventoSolicitacao> lote) throws InterruptedException {
+        byte[] corpo;
+        try {
+            corpo = mapper.writeValueAsBytes(lote);
+        } catch (IOException e) {
+            log.error("Webhook {}: falha ao serializar lote", destino.getNome(), e);
+            descartadosAposFalhas.add(lote.size());
+            return;
+        }
+        String idLote = destino.getNome() + "-" + sequenciaLote.incrementAndGet();
+        long backoff = properties.getBackoffInicial().toNanos();
+        for (int tentativa = 1; ; tentativa++) {
+            String falha;
+            boolean repetir = true;
+            try {
+                HttpResponse<Void> resposta = cliente.send(requisicao(corpo, idLote, tentativa),
+                        HttpResponse.BodyHandlers.discarding());
+                int status = resposta.statusCode();
+                if (status >= 200 && status < 300) {
+                    entregues.add(lote.size());
+                    lotesEntregues.increment();
+                    return;
+                }
+                falha = "HTTP " + status;
+                repetir = status >= 500 || status == 408 || status == 429;
+            } catch (IOException e) {
+                falha = e.toString();
+            }
+            tentativasFalhas.increment();
+            if (!repetir || tentativa >= properties.getMaximoTentativas()) {
+                descartadosAposFalhas.add(lote.size());
+                log.warn("Webhook {}: lote {} com {} eventos descartado após {} tentativa(s): {}",
+                        destino.getNome(), idLote, lote.size(), tentativa, falha);
+                return;
+            }
+            // Jitter de até 50% para os trabalhadores não repetirem em sincronia
+            TimeUnit.NANOSECONDS.sleep(backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1));
+            backoff = Math.min(backoff * 2, properties.getBackoffMaximo().toNanos());
+        }
+    }
+
+    private HttpRequest requisicao(byte[] corpo, String idLote, int tentativa) {
+        return HttpRequest.newBuilder(url)
+                .timeout(properties.getTimeout())
+                .header("Content-Type", "application/json")
+                .header(HEADER_LOTE, idLote)
+                .header(HEADER_TENTATIVA, String.valueOf(tentativa))
+                .POST(HttpRequest.BodyPublishers.ofByteArray(corpo))
+                .build();
+    }
+}
@@ -0,0 +1,202 @@
+package br.com.fiap.byteshoponlineapp.webhook;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import br.com.fiap.byteshoponlineapp.domain.enums.Prioridade;
+import br.com.fiap.byteshoponlineapp.service.evento.EventoSolicitacao;
+
+/**
+ * Propriedades dos webhooks de saída (prefixo suporte.webhook)
+ *
+ * Os limites de fila, lote, concorrência e novas tentativas valem para cada destino.
+ */
+@ConfigurationProperties(prefix = "suporte.webhook")
+public class WebhookProperties {
+
+    private boolean habilitado = false;
+
+    /**
+     * Eventos aguardando entrega por destino; com a fila cheia, novos eventos são descartados
+     */
+    private int capacidadeFila = 10_000;
+
+    /**
+     * Quantidade máxima de eventos por POST
+     */
+    private int tamanhoLote = 100;
+
+    /**
+     * Tempo máximo que o primeiro evento de um lote espera por outros antes do envio
+     */
+    private Duration esperaLote = Duration.ofMillis(200);
+
+    /**
+     * POSTs simultâneos no máximo para um mesmo destino
+     */
+    private int concorrencia = 2;
+
+    /**
+     * Tentativas por lote (a primeira inclusive) antes de descartá-lo
+     */
+    private int maximoTentativas = 5;
+
+    /**
+     * Espera antes da segunda tentativa; dobra a cada falha até backoffMaximo
+     */
+    private Duration backoffInicial = Duration.ofMillis(500);
+    private Duration backoffMaximo = Duration.ofSeconds(30);
+
+    private Duration timeout = Duration.ofSeconds(5);
+
+    /**
+     * Tempo que o encerramento da aplicação espera para esvaziar as filas
+     */
+    private Duration prazoEncerramento = Duration.ofSeconds(5);
+
+    private List<Destino> destinos = new ArrayList<>();
+
+    public boolean isHabilitado() {
+        return habilitado;
+    }
+
+    public void setHabilitado(boolean habilitado) {
+        this.habilitado = habilitado;
+    }
+
+    public int getCapacidadeFila() {
+        return capacidadeFila;
+    }
+
+    public void setCapacidadeFila(int capacidadeFila) {
+        this.capacidadeFila = capacidadeFila;
+    }
+
+    public int getTamanhoLote() {
+        return tamanhoLote;
+    }
+
+    public void setTamanhoLote(int tamanhoLote) {
+        this.tamanhoLote = tamanhoLote;
+    }
+
+    public Duration getEsperaLote() {
+        return esperaLote;
+    }
+
+    public void setEsperaLote(Duration esperaLote) {
+        this.esperaLote = esperaLote;
+    }
+
+    public int getConcorrencia() {
+        return concorrencia;
+    }
+
+    public void setConcorrencia(int concorrencia) {
+        this.concorrencia = concorrencia;
+    }
+
+    public int getMaximoTentativas() {
+        return maximoTentativas;
+    }
+
+    public void setMaximoTentativas(int maximoTentativas) {
+        this.maximoTentativas = maximoTentativas;
+    }
+
+    public Duration getBackoffInicial() {
+        return backoffInicial;
+    }
+
+    public void setBackoffInicial(Duration backoffInicial) {
+        this.backoffInicial = backoffInicial;
+    }
+
+    public Duration getBackoffMaximo() {
+        return backoffMaximo;
+    }
+
+    public void setBackoffMaximo(Duration backoffMaximo) {
+        this.backoffMaximo = backoffMaximo;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    public Duration getPrazoEncerramento() {
+        return prazoEncerramento;
+    }
+
+    public void setPrazoEncerramento(Duration prazoEncerramento) {
+        this.prazoEncerramento = prazoEncerramento;
+    }
+
+    public List<Destino> getDestinos() {
+        return destinos;
+    }
+
+    public void setDestinos(List<Destino> destinos) {
+        this.destinos = destinos;
+    }
+
+    /**
+     * Receptor dos webhooks e os eventos que ele quer receber (conjuntos vazios = todos)
+     */
+    public static class Destino {
+
+        private String nome;
+        private String url;
+        private Set<EventoSolicitacao.Tipo> eventos = EnumSet.noneOf(EventoSolicitacao.Tipo.class);
+        private Set<Prioridade> prioridades = EnumSet.noneOf(Prioridade.class);
+
+        public Destino() {
+        }
+
+        public Destino(String nome, String url) {
+            this.nome = nome;
+            this.url = url;
+        }
+
+        public String getNome() {
+            return nome;
+        }
+
+        public void setNome(String nome) {
+            this.nome = nome;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+
+        public Set<EventoSolicitacao.Tipo> getEventos() {
+            return eventos;
+        }
+
+        public void setEventos(Set<EventoSolicitacao.Tipo> eventos) {
+            this.eventos = eventos;
+        }
+
+        public Set<Prioridade> getPrioridades() {
+            return prioridades;
+        }
+
+        public void setPrioridades(Set<Prioridade> prioridades) {
+            this.prioridades = prioridades;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package br.com.fiap.byteshoponlineapp.config;
+
+import java.util.concurrent.Executors;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import br.com.fiap.byteshoponlineapp.service.execucao.FabricaExecutor;
+
+/**
+ * Threads virtuais para a execução paralela (somente no build Java 21, perfil java21)
+ *
+ * Ativa com spring.threads.virtual.enabled=true, a mesma propriedade que coloca o Tomcat
+ * para atender cada requisição em uma thread virtual. O limite de paralelismo continua
+ * valendo pelo semáforo da ExecucaoParalela.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class ThreadsVirtuaisConfig {
+
+    @Bean
+    public FabricaExecutor fabricaExecutorVirtual() {
+        return (nome, paralelismo) -> Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name(nome + "-", 1).factory());
+    }
+}
@@ -0,0 +1,12 @@
+CREATE TABLE IF NOT EXISTS solicitacao_suporte (
+    id               BIGINT       NOT NULL PRIMARY KEY,
+    titulo           VARCHAR(100),
+    descricao        VARCHAR(500),
+    status           VARCHAR(20)  NOT NULL,
+    prioridade       VARCHAR(20),
+    data_criacao     TIMESTAMP(9),
+    data_atualizacao TIMESTAMP(9),
+    historico        VARBINARY(128)
+);
+
+CREATE INDEX IF NOT EXISTS idx_solicitacao_suporte_status ON solicitacao_suporte (status);
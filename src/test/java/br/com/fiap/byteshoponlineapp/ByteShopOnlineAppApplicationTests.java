@@ -3,7 +3,7 @@ package br.com.fiap.byteshoponlineapp;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = {"suporte.aquecimento.duracao-maxima=2s", "suporte.grpc.porta=0"})
 class ByteShopOnlineAppApplicationTests {
 
     @Test
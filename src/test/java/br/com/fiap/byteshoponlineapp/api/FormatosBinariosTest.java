@@ -0,0 +1,88 @@
+package br.com.fiap.byteshoponlineapp.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * CBOR e Smile negociados tanto no corpo da requisição quanto no da resposta,
+ * com o mesmo esquema do JSON
+ */
+@SpringBootTest(properties = {"suporte.aquecimento.duracao-maxima=2s", "suporte.grpc.porta=0"})
+@AutoConfigureMockMvc
+class FormatosBinariosTest {
+
+    private static final MediaType CBOR = MediaType.valueOf("application/cbor");
+    private static final MediaType SMILE = MediaType.valueOf("application/x-jackson-smile");
+
+    private final ObjectMapper json = new ObjectMapper();
+    private final ObjectMapper cbor = new ObjectMapper(new CBORFactory());
+    private final ObjectMapper smile = new ObjectMapper(new SmileFactory());
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void cborNaRequisicaoESmileNaResposta() throws Exception {
+        JsonNode criada = criar(cbor, CBOR, smile, SMILE, "Impressora parada");
+
+        assertEquals("Impressora parada", criada.get("titulo").asText());
+        assertEquals("ALTA", criada.get("prioridade").asText());
+        assertEquals("ABERTA", criada.get("status").asText());
+        assertEquals(buscar(criada.get("id").asLong(), json, MediaType.APPLICATION_JSON), criada);
+    }
+
+    @Test
+    void smileNaRequisicaoECborNaResposta() throws Exception {
+        JsonNode criada = criar(smile, SMILE, cbor, CBOR, "Monitor piscando");
+
+        assertEquals("Monitor piscando", criada.get("titulo").asText());
+        assertEquals(buscar(criada.get("id").asLong(), json, MediaType.APPLICATION_JSON), criada);
+        assertEquals(buscar(criada.get("id").asLong(), smile, SMILE), criada);
+    }
+
+    @Test
+    void semAcceptExplicitoContinuaJson() throws Exception {
+        byte[] corpo = cbor.writeValueAsBytes(Map.of(
+                "titulo", "Teclado sem resposta", "descricao", "Nenhuma tecla responde", "prioridade", "BAIXA"));
+
+        mockMvc.perform(post("/api/suporte").contentType(CBOR).content(corpo))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    private JsonNode criar(ObjectMapper entrada, MediaType tipoEntrada, ObjectMapper saida, MediaType tipoSaida,
+            String titulo) throws Exception {
+        byte[] corpo = entrada.writeValueAsBytes(Map.of(
+                "titulo", titulo, "descricao", "Descrição do problema relatado", "prioridade", "ALTA"));
+        byte[] resposta = mockMvc.perform(post("/api/suporte").contentType(tipoEntrada).accept(tipoSaida).content(corpo))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentTypeCompatibleWith(tipoSaida))
+                .andReturn().getResponse().getContentAsByteArray();
+        return saida.readTree(resposta);
+    }
+
+    private JsonNode buscar(long id, ObjectMapper saida, MediaType tipoSaida) throws Exception {
+        byte[] resposta = mockMvc.perform(get("/api/suporte/{id}", id).accept(tipoSaida))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(tipoSaida))
+                .andReturn().getResponse().getContentAsByteArray();
+        return saida.readTree(resposta);
+    }
+}
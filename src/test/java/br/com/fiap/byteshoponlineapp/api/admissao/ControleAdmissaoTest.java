@@ -0,0 +1,98 @@
+package br.com.fiap.byteshoponlineapp.api.admissao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class ControleAdmissaoTest {
+
+    private static final long SEGUNDO = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void baldeAdmiteRajadaERecusaAteReabastecer() {
+        BaldeTokens balde = new BaldeTokens(10, 5, 0);
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, balde.tentarConsumir(0));
+        }
+        long espera = balde.tentarConsumir(0);
+        assertEquals(SEGUNDO / 10, espera);
+        assertEquals(0, balde.tentarConsumir(espera));
+        assertTrue(balde.cheio(SEGUNDO));
+    }
+
+    @Test
+    void limiteReduzComLatenciaAltaECresceComLatenciaBaixa() {
+        long alvo = TimeUnit.MILLISECONDS.toNanos(100);
+        LimiteConcorrenciaAdaptativo limite = new LimiteConcorrenciaAdaptativo(10, 2, 20, alvo);
+        for (int i = 0; i < 10; i++) {
+            assertTrue(limite.tentarAdquirir());
+        }
+        assertFalse(limite.tentarAdquirir());
+
+        limite.liberar(2 * alvo, alvo);
+        assertEquals(9.0, limite.limite(), 0.001);
+        // Segunda requisição lenta na mesma janela não reduz de novo
+        limite.liberar(2 * alvo, alvo + 1);
+        assertEquals(9.0, limite.limite(), 0.001);
+
+        for (int i = 0; i < 8; i++) {
+            limite.liberar(alvo / 2, 2 * alvo);
+        }
+        assertTrue(limite.limite() > 9.0);
+        assertEquals(0, limite.emExecucao());
+    }
+
+    @Test
+    void classesDeEndpointTemLimitesIndependentes() {
+        AdmissaoProperties properties = new AdmissaoProperties();
+        properties.setCriacao(new AdmissaoProperties.Taxa(1, 1));
+        ControleAdmissao controle = new ControleAdmissao(properties);
+
+        controle.admitir(ClasseEndpoint.CRIACAO, "cliente");
+        assertThrows(LimiteTaxaExcedidoException.class, () -> controle.admitir(ClasseEndpoint.CRIACAO, "cliente"));
+        controle.admitir(ClasseEndpoint.CRIACAO, "outro-cliente");
+        controle.admitir(ClasseEndpoint.AGENTE, "cliente");
+    }
+
+    @Test
+    void clienteEOEnderecoRemotoEUmHeaderNovoNaoRenovaOBalde() {
+        AdmissaoProperties properties = new AdmissaoProperties();
+        properties.setCriacao(new AdmissaoProperties.Taxa(1, 1));
+        AdmissaoInterceptor interceptor = new AdmissaoInterceptor(new ControleAdmissao(properties));
+
+        MockHttpServletRequest primeira = new MockHttpServletRequest("POST", "/api/suporte");
+        primeira.setRemoteAddr("10.0.0.1");
+        primeira.addHeader("X-Cliente-Id", "a");
+        assertTrue(interceptor.preHandle(primeira, new MockHttpServletResponse(), null));
+
+        MockHttpServletRequest segunda = new MockHttpServletRequest("POST", "/api/suporte");
+        segunda.setRemoteAddr("10.0.0.1");
+        segunda.addHeader("X-Cliente-Id", "b");
+        assertThrows(LimiteTaxaExcedidoException.class,
+                () -> interceptor.preHandle(segunda, new MockHttpServletResponse(), null));
+
+        MockHttpServletRequest outroEndereco = new MockHttpServletRequest("POST", "/api/suporte");
+        outroEndereco.setRemoteAddr("10.0.0.2");
+        assertTrue(interceptor.preHandle(outroEndereco, new MockHttpServletResponse(), null));
+    }
+
+    @Test
+    void baldesPorClienteFicamLimitadosEDescartamOMenosUsado() {
+        BaldesPorCliente baldes = new BaldesPorCliente(4, 1);
+        AdmissaoProperties.Taxa taxa = new AdmissaoProperties.Taxa(1, 1);
+        BaldeTokens frequente = baldes.obter("frequente", taxa, 0);
+        for (int i = 0; i < 1_000; i++) {
+            baldes.obter("cliente-" + i, taxa, 0);
+            assertSame(frequente, baldes.obter("frequente", taxa, 0));
+        }
+        assertEquals(4, baldes.tamanho());
+    }
+}
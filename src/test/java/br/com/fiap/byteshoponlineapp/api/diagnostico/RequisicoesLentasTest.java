@@ -0,0 +1,53 @@
+package br.com.fiap.byteshoponlineapp.api.diagnostico;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class RequisicoesLentasTest {
+
+    private static RequisicoesLentas.RequisicaoLenta requisicao(double totalMs) {
+        return new RequisicoesLentas.RequisicaoLenta(Instant.now(), "GET", "/api/suporte", 200, totalMs, Map.of());
+    }
+
+    @Test
+    void anelMantemAsUltimasOrdenadasDaMaisLenta() {
+        RequisicoesLentas lentas = new RequisicoesLentas(3, 1_000_000);
+        assertFalse(lentas.lenta(999_999));
+        assertTrue(lentas.lenta(1_000_000));
+
+        for (double total : new double[] {5, 1, 9, 3, 7}) {
+            lentas.registrar(requisicao(total));
+        }
+
+        assertEquals(List.of(9.0, 7.0, 3.0), lentas.listar().stream().map(RequisicoesLentas.RequisicaoLenta::totalMs).toList());
+        assertEquals(5, lentas.totalRegistradas());
+    }
+
+    @Test
+    void cronometroContaSoOTempoProprioDeCadaFase() throws InterruptedException {
+        CronometroRequisicao cronometro = CronometroRequisicao.iniciar();
+        try {
+            Fase antesDoServico = cronometro.entrar(Fase.SERVICO);
+            Fase antesDoRepositorio = cronometro.entrar(Fase.REPOSITORIO);
+            Thread.sleep(20);
+            cronometro.voltar(antesDoRepositorio);
+            cronometro.voltar(antesDoServico);
+
+            Map<String, Double> fases = cronometro.fasesMs();
+            assertEquals(Fase.SERVICO, antesDoRepositorio);
+            assertTrue(fases.get("repositorio") >= 20);
+            assertTrue(fases.get("servico") < 20);
+            assertTrue(cronometro.serverTiming().startsWith("entrada;dur="));
+            assertTrue(cronometro.serverTiming().contains(", repositorio;dur="));
+        } finally {
+            CronometroRequisicao.limpar();
+        }
+    }
+}
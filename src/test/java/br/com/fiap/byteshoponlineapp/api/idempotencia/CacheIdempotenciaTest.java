@@ -0,0 +1,133 @@
+package br.com.fiap.byteshoponlineapp.api.idempotencia;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import br.com.fiap.byteshoponlineapp.api.dto.SolicitacaoSuporteRequest;
+import br.com.fiap.byteshoponlineapp.api.dto.SolicitacaoSuporteResponse;
+import br.com.fiap.byteshoponlineapp.domain.SolicitacaoSuporte;
+import br.com.fiap.byteshoponlineapp.domain.enums.Prioridade;
+
+class CacheIdempotenciaTest {
+
+    private final AtomicLong relogio = new AtomicLong();
+    private final CacheIdempotencia cache = new CacheIdempotencia(2, Duration.ofNanos(1_000), relogio::get);
+    private final SolicitacaoSuporteRequest request =
+            new SolicitacaoSuporteRequest("Erro no login", "Não consigo acessar o sistema", Prioridade.ALTA);
+    private final AtomicInteger criacoes = new AtomicInteger();
+
+    private SolicitacaoSuporteResponse criar() {
+        long id = criacoes.incrementAndGet();
+        return new SolicitacaoSuporteResponse(
+                new SolicitacaoSuporte(id, request.getTitulo(), request.getDescricao(), request.getPrioridade()));
+    }
+
+    @Test
+    void duplicatasConcorrentesCriamUmaUnicaVez() throws Exception {
+        CountDownLatch liberar = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<CacheIdempotencia.Resultado>> resultados = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                resultados.add(executor.submit(() -> cache.executar("chave", request, () -> {
+                    try {
+                        liberar.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return criar();
+                })));
+            }
+            Thread.sleep(100);
+            liberar.countDown();
+            int repetidas = 0;
+            for (Future<CacheIdempotencia.Resultado> resultado : resultados) {
+                assertEquals(1L, resultado.get().resposta().getId());
+                repetidas += resultado.get().repetida() ? 1 : 0;
+            }
+            assertEquals(7, repetidas);
+            assertEquals(1, criacoes.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void repeticaoDevolveRespostaOriginalAteExpirar() {
+        CacheIdempotencia.Resultado primeira = cache.executar("chave", request, this::criar);
+        CacheIdempotencia.Resultado repetida = cache.executar("chave", request, this::criar);
+        assertFalse(primeira.repetida());
+        assertTrue(repetida.repetida());
+        assertSame(primeira.resposta(), repetida.resposta());
+
+        relogio.addAndGet(1_000);
+        assertFalse(cache.executar("chave", request, this::criar).repetida());
+        assertEquals(2, criacoes.get());
+    }
+
+    @Test
+    void recusaChaveReutilizadaComOutroCorpo() {
+        cache.executar("chave", request, this::criar);
+        SolicitacaoSuporteRequest outro = new SolicitacaoSuporteRequest("Outro título", "Outra descrição", Prioridade.BAIXA);
+        assertThrows(ChaveIdempotenciaInvalidaException.class, () -> cache.executar("chave", outro, this::criar));
+    }
+
+    @Test
+    void falhaNaoEMemorizadaECapacidadeELimitada() {
+        assertThrows(IllegalStateException.class, () -> cache.executar("chave", request, () -> {
+            throw new IllegalStateException("falha");
+        }));
+        assertFalse(cache.executar("chave", request, this::criar).repetida());
+
+        cache.executar("b", request, this::criar);
+        cache.executar("c", request, this::criar);
+        assertEquals(2, cache.tamanho());
+    }
+
+    @Test
+    void criacaoEmAndamentoNaoEDespejadaAcimaDaCapacidade() throws Exception {
+        CountDownLatch iniciou = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<CacheIdempotencia.Resultado> lenta = executor.submit(() -> cache.executar("lenta", request, () -> {
+                iniciou.countDown();
+                try {
+                    liberar.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return criar();
+            }));
+            iniciou.await();
+
+            for (int i = 0; i < 5; i++) {
+                cache.executar("rapida-" + i, request, this::criar);
+            }
+            assertEquals(2, cache.tamanho());
+            liberar.countDown();
+
+            CacheIdempotencia.Resultado repetida = cache.executar("lenta", request, this::criar);
+            assertTrue(repetida.repetida());
+            assertSame(lenta.get().resposta(), repetida.resposta());
+            assertEquals(6, criacoes.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
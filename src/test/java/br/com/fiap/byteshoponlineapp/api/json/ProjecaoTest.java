@@ -0,0 +1,72 @@
+package br.com.fiap.byteshoponlineapp.api.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import br.com.fiap.byteshoponlineapp.api.dto.SolicitacaoSuporteResponse;
+import br.com.fiap.byteshoponlineapp.domain.SolicitacaoSuporte;
+import br.com.fiap.byteshoponlineapp.domain.enums.Prioridade;
+
+class ProjecaoTest {
+
+    private final ObjectMapper mapper = new ObjectMapper()
+            .registerModule(new SimpleModule().addSerializer(new SolicitacaoSuporteResponseSerializer()));
+
+    private static SolicitacaoSuporte solicitacao(long id) {
+        SolicitacaoSuporte solicitacao = new SolicitacaoSuporte(id, "Título " + id, "Descrição \"longa\" " + id, Prioridade.ALTA);
+        solicitacao.setDataCriacao(LocalDateTime.of(2025, 11, 3, 10, 15, 30, 123_000_000));
+        return solicitacao;
+    }
+
+    @Test
+    void mesmoConjuntoDeCamposReaproveitaAProjecaoCompilada() {
+        assertSame(Projecao.de("id,status"), Projecao.de(" status , id,id"));
+    }
+
+    @Test
+    void escreveSoOsCamposPedidosNaOrdemDaRespostaCompleta() throws Exception {
+        String json = mapper.writeValueAsString(
+                SolicitacoesProjetadas.lista(List.of(solicitacao(1), solicitacao(2)), Projecao.de("prioridade,titulo,id")));
+
+        assertEquals("[{\"id\":1,\"titulo\":\"Título 1\",\"prioridade\":\"ALTA\"},"
+                + "{\"id\":2,\"titulo\":\"Título 2\",\"prioridade\":\"ALTA\"}]", json);
+    }
+
+    @Test
+    void todosOsCamposProduzemAMesmaSaidaDaRespostaCompleta() throws Exception {
+        SolicitacaoSuporte solicitacao = solicitacao(7);
+        JsonNode projetada = mapper.readTree(mapper.writeValueAsString(SolicitacoesProjetadas.unica(solicitacao,
+                Projecao.de("id,titulo,descricao,status,prioridade,dataCriacao,dataAtualizacao"))));
+        JsonNode completa = mapper.readTree(mapper.writeValueAsString(new SolicitacaoSuporteResponse(solicitacao)));
+
+        assertEquals(completa, projetada);
+        assertEquals(mapper.writeValueAsString(completa), mapper.writeValueAsString(projetada));
+    }
+
+    @Test
+    void alteracaoDepoisDeProjetarNaoApareceNaResposta() throws Exception {
+        SolicitacaoSuporte solicitacao = solicitacao(3);
+        SolicitacoesProjetadas projetadas = SolicitacoesProjetadas.unica(solicitacao, Projecao.de("id,titulo"));
+        solicitacao.setTitulo("Alterado");
+
+        assertEquals("{\"id\":3,\"titulo\":\"Título 3\"}", mapper.writeValueAsString(projetadas));
+    }
+
+    @Test
+    void campoDesconhecidoOuVazioERejeitado() {
+        IllegalArgumentException erro = assertThrows(IllegalArgumentException.class, () -> Projecao.de("id,senha"));
+        assertFalse(erro.getMessage().isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> Projecao.de(" , "));
+    }
+}
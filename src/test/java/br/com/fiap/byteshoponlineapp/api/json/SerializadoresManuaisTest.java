@@ -0,0 +1,93 @@
+package br.com.fiap.byteshoponlineapp.api.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import br.com.fiap.byteshoponlineapp.api.dto.SolicitacaoSuporteResponse;
+import br.com.fiap.byteshoponlineapp.api.exception.ErroResposta;
+import br.com.fiap.byteshoponlineapp.domain.SolicitacaoSuporte;
+import br.com.fiap.byteshoponlineapp.domain.enums.Prioridade;
+import br.com.fiap.byteshoponlineapp.domain.enums.StatusSolicitacao;
+
+/**
+ * Os serializers escritos à mão têm de produzir exatamente o JSON que o Jackson
+ * geraria por reflexão com a mesma configuração de datas
+ */
+class SerializadoresManuaisTest {
+
+    private final ObjectMapper reflexivo = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final ObjectMapper manual = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .registerModule(new SimpleModule()
+                    .addSerializer(new SolicitacaoSuporteResponseSerializer())
+                    .addSerializer(new ErroRespostaSerializer()))
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private static final String[] TEXTOS = {
+            "Simples", "Acentuação e ç", "Aspas \"duplas\" e \\barra", "Quebra\nde\tlinha\r",
+            "Controle \u0001\u001f", "Emoji 🚀", "</script>", ""
+    };
+
+    private static final LocalDateTime[] DATAS = {
+            LocalDateTime.of(2025, 1, 2, 3, 4),
+            LocalDateTime.of(2025, 1, 2, 3, 4, 5),
+            LocalDateTime.of(2025, 12, 31, 23, 59, 59, 100_000_000),
+            LocalDateTime.of(2025, 6, 15, 12, 0, 0, 123_456_789),
+            LocalDateTime.of(999, 6, 15, 0, 0, 0, 1_000)
+    };
+
+    @Test
+    void respostaDeSolicitacaoIgualAoJacksonReflexivo() throws Exception {
+        Prioridade[] prioridades = Prioridade.values();
+        StatusSolicitacao[] status = StatusSolicitacao.values();
+        List<SolicitacaoSuporteResponse> lista = new ArrayList<>();
+        for (int i = 0; i < TEXTOS.length * DATAS.length; i++) {
+            SolicitacaoSuporte solicitacao = new SolicitacaoSuporte((long) i + 1, TEXTOS[i % TEXTOS.length],
+                    TEXTOS[(i + 3) % TEXTOS.length], prioridades[i % prioridades.length]);
+            solicitacao.setStatus(status[i % status.length]);
+            solicitacao.setDataCriacao(DATAS[i % DATAS.length]);
+            solicitacao.setDataAtualizacao(i % 4 == 0 ? null : DATAS[(i + 1) % DATAS.length]);
+            lista.add(new SolicitacaoSuporteResponse(solicitacao));
+        }
+        lista.add(new SolicitacaoSuporteResponse());
+
+        assertEquals(reflexivo.writeValueAsString(lista), manual.writeValueAsString(lista));
+    }
+
+    @Test
+    void erroSemListaDeCamposIgualAoJacksonReflexivo() throws Exception {
+        ErroResposta erro = new ErroResposta(404, "Not Found", "Solicitação \"7\" não encontrada", "/api/suporte/7");
+
+        assertEquals(reflexivo.writeValueAsString(erro), manual.writeValueAsString(erro));
+    }
+
+    @Test
+    void erroComListaDeCamposIgualAoJacksonReflexivo() throws Exception {
+        for (LocalDateTime data : DATAS) {
+            ErroResposta erro = new ErroResposta(400, "Bad Request", "Erro de validação", "/api/suporte");
+            erro.setTimestamp(data);
+            erro.setErros(List.of(
+                    new ErroResposta.CampoErro("titulo", "não deve estar em branco"),
+                    new ErroResposta.CampoErro("descricao", TEXTOS[3]),
+                    new ErroResposta.CampoErro(null, null)));
+
+            assertEquals(reflexivo.writeValueAsString(erro), manual.writeValueAsString(erro));
+        }
+        ErroResposta vazio = new ErroResposta();
+        vazio.setErros(List.of());
+        assertEquals(reflexivo.writeValueAsString(vazio), manual.writeValueAsString(vazio));
+    }
+}
@@ -0,0 +1,80 @@
+package br.com.fiap.byteshoponlineapp.api.validacao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.SmartValidator;
+import org.springframework.validation.Validator;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import br.com.fiap.byteshoponlineapp.api.dto.AtualizarSolicitacaoRequest;
+import br.com.fiap.byteshoponlineapp.api.dto.AtualizarStatusRequest;
+import br.com.fiap.byteshoponlineapp.api.dto.SolicitacaoSuporteRequest;
+import br.com.fiap.byteshoponlineapp.domain.enums.Prioridade;
+import jakarta.validation.Validation;
+import jakarta.validation.constraints.Email;
+
+class ValidadorPrecompiladoTest {
+
+    private static final jakarta.validation.Validator HIBERNATE =
+            Validation.buildDefaultValidatorFactory().getValidator();
+
+    private final SmartValidator padrao = new SpringValidatorAdapter(HIBERNATE);
+    private final ValidadorPrecompilado precompilado = new ValidadorPrecompilado(padrao, HIBERNATE);
+
+    private static Set<String> erros(Validator validador, Object alvo) {
+        Errors errors = new BeanPropertyBindingResult(alvo, "request");
+        validador.validate(alvo, errors);
+        return errors.getFieldErrors().stream()
+                .map(e -> e.getField() + ": " + e.getDefaultMessage())
+                .collect(Collectors.toSet());
+    }
+
+    private void assertMesmosErros(Object alvo) {
+        assertEquals(erros(padrao, alvo), erros(precompilado, alvo));
+    }
+
+    @Test
+    void produzOsMesmosErrosQueOHibernateValidator() {
+        assertTrue(precompilado.compilado(SolicitacaoSuporteRequest.class));
+        assertTrue(precompilado.compilado(AtualizarSolicitacaoRequest.class));
+        assertTrue(precompilado.compilado(AtualizarStatusRequest.class));
+
+        for (String titulo : new String[] {null, "", "   ", "\t\n", "abcd", "Título válido", "x".repeat(101)}) {
+            for (String descricao : new String[] {null, " ", "curta", "Descrição suficientemente longa", "y".repeat(501)}) {
+                for (Prioridade prioridade : new Prioridade[] {null, Prioridade.ALTA}) {
+                    assertMesmosErros(new SolicitacaoSuporteRequest(titulo, descricao, prioridade));
+
+                    AtualizarSolicitacaoRequest atualizacao = new AtualizarSolicitacaoRequest();
+                    atualizacao.setTitulo(titulo);
+                    atualizacao.setDescricao(descricao);
+                    atualizacao.setPrioridade(prioridade);
+                    assertMesmosErros(atualizacao);
+                }
+            }
+        }
+        assertMesmosErros(new AtualizarStatusRequest(null));
+        assertEquals(Set.of(), erros(precompilado, new SolicitacaoSuporteRequest("Título válido", "Descrição válida", Prioridade.BAIXA)));
+    }
+
+    static class ComEmail {
+        @Email
+        String contato = "invalido";
+    }
+
+    @Test
+    void classesComRestricoesNaoSuportadasUsamOValidatorPadrao() {
+        assertFalse(precompilado.compilado(ComEmail.class));
+        List<String> mensagens = List.copyOf(erros(precompilado, new ComEmail()));
+        assertEquals(erros(padrao, new ComEmail()), Set.copyOf(mensagens));
+        assertEquals(1, mensagens.size());
+    }
+}
@@ -0,0 +1,134 @@
+package br.com.fiap.byteshoponlineapp.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede o tempo até a latência estável depois de um deploy, com e sem o aquecimento do JIT
+ *
+ * Para cada modo, sobe a aplicação em uma JVM nova (java -jar), espera GET /api/prontidao
+ * responder 200 e então envia requisições em sequência (criação, listagem, busca por ID e
+ * listagem ordenada por status) em janelas de JANELA requisições. A latência estável é a
+ * mediana do p99 das últimas 10 janelas; a aplicação é considerada estável na primeira
+ * janela com p99 até 1,5x esse valor.
+ *
+ * Execução (depois de mvn package):
+ *   mvn test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=br.com.fiap.byteshoponlineapp.benchmark.AquecimentoBenchmark
+ *   -Dexec.args="target/sistema-suporte-tecnico-1.0.0.jar 60"   (jar e quantidade de janelas)
+ */
+public class AquecimentoBenchmark {
+
+    private static final int JANELA = 100;
+    private static final int PORTA = 18080;
+    private static final String CORPO_CRIACAO =
+            "{\"titulo\":\"Lentidão no sistema\",\"descricao\":\"Relatórios demorando mais que o normal\",\"prioridade\":\"ALTA\"}";
+
+    public static void main(String[] args) throws Exception {
+        Path jar = Path.of(args.length > 0 ? args[0] : "target/sistema-suporte-tecnico-1.0.0.jar");
+        int janelas = args.length > 1 ? Integer.parseInt(args[1]) : 60;
+
+        Resultado sem = medir(jar, false, janelas);
+        Resultado com = medir(jar, true, janelas);
+
+        System.out.printf("%-16s %12s %14s %12s %16s %18s%n",
+                "", "pronta (ms)", "p99 1ª janela", "p99 estável", "pronta→estável", "JVM→estável (ms)");
+        for (Resultado resultado : new Resultado[] {sem, com}) {
+            System.out.printf("%-16s %12d %11.2f ms %9.2f ms %10d ms (%d req) %12d%n",
+                    resultado.modo(), resultado.prontaMs(), resultado.p99PrimeiraMs(), resultado.p99EstavelMs(),
+                    resultado.ateEstavelMs(), resultado.requisicoesAteEstavel(),
+                    resultado.prontaMs() + resultado.ateEstavelMs());
+        }
+    }
+
+    private static Resultado medir(Path jar, boolean aquecer, int janelas) throws Exception {
+        long inicio = System.nanoTime();
+        Process aplicacao = new ProcessBuilder(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(), "-jar", jar.toString(),
+                "--server.port=" + PORTA,
+                "--suporte.aquecimento.habilitado=" + aquecer,
+                "--suporte.admissao.habilitada=false",
+                "--suporte.arquivo.habilitado=false")
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            String base = "http://localhost:" + PORTA;
+            HttpClient cliente = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+            esperarProntidao(cliente, base);
+            long prontaMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio);
+
+            HttpRequest criacao = HttpRequest.newBuilder(URI.create(base + "/api/suporte"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(CORPO_CRIACAO))
+                    .build();
+            HttpRequest listagem = HttpRequest.newBuilder(URI.create(base + "/api/suporte?limite=50")).build();
+            HttpRequest ordenada = HttpRequest.newBuilder(
+                    URI.create(base + "/api/suporte/status/ABERTA?sort=prioridade&limite=20")).build();
+            HttpRequest busca = HttpRequest.newBuilder(URI.create(base + "/api/suporte/1")).build();
+            HttpRequest[] sequencia = {criacao, listagem, busca, ordenada};
+
+            double[] p99 = new double[janelas];
+            long[] fimJanela = new long[janelas];
+            long inicioCarga = System.nanoTime();
+            long[] latencias = new long[JANELA];
+            for (int janela = 0; janela < janelas; janela++) {
+                for (int i = 0; i < JANELA; i++) {
+                    long antes = System.nanoTime();
+                    int status = cliente.send(sequencia[i % sequencia.length], HttpResponse.BodyHandlers.discarding())
+                            .statusCode();
+                    latencias[i] = System.nanoTime() - antes;
+                    if (status >= 400) {
+                        throw new IllegalStateException("Resposta " + status + " durante a medição");
+                    }
+                }
+                Arrays.sort(latencias);
+                p99[janela] = latencias[(int) Math.ceil(JANELA * 0.99) - 1] / 1e6;
+                fimJanela[janela] = System.nanoTime();
+            }
+
+            double[] ultimas = Arrays.copyOfRange(p99, Math.max(0, janelas - 10), janelas);
+            Arrays.sort(ultimas);
+            double estavel = ultimas[ultimas.length / 2];
+            int primeiraEstavel = 0;
+            while (primeiraEstavel < janelas - 1 && p99[primeiraEstavel] > 1.5 * estavel) {
+                primeiraEstavel++;
+            }
+            return new Resultado(
+                    aquecer ? "com aquecimento" : "sem aquecimento",
+                    prontaMs,
+                    p99[0],
+                    estavel,
+                    TimeUnit.NANOSECONDS.toMillis(fimJanela[primeiraEstavel] - inicioCarga),
+                    (long) (primeiraEstavel + 1) * JANELA
+            );
+        } finally {
+            aplicacao.destroy();
+            aplicacao.waitFor(30, TimeUnit.SECONDS);
+        }
+    }
+
+    private static void esperarProntidao(HttpClient cliente, String base) throws InterruptedException {
+        HttpRequest prontidao = HttpRequest.newBuilder(URI.create(base + "/api/prontidao")).build();
+        long limite = System.nanoTime() + TimeUnit.MINUTES.toNanos(2);
+        while (System.nanoTime() < limite) {
+            try {
+                if (cliente.send(prontidao, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (Exception ainda) {
+                // Servidor ainda não aceita conexões
+            }
+            Thread.sleep(20);
+        }
+        throw new IllegalStateException("A aplicação não ficou pronta em 2 minutos");
+    }
+
+    private record Resultado(String modo, long prontaMs, double p99PrimeiraMs, double p99EstavelMs,
+                             long ateEstavelMs, long requisicoesAteEstavel) {}
+}
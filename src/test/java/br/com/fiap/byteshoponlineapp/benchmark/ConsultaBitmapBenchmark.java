@@ -0,0 +1,60 @@
+package br.com.fiap.byteshoponlineapp.benchmark;
+
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import br.com.fiap.byteshoponlineapp.domain.SolicitacaoSuporte;
+import br.com.fiap.byteshoponlineapp.domain.enums.Prioridade;
+import br.com.fiap.byteshoponlineapp.domain.enums.StatusSolicitacao;
+import br.com.fiap.byteshoponlineapp.domain.repository.MemoriaSolicitacaoSuporteRepository;
+import br.com.fiap.byteshoponlineapp.domain.repository.arquivo.ArquivoFrio;
+import br.com.fiap.byteshoponlineapp.domain.repository.indice.IndiceBitmap;
+
+/**
+ * Compara o filtro "ALTA ou CRITICA, ABERTA ou EM_ANDAMENTO, criada nos últimos 7 dias" resolvido
+ * nos índices bitmap com o mesmo filtro aplicado percorrendo findAll()
+ *
+ * Execução: mvn test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=br.com.fiap.byteshoponlineapp.benchmark.ConsultaBitmapBenchmark
+ */
+public class ConsultaBitmapBenchmark {
+
+    private static final int SOLICITACOES = 500_000;
+
+    public static void main(String[] args) throws Exception {
+        MemoriaSolicitacaoSuporteRepository repository = new MemoriaSolicitacaoSuporteRepository(0, SOLICITACOES);
+        IndiceBitmap indice = new IndiceBitmap(repository,
+                new ArquivoFrio(Files.createTempDirectory("consulta-bitmap").toString()));
+        indice.iniciar();
+
+        Random aleatorio = new Random(42);
+        StatusSolicitacao[] status = StatusSolicitacao.values();
+        Prioridade[] prioridades = Prioridade.values();
+        for (int i = 0; i < SOLICITACOES; i++) {
+            SolicitacaoSuporte solicitacao = new SolicitacaoSuporte(
+                    null, "Título", "Descrição", prioridades[aleatorio.nextInt(prioridades.length)]);
+            solicitacao.setDataCriacao(solicitacao.getDataCriacao().minusDays(aleatorio.nextInt(90)));
+            solicitacao.setStatus(status[aleatorio.nextInt(status.length)]);
+            repository.save(solicitacao);
+        }
+
+        Set<StatusSolicitacao> filtroStatus = EnumSet.of(StatusSolicitacao.ABERTA, StatusSolicitacao.EM_ANDAMENTO);
+        Set<Prioridade> filtroPrioridade = EnumSet.of(Prioridade.ALTA, Prioridade.CRITICA);
+        LocalDate de = LocalDate.now().minusDays(6);
+
+        Medidor.medir("bitmap (AND/OR + cardinalidade)", 50, 500,
+                () -> indice.consultar(filtroStatus, filtroPrioridade, de, null).getLongCardinality());
+        Medidor.medir("findAll + filtro", 5, 30, () -> {
+            List<SolicitacaoSuporte> encontradas = repository.findAll().stream()
+                    .filter(s -> filtroStatus.contains(s.getStatus()))
+                    .filter(s -> filtroPrioridade.contains(s.getPrioridade()))
+                    .filter(s -> !s.getDataCriacao().toLocalDate().isBefore(de))
+                    .toList();
+            encontradas.size();
+        });
+    }
+}
@@ -0,0 +1,56 @@
+package br.com.fiap.byteshoponlineapp.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import br.com.fiap.byteshoponlineapp.api.dto.SolicitacaoSuporteResponse;
+import br.com.fiap.byteshoponlineapp.api.json.SolicitacaoSuporteResponseSerializer;
+
+/**
+ * Compara tamanho do payload e vazão de codificação/decodificação entre JSON, Smile e CBOR
+ *
+ * Execução: mvn test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=br.com.fiap.byteshoponlineapp.benchmark.FormatosBinariosBenchmark
+ */
+public class FormatosBinariosBenchmark {
+
+    private static final TypeReference<List<SolicitacaoSuporteResponse>> TIPO_LISTA = new TypeReference<>() {};
+
+    public static void main(String[] args) throws Exception {
+        int tamanhoLista = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        List<SolicitacaoSuporteResponse> lista = SerializacaoJsonBenchmark.gerarLista(tamanhoLista);
+        lista.forEach(r -> r.setDescricao("x".repeat(250) + r.getDescricao().substring(0, 50) + "y".repeat(200)));
+
+        System.out.println("Lista com " + tamanhoLista + " solicitações (descrição com 500 caracteres)");
+        medirFormato("JSON", new JsonFactory(), lista);
+        medirFormato("Smile", new SmileFactory(), lista);
+        medirFormato("CBOR", new CBORFactory(), lista);
+    }
+
+    private static void medirFormato(String nome, JsonFactory fabrica, List<SolicitacaoSuporteResponse> lista)
+            throws Exception {
+        ObjectMapper mapper = new ObjectMapper(fabrica)
+                .registerModule(new JavaTimeModule())
+                .registerModule(new SimpleModule().addSerializer(new SolicitacaoSuporteResponseSerializer()))
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        byte[] payload = mapper.writeValueAsBytes(lista);
+        System.out.printf("%-6s payload: %,d bytes%n", nome, payload.length);
+
+        ByteArrayOutputStream saida = new ByteArrayOutputStream(payload.length);
+        Medidor.medir(nome + " codificação", 30, 100, () -> {
+            saida.reset();
+            mapper.writeValue(saida, lista);
+        });
+        Medidor.medir(nome + " decodificação", 30, 100, () -> mapper.readValue(payload, TIPO_LISTA));
+    }
+}
@@ -0,0 +1,154 @@
+package br.com.fiap.byteshoponlineapp.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import br.com.fiap.byteshoponlineapp.ByteShopOnlineAppApplication;
+import br.com.fiap.byteshoponlineapp.grpc.ServidorGrpc;
+import br.com.fiap.byteshoponlineapp.grpc.proto.BuscarRequest;
+import br.com.fiap.byteshoponlineapp.grpc.proto.CriarRequest;
+import br.com.fiap.byteshoponlineapp.grpc.proto.ListarRequest;
+import br.com.fiap.byteshoponlineapp.grpc.proto.Prioridade;
+import br.com.fiap.byteshoponlineapp.grpc.proto.LoteSolicitacoes;
+import br.com.fiap.byteshoponlineapp.grpc.proto.Status;
+import br.com.fiap.byteshoponlineapp.grpc.proto.SuporteGrpc;
+import io.grpc.Grpc;
+import io.grpc.InsecureChannelCredentials;
+import io.grpc.ManagedChannel;
+
+/**
+ * Vazão da API REST (HTTP/1.1 + JSON) contra a API gRPC (HTTP/2 + protobuf) na mesma aplicação
+ *
+ * Sobe a aplicação nesta JVM (portas livres, sem controle de admissão, aquecimento e SLA) e mede,
+ * o tempo de uma listagem das 10.000 ABERTAS (JSON inteiro contra stream gRPC, por item e em lotes)
+ * e, com vários clientes simultâneos, chamadas por segundo de busca por ID e de criação. Clientes e servidor
+ * dividem a mesma máquina: a vazão inclui o custo dos dois lados.
+ *
+ * Execução: mvn test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=br.com.fiap.byteshoponlineapp.benchmark.GrpcRestBenchmark
+ */
+public class GrpcRestBenchmark {
+
+    private static final int CLIENTES = 8;
+    private static final int SOLICITACOES = 10_000;
+    private static final long AQUECIMENTO_MS = 5_000;
+    private static final long MEDICAO_MS = 10_000;
+    private static final String CORPO_CRIACAO = """
+            {"titulo":"Falha no login do portal","descricao":"Usuário não consegue entrar desde ontem","prioridade":"ALTA"}""";
+
+    public static void main(String[] args) throws Exception {
+        ConfigurableApplicationContext contexto = SpringApplication.run(ByteShopOnlineAppApplication.class,
+                "--server.port=0", "--suporte.grpc.habilitado=true", "--suporte.grpc.porta=0", "--suporte.admissao.habilitada=false",
+                "--suporte.aquecimento.habilitado=false", "--suporte.sla.habilitado=false",
+                "--logging.level.root=WARN", "--logging.level.br.com.fiap.byteshoponlineapp=WARN");
+        String base = "http://localhost:" + contexto.getEnvironment().getProperty("local.server.port") + "/api/suporte";
+        ManagedChannel canal = Grpc.newChannelBuilderForAddress("localhost",
+                contexto.getBean(ServidorGrpc.class).getPorta(), InsecureChannelCredentials.create()).build();
+        SuporteGrpc.SuporteBlockingStub stub = SuporteGrpc.newBlockingStub(canal);
+        HttpClient http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+        long[] ids = new long[SOLICITACOES];
+        for (int i = 0; i < SOLICITACOES; i++) {
+            ids[i] = stub.criar(criarRequest()).getId();
+        }
+        HttpRequest post = HttpRequest.newBuilder(URI.create(base))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(CORPO_CRIACAO))
+                .build();
+
+        HttpRequest listar = HttpRequest.newBuilder(URI.create(base + "/status/ABERTA")).GET().build();
+        Medidor.Resultado rest = Medidor.medir("Listar ABERTAS: REST (JSON)", 20, 50,
+                () -> http.send(listar, HttpResponse.BodyHandlers.ofByteArray()));
+        for (int tamanhoLote : new int[] {1, 500}) {
+            ListarRequest listarGrpc = ListarRequest.newBuilder()
+                    .setStatus(Status.ABERTA)
+                    .setTamanhoLote(tamanhoLote)
+                    .build();
+            Medidor.Resultado grpc = Medidor.medir("Listar ABERTAS: gRPC, lotes de " + tamanhoLote, 20, 50, () -> {
+                Iterator<LoteSolicitacoes> stream = stub.listar(listarGrpc);
+                while (stream.hasNext()) {
+                    stream.next();
+                }
+            });
+            System.out.printf("  %.1fx o tempo do REST%n", grpc.msPorOperacao() / rest.msPorOperacao());
+        }
+
+        System.out.printf("%d clientes, %d s por medição%n", CLIENTES, MEDICAO_MS / 1000);
+        comparar("Buscar por ID",
+                () -> http.send(HttpRequest.newBuilder(URI.create(base + "/" + sortear(ids))).build(),
+                        HttpResponse.BodyHandlers.ofByteArray()),
+                () -> stub.buscar(BuscarRequest.newBuilder().setId(sortear(ids)).build()));
+        comparar("Criar",
+                () -> http.send(post, HttpResponse.BodyHandlers.ofByteArray()),
+                () -> stub.criar(criarRequest()));
+
+        canal.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        contexto.close();
+    }
+
+    private static void comparar(String nome, Callable<?> rest, Callable<?> grpc) throws Exception {
+        double vazaoRest = vazao(rest);
+        double vazaoGrpc = vazao(grpc);
+        System.out.printf("%-16s REST %,9.0f chamadas/s | gRPC %,9.0f chamadas/s | %.1fx%n",
+                nome, vazaoRest, vazaoGrpc, vazaoGrpc / vazaoRest);
+    }
+
+    /**
+     * Chamadas por segundo com CLIENTES threads chamando sem pausa, depois do aquecimento
+     */
+    private static double vazao(Callable<?> chamada) throws Exception {
+        rodar(chamada, AQUECIMENTO_MS);
+        return rodar(chamada, MEDICAO_MS) * 1000.0 / MEDICAO_MS;
+    }
+
+    private static long rodar(Callable<?> chamada, long duracaoMs) throws Exception {
+        ExecutorService clientes = Executors.newFixedThreadPool(CLIENTES);
+        AtomicBoolean parar = new AtomicBoolean();
+        List<Future<Long>> contagens = new ArrayList<>();
+        for (int i = 0; i < CLIENTES; i++) {
+            contagens.add(clientes.submit(() -> {
+                long feitas = 0;
+                while (!parar.get()) {
+                    chamada.call();
+                    feitas++;
+                }
+                return feitas;
+            }));
+        }
+        Thread.sleep(duracaoMs);
+        parar.set(true);
+        long total = 0;
+        for (Future<Long> contagem : contagens) {
+            total += contagem.get();
+        }
+        clientes.shutdown();
+        return total;
+    }
+
+    private static long sortear(long[] ids) {
+        return ids[ThreadLocalRandom.current().nextInt(ids.length)];
+    }
+
+    private static CriarRequest criarRequest() {
+        return CriarRequest.newBuilder()
+                .setTitulo("Falha no login do portal")
+                .setDescricao("Usuário não consegue entrar desde ontem")
+                .setPrioridade(Prioridade.ALTA)
+                .build();
+    }
+}
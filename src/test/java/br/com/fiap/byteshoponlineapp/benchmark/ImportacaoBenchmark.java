@@ -0,0 +1,211 @@
+package br.com.fiap.byteshoponlineapp.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+
+import br.com.fiap.byteshoponlineapp.domain.SolicitacaoSuporte;
+import br.com.fiap.byteshoponlineapp.domain.repository.MemoriaSolicitacaoSuporteRepository;
+import br.com.fiap.byteshoponlineapp.domain.repository.SolicitacaoSuporteRepository;
+import br.com.fiap.byteshoponlineapp.domain.repository.jdbc.JdbcSolicitacaoSuporteRepository;
+import br.com.fiap.byteshoponlineapp.service.execucao.ExecucaoParalela;
+import br.com.fiap.byteshoponlineapp.service.importacao.FormatoImportacao;
+import br.com.fiap.byteshoponlineapp.service.importacao.ImportadorSolicitacoes;
+import jakarta.validation.Validation;
+
+/**
+ * Vazão e pico de heap da importação em massa (200 mil registros, 2% inválidos)
+ *
+ * Compara o importador em streaming (lotes paralelos + saveAll) com a abordagem ingênua de
+ * carregar o corpo inteiro e importar registro a registro com save, no repositório em memória
+ * e no JDBC (H2 em arquivo), onde o saveAll aproveita o group commit.
+ *
+ * Execução: mvn test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=br.com.fiap.byteshoponlineapp.benchmark.ImportacaoBenchmark
+ */
+public class ImportacaoBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int quantidade = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        byte[] csv = gerar(quantidade, FormatoImportacao.CSV);
+        byte[] ndjson = gerar(quantidade, FormatoImportacao.NDJSON);
+        System.out.printf("%,d registros: CSV %,d KB, NDJSON %,d KB%n", quantidade, csv.length / 1024, ndjson.length / 1024);
+
+        medir("Memória, streaming CSV", csv, FormatoImportacao.CSV, quantidade,
+                () -> new MemoriaSolicitacaoSuporteRepository(0, 1024), 1_000);
+        medir("Memória, streaming NDJSON", ndjson, FormatoImportacao.NDJSON, quantidade,
+                () -> new MemoriaSolicitacaoSuporteRepository(0, 1024), 1_000);
+        medir("Memória, corpo inteiro + save CSV", csv, FormatoImportacao.CSV, quantidade,
+                () -> new MemoriaSolicitacaoSuporteRepository(0, 1024), Integer.MAX_VALUE);
+
+        // Sem reter as solicitações, o pico de heap mostra só a memória de trabalho da importação
+        medir("Descarte, streaming CSV", csv, FormatoImportacao.CSV, quantidade,
+                ImportacaoBenchmark::descarte, 1_000);
+        medir("Descarte, corpo inteiro + save CSV", csv, FormatoImportacao.CSV, quantidade,
+                ImportacaoBenchmark::descarte, Integer.MAX_VALUE);
+
+        Path diretorio = Files.createTempDirectory("suporte-importacao");
+        for (String variante : List.of("streaming", "corpo inteiro + save")) {
+            try (HikariDataSource dataSource = new HikariDataSource()) {
+                dataSource.setJdbcUrl("jdbc:h2:file:" + diretorio.resolve(variante.replace(' ', '-')));
+                dataSource.setMaximumPoolSize(4);
+                new ResourceDatabasePopulator(new ClassPathResource("schema-suporte.sql")).execute(dataSource);
+                try (JdbcSolicitacaoSuporteRepository jdbc = new JdbcSolicitacaoSuporteRepository(dataSource, 10_000, 256)) {
+                    medir("JDBC, " + variante + " CSV", csv, FormatoImportacao.CSV, quantidade / 4,
+                            () -> jdbc, variante.equals("streaming") ? 1_000 : Integer.MAX_VALUE);
+                }
+            }
+        }
+    }
+
+    /**
+     * tamanhoLote = Integer.MAX_VALUE reproduz a abordagem ingênua: um único lote com o corpo
+     * inteiro em memória, gravado com um save por registro numa só thread
+     */
+    private static void medir(String nome, byte[] corpo, FormatoImportacao formato, int quantidade,
+                              Supplier<SolicitacaoSuporteRepository> repositorio, int tamanhoLote) throws Exception {
+        byte[] parte = quantidade == contarLinhas(corpo, formato) ? corpo : cortar(corpo, formato, quantidade);
+        boolean ingenuo = tamanhoLote == Integer.MAX_VALUE;
+        long[] importadas = new long[1];
+        Medidor.Operacao importar = () -> {
+            SolicitacaoSuporteRepository repository = repositorio.get();
+            ImportadorSolicitacoes importador = new ImportadorSolicitacoes(
+                    ingenuo ? semSaveAll(repository) : repository,
+                    new ExecucaoParalela(Executors.newCachedThreadPool(), ingenuo ? 1 : 8),
+                    new SpringValidatorAdapter(Validation.buildDefaultValidatorFactory().getValidator()),
+                    new ObjectMapper(), tamanhoLote, ingenuo ? 1 : 0, 100);
+            importadas[0] = importador.importar(new ByteArrayInputStream(parte), formato).importadas();
+        };
+        importar.executar();
+        zerarPico();
+        Medidor.Resultado resultado = Medidor.medir(nome, 0, 2, importar);
+        System.out.printf("  %,.0f registros/s, %,d importados, pico de heap %,d MB%n",
+                quantidade / (resultado.msPorOperacao() / 1000), importadas[0], picoHeap() / (1024 * 1024));
+    }
+
+    private static SolicitacaoSuporteRepository descarte() {
+        long[] ids = new long[1];
+        return (SolicitacaoSuporteRepository) Proxy.newProxyInstance(
+                SolicitacaoSuporteRepository.class.getClassLoader(),
+                new Class<?>[] {SolicitacaoSuporteRepository.class},
+                (proxy, metodo, argumentos) -> {
+                    if (!metodo.getName().equals("save")) {
+                        return metodo.isDefault() ? InvocationHandler.invokeDefault(proxy, metodo, argumentos) : null;
+                    }
+                    SolicitacaoSuporte solicitacao = (SolicitacaoSuporte) argumentos[0];
+                    synchronized (ids) {
+                        solicitacao.setId(++ids[0]);
+                    }
+                    return solicitacao;
+                });
+    }
+
+    private static byte[] gerar(int quantidade, FormatoImportacao formato) {
+        StringBuilder corpo = new StringBuilder(quantidade * 120);
+        if (formato == FormatoImportacao.CSV) {
+            corpo.append("titulo,descricao,prioridade,status,dataCriacao,dataAtualizacao\n");
+        }
+        SplittableRandom aleatorio = new SplittableRandom(42);
+        String[] prioridades = {"BAIXA", "MEDIA", "ALTA", "CRITICA"};
+        String[] status = {"ABERTA", "EM_ANDAMENTO", "RESOLVIDA", "FECHADA"};
+        for (int i = 0; i < quantidade; i++) {
+            String titulo = aleatorio.nextInt(50) == 0 ? "abc" : "Solicitação importada " + i;
+            String descricao = "Descrição do problema, com \"aspas\" e vírgulas " + i;
+            String prioridade = prioridades[aleatorio.nextInt(prioridades.length)];
+            String estado = status[aleatorio.nextInt(status.length)];
+            int dia = 1 + aleatorio.nextInt(27);
+            if (formato == FormatoImportacao.CSV) {
+                corpo.append(titulo).append(",\"").append(descricao.replace("\"", "\"\"")).append("\",")
+                        .append(prioridade).append(',').append(estado)
+                        .append(",2024-02-").append(String.format("%02d", dia)).append("T09:00:00")
+                        .append(",2024-02-").append(String.format("%02d", dia + 1)).append("T17:30:00\n");
+            } else {
+                corpo.append("{\"titulo\":\"").append(titulo).append("\",\"descricao\":\"")
+                        .append(descricao.replace("\"", "\\\"")).append("\",\"prioridade\":\"").append(prioridade)
+                        .append("\",\"status\":\"").append(estado)
+                        .append("\",\"dataCriacao\":\"2024-02-").append(String.format("%02d", dia)).append("T09:00:00")
+                        .append("\",\"dataAtualizacao\":\"2024-02-").append(String.format("%02d", dia + 1))
+                        .append("T17:30:00\"}\n");
+            }
+        }
+        return corpo.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int contarLinhas(byte[] corpo, FormatoImportacao formato) {
+        int linhas = 0;
+        for (byte b : corpo) {
+            if (b == '\n') {
+                linhas++;
+            }
+        }
+        return formato == FormatoImportacao.CSV ? linhas - 1 : linhas;
+    }
+
+    private static byte[] cortar(byte[] corpo, FormatoImportacao formato, int quantidade) {
+        int linhas = formato == FormatoImportacao.CSV ? quantidade + 1 : quantidade;
+        int fim = 0;
+        while (linhas > 0) {
+            if (corpo[fim++] == '\n') {
+                linhas--;
+            }
+        }
+        byte[] parte = new byte[fim];
+        System.arraycopy(corpo, 0, parte, 0, fim);
+        return parte;
+    }
+
+    /**
+     * Esconde o saveAll do repositório: cada registro vira um save (e, no JDBC, uma espera de commit)
+     */
+    private static SolicitacaoSuporteRepository semSaveAll(SolicitacaoSuporteRepository repository) {
+        return (SolicitacaoSuporteRepository) Proxy.newProxyInstance(
+                SolicitacaoSuporteRepository.class.getClassLoader(),
+                new Class<?>[] {SolicitacaoSuporteRepository.class},
+                (proxy, metodo, argumentos) -> {
+                    if (metodo.getName().equals("saveAll")) {
+                        for (Object solicitacao : (List<?>) argumentos[0]) {
+                            repository.save((SolicitacaoSuporte) solicitacao);
+                        }
+                        return argumentos[0];
+                    }
+                    return metodo.invoke(repository, argumentos);
+                });
+    }
+
+    private static void zerarPico() throws InterruptedException {
+        System.gc();
+        Thread.sleep(100);
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+    private static long picoHeap() {
+        long pico = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pico += pool.getPeakUsage().getUsed();
+            }
+        }
+        return pico;
+    }
+}
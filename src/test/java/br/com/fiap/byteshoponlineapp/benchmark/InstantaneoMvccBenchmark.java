@@ -0,0 +1,92 @@
+package br.com.fiap.byteshoponlineapp.benchmark;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import br.com.fiap.byteshoponlineapp.domain.SolicitacaoSuporte;
+import br.com.fiap.byteshoponlineapp.domain.enums.Prioridade;
+import br.com.fiap.byteshoponlineapp.domain.enums.StatusSolicitacao;
+import br.com.fiap.byteshoponlineapp.domain.repository.MemoriaSolicitacaoSuporteRepository;
+import br.com.fiap.byteshoponlineapp.domain.repository.SolicitacaoSuporteRepository;
+import br.com.fiap.byteshoponlineapp.domain.repository.mvcc.MvccSolicitacaoSuporteRepository;
+
+/**
+ * Leituras de lista inteira (como nas estatísticas) concorrendo com escritas, em 100 mil solicitações
+ *
+ * Os escritores movem a única solicitação EM_ANDAMENTO de um ID para o seguinte com duas escritas
+ * (devolve a atual para ABERTA e promove a seguinte). Um leitor que vê duas EM_ANDAMENTO leu um estado
+ * que nunca existiu; a lista também deve ter sempre 100 mil solicitações.
+ *
+ * Execução: mvn test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=br.com.fiap.byteshoponlineapp.benchmark.InstantaneoMvccBenchmark
+ */
+public class InstantaneoMvccBenchmark {
+
+    private static final int QUANTIDADE = 100_000;
+    private static final long DURACAO_MS = 5_000;
+
+    public static void main(String[] args) throws Exception {
+        for (int rodada = 0; rodada < 2; rodada++) {
+            System.out.println(rodada == 0 ? "-- aquecimento --" : "-- medição --");
+            medir("memoria", new MemoriaSolicitacaoSuporteRepository(0, QUANTIDADE));
+            medir("mvcc", new MvccSolicitacaoSuporteRepository(QUANTIDADE));
+        }
+    }
+
+    private static void medir(String nome, SolicitacaoSuporteRepository repository) throws Exception {
+        long[] ids = new long[QUANTIDADE];
+        for (int i = 0; i < QUANTIDADE; i++) {
+            ids[i] = repository.save(new SolicitacaoSuporte(null, "Solicitação " + i, "Descrição do problema",
+                    Prioridade.MEDIA)).getId();
+        }
+
+        Medidor.Resultado atualizar = Medidor.medir(nome + ": findById + update sem leitores", 1_000, 200_000,
+                () -> repository.update(repository.findById(ids[(int) (System.nanoTime() % QUANTIDADE)]).orElseThrow()));
+        System.out.printf("  %.0f ns/escrita%n", atualizar.msPorOperacao() * 1e6);
+
+        AtomicBoolean parar = new AtomicBoolean();
+        LongAdder escritas = new LongAdder();
+        Thread escritor = new Thread(() -> {
+            for (int i = 0; !parar.get(); i++) {
+                SolicitacaoSuporte atual = repository.findById(ids[i % QUANTIDADE]).orElseThrow();
+                if (atual.getStatus() == StatusSolicitacao.EM_ANDAMENTO) {
+                    atual.setStatus(StatusSolicitacao.ABERTA);
+                    repository.update(atual);
+                }
+                SolicitacaoSuporte seguinte = repository.findById(ids[(i + 1) % QUANTIDADE]).orElseThrow();
+                seguinte.setStatus(StatusSolicitacao.EM_ANDAMENTO);
+                repository.update(seguinte);
+                escritas.add(2);
+            }
+        });
+        escritor.start();
+
+        long leituras = 0;
+        long inconsistentes = 0;
+        long fim = System.currentTimeMillis() + DURACAO_MS;
+        long inicio = System.nanoTime();
+        while (System.currentTimeMillis() < fim) {
+            List<SolicitacaoSuporte> todas = repository.findAll();
+            long emAndamento = 0;
+            for (SolicitacaoSuporte solicitacao : todas) {
+                if (solicitacao.getStatus() == StatusSolicitacao.EM_ANDAMENTO) {
+                    emAndamento++;
+                }
+            }
+            if (emAndamento > 1 || todas.size() != QUANTIDADE) {
+                inconsistentes++;
+            }
+            leituras++;
+        }
+        double msPorLeitura = (System.nanoTime() - inicio) / 1e6 / leituras;
+        parar.set(true);
+        escritor.join();
+
+        System.out.printf("  com leitor: %,d escritas/s, findAll %.1f ms, %,d de %,d leituras inconsistentes%n",
+                escritas.sum() * 1000 / DURACAO_MS, msPorLeitura, inconsistentes, leituras);
+        if (repository instanceof MvccSolicitacaoSuporteRepository mvcc) {
+            System.out.printf("  versões antigas retidas ao final: %,d%n", mvcc.versoesRetidas());
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package br.com.fiap.byteshoponlineapp.benchmark;
+
+import java.nio.file.Files;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import br.com.fiap.byteshoponlineapp.domain.SolicitacaoSuporte;
+import br.com.fiap.byteshoponlineapp.domain.enums.Prioridade;
+import br.com.fiap.byteshoponlineapp.domain.repository.MemoriaSolicitacaoSuporteRepository;
+import br.com.fiap.byteshoponlineapp.domain.repository.arquivo.ArquivoFrio;
+import br.com.fiap.byteshoponlineapp.domain.repository.indice.IndiceOrdenado;
+import br.com.fiap.byteshoponlineapp.domain.repository.indice.Ordenacao;
+
+/**
+ * Compara as 50 primeiras solicitações por prioridade lidas do índice ordenado
+ * com findAll() + ordenação a cada requisição
+ *
+ * Execução: mvn test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=br.com.fiap.byteshoponlineapp.benchmark.ListagemOrdenadaBenchmark
+ */
+public class ListagemOrdenadaBenchmark {
+
+    private static final int SOLICITACOES = 500_000;
+    private static final int LIMITE = 50;
+
+    public static void main(String[] args) throws Exception {
+        MemoriaSolicitacaoSuporteRepository repository = new MemoriaSolicitacaoSuporteRepository(0, SOLICITACOES);
+        IndiceOrdenado indice = new IndiceOrdenado(repository,
+                new ArquivoFrio(Files.createTempDirectory("listagem-ordenada").toString()));
+        indice.iniciar();
+
+        Random aleatorio = new Random(42);
+        Prioridade[] prioridades = Prioridade.values();
+        for (int i = 0; i < SOLICITACOES; i++) {
+            SolicitacaoSuporte solicitacao = new SolicitacaoSuporte(
+                    null, "Título", "Descrição", prioridades[aleatorio.nextInt(prioridades.length)]);
+            solicitacao.setDataCriacao(solicitacao.getDataCriacao().minusMinutes(aleatorio.nextInt(90 * 24 * 60)));
+            repository.save(solicitacao);
+        }
+
+        Comparator<SolicitacaoSuporte> porPrioridade = Comparator
+                .comparing(SolicitacaoSuporte::getPrioridade, Comparator.reverseOrder())
+                .thenComparing(SolicitacaoSuporte::getDataCriacao)
+                .thenComparing(SolicitacaoSuporte::getId);
+
+        Medidor.medir("índice ordenado (primeiros " + LIMITE + ")", 100, 2000, () -> {
+            List<Long> ids = indice.primeiros(Ordenacao.PRIORIDADE, null, LIMITE);
+            ids.forEach(repository::findById);
+        });
+        Medidor.medir("findAll + sort + limite", 3, 20, () -> {
+            List<SolicitacaoSuporte> primeiras = repository.findAll().stream()
+                    .sorted(porPrioridade)
+                    .limit(LIMITE)
+                    .toList();
+            primeiras.size();
+        });
+    }
+}
@@ -0,0 +1,46 @@
+package br.com.fiap.byteshoponlineapp.benchmark;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Utilitário mínimo para os benchmarks manuais (executados via main, fora do surefire)
+ *
+ * Mede tempo médio por operação e bytes alocados pela thread atual.
+ */
+final class Medidor {
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private Medidor() {
+    }
+
+    interface Operacao {
+        void executar() throws Exception;
+    }
+
+    static Resultado medir(String nome, int aquecimento, int iteracoes, Operacao operacao) throws Exception {
+        for (int i = 0; i < aquecimento; i++) {
+            operacao.executar();
+        }
+        long id = Thread.currentThread().getId();
+        long alocadoAntes = THREADS.getThreadAllocatedBytes(id);
+        long inicio = System.nanoTime();
+        for (int i = 0; i < iteracoes; i++) {
+            operacao.executar();
+        }
+        long duracao = System.nanoTime() - inicio;
+        long alocado = THREADS.getThreadAllocatedBytes(id) - alocadoAntes;
+        Resultado resultado = new Resultado(nome, duracao / (double) iteracoes / 1_000_000, alocado / iteracoes);
+        System.out.println(resultado);
+        return resultado;
+    }
+
+    record Resultado(String nome, double msPorOperacao, long bytesPorOperacao) {
+
+        @Override
+        public String toString() {
+            return String.format("%-40s %10.3f ms/op %14d B/op", nome, msPorOperacao, bytesPorOperacao);
+        }
+    }
+}
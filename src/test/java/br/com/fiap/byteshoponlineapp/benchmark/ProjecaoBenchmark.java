@@ -0,0 +1,63 @@
+package br.com.fiap.byteshoponlineapp.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import br.com.fiap.byteshoponlineapp.api.dto.SolicitacaoSuporteResponse;
+import br.com.fiap.byteshoponlineapp.api.json.Projecao;
+import br.com.fiap.byteshoponlineapp.api.json.SolicitacaoSuporteResponseSerializer;
+import br.com.fiap.byteshoponlineapp.api.json.SolicitacoesProjetadas;
+import br.com.fiap.byteshoponlineapp.domain.SolicitacaoSuporte;
+import br.com.fiap.byteshoponlineapp.domain.enums.Prioridade;
+
+/**
+ * Compara a listagem completa (entidade -> DTO -> JSON) com a projeção id,status,prioridade,titulo
+ * escrita direto da entidade, com descrições de 500 caracteres
+ *
+ * Execução: mvn test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=br.com.fiap.byteshoponlineapp.benchmark.ProjecaoBenchmark
+ */
+public class ProjecaoBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int tamanhoLista = args.length > 0 ? Integer.parseInt(args[0]) : 1_000;
+        List<SolicitacaoSuporte> solicitacoes = gerar(tamanhoLista);
+
+        ObjectMapper mapper = new ObjectMapper()
+                .registerModule(new SimpleModule().addSerializer(new SolicitacaoSuporteResponseSerializer()));
+        ByteArrayOutputStream saida = new ByteArrayOutputStream(tamanhoLista * 700);
+
+        System.out.println("Lista com " + tamanhoLista + " solicitações");
+        Medidor.Resultado completa = Medidor.medir("Resposta completa", 200, 1_000, () -> {
+            saida.reset();
+            List<SolicitacaoSuporteResponse> response = solicitacoes.stream()
+                    .map(SolicitacaoSuporteResponse::new)
+                    .collect(Collectors.toList());
+            mapper.writeValue(saida, response);
+        });
+        int bytesCompleta = saida.size();
+        Medidor.Resultado projetada = Medidor.medir("fields=id,status,prioridade,titulo", 200, 1_000, () -> {
+            saida.reset();
+            mapper.writeValue(saida, SolicitacoesProjetadas.lista(solicitacoes,
+                    Projecao.de("id,status,prioridade,titulo")));
+        });
+        System.out.printf("Corpo: %,d -> %,d bytes; tempo %.1fx menor%n",
+                bytesCompleta, saida.size(), completa.msPorOperacao() / projetada.msPorOperacao());
+    }
+
+    private static List<SolicitacaoSuporte> gerar(int tamanho) {
+        List<SolicitacaoSuporte> lista = new ArrayList<>(tamanho);
+        Prioridade[] prioridades = Prioridade.values();
+        String descricao = "Descrição detalhada do problema relatado. ".repeat(12).substring(0, 500);
+        for (int i = 0; i < tamanho; i++) {
+            lista.add(new SolicitacaoSuporte((long) i + 1, "Solicitação de teste " + i, descricao,
+                    prioridades[i % prioridades.length]));
+        }
+        return lista;
+    }
+}
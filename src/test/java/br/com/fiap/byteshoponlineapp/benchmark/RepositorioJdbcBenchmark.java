@@ -0,0 +1,79 @@
+package br.com.fiap.byteshoponlineapp.benchmark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import br.com.fiap.byteshoponlineapp.domain.SolicitacaoSuporte;
+import br.com.fiap.byteshoponlineapp.domain.enums.Prioridade;
+import br.com.fiap.byteshoponlineapp.domain.repository.MemoriaSolicitacaoSuporteRepository;
+import br.com.fiap.byteshoponlineapp.domain.repository.SolicitacaoSuporteRepository;
+import br.com.fiap.byteshoponlineapp.domain.repository.jdbc.JdbcSolicitacaoSuporteRepository;
+
+/**
+ * Compara a vazão de criação + leitura por ID do repositório em memória com o repositório
+ * JDBC (H2 em arquivo), variando o número de threads. Com mais threads o group commit
+ * agrupa mais escritas por transação e a vazão do JDBC cresce.
+ *
+ * Execução: mvn test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=br.com.fiap.byteshoponlineapp.benchmark.RepositorioJdbcBenchmark
+ */
+public class RepositorioJdbcBenchmark {
+
+    private static final long DURACAO_MS = 2_000;
+
+    public static void main(String[] args) throws Exception {
+        Path diretorio = Files.createTempDirectory("suporte-jdbc");
+        int nucleos = Runtime.getRuntime().availableProcessors();
+        for (int threads = 1; threads <= nucleos * 4; threads *= 2) {
+            medir("memoria", new MemoriaSolicitacaoSuporteRepository(0, 1024), threads);
+
+            try (HikariDataSource dataSource = new HikariDataSource()) {
+                dataSource.setJdbcUrl("jdbc:h2:file:" + diretorio.resolve("t" + threads));
+                dataSource.setMaximumPoolSize(4);
+                new ResourceDatabasePopulator(new ClassPathResource("schema-suporte.sql")).execute(dataSource);
+                try (JdbcSolicitacaoSuporteRepository jdbc = new JdbcSolicitacaoSuporteRepository(dataSource, 10_000, 256)) {
+                    medir("jdbc", jdbc, threads);
+                }
+            }
+        }
+    }
+
+    private static void medir(String nome, SolicitacaoSuporteRepository repository, int threads) throws Exception {
+        LongAdder operacoes = new LongAdder();
+        CountDownLatch inicio = new CountDownLatch(1);
+        Thread[] trabalhadores = new Thread[threads];
+        long fim = System.currentTimeMillis() + DURACAO_MS;
+
+        for (int t = 0; t < threads; t++) {
+            trabalhadores[t] = new Thread(() -> {
+                try {
+                    inicio.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                long contador = 0;
+                while (System.currentTimeMillis() < fim) {
+                    SolicitacaoSuporte salva = repository.save(
+                            new SolicitacaoSuporte(null, "Título", "Descrição do problema", Prioridade.MEDIA));
+                    repository.findById(salva.getId());
+                    contador++;
+                }
+                operacoes.add(contador);
+            });
+            trabalhadores[t].start();
+        }
+        inicio.countDown();
+        for (Thread trabalhador : trabalhadores) {
+            trabalhador.join();
+        }
+        System.out.printf("%-8s threads=%-3d %,12d criações/s%n",
+                nome, threads, operacoes.sum() * 1000 / DURACAO_MS);
+    }
+}
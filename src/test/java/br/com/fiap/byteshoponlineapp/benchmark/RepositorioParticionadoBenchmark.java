@@ -0,0 +1,62 @@
+package br.com.fiap.byteshoponlineapp.benchmark;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.LongAdder;
+
+import br.com.fiap.byteshoponlineapp.domain.SolicitacaoSuporte;
+import br.com.fiap.byteshoponlineapp.domain.enums.Prioridade;
+import br.com.fiap.byteshoponlineapp.domain.repository.MemoriaSolicitacaoSuporteRepository;
+
+/**
+ * Mede a vazão de criação (save) e leitura (findById) em rajada, variando o número de
+ * threads, com uma única partição (comportamento anterior) e com uma partição por núcleo
+ *
+ * Execução: mvn test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=br.com.fiap.byteshoponlineapp.benchmark.RepositorioParticionadoBenchmark
+ */
+public class RepositorioParticionadoBenchmark {
+
+    private static final long DURACAO_MS = 2_000;
+
+    public static void main(String[] args) throws Exception {
+        int nucleos = Runtime.getRuntime().availableProcessors();
+        System.out.println("Núcleos disponíveis: " + nucleos);
+        for (int threads = 1; threads <= nucleos * 2; threads *= 2) {
+            medir(threads, 1);
+            medir(threads, nucleos);
+        }
+    }
+
+    private static void medir(int threads, int particoes) throws Exception {
+        MemoriaSolicitacaoSuporteRepository repository = new MemoriaSolicitacaoSuporteRepository(particoes, 1024);
+        LongAdder operacoes = new LongAdder();
+        CountDownLatch inicio = new CountDownLatch(1);
+        Thread[] trabalhadores = new Thread[threads];
+        long fim = System.currentTimeMillis() + DURACAO_MS;
+
+        for (int t = 0; t < threads; t++) {
+            trabalhadores[t] = new Thread(() -> {
+                try {
+                    inicio.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                long contador = 0;
+                while ((contador & 1023) != 0 || System.currentTimeMillis() < fim) {
+                    SolicitacaoSuporte salva = repository.save(
+                            new SolicitacaoSuporte(null, "Título", "Descrição do problema", Prioridade.MEDIA));
+                    repository.findById(salva.getId());
+                    contador++;
+                }
+                operacoes.add(contador);
+            });
+            trabalhadores[t].start();
+        }
+        inicio.countDown();
+        for (Thread trabalhador : trabalhadores) {
+            trabalhador.join();
+        }
+        System.out.printf("threads=%-3d particoes=%-3d %,12d criações/s%n",
+                threads, particoes, operacoes.sum() * 1000 / DURACAO_MS);
+    }
+}
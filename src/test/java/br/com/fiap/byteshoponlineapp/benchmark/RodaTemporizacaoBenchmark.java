@@ -0,0 +1,140 @@
+package br.com.fiap.byteshoponlineapp.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import br.com.fiap.byteshoponlineapp.domain.HistoricoStatus;
+import br.com.fiap.byteshoponlineapp.domain.SolicitacaoSuporte;
+import br.com.fiap.byteshoponlineapp.domain.enums.Prioridade;
+import br.com.fiap.byteshoponlineapp.domain.enums.StatusSolicitacao;
+import br.com.fiap.byteshoponlineapp.service.sla.RodaTemporizacao;
+
+/**
+ * Custo de manter 1 milhão de prazos de SLA pendentes (até 72h, tick de 1s, roda de 4096 posições)
+ *
+ * Compara a roda de temporização com um ScheduledThreadPoolExecutor (heap binário, O(log n)) e com
+ * a alternativa de varrer as solicitações ABERTAS a cada tick procurando prazos vencidos.
+ *
+ * Execução: mvn test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=br.com.fiap.byteshoponlineapp.benchmark.RodaTemporizacaoBenchmark
+ */
+public class RodaTemporizacaoBenchmark {
+
+    private static final long TICK_MS = 1_000;
+    private static final long HORIZONTE_MS = 72 * 3_600_000L;
+
+    public static void main(String[] args) throws Exception {
+        int quantidade = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        long[] prazos = new long[quantidade];
+        SplittableRandom aleatorio = new SplittableRandom(42);
+        for (int i = 0; i < quantidade; i++) {
+            prazos[i] = 1 + aleatorio.nextLong(HORIZONTE_MS);
+        }
+        System.out.printf("%,d prazos pendentes em até 72h%n", quantidade);
+
+        medirRoda(prazos);
+        medirExecutor(prazos);
+        medirVarredura(prazos);
+    }
+
+    private static void medirRoda(long[] prazos) throws Exception {
+        long[] disparados = new long[1];
+        long heapAntes = heapUsado();
+        RodaTemporizacao roda = new RodaTemporizacao(TICK_MS, 4096, 0, (chave, dado) -> disparados[0]++);
+        List<RodaTemporizacao.Temporizador> temporizadores = new ArrayList<>(prazos.length);
+
+        Medidor.Resultado agendar = Medidor.medir("Roda: agendar 1M", 0, 1, () -> {
+            for (int i = 0; i < prazos.length; i++) {
+                temporizadores.add(roda.agendar(prazos[i], i, 0));
+            }
+            // O primeiro tick liga os novos temporizadores às posições
+            roda.avancar(TICK_MS);
+        });
+        System.out.printf("  %.0f ns/agendamento, %d B retidos/prazo%n",
+                agendar.msPorOperacao() * 1e6 / prazos.length, porPrazo(heapAntes, prazos.length));
+
+        Medidor.Resultado cancelar = Medidor.medir("Roda: cancelar 100k", 0, 1, () -> {
+            for (int i = 0; i < temporizadores.size(); i += 10) {
+                temporizadores.get(i).cancelar();
+            }
+        });
+        System.out.printf("  %.0f ns/cancelamento%n", cancelar.msPorOperacao() * 1e6 / (prazos.length / 10));
+        // O tick seguinte desliga os cancelados das posições
+        Medidor.medir("Roda: tick com 100k cancelamentos", 0, 1, () -> roda.avancar(2 * TICK_MS));
+
+        // Uma hora de ticks: cada tick só percorre os temporizadores da sua posição
+        long[] agora = {2 * TICK_MS};
+        Medidor.Resultado tick = Medidor.medir("Roda: 1 tick (1h de ticks)", 0, 3_600, () -> {
+            agora[0] += TICK_MS;
+            roda.avancar(agora[0]);
+        });
+        System.out.printf("  %,d disparos em 1h, %,d pendentes; %.3f ms/tick%n",
+                disparados[0], roda.pendentes(), tick.msPorOperacao());
+        temporizadores.clear();
+    }
+
+    private static void medirExecutor(long[] prazos) throws Exception {
+        long heapAntes = heapUsado();
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1);
+        executor.setRemoveOnCancelPolicy(true);
+        List<ScheduledFuture<?>> futuros = new ArrayList<>(prazos.length);
+        Runnable tarefa = () -> { };
+
+        Medidor.Resultado agendar = Medidor.medir("ScheduledThreadPoolExecutor: agendar 1M", 0, 1, () -> {
+            for (long prazo : prazos) {
+                futuros.add(executor.schedule(tarefa, prazo + 3_600_000L, TimeUnit.MILLISECONDS));
+            }
+        });
+        System.out.printf("  %.0f ns/agendamento, %d B retidos/prazo%n",
+                agendar.msPorOperacao() * 1e6 / prazos.length, porPrazo(heapAntes, prazos.length));
+
+        Medidor.Resultado cancelar = Medidor.medir("ScheduledThreadPoolExecutor: cancelar 100k", 0, 1, () -> {
+            for (int i = 0; i < futuros.size(); i += 10) {
+                futuros.get(i).cancel(false);
+            }
+        });
+        System.out.printf("  %.0f ns/cancelamento%n", cancelar.msPorOperacao() * 1e6 / (prazos.length / 10));
+        executor.shutdownNow();
+        futuros.clear();
+    }
+
+    private static void medirVarredura(long[] prazos) throws Exception {
+        List<SolicitacaoSuporte> abertas = new ArrayList<>(prazos.length);
+        for (int i = 0; i < prazos.length; i++) {
+            SolicitacaoSuporte solicitacao = new SolicitacaoSuporte((long) i, "Solicitação", "Descrição", Prioridade.BAIXA);
+            solicitacao.getHistorico().restaurar(
+                    new HistoricoStatus(StatusSolicitacao.ABERTA, prazos[i]).copiarEntradas());
+            abertas.add(solicitacao);
+        }
+        long[] vencidas = new long[1];
+        long[] agora = {0};
+        Medidor.Resultado varrer = Medidor.medir("Varredura das ABERTAS: 1 tick", 3, 20, () -> {
+            agora[0] += TICK_MS;
+            for (SolicitacaoSuporte solicitacao : abertas) {
+                if (solicitacao.getStatus() == StatusSolicitacao.ABERTA
+                        && solicitacao.getHistorico().instanteInicial() <= agora[0]) {
+                    vencidas[0]++;
+                }
+            }
+        });
+        System.out.printf("  %.3f ms/tick percorrendo %,d solicitações (%d vencidas)%n",
+                varrer.msPorOperacao(), abertas.size(), vencidas[0]);
+    }
+
+    private static long heapUsado() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static long porPrazo(long heapAntes, int quantidade) throws InterruptedException {
+        return (heapUsado() - heapAntes) / quantidade;
+    }
+}
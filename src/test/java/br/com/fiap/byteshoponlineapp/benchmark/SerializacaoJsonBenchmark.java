@@ -0,0 +1,65 @@
+package br.com.fiap.byteshoponlineapp.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import br.com.fiap.byteshoponlineapp.api.dto.SolicitacaoSuporteResponse;
+import br.com.fiap.byteshoponlineapp.api.json.SolicitacaoSuporteResponseSerializer;
+import br.com.fiap.byteshoponlineapp.domain.SolicitacaoSuporte;
+import br.com.fiap.byteshoponlineapp.domain.enums.Prioridade;
+
+/**
+ * Compara a serialização reflexiva do Jackson com o serializer escrito à mão
+ * para uma lista de SolicitacaoSuporteResponse; a equivalência das saídas é
+ * verificada em SerializadoresManuaisTest
+ *
+ * Execução: mvn test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=br.com.fiap.byteshoponlineapp.benchmark.SerializacaoJsonBenchmark
+ */
+public class SerializacaoJsonBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int tamanhoLista = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        List<SolicitacaoSuporteResponse> lista = gerarLista(tamanhoLista);
+
+        ObjectMapper reflexivo = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        ObjectMapper manual = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .registerModule(new SimpleModule().addSerializer(new SolicitacaoSuporteResponseSerializer()))
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        ByteArrayOutputStream saida = new ByteArrayOutputStream(tamanhoLista * 400);
+        System.out.println("Lista com " + tamanhoLista + " solicitações");
+        Medidor.medir("Jackson reflexivo", 50, 200, () -> {
+            saida.reset();
+            reflexivo.writeValue(saida, lista);
+        });
+        Medidor.medir("Serializer manual", 50, 200, () -> {
+            saida.reset();
+            manual.writeValue(saida, lista);
+        });
+    }
+
+    static List<SolicitacaoSuporteResponse> gerarLista(int tamanho) {
+        List<SolicitacaoSuporteResponse> lista = new ArrayList<>(tamanho);
+        Prioridade[] prioridades = Prioridade.values();
+        for (int i = 0; i < tamanho; i++) {
+            SolicitacaoSuporte solicitacao = new SolicitacaoSuporte(
+                    (long) i + 1,
+                    "Solicitação de teste " + i,
+                    "Descrição detalhada do problema relatado pelo usuário número " + i + ". ".repeat(5),
+                    prioridades[i % prioridades.length]
+            );
+            lista.add(new SolicitacaoSuporteResponse(solicitacao));
+        }
+        return lista;
+    }
+}
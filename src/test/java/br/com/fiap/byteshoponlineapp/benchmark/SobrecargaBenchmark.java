@@ -0,0 +1,123 @@
+package br.com.fiap.byteshoponlineapp.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Mede a latência das operações de atendente (status e encerramento) enquanto outras
+ * threads inundam a criação de solicitações, contra uma aplicação já em execução
+ *
+ * A aplicação precisa estar com suporte.admissao.habilitada=true. Todas as requisições saem
+ * do mesmo IP, logo do mesmo cliente: a inundação esgota o balde de criação e as operações
+ * de atendente usam o balde da sua classe. Para exercitar o limite de concorrência em vez do
+ * de taxa, suba a aplicação com suporte.admissao.criacao.por-segundo alto.
+ *
+ * Execução: mvn test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=br.com.fiap.byteshoponlineapp.benchmark.SobrecargaBenchmark
+ *   -Dexec.args="http://localhost:8080 64"   (URL base e threads de criação)
+ */
+public class SobrecargaBenchmark {
+
+    private static final long DURACAO_MS = 10_000;
+    private static final Pattern ID = Pattern.compile("\"id\":(\\d+)");
+    private static final String CORPO_CRIACAO =
+            "{\"titulo\":\"Sistema fora do ar\",\"descricao\":\"Incidente em andamento\",\"prioridade\":\"CRITICA\"}";
+
+    public static void main(String[] args) throws Exception {
+        String base = args.length > 0 ? args[0] : "http://localhost:8080";
+        int threadsCriacao = args.length > 1 ? Integer.parseInt(args[1]) : 64;
+        HttpClient cliente = HttpClient.newHttpClient();
+
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            Resposta criada = criar(cliente, base);
+            while (criada.status() == 429) {
+                Thread.sleep(100);
+                criada = criar(cliente, base);
+            }
+            ids.add(criada.id());
+        }
+
+        Map<Integer, LongAdder> respostasCriacao = new ConcurrentHashMap<>();
+        long fim = System.currentTimeMillis() + DURACAO_MS;
+        Thread[] inundacao = new Thread[threadsCriacao];
+        for (int t = 0; t < threadsCriacao; t++) {
+            inundacao[t] = new Thread(() -> {
+                while (System.currentTimeMillis() < fim) {
+                    try {
+                        int status = criar(cliente, base).status();
+                        respostasCriacao.computeIfAbsent(status, s -> new LongAdder()).increment();
+                    } catch (Exception e) {
+                        respostasCriacao.computeIfAbsent(-1, s -> new LongAdder()).increment();
+                    }
+                }
+            });
+            inundacao[t].start();
+        }
+
+        List<Long> latencias = new ArrayList<>();
+        int rejeicoesAgente = 0;
+        for (long id : ids) {
+            if (System.currentTimeMillis() >= fim) {
+                break;
+            }
+            for (String passo : new String[] {"status:EM_ANDAMENTO", "status:RESOLVIDA", "encerrar"}) {
+                long inicio = System.nanoTime();
+                int status = agente(cliente, base, id, passo);
+                latencias.add((System.nanoTime() - inicio) / 1_000);
+                if (status >= 400) {
+                    rejeicoesAgente++;
+                }
+            }
+        }
+        for (Thread thread : inundacao) {
+            thread.join();
+        }
+
+        long[] ordenadas = latencias.stream().mapToLong(Long::longValue).toArray();
+        Arrays.sort(ordenadas);
+        System.out.printf("Operações de atendente: %d (recusadas: %d) p50=%dus p99=%dus max=%dus%n",
+                ordenadas.length, rejeicoesAgente, percentil(ordenadas, 0.50), percentil(ordenadas, 0.99),
+                ordenadas[ordenadas.length - 1]);
+        respostasCriacao.forEach((status, total) -> System.out.printf("Criação HTTP %d: %,d%n", status, total.sum()));
+    }
+
+    private static Resposta criar(HttpClient cliente, String base) throws Exception {
+        HttpResponse<String> resposta = cliente.send(HttpRequest.newBuilder(URI.create(base + "/api/suporte"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(CORPO_CRIACAO))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        Matcher matcher = ID.matcher(resposta.body());
+        return new Resposta(resposta.statusCode(), matcher.find() ? Long.parseLong(matcher.group(1)) : -1);
+    }
+
+    private static int agente(HttpClient cliente, String base, long id, String passo) throws Exception {
+        HttpRequest.Builder requisicao = HttpRequest.newBuilder();
+        if (passo.startsWith("status:")) {
+            requisicao.uri(URI.create(base + "/api/suporte/" + id + "/status"))
+                    .header("Content-Type", "application/json")
+                    .method("PATCH", HttpRequest.BodyPublishers.ofString(
+                            "{\"status\":\"" + passo.substring(7) + "\"}"));
+        } else {
+            requisicao.uri(URI.create(base + "/api/suporte/" + id + "/encerrar"))
+                    .method("PATCH", HttpRequest.BodyPublishers.noBody());
+        }
+        return cliente.send(requisicao.build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private static long percentil(long[] ordenadas, double q) {
+        return ordenadas[Math.min(ordenadas.length - 1, (int) Math.ceil(q * ordenadas.length) - 1)];
+    }
+
+    private record Resposta(int status, long id) {}
+}
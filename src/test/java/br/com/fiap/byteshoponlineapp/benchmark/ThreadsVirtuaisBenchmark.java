@@ -0,0 +1,82 @@
+package br.com.fiap.byteshoponlineapp.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Carga mista (criação + listagem ordenada) com muitos clientes simultâneos contra uma aplicação
+ * já em execução, para comparar threads de plataforma e threads virtuais no Tomcat
+ *
+ * Rode duas vezes com o repositório JDBC (criação bloqueia no group commit) e sem controle de admissão:
+ *   java -jar app.jar --suporte.repositorio.tipo=jdbc --suporte.admissao.habilitada=false
+ *   java -jar app.jar ... --spring.threads.virtual.enabled=true   (build -Pjava21)
+ *
+ * Execução: mvn test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=br.com.fiap.byteshoponlineapp.benchmark.ThreadsVirtuaisBenchmark
+ *   -Dexec.args="http://localhost:8080 400"   (URL base e clientes simultâneos)
+ */
+public class ThreadsVirtuaisBenchmark {
+
+    private static final long DURACAO_MS = 15_000;
+    private static final String CORPO_CRIACAO =
+            "{\"titulo\":\"Lentidão no sistema\",\"descricao\":\"Relatórios demorando mais que o normal\",\"prioridade\":\"ALTA\"}";
+
+    public static void main(String[] args) throws Exception {
+        String base = args.length > 0 ? args[0] : "http://localhost:8080";
+        int clientes = args.length > 1 ? Integer.parseInt(args[1]) : 400;
+        HttpClient cliente = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        HttpRequest criacao = HttpRequest.newBuilder(URI.create(base + "/api/suporte"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(CORPO_CRIACAO))
+                .build();
+        HttpRequest listagem = HttpRequest.newBuilder(URI.create(base + "/api/suporte?sort=prioridade&limite=50"))
+                .GET()
+                .build();
+
+        ConcurrentLinkedQueue<long[]> latenciasPorCliente = new ConcurrentLinkedQueue<>();
+        LongAdder erros = new LongAdder();
+        long fim = System.currentTimeMillis() + DURACAO_MS;
+        Thread[] threads = new Thread[clientes];
+        for (int c = 0; c < clientes; c++) {
+            threads[c] = new Thread(() -> {
+                long[] latencias = new long[1 << 16];
+                int quantidade = 0;
+                boolean criar = true;
+                while (System.currentTimeMillis() < fim && quantidade < latencias.length) {
+                    long inicio = System.nanoTime();
+                    try {
+                        int status = cliente.send(criar ? criacao : listagem, HttpResponse.BodyHandlers.discarding())
+                                .statusCode();
+                        if (status >= 400) {
+                            erros.increment();
+                        }
+                    } catch (Exception e) {
+                        erros.increment();
+                    }
+                    latencias[quantidade++] = (System.nanoTime() - inicio) / 1_000;
+                    criar = !criar;
+                }
+                latenciasPorCliente.add(Arrays.copyOf(latencias, quantidade));
+            });
+            threads[c].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        long[] ordenadas = latenciasPorCliente.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        System.out.printf("Clientes: %d  requisições: %,d (%,.0f/s)  erros: %d%n",
+                clientes, ordenadas.length, ordenadas.length * 1000.0 / DURACAO_MS, erros.sum());
+        System.out.printf("Latência p50=%dus p99=%dus max=%dus%n",
+                percentil(ordenadas, 0.50), percentil(ordenadas, 0.99), ordenadas[ordenadas.length - 1]);
+    }
+
+    private static long percentil(long[] ordenadas, double q) {
+        return ordenadas[Math.min(ordenadas.length - 1, (int) Math.ceil(q * ordenadas.length) - 1)];
+    }
+}
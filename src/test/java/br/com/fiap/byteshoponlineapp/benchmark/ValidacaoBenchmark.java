@@ -0,0 +1,55 @@
+package br.com.fiap.byteshoponlineapp.benchmark;
+
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.SmartValidator;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import br.com.fiap.byteshoponlineapp.api.dto.SolicitacaoSuporteRequest;
+import br.com.fiap.byteshoponlineapp.api.validacao.ValidadorPrecompilado;
+import br.com.fiap.byteshoponlineapp.domain.enums.Prioridade;
+import jakarta.validation.Validation;
+
+/**
+ * Compara a validação de SolicitacaoSuporteRequest pelo Hibernate Validator (via Spring)
+ * com as regras pré-compiladas, para um corpo válido e um inválido em três campos
+ *
+ * Execução: mvn test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=br.com.fiap.byteshoponlineapp.benchmark.ValidacaoBenchmark
+ */
+public class ValidacaoBenchmark {
+
+    private static final int ITERACOES = 1_000_000;
+
+    public static void main(String[] args) throws Exception {
+        jakarta.validation.Validator hibernate = Validation.buildDefaultValidatorFactory().getValidator();
+        SmartValidator padrao = new SpringValidatorAdapter(hibernate);
+        SmartValidator precompilado = new ValidadorPrecompilado(padrao, hibernate);
+
+        SolicitacaoSuporteRequest valido = new SolicitacaoSuporteRequest(
+                "Impressora não imprime", "A impressora do 3º andar não responde desde ontem", Prioridade.MEDIA);
+        SolicitacaoSuporteRequest invalido = new SolicitacaoSuporteRequest("", "curta", null);
+
+        for (int rodada = 0; rodada < 2; rodada++) {
+            imprimirNs(Medidor.medir("hibernate (válido)", ITERACOES / 10, ITERACOES,
+                    () -> validar(padrao, valido, 0)));
+            imprimirNs(Medidor.medir("pré-compilado (válido)", ITERACOES / 10, ITERACOES,
+                    () -> validar(precompilado, valido, 0)));
+            imprimirNs(Medidor.medir("hibernate (inválido)", ITERACOES / 100, ITERACOES / 10,
+                    () -> validar(padrao, invalido, 4)));
+            imprimirNs(Medidor.medir("pré-compilado (inválido)", ITERACOES / 100, ITERACOES / 10,
+                    () -> validar(precompilado, invalido, 4)));
+        }
+    }
+
+    private static void validar(SmartValidator validador, SolicitacaoSuporteRequest request, int errosEsperados) {
+        BeanPropertyBindingResult errors = new BeanPropertyBindingResult(request, "request");
+        validador.validate(request, errors);
+        if (errors.getErrorCount() != errosEsperados) {
+            throw new IllegalStateException("Esperados " + errosEsperados + " erros: " + errors);
+        }
+    }
+
+    private static void imprimirNs(Medidor.Resultado resultado) {
+        System.out.printf("    = %.0f ns/op%n", resultado.msPorOperacao() * 1_000_000);
+    }
+}
@@ -0,0 +1,67 @@
+package br.com.fiap.byteshoponlineapp.domain;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import br.com.fiap.byteshoponlineapp.domain.enums.StatusSolicitacao;
+
+class HistoricoStatusTest {
+
+    private static final long INICIO = 1_700_000_000_000L;
+
+    @Test
+    void codificaStatusEInstanteDeCadaTransicao() {
+        HistoricoStatus historico = new HistoricoStatus(StatusSolicitacao.ABERTA, INICIO);
+        historico.registrar(StatusSolicitacao.EM_ANDAMENTO, INICIO + 1_000);
+        historico.registrar(StatusSolicitacao.RESOLVIDA, INICIO + 5_000);
+
+        List<HistoricoStatus.Transicao> transicoes = historico.listar();
+        assertEquals(3, transicoes.size());
+        assertEquals(new HistoricoStatus.Transicao(StatusSolicitacao.RESOLVIDA, data(INICIO + 5_000)), transicoes.get(2));
+        assertEquals(INICIO, historico.instanteInicial());
+        assertEquals(INICIO + 5_000, historico.instanteUltimaTransicao());
+        assertTrue(historico.contem(StatusSolicitacao.RESOLVIDA));
+        assertFalse(historico.contem(StatusSolicitacao.FECHADA));
+    }
+
+    @Test
+    void cheioPreservaACriacaoEDescartaATransicaoMaisAntigaDepoisDela() {
+        HistoricoStatus historico = new HistoricoStatus(StatusSolicitacao.ABERTA, INICIO);
+        for (int i = 1; i <= HistoricoStatus.CAPACIDADE_MAXIMA + 4; i++) {
+            historico.registrar(i % 2 == 1 ? StatusSolicitacao.EM_ANDAMENTO : StatusSolicitacao.ABERTA, INICIO + i);
+        }
+
+        List<HistoricoStatus.Transicao> transicoes = historico.listar();
+        assertEquals(HistoricoStatus.CAPACIDADE_MAXIMA, transicoes.size());
+        assertEquals(data(INICIO), transicoes.get(0).instante());
+        assertEquals(data(INICIO + 6), transicoes.get(1).instante());
+        assertEquals(data(INICIO + HistoricoStatus.CAPACIDADE_MAXIMA + 4), transicoes.get(transicoes.size() - 1).instante());
+    }
+
+    @Test
+    void copiaERestauracaoSaoIndependentesDaOrigem() {
+        HistoricoStatus origem = new HistoricoStatus(StatusSolicitacao.ABERTA, INICIO);
+        HistoricoStatus copia = new HistoricoStatus(origem);
+        origem.registrar(StatusSolicitacao.EM_ANDAMENTO, INICIO + 1);
+        assertEquals(1, copia.tamanho());
+
+        HistoricoStatus restaurado = new HistoricoStatus(StatusSolicitacao.FECHADA, 0);
+        restaurado.restaurar(origem.copiarEntradas());
+        assertArrayEquals(origem.copiarEntradas(), restaurado.copiarEntradas());
+        assertThrows(IllegalArgumentException.class, () -> restaurado.restaurar(new long[0]));
+    }
+
+    private static LocalDateTime data(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
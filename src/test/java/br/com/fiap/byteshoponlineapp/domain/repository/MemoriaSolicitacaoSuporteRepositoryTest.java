@@ -0,0 +1,103 @@
+package br.com.fiap.byteshoponlineapp.domain.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import br.com.fiap.byteshoponlineapp.domain.SolicitacaoSuporte;
+import br.com.fiap.byteshoponlineapp.domain.enums.Prioridade;
+import br.com.fiap.byteshoponlineapp.domain.enums.StatusSolicitacao;
+
+class MemoriaSolicitacaoSuporteRepositoryTest {
+
+    private static SolicitacaoSuporte nova(int i) {
+        return new SolicitacaoSuporte(null, "Título " + i, "Descrição " + i, Prioridade.MEDIA);
+    }
+
+    @Test
+    void cadaThreadUsaOProprioBlocoDeIds() throws Exception {
+        MemoriaSolicitacaoSuporteRepository repository = new MemoriaSolicitacaoSuporteRepository(4, 64);
+        int bloco = MemoriaSolicitacaoSuporteRepository.BLOCO_IDS;
+
+        assertEquals(1L, repository.save(nova(0)).getId());
+        Thread outra = new Thread(() -> repository.save(nova(1)));
+        outra.start();
+        outra.join();
+
+        assertTrue(repository.findById(bloco + 1L).isPresent());
+        assertEquals(2L, repository.save(nova(2)).getId());
+        for (int i = 3; i <= bloco; i++) {
+            repository.save(nova(i));
+        }
+        // Bloco da thread esgotado: o próximo vem depois do bloco da outra thread
+        assertEquals(2L * bloco + 1, repository.save(nova(0)).getId());
+    }
+
+    @Test
+    void criacaoConcorrenteGeraIdsUnicos() throws Exception {
+        MemoriaSolicitacaoSuporteRepository repository = new MemoriaSolicitacaoSuporteRepository(4, 64);
+        int threads = 8;
+        int porThread = 2_000;
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        CountDownLatch largada = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> tarefas = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                tarefas.add(executor.submit(() -> {
+                    largada.await();
+                    for (int i = 0; i < porThread; i++) {
+                        assertTrue(ids.add(repository.save(nova(i)).getId()));
+                    }
+                    return null;
+                }));
+            }
+            largada.countDown();
+            for (Future<?> tarefa : tarefas) {
+                tarefa.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long total = (long) threads * porThread;
+        assertEquals(total, ids.size());
+        assertEquals(total, repository.count());
+        assertEquals(total, repository.findAll().size());
+        assertEquals(total, repository.findByStatus(StatusSolicitacao.ABERTA).size());
+        for (Long id : ids) {
+            assertEquals(id, repository.findById(id).orElseThrow().getId());
+        }
+        // Lacunas só no fim do bloco de cada thread
+        long maior = ids.stream().mapToLong(Long::longValue).max().orElseThrow();
+        assertTrue(maior <= total + (long) threads * MemoriaSolicitacaoSuporteRepository.BLOCO_IDS);
+    }
+
+    @Test
+    void idInformadoERoteadoParaAMesmaParticaoNaLeituraENaRemocao() {
+        MemoriaSolicitacaoSuporteRepository repository = new MemoriaSolicitacaoSuporteRepository(3, 64);
+        Set<Long> ids = new TreeSet<>(List.of(1L, 2L, 3L, 4L, 1_000_003L, Long.MAX_VALUE));
+        for (Long id : ids) {
+            SolicitacaoSuporte solicitacao = nova(0);
+            solicitacao.setId(id);
+            repository.save(solicitacao);
+        }
+
+        assertEquals(ids.size(), repository.findAllById(ids).size());
+        repository.deleteById(4L);
+        assertFalse(repository.existsById(4L));
+        assertEquals(ids.size() - 1, repository.count());
+    }
+}
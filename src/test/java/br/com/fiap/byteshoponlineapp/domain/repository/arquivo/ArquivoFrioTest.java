@@ -0,0 +1,97 @@
+package br.com.fiap.byteshoponlineapp.domain.repository.arquivo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import br.com.fiap.byteshoponlineapp.domain.SolicitacaoSuporte;
+import br.com.fiap.byteshoponlineapp.domain.enums.Prioridade;
+import br.com.fiap.byteshoponlineapp.domain.enums.StatusSolicitacao;
+
+class ArquivoFrioTest {
+
+    @TempDir
+    Path diretorio;
+
+    private static List<SolicitacaoSuporte> fechadas(long primeiroId, int quantidade) {
+        List<SolicitacaoSuporte> solicitacoes = new ArrayList<>();
+        for (long id = primeiroId; id < primeiroId + quantidade; id++) {
+            SolicitacaoSuporte solicitacao = new SolicitacaoSuporte(id, "Título " + id, "Descrição " + id, Prioridade.MEDIA);
+            solicitacao.setStatus(StatusSolicitacao.EM_ANDAMENTO);
+            solicitacao.setStatus(StatusSolicitacao.RESOLVIDA);
+            solicitacao.setStatus(StatusSolicitacao.FECHADA);
+            solicitacoes.add(solicitacao);
+        }
+        return solicitacoes;
+    }
+
+    @Test
+    void arquivaEReabreReconstruindoOIndice() throws IOException {
+        ArquivoFrio arquivo = new ArquivoFrio(diretorio.toString());
+        List<SolicitacaoSuporte> originais = fechadas(1, 600);
+        arquivo.arquivar(originais);
+        arquivo.fechar();
+
+        ArquivoFrio reaberto = new ArquivoFrio(diretorio.toString());
+        assertEquals(600, reaberto.quantidade());
+        SolicitacaoSuporte lida = reaberto.buscar(321).orElseThrow();
+        assertEquals("Título 321", lida.getTitulo());
+        assertEquals(StatusSolicitacao.FECHADA, lida.getStatus());
+        assertEquals(originais.get(320).getDataCriacao(), lida.getDataCriacao());
+        assertEquals(originais.get(320).getHistorico().listar(), lida.getHistorico().listar());
+        assertFalse(reaberto.buscar(601).isPresent());
+        assertEquals(600, reaberto.listar().size());
+        reaberto.fechar();
+    }
+
+    @Test
+    void descartaBlocoIncompletoNoFim() throws IOException {
+        ArquivoFrio arquivo = new ArquivoFrio(diretorio.toString());
+        arquivo.arquivar(fechadas(1, 10));
+        arquivo.fechar();
+        Path dados = Files.list(diretorio).findFirst().orElseThrow();
+        long tamanhoValido = Files.size(dados);
+        Files.write(dados, new byte[] {0, 0, 0, 5, 0, 0, 1, 0, 1, 2}, StandardOpenOption.APPEND);
+
+        ArquivoFrio reaberto = new ArquivoFrio(diretorio.toString());
+        assertEquals(10, reaberto.quantidade());
+        assertEquals(tamanhoValido, Files.size(dados));
+        reaberto.arquivar(fechadas(11, 1));
+        assertTrue(reaberto.contem(11));
+        assertEquals(11, reaberto.listar().size());
+        reaberto.fechar();
+    }
+
+    @Test
+    void iteradorLeSoOsBlocosPedidos() throws IOException {
+        ArquivoFrio arquivo = new ArquivoFrio(diretorio.toString());
+        arquivo.arquivar(fechadas(1, 600));
+
+        Iterator<SolicitacaoSuporte> iterador = arquivo.iterador();
+        List<Long> ids = new ArrayList<>();
+        while (ids.size() < 300 && iterador.hasNext()) {
+            ids.add(iterador.next().getId());
+        }
+        assertEquals(300, ids.size());
+        assertEquals(1L, ids.get(0));
+        assertEquals(300L, ids.get(299));
+
+        // Arquivada de novo durante a leitura: aparece uma única vez
+        arquivo.arquivar(fechadas(400, 1));
+        iterador.forEachRemaining(s -> ids.add(s.getId()));
+        assertEquals(600, ids.size());
+        assertEquals(600, ids.stream().distinct().count());
+        arquivo.fechar();
+    }
+}
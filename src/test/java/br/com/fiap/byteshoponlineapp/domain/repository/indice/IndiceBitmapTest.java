@@ -0,0 +1,109 @@
+package br.com.fiap.byteshoponlineapp.domain.repository.indice;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+
+import br.com.fiap.byteshoponlineapp.domain.SolicitacaoSuporte;
+import br.com.fiap.byteshoponlineapp.domain.enums.Prioridade;
+import br.com.fiap.byteshoponlineapp.domain.enums.StatusSolicitacao;
+import br.com.fiap.byteshoponlineapp.domain.repository.MemoriaSolicitacaoSuporteRepository;
+import br.com.fiap.byteshoponlineapp.domain.repository.arquivo.ArquivoFrio;
+
+class IndiceBitmapTest {
+
+    private static final LocalDate HOJE = LocalDate.of(2025, 11, 6);
+
+    @TempDir
+    Path diretorio;
+
+    private MemoriaSolicitacaoSuporteRepository repository;
+    private IndiceBitmap indice;
+
+    @BeforeEach
+    void setUp() {
+        repository = new MemoriaSolicitacaoSuporteRepository(1, 16);
+        indice = new IndiceBitmap(repository, new ArquivoFrio(diretorio.toString()));
+        indice.iniciar();
+    }
+
+    private SolicitacaoSuporte salvar(Prioridade prioridade, StatusSolicitacao status, int diasAtras) {
+        SolicitacaoSuporte solicitacao = new SolicitacaoSuporte(null, "Título", "Descrição", prioridade);
+        solicitacao.setDataCriacao(LocalDateTime.of(HOJE.minusDays(diasAtras), LocalTime.NOON));
+        if (status != StatusSolicitacao.ABERTA) {
+            solicitacao.setStatus(status);
+        }
+        return repository.save(solicitacao);
+    }
+
+    private static long[] ids(Roaring64Bitmap bitmap) {
+        return bitmap.toArray();
+    }
+
+    @Test
+    void combinaFiltrosComOuDentroEEEntreEles() {
+        salvar(Prioridade.ALTA, StatusSolicitacao.ABERTA, 0);           // 1
+        salvar(Prioridade.CRITICA, StatusSolicitacao.EM_ANDAMENTO, 2);  // 2
+        salvar(Prioridade.BAIXA, StatusSolicitacao.ABERTA, 0);          // 3
+        salvar(Prioridade.ALTA, StatusSolicitacao.RESOLVIDA, 1);        // 4
+        salvar(Prioridade.CRITICA, StatusSolicitacao.ABERTA, 10);       // 5
+
+        Set<StatusSolicitacao> status = EnumSet.of(StatusSolicitacao.ABERTA, StatusSolicitacao.EM_ANDAMENTO);
+        Set<Prioridade> prioridades = EnumSet.of(Prioridade.ALTA, Prioridade.CRITICA);
+
+        assertArrayEquals(new long[] {1, 2, 5}, ids(indice.consultar(status, prioridades, null, null)));
+        assertArrayEquals(new long[] {1, 2}, ids(indice.consultar(status, prioridades, HOJE.minusDays(6), HOJE)));
+        assertArrayEquals(new long[] {1, 2, 3, 4, 5}, ids(indice.consultar(Set.of(), Set.of(), null, null)));
+        assertEquals(0, indice.consultar(status, prioridades, HOJE, HOJE.minusDays(1)).getLongCardinality());
+    }
+
+    @Test
+    void acompanhaAtualizacoesERemocoes() {
+        SolicitacaoSuporte solicitacao = salvar(Prioridade.MEDIA, StatusSolicitacao.ABERTA, 0);
+        salvar(Prioridade.MEDIA, StatusSolicitacao.ABERTA, 0);
+
+        solicitacao.setStatus(StatusSolicitacao.EM_ANDAMENTO);
+        solicitacao.setPrioridade(Prioridade.CRITICA);
+        repository.update(solicitacao);
+        assertArrayEquals(new long[] {2}, ids(indice.consultar(EnumSet.of(StatusSolicitacao.ABERTA), Set.of(), null, null)));
+        assertArrayEquals(new long[] {1}, ids(indice.consultar(Set.of(), EnumSet.of(Prioridade.CRITICA), null, null)));
+
+        repository.deleteById(2L);
+        assertArrayEquals(new long[] {1}, ids(indice.consultar(Set.of(), Set.of(), HOJE, HOJE)));
+    }
+
+    @Test
+    void gravacoesConcorrentesEmFaixasDiferentes() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int t = 0; t < 4; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < 500; i++) {
+                    salvar(Prioridade.ALTA, StatusSolicitacao.ABERTA, 0);
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        Roaring64Bitmap abertas = indice.consultar(EnumSet.of(StatusSolicitacao.ABERTA), Set.of(), HOJE, HOJE);
+        assertEquals(2000, abertas.getLongCardinality());
+        for (SolicitacaoSuporte solicitacao : repository.findAll()) {
+            assertTrue(abertas.contains(solicitacao.getId()));
+        }
+    }
+}
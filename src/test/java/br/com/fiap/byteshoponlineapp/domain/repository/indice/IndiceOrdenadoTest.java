@@ -0,0 +1,73 @@
+package br.com.fiap.byteshoponlineapp.domain.repository.indice;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import br.com.fiap.byteshoponlineapp.domain.SolicitacaoSuporte;
+import br.com.fiap.byteshoponlineapp.domain.enums.Prioridade;
+import br.com.fiap.byteshoponlineapp.domain.enums.StatusSolicitacao;
+import br.com.fiap.byteshoponlineapp.domain.repository.MemoriaSolicitacaoSuporteRepository;
+import br.com.fiap.byteshoponlineapp.domain.repository.arquivo.ArquivoFrio;
+
+class IndiceOrdenadoTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 11, 6, 12, 0);
+
+    @TempDir
+    Path diretorio;
+
+    private MemoriaSolicitacaoSuporteRepository repository;
+    private IndiceOrdenado indice;
+
+    @BeforeEach
+    void setUp() {
+        repository = new MemoriaSolicitacaoSuporteRepository(1, 16);
+        indice = new IndiceOrdenado(repository, new ArquivoFrio(diretorio.toString()));
+        indice.iniciar();
+    }
+
+    private SolicitacaoSuporte salvar(Prioridade prioridade, int horasAtras) {
+        SolicitacaoSuporte solicitacao = new SolicitacaoSuporte(null, "Título", "Descrição", prioridade);
+        solicitacao.setDataCriacao(BASE.minusHours(horasAtras));
+        return repository.save(solicitacao);
+    }
+
+    @Test
+    void ordenaPorPrioridadeEDepoisPelaMaisAntiga() {
+        salvar(Prioridade.BAIXA, 10);    // 1
+        salvar(Prioridade.CRITICA, 1);   // 2
+        salvar(Prioridade.ALTA, 5);      // 3
+        salvar(Prioridade.CRITICA, 3);   // 4
+
+        assertEquals(List.of(4L, 2L, 3L, 1L), indice.primeiros(Ordenacao.PRIORIDADE, null, 10));
+        assertEquals(List.of(4L, 2L), indice.primeiros(Ordenacao.PRIORIDADE, null, 2));
+        assertEquals(List.of(1L, 3L, 4L, 2L), indice.primeiros(Ordenacao.MAIS_ANTIGAS, null, 10));
+        assertEquals(List.of(2L, 4L), indice.primeiros(Ordenacao.MAIS_RECENTES, null, 2));
+        assertEquals(List.of(2L, 1L), indice.primeiros(Ordenacao.PRIORIDADE, null, 10, id -> id <= 2));
+    }
+
+    @Test
+    void reposicionaAoAlterarPrioridadeOuStatusERemoveAoExcluir() {
+        salvar(Prioridade.BAIXA, 10);    // 1
+        SolicitacaoSuporte segunda = salvar(Prioridade.MEDIA, 5);  // 2
+
+        segunda.setPrioridade(Prioridade.BAIXA);
+        segunda.setStatus(StatusSolicitacao.EM_ANDAMENTO);
+        repository.update(segunda);
+
+        assertEquals(List.of(1L, 2L), indice.primeiros(Ordenacao.PRIORIDADE, null, 10));
+        assertEquals(List.of(1L), indice.primeiros(Ordenacao.PRIORIDADE, StatusSolicitacao.ABERTA, 10));
+        assertEquals(List.of(2L), indice.primeiros(Ordenacao.PRIORIDADE, StatusSolicitacao.EM_ANDAMENTO, 10));
+
+        repository.deleteById(1L);
+        assertEquals(List.of(2L), indice.primeiros(Ordenacao.MAIS_ANTIGAS, null, 10));
+        assertEquals(List.of(), indice.primeiros(Ordenacao.MAIS_ANTIGAS, StatusSolicitacao.ABERTA, 10));
+    }
+}
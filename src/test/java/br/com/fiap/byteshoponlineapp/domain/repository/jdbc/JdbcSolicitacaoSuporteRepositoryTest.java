@@ -0,0 +1,206 @@
+package br.com.fiap.byteshoponlineapp.domain.repository.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import br.com.fiap.byteshoponlineapp.domain.SolicitacaoSuporte;
+import br.com.fiap.byteshoponlineapp.domain.enums.Prioridade;
+import br.com.fiap.byteshoponlineapp.domain.enums.StatusSolicitacao;
+import br.com.fiap.byteshoponlineapp.domain.repository.GravacaoParcialException;
+import br.com.fiap.byteshoponlineapp.domain.repository.OuvinteRepositorio;
+
+class JdbcSolicitacaoSuporteRepositoryTest {
+
+    private JdbcDataSource dataSource;
+    private JdbcSolicitacaoSuporteRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:teste-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        new ResourceDatabasePopulator(new ClassPathResource("schema-suporte.sql")).execute(dataSource);
+        repository = new JdbcSolicitacaoSuporteRepository(dataSource, 100, 64);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        repository.close();
+    }
+
+    @Test
+    void persisteERecuperaSolicitacaoComHistorico() throws Exception {
+        SolicitacaoSuporte salva = repository.save(
+                new SolicitacaoSuporte(null, "Erro no login", "Não consigo acessar", Prioridade.ALTA));
+        salva.setStatus(StatusSolicitacao.EM_ANDAMENTO);
+        repository.update(salva);
+
+        // Um repositório novo sobre o mesmo banco não tem cache: lê do banco
+        JdbcSolicitacaoSuporteRepository outro = new JdbcSolicitacaoSuporteRepository(dataSource, 100, 64);
+        try {
+            SolicitacaoSuporte lida = outro.findById(salva.getId()).orElseThrow();
+            assertEquals("Erro no login", lida.getTitulo());
+            assertEquals(Prioridade.ALTA, lida.getPrioridade());
+            assertEquals(StatusSolicitacao.EM_ANDAMENTO, lida.getStatus());
+            assertEquals(salva.getDataCriacao(), lida.getDataCriacao());
+            assertEquals(salva.getHistorico().listar(), lida.getHistorico().listar());
+            assertEquals(1, outro.findByStatus(StatusSolicitacao.EM_ANDAMENTO).size());
+            assertEquals(salva.getId() + 1, outro.save(new SolicitacaoSuporte()).getId());
+        } finally {
+            outro.close();
+        }
+
+        repository.deleteById(salva.getId());
+        assertFalse(repository.existsById(salva.getId()));
+    }
+
+    @Test
+    void escritasConcorrentesSaoTodasPersistidas() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> tarefas = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                tarefas.add(executor.submit(() -> {
+                    for (int i = 0; i < 200; i++) {
+                        repository.save(new SolicitacaoSuporte(null, "Título " + i, "Descrição", Prioridade.BAIXA));
+                    }
+                }));
+            }
+            for (Future<?> tarefa : tarefas) {
+                tarefa.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(1600, repository.count());
+        assertTrue(repository.findAll().stream().allMatch(s -> s.getStatus() == StatusSolicitacao.ABERTA));
+
+        repository.deleteAll();
+        assertEquals(0, repository.count());
+    }
+
+    @Test
+    void buscaVariosIdsMisturandoCacheEBanco() throws Exception {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 600; i++) {
+            ids.add(repository.save(new SolicitacaoSuporte(null, "Título " + i, "Descrição", Prioridade.MEDIA)).getId());
+        }
+        repository.findById(ids.get(0));
+
+        // Repositório novo: só o que for lido passa pelo cache; o resto vem em blocos de IN (...)
+        JdbcSolicitacaoSuporteRepository outro = new JdbcSolicitacaoSuporteRepository(dataSource, 100, 64);
+        try {
+            outro.findById(ids.get(1));
+            List<Long> pedidos = new ArrayList<>(ids);
+            pedidos.add(999_999L);
+
+            Set<Long> encontrados = outro.findAllById(pedidos).stream()
+                    .map(SolicitacaoSuporte::getId)
+                    .collect(Collectors.toSet());
+            assertEquals(Set.copyOf(ids), encontrados);
+        } finally {
+            outro.close();
+        }
+    }
+
+    @Test
+    void cacheNaoGuardaAlteracoesSemCommit() {
+        Long id = repository.save(new SolicitacaoSuporte(null, "Título original", "Descrição", Prioridade.MEDIA)).getId();
+
+        // Alterar a instância devolvida não altera a que o cache serve
+        repository.findById(id).orElseThrow().setTitulo("Alterado sem update");
+        assertEquals("Título original", repository.findById(id).orElseThrow().getTitulo());
+
+        // Título maior que a coluna: o commit falha e a entrada sai do cache
+        SolicitacaoSuporte invalida = repository.findById(id).orElseThrow();
+        invalida.setTitulo("x".repeat(101));
+        assertThrows(DataAccessException.class, () -> repository.update(invalida));
+        assertEquals("Título original", repository.findById(id).orElseThrow().getTitulo());
+    }
+
+    @Test
+    void linhaInvalidaNaoDerrubaAsOutrasDoLote() {
+        List<SolicitacaoSuporte> lote = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            lote.add(new SolicitacaoSuporte(null, i == 4 ? "x".repeat(101) : "Título " + i, "Descrição", Prioridade.BAIXA));
+        }
+
+        List<Long> notificadas = new ArrayList<>();
+        repository.adicionarOuvinte(new OuvinteRepositorio() {
+            @Override
+            public void aoSalvar(SolicitacaoSuporte solicitacao) {
+                notificadas.add(solicitacao.getId());
+            }
+
+            @Override
+            public void aoRemover(Long id) {
+            }
+        });
+
+        GravacaoParcialException erro = assertThrows(GravacaoParcialException.class, () -> repository.saveAll(lote));
+        assertEquals(Set.of(lote.get(4).getId()), erro.getFalhas().keySet());
+        assertEquals(9, repository.count());
+        assertEquals(9, notificadas.size());
+        assertFalse(notificadas.contains(lote.get(4).getId()));
+        assertFalse(repository.existsById(lote.get(4).getId()));
+    }
+
+    @Test
+    void escritasDuranteOEncerramentoFalhamEmVezDeEsperarParaSempre() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> escritores = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                // Cada escritor grava até o group commit recusar
+                escritores.add(executor.submit(() -> assertThrows(DataAccessException.class, () -> {
+                    while (true) {
+                        repository.save(new SolicitacaoSuporte(null, "t", "d", Prioridade.BAIXA));
+                    }
+                })));
+            }
+            Thread.sleep(50);
+            repository.close();
+
+            for (Future<?> escritor : escritores) {
+                escritor.get(5, TimeUnit.SECONDS);
+            }
+            assertThrows(DataAccessException.class, () -> repository.save(new SolicitacaoSuporte()));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void preenchimentoAtrasadoNaoRessuscitaLinhaRemovida() {
+        CacheLeitura<Long, String> cache = new CacheLeitura<>(10, 2);
+        long geracao = cache.geracao(1L);
+        // Remoção confirmada entre a consulta ao banco e o preenchimento
+        cache.remove(1L);
+
+        assertEquals("lida antes da remoção", cache.preencher(1L, "lida antes da remoção", geracao));
+        assertNull(cache.get(1L));
+
+        geracao = cache.geracao(1L);
+        cache.preencher(1L, "lida", geracao);
+        assertEquals("lida", cache.get(1L));
+    }
+}
@@ -0,0 +1,167 @@
+package br.com.fiap.byteshoponlineapp.domain.repository.mvcc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import br.com.fiap.byteshoponlineapp.domain.SolicitacaoSuporte;
+import br.com.fiap.byteshoponlineapp.domain.enums.Prioridade;
+import br.com.fiap.byteshoponlineapp.domain.enums.StatusSolicitacao;
+import br.com.fiap.byteshoponlineapp.domain.repository.OuvinteRepositorio;
+
+class MvccSolicitacaoSuporteRepositoryTest {
+
+    private final MvccSolicitacaoSuporteRepository repository = new MvccSolicitacaoSuporteRepository(64);
+
+    @Test
+    void instantaneoNaoVeEscritasPosteriores() {
+        SolicitacaoSuporte impressora = repository.save(nova("Impressora parada"));
+        SolicitacaoSuporte mouse = repository.save(nova("Mouse quebrado"));
+
+        try (MvccSolicitacaoSuporteRepository.Instantaneo instantaneo = repository.abrirInstantaneo()) {
+            SolicitacaoSuporte alterada = repository.findById(impressora.getId()).orElseThrow();
+            alterada.setStatus(StatusSolicitacao.EM_ANDAMENTO);
+            repository.update(alterada);
+            repository.deleteById(mouse.getId());
+            SolicitacaoSuporte teclado = repository.save(nova("Teclado sem resposta"));
+
+            assertEquals(2, instantaneo.contar());
+            assertEquals(StatusSolicitacao.ABERTA,
+                    instantaneo.buscar(impressora.getId()).orElseThrow().getStatus());
+            assertTrue(instantaneo.buscar(mouse.getId()).isPresent());
+            assertFalse(instantaneo.buscar(teclado.getId()).isPresent());
+            assertEquals(2, instantaneo.listar(StatusSolicitacao.ABERTA).size());
+
+            assertEquals(2, repository.count());
+            assertEquals(1, repository.findByStatus(StatusSolicitacao.EM_ANDAMENTO).size());
+            assertFalse(repository.existsById(mouse.getId()));
+            assertTrue(repository.versoesRetidas() > 0);
+        }
+
+        assertEquals(0, repository.instantaneosAbertos());
+        assertEquals(0, repository.versoesRetidas());
+        assertEquals(2, repository.findAll().size());
+    }
+
+    @Test
+    void findByIdDevolveCopiaQueSoValeDepoisDoUpdate() {
+        SolicitacaoSuporte salva = repository.save(nova("Monitor piscando"));
+        salva.setTitulo("Alterado sem update");
+
+        SolicitacaoSuporte lida = repository.findById(salva.getId()).orElseThrow();
+        assertEquals("Monitor piscando", lida.getTitulo());
+        lida.setStatus(StatusSolicitacao.EM_ANDAMENTO);
+        assertEquals(StatusSolicitacao.ABERTA, repository.findAll().get(0).getStatus());
+
+        repository.update(lida);
+        SolicitacaoSuporte atual = repository.findById(salva.getId()).orElseThrow();
+        assertEquals(StatusSolicitacao.EM_ANDAMENTO, atual.getStatus());
+        assertEquals(lida.getHistorico().listar(), atual.getHistorico().listar());
+        assertEquals(lida.getDataCriacao(), atual.getDataCriacao());
+    }
+
+    @Test
+    void versoesAntigasSaoRecolhidasQuandoNenhumInstantaneoAsAlcanca() {
+        SolicitacaoSuporte salva = repository.save(nova("Rede instável"));
+        for (int i = 0; i < 100; i++) {
+            repository.update(repository.findById(salva.getId()).orElseThrow());
+        }
+        assertEquals(0, repository.versoesRetidas());
+
+        MvccSolicitacaoSuporteRepository.Instantaneo instantaneo = repository.abrirInstantaneo();
+        for (int i = 0; i < 100; i++) {
+            repository.update(repository.findById(salva.getId()).orElseThrow());
+        }
+        repository.deleteAll();
+        // Só a versão que o instantâneo enxerga fica retida, além da atual (a lápide)
+        assertEquals(1, repository.versoesRetidas());
+        assertEquals(1, instantaneo.contar());
+        assertEquals(0, repository.count());
+
+        instantaneo.close();
+        assertEquals(0, repository.versoesRetidas());
+        assertTrue(repository.findAll().isEmpty());
+    }
+
+    @Test
+    void ouvintesRecebemAsVersoesNaOrdemEmQueForamGravadas() {
+        List<String> notificacoes = new ArrayList<>();
+        repository.adicionarOuvinte(new OuvinteRepositorio() {
+            @Override
+            public void aoSalvar(SolicitacaoSuporte solicitacao) {
+                notificacoes.add("salvar " + solicitacao.getStatus());
+            }
+
+            @Override
+            public void aoRemover(Long id) {
+                notificacoes.add("remover");
+            }
+        });
+
+        SolicitacaoSuporte salva = repository.save(nova("VPN caiu"));
+        salva.setStatus(StatusSolicitacao.EM_ANDAMENTO);
+        repository.update(salva);
+        repository.deleteById(salva.getId());
+        repository.deleteById(salva.getId());
+
+        assertEquals(List.of("salvar ABERTA", "salvar EM_ANDAMENTO", "remover"), notificacoes);
+    }
+
+    /**
+     * Um escritor move a única solicitação EM_ANDAMENTO de um ID para o seguinte em duas escritas
+     * (primeiro devolve a atual para ABERTA); um instantâneo vê um prefixo das escritas, então nunca
+     * encontra duas EM_ANDAMENTO, o que uma varredura do mapa vivo poderia encontrar
+     */
+    @Test
+    void leiturasConcorrentesVeemUmPontoUnicoNoTempo() throws Exception {
+        int quantidade = 200;
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < quantidade; i++) {
+            ids.add(repository.save(nova("Solicitação " + i)).getId());
+        }
+        AtomicBoolean parar = new AtomicBoolean();
+        AtomicReference<Throwable> erro = new AtomicReference<>();
+        Thread escritor = new Thread(() -> {
+            try {
+                for (int i = 0; !parar.get(); i++) {
+                    SolicitacaoSuporte atual = repository.findById(ids.get(i % quantidade)).orElseThrow();
+                    if (atual.getStatus() == StatusSolicitacao.EM_ANDAMENTO) {
+                        atual.setStatus(StatusSolicitacao.ABERTA);
+                        repository.update(atual);
+                    }
+                    SolicitacaoSuporte seguinte = repository.findById(ids.get((i + 1) % quantidade)).orElseThrow();
+                    seguinte.setStatus(StatusSolicitacao.EM_ANDAMENTO);
+                    repository.update(seguinte);
+                }
+            } catch (Throwable e) {
+                erro.set(e);
+            }
+        });
+        escritor.start();
+        try {
+            for (int leitura = 0; leitura < 2_000; leitura++) {
+                List<SolicitacaoSuporte> todas = repository.findAll();
+                assertEquals(quantidade, todas.size());
+                long emAndamento = todas.stream().filter(s -> s.getStatus() == StatusSolicitacao.EM_ANDAMENTO).count();
+                assertTrue(emAndamento <= 1, "instantâneo com " + emAndamento + " solicitações EM_ANDAMENTO");
+            }
+        } finally {
+            parar.set(true);
+            escritor.join();
+        }
+        assertEquals(null, erro.get());
+        assertEquals(0, repository.instantaneosAbertos());
+        assertTrue(repository.versoesRetidas() <= 2);
+    }
+
+    private static SolicitacaoSuporte nova(String titulo) {
+        return new SolicitacaoSuporte(null, titulo, "Descrição do problema", Prioridade.MEDIA);
+    }
+}
@@ -0,0 +1,203 @@
+package br.com.fiap.byteshoponlineapp.grpc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import br.com.fiap.byteshoponlineapp.domain.SolicitacaoSuporte;
+import br.com.fiap.byteshoponlineapp.domain.enums.StatusSolicitacao;
+import br.com.fiap.byteshoponlineapp.domain.repository.MemoriaSolicitacaoSuporteRepository;
+import br.com.fiap.byteshoponlineapp.domain.repository.arquivo.ArquivoFrio;
+import br.com.fiap.byteshoponlineapp.domain.repository.indice.IndiceBitmap;
+import br.com.fiap.byteshoponlineapp.domain.repository.indice.IndiceOrdenado;
+import br.com.fiap.byteshoponlineapp.grpc.proto.AtualizarStatusRequest;
+import br.com.fiap.byteshoponlineapp.grpc.proto.BuscarRequest;
+import br.com.fiap.byteshoponlineapp.grpc.proto.BuscarVariasRequest;
+import br.com.fiap.byteshoponlineapp.grpc.proto.BuscarVariasResponse;
+import br.com.fiap.byteshoponlineapp.grpc.proto.CriarRequest;
+import br.com.fiap.byteshoponlineapp.grpc.proto.EncerrarRequest;
+import br.com.fiap.byteshoponlineapp.grpc.proto.ListarRequest;
+import br.com.fiap.byteshoponlineapp.grpc.proto.LoteSolicitacoes;
+import br.com.fiap.byteshoponlineapp.grpc.proto.Prioridade;
+import br.com.fiap.byteshoponlineapp.grpc.proto.Solicitacao;
+import br.com.fiap.byteshoponlineapp.grpc.proto.Status;
+import br.com.fiap.byteshoponlineapp.grpc.proto.SuporteGrpc;
+import br.com.fiap.byteshoponlineapp.service.MetricasTempoService;
+import br.com.fiap.byteshoponlineapp.service.SolicitacaoSuporteService;
+import br.com.fiap.byteshoponlineapp.service.execucao.ExecucaoParalela;
+import io.grpc.Grpc;
+import io.grpc.InsecureChannelCredentials;
+import io.grpc.ManagedChannel;
+import io.grpc.StatusRuntimeException;
+import jakarta.validation.Validation;
+
+/**
+ * Testes da API gRPC sobre um servidor Netty real em porta livre
+ */
+class SuporteGrpcServiceTest {
+
+    @TempDir
+    Path diretorio;
+
+    private MemoriaSolicitacaoSuporteRepository repository;
+    private ArquivoFrio arquivoFrio;
+    private SolicitacaoSuporteService service;
+    private SpringValidatorAdapter validator;
+    private ServidorGrpc servidor;
+    private ManagedChannel canal;
+    private SuporteGrpc.SuporteBlockingStub stub;
+
+    @BeforeEach
+    void setUp() {
+        repository = new MemoriaSolicitacaoSuporteRepository(4, 64);
+        arquivoFrio = new ArquivoFrio(diretorio.toString());
+        IndiceBitmap indiceBitmap = new IndiceBitmap(repository, arquivoFrio);
+        indiceBitmap.iniciar();
+        IndiceOrdenado indiceOrdenado = new IndiceOrdenado(repository, arquivoFrio);
+        indiceOrdenado.iniciar();
+        service = new SolicitacaoSuporteService(repository, new MetricasTempoService(), arquivoFrio, indiceBitmap,
+                indiceOrdenado, new ExecucaoParalela(Executors.newCachedThreadPool(), 2), evento -> { });
+        validator = new SpringValidatorAdapter(Validation.buildDefaultValidatorFactory().getValidator());
+        iniciar(false);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        canal.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        servidor.stop();
+    }
+
+    @Test
+    void cicloDeVidaCompletoComOsMesmosStatusDaApiRest() {
+        Solicitacao criada = stub.criar(criarRequest("Falha no login do portal", Prioridade.ALTA));
+        assertEquals(Status.ABERTA, criada.getStatus());
+        assertEquals(Prioridade.ALTA, criada.getPrioridade());
+        assertTrue(criada.getDataCriacao() > 0);
+
+        assertEquals(criada, stub.buscar(BuscarRequest.newBuilder().setId(criada.getId()).build()));
+        assertCodigo(io.grpc.Status.Code.NOT_FOUND, () -> stub.buscar(BuscarRequest.newBuilder().setId(999).build()));
+
+        assertCodigo(io.grpc.Status.Code.FAILED_PRECONDITION, () -> stub.atualizarStatus(
+                AtualizarStatusRequest.newBuilder().setId(criada.getId()).setStatus(Status.RESOLVIDA).build()));
+        assertCodigo(io.grpc.Status.Code.FAILED_PRECONDITION,
+                () -> stub.encerrar(EncerrarRequest.newBuilder().setId(criada.getId()).build()));
+
+        stub.atualizarStatus(AtualizarStatusRequest.newBuilder().setId(criada.getId()).setStatus(Status.EM_ANDAMENTO).build());
+        stub.atualizarStatus(AtualizarStatusRequest.newBuilder().setId(criada.getId()).setStatus(Status.RESOLVIDA).build());
+        Solicitacao fechada = stub.encerrar(EncerrarRequest.newBuilder().setId(criada.getId()).build());
+        assertEquals(Status.FECHADA, fechada.getStatus());
+    }
+
+    @Test
+    void criacaoInvalidaRespondeInvalidArgumentComOsCamposDoDto() {
+        StatusRuntimeException erro = assertThrows(StatusRuntimeException.class,
+                () -> stub.criar(CriarRequest.newBuilder().setTitulo("abc").build()));
+        assertEquals(io.grpc.Status.Code.INVALID_ARGUMENT, erro.getStatus().getCode());
+        assertTrue(erro.getStatus().getDescription().contains("descricao"));
+        assertTrue(erro.getStatus().getDescription().contains("prioridade"));
+    }
+
+    @Test
+    void buscaVariasSeparaInexistentes() {
+        long id = stub.criar(criarRequest("Impressora sem conexão", Prioridade.BAIXA)).getId();
+
+        BuscarVariasResponse resposta = stub.buscarVarias(BuscarVariasRequest.newBuilder()
+                .addIds(id).addIds(42).build());
+        assertEquals(1, resposta.getEncontradasCount());
+        assertEquals(List.of(42L), resposta.getNaoEncontradasList());
+        assertCodigo(io.grpc.Status.Code.INVALID_ARGUMENT,
+                () -> stub.buscarVarias(BuscarVariasRequest.getDefaultInstance()));
+    }
+
+    @Test
+    void listagemGrandeChegaInteiraEmLotesPeloStreamFiltrandoPorStatus() {
+        int quantidade = 2_000;
+        long primeira = stub.criar(criarRequest("Solicitação número 0", Prioridade.MEDIA)).getId();
+        for (int i = 1; i < quantidade; i++) {
+            stub.criar(criarRequest("Solicitação número " + i, Prioridade.MEDIA));
+        }
+        stub.atualizarStatus(AtualizarStatusRequest.newBuilder().setId(primeira).setStatus(Status.EM_ANDAMENTO).build());
+
+        assertEquals(quantidade, contar(stub.listar(ListarRequest.getDefaultInstance())));
+        assertEquals(quantidade, contar(stub.listar(ListarRequest.newBuilder().setTamanhoLote(7).build())));
+        assertEquals(quantidade - 1, contar(stub.listar(ListarRequest.newBuilder().setStatus(Status.ABERTA).build())));
+        assertEquals(1, contar(stub.listar(ListarRequest.newBuilder().setStatus(Status.EM_ANDAMENTO).build())));
+        assertCodigo(io.grpc.Status.Code.INVALID_ARGUMENT,
+                () -> stub.listar(ListarRequest.newBuilder().setTamanhoLote(-1).build()).hasNext());
+    }
+
+    @Test
+    void listagemIncluiAsArquivadasUmaVezDuranteATransferencia() {
+        stub.criar(criarRequest("Continua aberta", Prioridade.BAIXA));
+        for (int i = 0; i < 2; i++) {
+            long id = stub.criar(criarRequest("Será arquivada " + i, Prioridade.BAIXA)).getId();
+            stub.atualizarStatus(AtualizarStatusRequest.newBuilder().setId(id).setStatus(Status.EM_ANDAMENTO).build());
+            stub.atualizarStatus(AtualizarStatusRequest.newBuilder().setId(id).setStatus(Status.RESOLVIDA).build());
+            stub.encerrar(EncerrarRequest.newBuilder().setId(id).build());
+        }
+        // Arquivadas mas ainda no repositório, como entre arquivar e despejar
+        List<SolicitacaoSuporte> fechadas = service.listarPorStatus(StatusSolicitacao.FECHADA);
+        arquivoFrio.arquivar(fechadas);
+        assertEquals(3, contar(stub.listar(ListarRequest.getDefaultInstance())));
+
+        repository.evictById(fechadas.get(0).getId());
+        assertEquals(3, contar(stub.listar(ListarRequest.getDefaultInstance())));
+        assertEquals(2, contar(stub.listar(ListarRequest.newBuilder().setStatus(Status.FECHADA).build())));
+    }
+
+    @Test
+    void seguidorRecusaEscritasMasRespondeLeituras() throws InterruptedException {
+        long id = stub.criar(criarRequest("Criada antes de virar seguidor", Prioridade.BAIXA)).getId();
+        tearDown();
+        iniciar(true);
+
+        assertCodigo(io.grpc.Status.Code.UNAVAILABLE, () -> stub.criar(criarRequest("Escrita no seguidor", Prioridade.BAIXA)));
+        assertEquals(id, stub.buscar(BuscarRequest.newBuilder().setId(id).build()).getId());
+    }
+
+    private void iniciar(boolean somenteLeitura) {
+        GrpcProperties properties = new GrpcProperties();
+        properties.setPorta(0);
+        properties.setThreads(2);
+        servidor = new ServidorGrpc(properties, new SuporteGrpcService(service, validator, somenteLeitura));
+        servidor.start();
+        canal = Grpc.newChannelBuilderForAddress("localhost", servidor.getPorta(), InsecureChannelCredentials.create())
+                .build();
+        stub = SuporteGrpc.newBlockingStub(canal);
+    }
+
+    private static CriarRequest criarRequest(String titulo, Prioridade prioridade) {
+        return CriarRequest.newBuilder()
+                .setTitulo(titulo)
+                .setDescricao("Descrição detalhada do problema")
+                .setPrioridade(prioridade)
+                .build();
+    }
+
+    private static int contar(Iterator<LoteSolicitacoes> stream) {
+        int total = 0;
+        while (stream.hasNext()) {
+            LoteSolicitacoes lote = stream.next();
+            assertTrue(lote.getSolicitacoesCount() > 0);
+            total += lote.getSolicitacoesCount();
+        }
+        return total;
+    }
+
+    private static void assertCodigo(io.grpc.Status.Code esperado, Runnable chamada) {
+        StatusRuntimeException erro = assertThrows(StatusRuntimeException.class, chamada::run);
+        assertEquals(esperado, erro.getStatus().getCode());
+    }
+}
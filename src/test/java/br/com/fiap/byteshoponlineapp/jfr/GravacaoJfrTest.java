@@ -0,0 +1,67 @@
+package br.com.fiap.byteshoponlineapp.jfr;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import br.com.fiap.byteshoponlineapp.service.exception.RegraDeNegocioException;
+
+class GravacaoJfrTest {
+
+    @TempDir
+    Path diretorio;
+
+    private GravacaoJfr gravacao;
+
+    @AfterEach
+    void tearDown() {
+        gravacao.fechar();
+    }
+
+    @Test
+    void gravaOsEventosDoSistemaEmDisco() throws Exception {
+        gravacao = new GravacaoJfr(diretorio, Duration.ofMinutes(1), 16 * 1024 * 1024);
+        assertFalse(gravacao.estado().ativa());
+
+        assertTrue(gravacao.iniciar("default").ativa());
+        assertThrows(RegraDeNegocioException.class, () -> gravacao.iniciar("default"));
+
+        TransicaoStatusEvento evento = new TransicaoStatusEvento();
+        evento.begin();
+        evento.operacao = "encerrar";
+        evento.solicitacaoId = 42;
+        evento.statusAnterior = "RESOLVIDA";
+        evento.novoStatus = "FECHADA";
+        evento.commit();
+
+        GravacaoJfr.ArquivoGravacao arquivo = gravacao.parar();
+        assertFalse(gravacao.estado().ativa());
+
+        List<RecordedEvent> transicoes = RecordingFile.readAllEvents(Path.of(arquivo.caminho())).stream()
+                .filter(e -> e.getEventType().getName().equals("br.com.fiap.suporte.TransicaoStatus"))
+                .toList();
+        assertEquals(1, transicoes.size());
+        assertEquals(42, transicoes.get(0).getLong("solicitacaoId"));
+        assertEquals("FECHADA", transicoes.get(0).getString("novoStatus"));
+    }
+
+    @Test
+    void recusaConfiguracaoDesconhecidaEDespejoSemGravacao() {
+        gravacao = new GravacaoJfr(diretorio, Duration.ofMinutes(1), 16 * 1024 * 1024);
+
+        assertThrows(RegraDeNegocioException.class, () -> gravacao.iniciar("inexistente"));
+        assertThrows(RegraDeNegocioException.class, () -> gravacao.despejar());
+    }
+}
@@ -0,0 +1,234 @@
+package br.com.fiap.byteshoponlineapp.replicacao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import br.com.fiap.byteshoponlineapp.domain.SolicitacaoSuporte;
+import br.com.fiap.byteshoponlineapp.domain.enums.Prioridade;
+import br.com.fiap.byteshoponlineapp.domain.enums.StatusSolicitacao;
+import br.com.fiap.byteshoponlineapp.domain.repository.MemoriaSolicitacaoSuporteRepository;
+import br.com.fiap.byteshoponlineapp.domain.repository.OuvinteRepositorio;
+import br.com.fiap.byteshoponlineapp.domain.repository.SolicitacaoSuporteRepository;
+import br.com.fiap.byteshoponlineapp.domain.repository.arquivo.ArquivoFrio;
+import br.com.fiap.byteshoponlineapp.service.ArquivadorSolicitacoes;
+
+/**
+ * Líder e seguidor no mesmo processo, ligados por TCP no localhost
+ */
+class ReplicacaoTest {
+
+    private static final long ESPERA_MS = 5_000;
+
+    @TempDir
+    Path diretorio;
+
+    private final MemoriaSolicitacaoSuporteRepository repositorioLider = new MemoriaSolicitacaoSuporteRepository(2, 64);
+    private final MemoriaSolicitacaoSuporteRepository repositorioSeguidor = new MemoriaSolicitacaoSuporteRepository(2, 64);
+    private ArquivoFrio arquivoLider;
+    private ArquivoFrio arquivoSeguidor;
+    private LiderReplicacao lider;
+    private SeguidorReplicacao seguidor;
+
+    @AfterEach
+    void encerrar() throws Exception {
+        if (seguidor != null) {
+            seguidor.encerrar();
+        }
+        if (lider != null) {
+            lider.encerrar();
+        }
+        arquivoLider.fechar();
+        arquivoSeguidor.fechar();
+    }
+
+    private void iniciarLider(int capacidadeLog) throws Exception {
+        arquivoLider = new ArquivoFrio(diretorio.resolve("lider").toString());
+        arquivoSeguidor = new ArquivoFrio(diretorio.resolve("seguidor").toString());
+        ReplicacaoProperties properties = new ReplicacaoProperties();
+        properties.setPorta(0);
+        properties.setCapacidadeLog(capacidadeLog);
+        lider = new LiderReplicacao(repositorioLider, arquivoLider, properties);
+        lider.iniciar();
+    }
+
+    private ReplicacaoProperties propriedadesSeguidor() {
+        ReplicacaoProperties properties = new ReplicacaoProperties();
+        properties.setLiderPorta(lider.porta());
+        properties.setLiderUrl("http://lider:8080");
+        properties.setEsperaMaxima(Duration.ofMillis(100));
+        return properties;
+    }
+
+    private void iniciarSeguidor() {
+        seguidor = new SeguidorReplicacao(repositorioSeguidor, arquivoSeguidor, propriedadesSeguidor());
+        seguidor.iniciar();
+    }
+
+    private void aguardarSeguidor() throws InterruptedException {
+        assertTrue(seguidor.aguardarSequencia(lider.sequenciaAtual(), ESPERA_MS));
+    }
+
+    private SolicitacaoSuporte criar(int i) {
+        return repositorioLider.save(new SolicitacaoSuporte(null, "Título " + i, "Descrição " + i, Prioridade.MEDIA));
+    }
+
+    private void fechar(SolicitacaoSuporte solicitacao) {
+        solicitacao.setStatus(StatusSolicitacao.FECHADA);
+        repositorioLider.update(solicitacao);
+    }
+
+    private int arquivarFechadas() throws InterruptedException {
+        Thread.sleep(5);
+        return new ArquivadorSolicitacoes(repositorioLider, arquivoLider, Duration.ZERO).arquivarFechadas();
+    }
+
+    private static Set<Long> ids(SolicitacaoSuporteRepository repository) {
+        return repository.findAll().stream().map(SolicitacaoSuporte::getId).collect(Collectors.toSet());
+    }
+
+    @Test
+    void seguidorAplicaOLogDeMutacoes() throws Exception {
+        iniciarLider(1_000);
+        iniciarSeguidor();
+
+        List<SolicitacaoSuporte> criadas = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            criadas.add(criar(i));
+        }
+        criadas.get(1).setStatus(StatusSolicitacao.EM_ANDAMENTO);
+        repositorioLider.update(criadas.get(1));
+        repositorioLider.deleteById(criadas.get(4).getId());
+        aguardarSeguidor();
+
+        assertEquals(ids(repositorioLider), ids(repositorioSeguidor));
+        assertEquals(StatusSolicitacao.EM_ANDAMENTO,
+                repositorioSeguidor.findById(criadas.get(1).getId()).orElseThrow().getStatus());
+        assertEquals(lider.sequenciaAtual(), seguidor.sequenciaAplicada());
+    }
+
+    @Test
+    void arquivamentoNoLiderEReplicado() throws Exception {
+        iniciarLider(1_000);
+        iniciarSeguidor();
+
+        SolicitacaoSuporte aberta = criar(0);
+        SolicitacaoSuporte fechada1 = criar(1);
+        SolicitacaoSuporte fechada2 = criar(2);
+        fechar(fechada1);
+        fechar(fechada2);
+        assertEquals(2, arquivarFechadas());
+        aguardarSeguidor();
+
+        assertEquals(Set.of(aberta.getId()), ids(repositorioSeguidor));
+        assertTrue(arquivoSeguidor.contem(fechada1.getId()));
+        assertTrue(arquivoSeguidor.contem(fechada2.getId()));
+        assertEquals(StatusSolicitacao.FECHADA, arquivoSeguidor.buscar(fechada1.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void seguidorAtrasadoRecebeSnapshotAplicadoComoDiferenca() throws Exception {
+        iniciarLider(4);
+        List<SolicitacaoSuporte> criadas = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            criadas.add(criar(i));
+        }
+        fechar(criadas.get(0));
+        assertEquals(1, arquivarFechadas());
+
+        // Estado antigo do seguidor: uma solicitação que o líder não tem mais e uma desatualizada
+        SolicitacaoSuporte obsoleta = new SolicitacaoSuporte(999L, "Obsoleta", "Removida no líder", Prioridade.BAIXA);
+        repositorioSeguidor.save(obsoleta);
+        repositorioSeguidor.save(new SolicitacaoSuporte(criadas.get(5)));
+        criadas.get(5).setStatus(StatusSolicitacao.EM_ANDAMENTO);
+        repositorioLider.update(criadas.get(5));
+        AtomicInteger limpezas = new AtomicInteger();
+        repositorioSeguidor.adicionarOuvinte(new OuvinteRepositorio() {
+            @Override
+            public void aoSalvar(SolicitacaoSuporte solicitacao) {
+            }
+
+            @Override
+            public void aoRemover(Long id) {
+            }
+
+            @Override
+            public void aoLimpar() {
+                limpezas.incrementAndGet();
+            }
+        });
+
+        iniciarSeguidor();
+        aguardarSeguidor();
+
+        assertEquals(ids(repositorioLider), ids(repositorioSeguidor));
+        assertEquals(StatusSolicitacao.EM_ANDAMENTO,
+                repositorioSeguidor.findById(criadas.get(5).getId()).orElseThrow().getStatus());
+        assertTrue(arquivoSeguidor.contem(criadas.get(0).getId()));
+        assertEquals(0, limpezas.get());
+
+        // Depois do snapshot o log segue normalmente
+        SolicitacaoSuporte nova = criar(10);
+        aguardarSeguidor();
+        assertTrue(repositorioSeguidor.existsById(nova.getId()));
+    }
+
+    @Test
+    void seguidorRedirecionaEscritasEEsperaASequenciaPedida() throws Exception {
+        iniciarLider(1_000);
+        iniciarSeguidor();
+        RoteamentoReplicacaoInterceptor roteamento =
+                new RoteamentoReplicacaoInterceptor(null, seguidor, propriedadesSeguidor());
+
+        MockHttpServletRequest escrita = new MockHttpServletRequest("POST", "/api/suporte");
+        escrita.setQueryString("origem=teste");
+        MockHttpServletResponse redirecionada = new MockHttpServletResponse();
+        assertFalse(roteamento.preHandle(escrita, redirecionada, null));
+        assertEquals(307, redirecionada.getStatus());
+        assertEquals("http://lider:8080/api/suporte?origem=teste", redirecionada.getHeader("Location"));
+
+        // Read-your-writes: a leitura espera a réplica alcançar a sequência da escrita no líder
+        criar(0);
+        long sequencia = lider.ultimaSequenciaDaThread();
+        MockHttpServletRequest leitura = new MockHttpServletRequest("GET", "/api/suporte/1");
+        leitura.addHeader(RoteamentoReplicacaoInterceptor.HEADER_SEQUENCIA_MINIMA, Long.toString(sequencia));
+        MockHttpServletResponse atendida = new MockHttpServletResponse();
+        assertTrue(roteamento.preHandle(leitura, atendida, null));
+        assertTrue(Long.parseLong(atendida.getHeader(RoteamentoReplicacaoInterceptor.HEADER_SEQUENCIA)) >= sequencia);
+        assertTrue(repositorioSeguidor.existsById(1L));
+
+        // Sequência que a réplica não alcança a tempo: a leitura vai para o líder
+        MockHttpServletRequest adiantada = new MockHttpServletRequest("GET", "/api/suporte/1");
+        adiantada.addHeader(RoteamentoReplicacaoInterceptor.HEADER_SEQUENCIA_MINIMA, Long.toString(sequencia + 100));
+        MockHttpServletResponse paraOLider = new MockHttpServletResponse();
+        assertFalse(roteamento.preHandle(adiantada, paraOLider, null));
+        assertEquals(307, paraOLider.getStatus());
+        assertEquals("http://lider:8080/api/suporte/1", paraOLider.getHeader("Location"));
+    }
+
+    @Test
+    void liderZeraASequenciaDaThreadACadaRequisicao() throws Exception {
+        iniciarLider(1_000);
+        arquivoSeguidor.fechar();
+        RoteamentoReplicacaoInterceptor roteamento = new RoteamentoReplicacaoInterceptor(lider, null, new ReplicacaoProperties());
+
+        criar(0);
+        assertTrue(lider.ultimaSequenciaDaThread() > 0);
+        assertTrue(roteamento.preHandle(new MockHttpServletRequest("POST", "/api/suporte"), new MockHttpServletResponse(), null));
+        assertEquals(0, lider.ultimaSequenciaDaThread());
+    }
+}
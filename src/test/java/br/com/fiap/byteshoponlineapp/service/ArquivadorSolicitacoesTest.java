@@ -0,0 +1,99 @@
+package br.com.fiap.byteshoponlineapp.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import br.com.fiap.byteshoponlineapp.api.dto.SolicitacaoSuporteRequest;
+import br.com.fiap.byteshoponlineapp.domain.SolicitacaoSuporte;
+import br.com.fiap.byteshoponlineapp.domain.enums.Prioridade;
+import br.com.fiap.byteshoponlineapp.domain.enums.StatusSolicitacao;
+import br.com.fiap.byteshoponlineapp.domain.repository.MemoriaSolicitacaoSuporteRepository;
+import br.com.fiap.byteshoponlineapp.domain.repository.SolicitacaoSuporteRepository;
+import br.com.fiap.byteshoponlineapp.domain.repository.arquivo.ArquivoFrio;
+import br.com.fiap.byteshoponlineapp.domain.repository.indice.IndiceBitmap;
+import br.com.fiap.byteshoponlineapp.domain.repository.indice.IndiceOrdenado;
+import br.com.fiap.byteshoponlineapp.domain.repository.jdbc.JdbcSolicitacaoSuporteRepository;
+import br.com.fiap.byteshoponlineapp.domain.repository.mvcc.MvccSolicitacaoSuporteRepository;
+import br.com.fiap.byteshoponlineapp.service.execucao.ExecucaoParalela;
+
+class ArquivadorSolicitacoesTest {
+
+    @TempDir
+    Path diretorio;
+
+    private JdbcDataSource dataSource;
+
+    private SolicitacaoSuporteRepository novoRepositorio(String tipo) {
+        return switch (tipo) {
+            case "memoria" -> new MemoriaSolicitacaoSuporteRepository(4, 64);
+            case "mvcc" -> new MvccSolicitacaoSuporteRepository(64);
+            // O mesmo banco sobrevive ao reinício; só o repositório é recriado
+            case "jdbc" -> new JdbcSolicitacaoSuporteRepository(dataSource, 100, 64);
+            default -> throw new IllegalArgumentException(tipo);
+        };
+    }
+
+    private static SolicitacaoSuporteService novoServico(SolicitacaoSuporteRepository repository,
+                                                         ArquivoFrio arquivoFrio, ExecucaoParalela execucao) {
+        IndiceBitmap indiceBitmap = new IndiceBitmap(repository, arquivoFrio);
+        indiceBitmap.iniciar();
+        IndiceOrdenado indiceOrdenado = new IndiceOrdenado(repository, arquivoFrio);
+        indiceOrdenado.iniciar();
+        return new SolicitacaoSuporteService(repository, new MetricasTempoService(), arquivoFrio, indiceBitmap,
+                indiceOrdenado, execucao, evento -> {});
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"memoria", "mvcc", "jdbc"})
+    void idsArquivadosNaoSaoReutilizadosDepoisDoReinicio(String tipo) throws Exception {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:arquivador-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        new ResourceDatabasePopulator(new ClassPathResource("schema-suporte.sql")).execute(dataSource);
+        SolicitacaoSuporteRequest request = new SolicitacaoSuporteRequest("Erro no login", "Não consigo acessar", Prioridade.ALTA);
+
+        long maiorArquivado;
+        try (ExecucaoParalela execucao = new ExecucaoParalela(Executors.newCachedThreadPool(), 2)) {
+            SolicitacaoSuporteRepository repository = novoRepositorio(tipo);
+            ArquivoFrio arquivoFrio = new ArquivoFrio(diretorio.toString());
+            SolicitacaoSuporteService service = novoServico(repository, arquivoFrio, execucao);
+            for (int i = 0; i < 3; i++) {
+                SolicitacaoSuporte criada = service.criar(request);
+                criada.setStatus(StatusSolicitacao.FECHADA);
+                repository.update(criada);
+            }
+            Thread.sleep(5);
+            assertEquals(3, new ArquivadorSolicitacoes(repository, arquivoFrio, Duration.ZERO).arquivarFechadas());
+            assertEquals(0, repository.count());
+            maiorArquivado = arquivoFrio.maiorId();
+            arquivoFrio.fechar();
+            if (repository instanceof AutoCloseable fechavel) {
+                fechavel.close();
+            }
+
+            SolicitacaoSuporteRepository reiniciado = novoRepositorio(tipo);
+            ArquivoFrio reaberto = new ArquivoFrio(diretorio.toString());
+            try {
+                assertEquals(maiorArquivado, reaberto.maiorId());
+                SolicitacaoSuporte nova = novoServico(reiniciado, reaberto, execucao).criar(request);
+                assertTrue(nova.getId() > maiorArquivado, "ID " + nova.getId() + " já arquivado");
+                assertEquals(4, reaberto.quantidade() + reiniciado.count());
+            } finally {
+                reaberto.fechar();
+                if (reiniciado instanceof AutoCloseable fechavel) {
+                    fechavel.close();
+                }
+            }
+        }
+    }
+}
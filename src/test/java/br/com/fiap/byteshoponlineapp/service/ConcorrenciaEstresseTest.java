@@ -0,0 +1,331 @@
+package br.com.fiap.byteshoponlineapp.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import br.com.fiap.byteshoponlineapp.api.dto.AtualizarSolicitacaoRequest;
+import br.com.fiap.byteshoponlineapp.api.dto.SolicitacaoSuporteRequest;
+import br.com.fiap.byteshoponlineapp.domain.SolicitacaoSuporte;
+import br.com.fiap.byteshoponlineapp.domain.enums.Prioridade;
+import br.com.fiap.byteshoponlineapp.domain.enums.StatusSolicitacao;
+import br.com.fiap.byteshoponlineapp.domain.repository.MemoriaSolicitacaoSuporteRepository;
+import br.com.fiap.byteshoponlineapp.domain.repository.SolicitacaoSuporteRepository;
+import br.com.fiap.byteshoponlineapp.domain.repository.arquivo.ArquivoFrio;
+import br.com.fiap.byteshoponlineapp.domain.repository.indice.IndiceBitmap;
+import br.com.fiap.byteshoponlineapp.domain.repository.indice.IndiceOrdenado;
+import br.com.fiap.byteshoponlineapp.domain.repository.indice.Ordenacao;
+import br.com.fiap.byteshoponlineapp.domain.repository.jdbc.JdbcSolicitacaoSuporteRepository;
+import br.com.fiap.byteshoponlineapp.domain.repository.mvcc.MvccSolicitacaoSuporteRepository;
+import br.com.fiap.byteshoponlineapp.service.evento.EventoSolicitacao;
+import br.com.fiap.byteshoponlineapp.service.exception.RegraDeNegocioException;
+import br.com.fiap.byteshoponlineapp.service.exception.SolicitacaoNaoEncontradaException;
+import br.com.fiap.byteshoponlineapp.service.exception.TransicaoStatusInvalidaException;
+import br.com.fiap.byteshoponlineapp.service.execucao.ExecucaoParalela;
+
+/**
+ * Testes de estresse de concorrência (no estilo jcstress): várias threads liberadas juntas por uma
+ * barreira operam sobre poucos IDs compartilhados, rodada após rodada, e ao final de cada rodada
+ * os invariantes são verificados com o sistema parado
+ *
+ * O número de threads acompanha os núcleos da máquina (mínimo 4), para haver disputa real no build.
+ * Cada teste roda sobre as três implementações do repositório (memoria, mvcc e jdbc com H2 em memória).
+ */
+class ConcorrenciaEstresseTest {
+
+    private static final int THREADS = Math.max(4, Runtime.getRuntime().availableProcessors());
+    private static final int RODADAS = 40;
+    private static final int OPERACOES_POR_THREAD = 200;
+    private static final int IDS = 8;
+
+    private static final StatusSolicitacao[] STATUS = StatusSolicitacao.values();
+    private static final Prioridade[] PRIORIDADES = Prioridade.values();
+
+    @TempDir
+    Path diretorio;
+
+    private SolicitacaoSuporteRepository repository;
+    private ArquivoFrio arquivoFrio;
+    private IndiceBitmap indiceBitmap;
+    private IndiceOrdenado indiceOrdenado;
+    private ExecucaoParalela execucao;
+
+    // Eventos publicados pelo serviço, por ID, na ordem de publicação
+    private final Map<Long, List<EventoSolicitacao>> eventos = new ConcurrentHashMap<>();
+
+    private void iniciar(String tipo) {
+        repository = switch (tipo) {
+            case "memoria" -> new MemoriaSolicitacaoSuporteRepository(4, 64);
+            case "mvcc" -> new MvccSolicitacaoSuporteRepository(64);
+            case "jdbc" -> {
+                JdbcDataSource dataSource = new JdbcDataSource();
+                dataSource.setURL("jdbc:h2:mem:estresse-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+                new ResourceDatabasePopulator(new ClassPathResource("schema-suporte.sql")).execute(dataSource);
+                yield new JdbcSolicitacaoSuporteRepository(dataSource, 100, 64);
+            }
+            default -> throw new IllegalArgumentException(tipo);
+        };
+        arquivoFrio = new ArquivoFrio(diretorio.toString());
+        indiceBitmap = new IndiceBitmap(repository, arquivoFrio);
+        indiceBitmap.iniciar();
+        indiceOrdenado = new IndiceOrdenado(repository, arquivoFrio);
+        indiceOrdenado.iniciar();
+        execucao = new ExecucaoParalela(Executors.newCachedThreadPool(), 4);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        execucao.close();
+        arquivoFrio.fechar();
+        if (repository instanceof AutoCloseable fechavel) {
+            fechavel.close();
+        }
+    }
+
+    /**
+     * Libera THREADS threads ao mesmo tempo, cada uma executando a operação OPERACOES_POR_THREAD vezes
+     */
+    private static void executarRodada(Operacao operacao) throws Exception {
+        CyclicBarrier largada = new CyclicBarrier(THREADS);
+        AtomicReference<Throwable> erro = new AtomicReference<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int indice = t;
+            Thread thread = new Thread(() -> {
+                try {
+                    largada.await();
+                    for (int i = 0; i < OPERACOES_POR_THREAD; i++) {
+                        operacao.executar(indice, ThreadLocalRandom.current());
+                    }
+                } catch (Throwable e) {
+                    erro.compareAndSet(null, e);
+                }
+            }, "estresse-" + t);
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        if (erro.get() != null) {
+            throw new AssertionError("Falha inesperada durante a rodada", erro.get());
+        }
+    }
+
+    @FunctionalInterface
+    private interface Operacao {
+        void executar(int thread, ThreadLocalRandom aleatorio) throws Exception;
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"memoria", "mvcc", "jdbc"})
+    void repositorioMantemIndicesEContagemCoerentesComOConteudo(String tipo) throws Exception {
+        iniciar(tipo);
+        for (int rodada = 0; rodada < RODADAS; rodada++) {
+            executarRodada((thread, aleatorio) -> {
+                long id = 1 + aleatorio.nextInt(IDS);
+                switch (aleatorio.nextInt(3)) {
+                    case 0 -> repository.save(nova(id, aleatorio));
+                    case 1 -> repository.update(nova(id, aleatorio));
+                    default -> repository.deleteById(id);
+                }
+            });
+            verificarRepositorioEIndices();
+        }
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"memoria", "mvcc", "jdbc"})
+    void servicoNaoPerdeAtualizacoesNemFazTransicoesIlegais(String tipo) throws Exception {
+        iniciar(tipo);
+        SolicitacaoSuporteService service = new SolicitacaoSuporteService(repository, new MetricasTempoService(),
+                arquivoFrio, indiceBitmap, indiceOrdenado, execucao, this::registrar);
+
+        for (int rodada = 0; rodada < RODADAS; rodada++) {
+            repository.deleteAll();
+            eventos.clear();
+            List<Long> ids = new ArrayList<>();
+            for (int i = 0; i < IDS; i++) {
+                ids.add(service.criar(request("Solicitação " + i)).getId());
+            }
+
+            executarRodada((thread, aleatorio) -> {
+                long id = ids.get(aleatorio.nextInt(ids.size()));
+                try {
+                    switch (aleatorio.nextInt(4)) {
+                        case 0 -> service.atualizarStatus(id, STATUS[aleatorio.nextInt(STATUS.length)]);
+                        case 1 -> service.encerrar(id);
+                        case 2 -> {
+                            AtualizarSolicitacaoRequest request = new AtualizarSolicitacaoRequest();
+                            request.setTitulo("Título " + thread + "-" + aleatorio.nextInt(1_000_000));
+                            service.atualizar(id, request);
+                        }
+                        default -> {
+                            // Remoções são raras para que os IDs vivam o bastante para disputar transições
+                            if (aleatorio.nextInt(20) == 0) {
+                                service.remover(id);
+                            }
+                        }
+                    }
+                } catch (RegraDeNegocioException | TransicaoStatusInvalidaException
+                         | SolicitacaoNaoEncontradaException esperada) {
+                    // Recusas são resultados válidos da disputa
+                }
+            });
+
+            for (Long id : ids) {
+                verificarHistoricoDeEventos(id, repository.findById(id));
+            }
+            verificarRepositorioEIndices();
+            SolicitacaoSuporteService.EstatisticasSuporte estatisticas = service.obterEstatisticas();
+            assertEquals(repository.count(), estatisticas.total());
+            assertEquals(estatisticas.total(), estatisticas.abertas() + estatisticas.emAndamento()
+                    + estatisticas.resolvidas() + estatisticas.fechadas());
+        }
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"memoria", "mvcc", "jdbc"})
+    void estatisticasContamCadaArquivadaUmaVezDuranteATransferencia(String tipo) throws Exception {
+        iniciar(tipo);
+        SolicitacaoSuporteService service = new SolicitacaoSuporteService(repository, new MetricasTempoService(),
+                arquivoFrio, indiceBitmap, indiceOrdenado, execucao, evento -> { });
+        int quantidade = 64;
+        ConcurrentLinkedQueue<Long> aArquivar = new ConcurrentLinkedQueue<>();
+        for (int i = 0; i < quantidade; i++) {
+            long id = service.criar(request("Solicitação " + i)).getId();
+            service.atualizarStatus(id, StatusSolicitacao.EM_ANDAMENTO);
+            service.atualizarStatus(id, StatusSolicitacao.RESOLVIDA);
+            service.encerrar(id);
+            aArquivar.add(id);
+        }
+
+        // A thread 0 faz o que o arquivador faz (grava no arquivo e depois retira do repositório)
+        executarRodada((thread, aleatorio) -> {
+            if (thread == 0) {
+                Long id = aArquivar.poll();
+                if (id != null) {
+                    arquivoFrio.arquivar(List.of(repository.findById(id).orElseThrow()));
+                    repository.evictById(id);
+                }
+                return;
+            }
+            SolicitacaoSuporteService.EstatisticasSuporte estatisticas = service.obterEstatisticas();
+            assertEquals(quantidade, estatisticas.total());
+            assertEquals(quantidade, estatisticas.fechadas());
+        });
+        assertEquals(0, repository.count());
+        assertEquals(quantidade, service.obterEstatisticas().total());
+    }
+
+    private void registrar(Object evento) {
+        if (evento instanceof EventoSolicitacao solicitacao) {
+            List<EventoSolicitacao> doId = eventos.computeIfAbsent(solicitacao.id(), id -> new ArrayList<>());
+            synchronized (doId) {
+                doId.add(solicitacao);
+            }
+        }
+    }
+
+    /**
+     * Cada transição publicada parte do status deixado pela anterior (nenhuma atualização perdida)
+     * e é permitida pela máquina de estados; o estado final é o da última transição
+     */
+    private void verificarHistoricoDeEventos(Long id, Optional<SolicitacaoSuporte> atual) {
+        List<EventoSolicitacao> doId = eventos.get(id);
+        StatusSolicitacao status = null;
+        EventoSolicitacao ultimo = null;
+        synchronized (doId) {
+            for (EventoSolicitacao evento : doId) {
+                if (evento.tipo() == EventoSolicitacao.Tipo.CRIADA) {
+                    assertEquals(null, status, "criação repetida do ID " + id);
+                } else {
+                    assertEquals(status, evento.statusAnterior(), "atualização perdida no ID " + id + ": " + doId);
+                    assertTrue(transicaoPermitida(evento.statusAnterior(), evento.status()),
+                            "transição ilegal no ID " + id + ": " + evento.statusAnterior() + " -> " + evento.status());
+                }
+                status = evento.status();
+                ultimo = evento;
+            }
+        }
+
+        if (atual.isEmpty()) {
+            // Só solicitações ABERTAS podem ser removidas
+            assertEquals(StatusSolicitacao.ABERTA, status, "ID " + id + " removido fora do status ABERTA");
+            return;
+        }
+        SolicitacaoSuporte solicitacao = atual.get();
+        assertEquals(status, solicitacao.getStatus(), "status final divergente no ID " + id);
+        if (status == StatusSolicitacao.FECHADA) {
+            // Depois de fechada, nenhuma alteração pode ter passado
+            assertEquals(ultimo.titulo(), solicitacao.getTitulo(), "solicitação fechada " + id + " foi alterada");
+        }
+    }
+
+    private void verificarRepositorioEIndices() {
+        List<SolicitacaoSuporte> todas = repository.findAll();
+        assertEquals(todas.size(), repository.count());
+        for (StatusSolicitacao status : STATUS) {
+            Set<Long> noRepositorio = new HashSet<>();
+            for (SolicitacaoSuporte solicitacao : todas) {
+                if (solicitacao.getStatus() == status) {
+                    noRepositorio.add(solicitacao.getId());
+                }
+            }
+            Set<Long> noBitmap = new HashSet<>();
+            indiceBitmap.consultar(EnumSet.of(status), Set.of(), null, null).forEach(noBitmap::add);
+            Set<Long> noOrdenado = new HashSet<>(
+                    indiceOrdenado.primeiros(Ordenacao.PRIORIDADE, status, Integer.MAX_VALUE));
+
+            assertEquals(noRepositorio, noBitmap, "índice bitmap divergente para " + status);
+            assertEquals(noRepositorio, noOrdenado, "índice ordenado divergente para " + status);
+            assertEquals(noRepositorio.size(), repository.findByStatus(status).size());
+        }
+    }
+
+    private static boolean transicaoPermitida(StatusSolicitacao de, StatusSolicitacao para) {
+        return switch (de) {
+            case ABERTA -> para == StatusSolicitacao.EM_ANDAMENTO || para == StatusSolicitacao.FECHADA;
+            case EM_ANDAMENTO -> para == StatusSolicitacao.RESOLVIDA || para == StatusSolicitacao.ABERTA;
+            case RESOLVIDA -> para == StatusSolicitacao.FECHADA || para == StatusSolicitacao.EM_ANDAMENTO;
+            case FECHADA -> false;
+        };
+    }
+
+    private static SolicitacaoSuporte nova(long id, ThreadLocalRandom aleatorio) {
+        SolicitacaoSuporte solicitacao = new SolicitacaoSuporte(id, "Solicitação " + id, "Descrição da solicitação",
+                PRIORIDADES[aleatorio.nextInt(PRIORIDADES.length)]);
+        solicitacao.setStatus(STATUS[aleatorio.nextInt(STATUS.length)]);
+        return solicitacao;
+    }
+
+    private static SolicitacaoSuporteRequest request(String titulo) {
+        SolicitacaoSuporteRequest request = new SolicitacaoSuporteRequest();
+        request.setTitulo(titulo);
+        request.setDescricao("Descrição da solicitação " + titulo);
+        request.setPrioridade(Prioridade.MEDIA);
+        return request;
+    }
+}
@@ -0,0 +1,66 @@
+package br.com.fiap.byteshoponlineapp.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.nio.file.Path;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import br.com.fiap.byteshoponlineapp.api.dto.SolicitacaoSuporteRequest;
+import br.com.fiap.byteshoponlineapp.domain.enums.Prioridade;
+import br.com.fiap.byteshoponlineapp.domain.enums.StatusSolicitacao;
+import br.com.fiap.byteshoponlineapp.domain.repository.MemoriaSolicitacaoSuporteRepository;
+import br.com.fiap.byteshoponlineapp.domain.repository.arquivo.ArquivoFrio;
+import br.com.fiap.byteshoponlineapp.domain.repository.indice.IndiceBitmap;
+import br.com.fiap.byteshoponlineapp.domain.repository.indice.IndiceOrdenado;
+import br.com.fiap.byteshoponlineapp.service.execucao.ExecucaoParalela;
+
+class MetricasTempoServiceTest {
+
+    @TempDir
+    Path diretorio;
+
+    @Test
+    void registraTempoNoEstadoAnteriorPorPrioridade() {
+        MetricasTempoService metricas = new MetricasTempoService();
+        metricas.registrarTransicao(Prioridade.ALTA, StatusSolicitacao.ABERTA, StatusSolicitacao.EM_ANDAMENTO,
+                500, 500, false);
+        metricas.registrarTransicao(Prioridade.ALTA, StatusSolicitacao.EM_ANDAMENTO, StatusSolicitacao.RESOLVIDA,
+                1_500, 2_000, false);
+        metricas.registrarTransicao(null, StatusSolicitacao.ABERTA, StatusSolicitacao.EM_ANDAMENTO, 1, 1, false);
+
+        MetricasTempoService.MetricasPrioridade alta = metricas.obterMetricas().porPrioridade().get(Prioridade.ALTA);
+        assertEquals(1, alta.tempoNoEstado().get(StatusSolicitacao.ABERTA).amostras());
+        assertEquals(500, alta.tempoNoEstado().get(StatusSolicitacao.ABERTA).maxMs());
+        assertEquals(1, alta.tempoAteResolucao().amostras());
+        assertEquals(2_000, alta.tempoAteResolucao().maxMs());
+        assertFalse(alta.tempoNoEstado().containsKey(StatusSolicitacao.FECHADA));
+    }
+
+    @Test
+    void solicitacaoReabertaEResolvidaDeNovoContaUmaSoResolucao() {
+        MetricasTempoService metricas = new MetricasTempoService();
+        MemoriaSolicitacaoSuporteRepository repository = new MemoriaSolicitacaoSuporteRepository(4, 64);
+        ArquivoFrio arquivoFrio = new ArquivoFrio(diretorio.toString());
+        IndiceBitmap indiceBitmap = new IndiceBitmap(repository, arquivoFrio);
+        indiceBitmap.iniciar();
+        IndiceOrdenado indiceOrdenado = new IndiceOrdenado(repository, arquivoFrio);
+        indiceOrdenado.iniciar();
+        SolicitacaoSuporteService service = new SolicitacaoSuporteService(repository, metricas, arquivoFrio,
+                indiceBitmap, indiceOrdenado, new ExecucaoParalela(Executors.newCachedThreadPool(), 2), evento -> { });
+
+        Long id = service.criar(new SolicitacaoSuporteRequest("Impressora parada", "Não imprime desde ontem",
+                Prioridade.MEDIA)).getId();
+        service.atualizarStatus(id, StatusSolicitacao.EM_ANDAMENTO);
+        service.atualizarStatus(id, StatusSolicitacao.RESOLVIDA);
+        service.atualizarStatus(id, StatusSolicitacao.EM_ANDAMENTO);
+        service.atualizarStatus(id, StatusSolicitacao.RESOLVIDA);
+
+        MetricasTempoService.MetricasPrioridade media = metricas.obterMetricas().porPrioridade().get(Prioridade.MEDIA);
+        assertEquals(1, media.tempoAteResolucao().amostras());
+        assertEquals(2, media.tempoNoEstado().get(StatusSolicitacao.EM_ANDAMENTO).amostras());
+    }
+}
@@ -0,0 +1,71 @@
+package br.com.fiap.byteshoponlineapp.service.execucao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class ExecucaoParalelaTest {
+
+    private final ExecucaoParalela execucao = new ExecucaoParalela(Executors.newCachedThreadPool(), 2);
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        execucao.close();
+    }
+
+    @Test
+    void retornaNaOrdemDasTarefasRespeitandoOParalelismo() {
+        AtomicInteger simultaneas = new AtomicInteger();
+        AtomicInteger maximo = new AtomicInteger();
+        List<Callable<Integer>> tarefas = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            int valor = i;
+            tarefas.add(() -> {
+                maximo.accumulateAndGet(simultaneas.incrementAndGet(), Math::max);
+                Thread.sleep(10);
+                simultaneas.decrementAndGet();
+                return valor;
+            });
+        }
+
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7), execucao.executarTodas(tarefas));
+        assertTrue(maximo.get() <= 2);
+    }
+
+    @Test
+    void falhaCancelaAsDemaisERepassaAExcecao() throws InterruptedException {
+        CountDownLatch iniciada = new CountDownLatch(1);
+        CountDownLatch cancelada = new CountDownLatch(1);
+        IllegalArgumentException falha = new IllegalArgumentException("falhou");
+        List<Callable<String>> tarefas = List.of(
+                () -> {
+                    iniciada.countDown();
+                    try {
+                        Thread.sleep(10_000);
+                        return "lenta";
+                    } catch (InterruptedException e) {
+                        cancelada.countDown();
+                        throw e;
+                    }
+                },
+                () -> {
+                    iniciada.await();
+                    throw falha;
+                });
+
+        assertSame(falha, assertThrows(IllegalArgumentException.class, () -> execucao.executarTodas(tarefas)));
+        assertTrue(cancelada.await(5, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,199 @@
+package br.com.fiap.byteshoponlineapp.service.importacao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.fiap.byteshoponlineapp.domain.HistoricoStatus;
+import br.com.fiap.byteshoponlineapp.domain.SolicitacaoSuporte;
+import br.com.fiap.byteshoponlineapp.domain.enums.Prioridade;
+import br.com.fiap.byteshoponlineapp.domain.enums.StatusSolicitacao;
+import br.com.fiap.byteshoponlineapp.domain.repository.GravacaoParcialException;
+import br.com.fiap.byteshoponlineapp.domain.repository.MemoriaSolicitacaoSuporteRepository;
+import br.com.fiap.byteshoponlineapp.service.exception.RegraDeNegocioException;
+import br.com.fiap.byteshoponlineapp.service.execucao.ExecucaoParalela;
+import br.com.fiap.byteshoponlineapp.service.importacao.ImportadorSolicitacoes.ResumoImportacao;
+import jakarta.validation.Validation;
+
+/**
+ * Testes da importação em massa, com lotes pequenos para passar por várias rodadas paralelas
+ */
+class ImportadorSolicitacoesTest {
+
+    private MemoriaSolicitacaoSuporteRepository repository;
+    private ImportadorSolicitacoes importador;
+
+    @BeforeEach
+    void setUp() {
+        repository = new MemoriaSolicitacaoSuporteRepository(4, 64);
+        importador = new ImportadorSolicitacoes(repository, new ExecucaoParalela(Executors.newCachedThreadPool(), 2),
+                new SpringValidatorAdapter(Validation.buildDefaultValidatorFactory().getValidator()),
+                new ObjectMapper(), 3, 2, 100);
+    }
+
+    @Test
+    void csvComAspasQuebrasDeLinhaEColunasForaDeOrdem() {
+        String csv = """
+                Prioridade,Titulo,Descricao
+                ALTA,"Impressora, andar 3","Não imprime ""nada""
+                desde ontem"
+                baixa,Mouse quebrado,Botão direito não funciona
+
+                MEDIA,Teclado,Tecla enter presa
+                """;
+
+        ResumoImportacao resumo = importador.importar(corpo(csv), FormatoImportacao.CSV);
+
+        assertEquals("CONCLUIDA", resumo.estado());
+        assertEquals(3, resumo.lidas());
+        assertEquals(3, resumo.importadas());
+        assertEquals(0, resumo.rejeitadas());
+        SolicitacaoSuporte impressora = buscar("Impressora, andar 3");
+        assertEquals("Não imprime \"nada\"\ndesde ontem", impressora.getDescricao());
+        assertEquals(Prioridade.ALTA, impressora.getPrioridade());
+        assertEquals(StatusSolicitacao.ABERTA, impressora.getStatus());
+        assertEquals(Prioridade.BAIXA, buscar("Mouse quebrado").getPrioridade());
+    }
+
+    @Test
+    void preservaStatusEDatasOriginais() {
+        String ndjson = """
+                {"titulo":"Servidor lento","descricao":"Respostas acima de 5 segundos","prioridade":"ALTA","status":"RESOLVIDA","dataCriacao":"2024-03-01T10:00:00","dataAtualizacao":"2024-03-02T15:30:00"}
+                {"titulo":"VPN caiu","descricao":"Sem acesso remoto desde cedo","prioridade":"MEDIA","dataCriacao":"2024-03-05"}
+                """;
+
+        ResumoImportacao resumo = importador.importar(corpo(ndjson), FormatoImportacao.NDJSON);
+
+        assertEquals(2, resumo.importadas());
+        SolicitacaoSuporte servidor = buscar("Servidor lento");
+        assertEquals(StatusSolicitacao.RESOLVIDA, servidor.getStatus());
+        assertEquals(LocalDateTime.of(2024, 3, 1, 10, 0), servidor.getDataCriacao());
+        assertEquals(LocalDateTime.of(2024, 3, 2, 15, 30), servidor.getDataAtualizacao());
+        List<HistoricoStatus.Transicao> historico = servidor.getHistorico().listar();
+        assertEquals(2, historico.size());
+        assertEquals(new HistoricoStatus.Transicao(StatusSolicitacao.ABERTA, LocalDateTime.of(2024, 3, 1, 10, 0)),
+                historico.get(0));
+        assertEquals(new HistoricoStatus.Transicao(StatusSolicitacao.RESOLVIDA, LocalDateTime.of(2024, 3, 2, 15, 30)),
+                historico.get(1));
+
+        SolicitacaoSuporte vpn = buscar("VPN caiu");
+        assertEquals(LocalDateTime.of(2024, 3, 5, 0, 0), vpn.getDataCriacao());
+        assertEquals(vpn.getDataCriacao(), vpn.getDataAtualizacao());
+    }
+
+    @Test
+    void registrosInvalidosSaoRejeitadosComALinhaEOsDemaisImportados() {
+        String ndjson = """
+                {"titulo":"Monitor piscando","descricao":"Tela pisca a cada minuto","prioridade":"BAIXA"}
+                {"titulo":"abc","descricao":"Título curto demais","prioridade":"BAIXA"}
+                {"titulo":"Sem prioridade","descricao":"Falta o campo prioridade"}
+                não é json
+                {"titulo":"Status inventado","descricao":"Status fora do enum","prioridade":"ALTA","status":"PERDIDA"}
+                {"titulo":"Datas trocadas","descricao":"Atualização antes da criação","prioridade":"ALTA","dataCriacao":"2024-03-02","dataAtualizacao":"2024-03-01"}
+                {"titulo":"Do futuro","descricao":"Criada depois de agora","prioridade":"ALTA","dataCriacao":"2999-01-01"}
+                {"titulo":"Rede instável","descricao":"Quedas frequentes no Wi-Fi","prioridade":"MEDIA"}
+                """;
+
+        ResumoImportacao resumo = importador.importar(corpo(ndjson), FormatoImportacao.NDJSON);
+
+        assertEquals(8, resumo.lidas());
+        assertEquals(2, resumo.importadas());
+        assertEquals(6, resumo.rejeitadas());
+        assertEquals(2, repository.count());
+        assertEquals(List.of(2L, 3L, 4L, 5L, 6L, 7L), resumo.erros().stream()
+                .map(ImportadorSolicitacoes.ErroLinha::linha).sorted(Comparator.naturalOrder()).toList());
+        assertTrue(resumo.erros().get(0).mensagem().startsWith("titulo:"));
+        assertFalse(resumo.errosTruncados());
+    }
+
+    @Test
+    void csvSemColunaObrigatoriaFalhaEErrosAlemDoLimiteSaoTruncados() {
+        assertThrows(RegraDeNegocioException.class,
+                () -> importador.importar(corpo("titulo,descricao\nImpressora,Não imprime\n"), FormatoImportacao.CSV));
+        assertEquals("FALHOU", importador.listar().get(0).estado());
+
+        ImportadorSolicitacoes limitado = new ImportadorSolicitacoes(repository,
+                new ExecucaoParalela(Executors.newCachedThreadPool(), 2),
+                new SpringValidatorAdapter(Validation.buildDefaultValidatorFactory().getValidator()),
+                new ObjectMapper(), 3, 2, 2);
+        StringBuilder csv = new StringBuilder("titulo,descricao,prioridade\n");
+        for (int i = 0; i < 10; i++) {
+            csv.append("Registro ").append(i).append(",curta,ALTA,coluna a mais\n");
+        }
+
+        ResumoImportacao resumo = limitado.importar(corpo(csv.toString()), FormatoImportacao.CSV);
+
+        assertEquals(10, resumo.rejeitadas());
+        assertEquals(2, resumo.erros().size());
+        assertTrue(resumo.errosTruncados());
+        assertEquals(0, repository.count());
+    }
+
+    @Test
+    void linhaQueORepositorioNaoGravaViraErroSemDerrubarOLote() {
+        // Simula o saveAll do JDBC quando uma linha do lote é recusada pelo banco
+        MemoriaSolicitacaoSuporteRepository parcial = new MemoriaSolicitacaoSuporteRepository(4, 64) {
+            @Override
+            public List<SolicitacaoSuporte> saveAll(List<SolicitacaoSuporte> solicitacoes) {
+                Map<Long, String> falhas = new HashMap<>();
+                for (SolicitacaoSuporte solicitacao : solicitacoes) {
+                    if (solicitacao.getTitulo().startsWith("Recusada")) {
+                        solicitacao.setId(-1L);
+                        falhas.put(solicitacao.getId(), "violação de restrição");
+                    } else {
+                        save(solicitacao);
+                    }
+                }
+                if (!falhas.isEmpty()) {
+                    throw new GravacaoParcialException(falhas, null);
+                }
+                return solicitacoes;
+            }
+        };
+        ImportadorSolicitacoes comFalhas = new ImportadorSolicitacoes(parcial,
+                new ExecucaoParalela(Executors.newCachedThreadPool(), 2),
+                new SpringValidatorAdapter(Validation.buildDefaultValidatorFactory().getValidator()),
+                new ObjectMapper(), 3, 2, 100);
+        String csv = """
+                titulo,descricao,prioridade
+                Monitor piscando,Tela pisca a cada minuto,BAIXA
+                Recusada pelo banco,Linha que o banco recusa,ALTA
+                Rede instável,Quedas frequentes no Wi-Fi,MEDIA
+                Teclado travado,Tecla enter presa,MEDIA
+                """;
+
+        ResumoImportacao resumo = comFalhas.importar(corpo(csv), FormatoImportacao.CSV);
+
+        assertEquals("CONCLUIDA", resumo.estado());
+        assertEquals(3, resumo.importadas());
+        assertEquals(1, resumo.rejeitadas());
+        assertEquals(3, parcial.count());
+        assertEquals(3L, resumo.erros().get(0).linha());
+        assertEquals("Falha ao gravar: violação de restrição", resumo.erros().get(0).mensagem());
+    }
+
+    private SolicitacaoSuporte buscar(String titulo) {
+        return repository.findAll().stream().filter(s -> s.getTitulo().equals(titulo)).findFirst().orElseThrow();
+    }
+
+    private static InputStream corpo(String texto) {
+        return new ByteArrayInputStream(texto.getBytes(StandardCharsets.UTF_8));
+    }
+}
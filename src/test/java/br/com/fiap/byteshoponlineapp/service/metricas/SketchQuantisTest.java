@@ -0,0 +1,43 @@
+package br.com.fiap.byteshoponlineapp.service.metricas;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class SketchQuantisTest {
+
+    @Test
+    void quantisFicamDentroDoErroRelativoDeUmPorCento() {
+        SketchQuantis sketch = new SketchQuantis();
+        for (long valor = 1; valor <= 100_000; valor++) {
+            sketch.registrar(valor);
+        }
+
+        assertEquals(100_000, sketch.amostras());
+        assertEquals(100_000, sketch.maximo());
+        for (double q : new double[] {0.5, 0.9, 0.99}) {
+            double esperado = q * 100_000;
+            double erro = Math.abs(sketch.quantil(q) - esperado) / esperado;
+            assertTrue(erro <= 0.01, "quantil " + q + " com erro relativo " + erro);
+        }
+    }
+
+    @Test
+    void vazioRespondeZeroEValoresNegativosContamComoZero() {
+        SketchQuantis sketch = new SketchQuantis();
+        assertEquals(0, sketch.quantil(0.5));
+
+        sketch.registrar(-10);
+        assertEquals(1, sketch.amostras());
+        assertEquals(0, sketch.maximo());
+        assertEquals(0, sketch.quantil(0.99));
+    }
+
+    @Test
+    void quantilNuncaPassaDoMaximoRegistrado() {
+        SketchQuantis sketch = new SketchQuantis();
+        sketch.registrar(1_234);
+        assertEquals(1_234, sketch.quantil(1.0));
+    }
+}
@@ -0,0 +1,150 @@
+package br.com.fiap.byteshoponlineapp.service.sla;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import br.com.fiap.byteshoponlineapp.api.dto.SolicitacaoSuporteRequest;
+import br.com.fiap.byteshoponlineapp.domain.SolicitacaoSuporte;
+import br.com.fiap.byteshoponlineapp.domain.enums.Prioridade;
+import br.com.fiap.byteshoponlineapp.domain.enums.StatusSolicitacao;
+import br.com.fiap.byteshoponlineapp.domain.repository.MemoriaSolicitacaoSuporteRepository;
+import br.com.fiap.byteshoponlineapp.domain.repository.arquivo.ArquivoFrio;
+import br.com.fiap.byteshoponlineapp.domain.repository.indice.IndiceBitmap;
+import br.com.fiap.byteshoponlineapp.domain.repository.indice.IndiceOrdenado;
+import br.com.fiap.byteshoponlineapp.service.MetricasTempoService;
+import br.com.fiap.byteshoponlineapp.service.SolicitacaoSuporteService;
+import br.com.fiap.byteshoponlineapp.service.evento.EventoSolicitacao;
+import br.com.fiap.byteshoponlineapp.service.execucao.ExecucaoParalela;
+
+/**
+ * Testes da roda de temporização e da escalada de prioridade por SLA, com relógio manual
+ */
+class EscalonadorSlaTest {
+
+    private static final long HORA = Duration.ofHours(1).toMillis();
+
+    @TempDir
+    Path diretorio;
+
+    private final List<EventoSolicitacao> eventos = new ArrayList<>();
+    private final AtomicLong relogio = new AtomicLong();
+    private MemoriaSolicitacaoSuporteRepository repository;
+    private SolicitacaoSuporteService service;
+    private EscalonadorSla escalonador;
+
+    @BeforeEach
+    void setUp() {
+        relogio.set(System.currentTimeMillis());
+        repository = new MemoriaSolicitacaoSuporteRepository(4, 64);
+        ArquivoFrio arquivoFrio = new ArquivoFrio(diretorio.toString());
+        IndiceBitmap indiceBitmap = new IndiceBitmap(repository, arquivoFrio);
+        indiceBitmap.iniciar();
+        IndiceOrdenado indiceOrdenado = new IndiceOrdenado(repository, arquivoFrio);
+        indiceOrdenado.iniciar();
+        service = new SolicitacaoSuporteService(repository, new MetricasTempoService(), arquivoFrio, indiceBitmap,
+                indiceOrdenado, new ExecucaoParalela(Executors.newCachedThreadPool(), 2), evento -> {
+                    if (evento instanceof EventoSolicitacao e) {
+                        eventos.add(e);
+                    }
+                });
+
+        SlaProperties properties = new SlaProperties();
+        properties.setTamanhoRoda(64);
+        escalonador = new EscalonadorSla(properties, repository, service, relogio::get);
+        // Sem a thread do escalonador: o teste avança a roda sozinho
+        repository.adicionarOuvinte(escalonador);
+    }
+
+    @Test
+    void rodaDisparaNoTickSeguinteAoPrazoInclusiveAposVariasVoltas() {
+        List<Long> disparados = new ArrayList<>();
+        RodaTemporizacao roda = new RodaTemporizacao(10, 8, 0, (chave, dado) -> disparados.add(chave));
+
+        roda.agendar(25, 1, 0);
+        roda.agendar(5_000, 2, 0);
+        RodaTemporizacao.Temporizador cancelado = roda.agendar(30, 3, 0);
+        roda.agendar(-100, 4, 0);
+        assertEquals(4, roda.pendentes());
+
+        assertTrue(cancelado.cancelar());
+        assertFalse(cancelado.cancelar());
+        roda.avancar(29);
+        assertEquals(List.of(4L), disparados);
+        roda.avancar(30);
+        assertEquals(List.of(4L, 1L), disparados);
+
+        roda.avancar(5_009);
+        assertEquals(List.of(4L, 1L), disparados);
+        roda.avancar(5_010);
+        assertEquals(List.of(4L, 1L, 2L), disparados);
+        assertEquals(0, roda.pendentes());
+    }
+
+    @Test
+    void escalaAteCriticaRespeitandoAIdadeDesdeACriacao() {
+        Long id = criar(Prioridade.BAIXA).getId();
+        assertEquals(1, escalonador.pendentes());
+
+        escalonador.avancar(relogio.addAndGet(23 * HORA));
+        assertEquals(Prioridade.BAIXA, repository.findById(id).orElseThrow().getPrioridade());
+
+        escalonador.avancar(relogio.addAndGet(HORA + 2_000));
+        assertEquals(Prioridade.MEDIA, repository.findById(id).orElseThrow().getPrioridade());
+        escalonador.avancar(relogio.addAndGet(24 * HORA));
+        assertEquals(Prioridade.ALTA, repository.findById(id).orElseThrow().getPrioridade());
+        escalonador.avancar(relogio.addAndGet(24 * HORA));
+        assertEquals(Prioridade.CRITICA, repository.findById(id).orElseThrow().getPrioridade());
+
+        assertEquals(3, escalonador.escaladas());
+        assertEquals(0, escalonador.pendentes());
+        assertEquals(3, eventos.stream().filter(e -> e.tipo() == EventoSolicitacao.Tipo.PRIORIDADE_ESCALADA).count());
+    }
+
+    @Test
+    void transicaoERemocaoCancelamOPrazo() {
+        Long emAndamento = criar(Prioridade.BAIXA).getId();
+        Long removida = criar(Prioridade.MEDIA).getId();
+        Long aberta = criar(Prioridade.ALTA).getId();
+        assertEquals(3, escalonador.pendentes());
+
+        service.atualizarStatus(emAndamento, StatusSolicitacao.EM_ANDAMENTO);
+        service.remover(removida);
+        assertEquals(1, escalonador.pendentes());
+
+        escalonador.avancar(relogio.addAndGet(73 * HORA));
+        assertEquals(Prioridade.BAIXA, repository.findById(emAndamento).orElseThrow().getPrioridade());
+        assertEquals(Prioridade.CRITICA, repository.findById(aberta).orElseThrow().getPrioridade());
+        assertEquals(1, escalonador.escaladas());
+    }
+
+    @Test
+    void escaladaObsoletaNaoAlteraASolicitacao() {
+        SolicitacaoSuporte solicitacao = criar(Prioridade.BAIXA);
+
+        // A prioridade mudou por fora do escalonador: a escalada agendada para BAIXA não vale mais
+        assertFalse(service.escalarPrioridade(solicitacao.getId(), Prioridade.MEDIA));
+        service.atualizarStatus(solicitacao.getId(), StatusSolicitacao.EM_ANDAMENTO);
+        assertFalse(service.escalarPrioridade(solicitacao.getId(), Prioridade.BAIXA));
+        assertEquals(Prioridade.BAIXA, repository.findById(solicitacao.getId()).orElseThrow().getPrioridade());
+    }
+
+    private SolicitacaoSuporte criar(Prioridade prioridade) {
+        SolicitacaoSuporteRequest request = new SolicitacaoSuporteRequest();
+        request.setTitulo("Solicitação " + prioridade);
+        request.setDescricao("Descrição da solicitação");
+        request.setPrioridade(prioridade);
+        return service.criar(request);
+    }
+}
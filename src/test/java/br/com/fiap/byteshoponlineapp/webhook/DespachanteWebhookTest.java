@@ -0,0 +1,175 @@
+package br.com.fiap.byteshoponlineapp.webhook;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import br.com.fiap.byteshoponlineapp.domain.enums.Prioridade;
+import br.com.fiap.byteshoponlineapp.domain.enums.StatusSolicitacao;
+import br.com.fiap.byteshoponlineapp.service.evento.EventoSolicitacao;
+
+class DespachanteWebhookTest {
+
+    private final ObjectMapper mapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    // Receptor local: guarda o corpo de cada POST recebido
+    private HttpServer receptor;
+    private final List<JsonNode> lotes = new CopyOnWriteArrayList<>();
+    private final List<String> idsLote = new CopyOnWriteArrayList<>();
+    private final AtomicInteger falhasRestantes = new AtomicInteger();
+    private volatile CountDownLatch liberar = new CountDownLatch(0);
+    private DespachanteWebhook despachante;
+
+    @BeforeEach
+    void iniciarReceptor() throws IOException {
+        receptor = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        receptor.createContext("/", this::receber);
+        receptor.start();
+    }
+
+    @AfterEach
+    void encerrar() throws InterruptedException {
+        liberar.countDown();
+        if (despachante != null) {
+            despachante.encerrar();
+        }
+        receptor.stop(0);
+    }
+
+    private void receber(HttpExchange troca) throws IOException {
+        try (troca) {
+            liberar.await();
+            byte[] corpo = troca.getRequestBody().readAllBytes();
+            if (falhasRestantes.getAndDecrement() > 0) {
+                troca.sendResponseHeaders(503, -1);
+                return;
+            }
+            lotes.add(mapper.readTree(corpo));
+            idsLote.add(troca.getRequestHeaders().getFirst(DestinoWebhook.HEADER_LOTE));
+            troca.sendResponseHeaders(204, -1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private DespachanteWebhook despachante(WebhookProperties.Destino destino, int capacidadeFila) {
+        WebhookProperties properties = new WebhookProperties();
+        properties.setCapacidadeFila(capacidadeFila);
+        properties.setTamanhoLote(10);
+        properties.setEsperaLote(Duration.ofMillis(50));
+        properties.setConcorrencia(1);
+        properties.setBackoffInicial(Duration.ofMillis(10));
+        properties.setBackoffMaximo(Duration.ofMillis(20));
+        properties.setPrazoEncerramento(Duration.ofSeconds(2));
+        properties.setDestinos(List.of(destino));
+        despachante = new DespachanteWebhook(properties, mapper);
+        despachante.iniciar();
+        return despachante;
+    }
+
+    private WebhookProperties.Destino destino() {
+        return new WebhookProperties.Destino("teste", "http://localhost:" + receptor.getAddress().getPort() + "/eventos");
+    }
+
+    private static EventoSolicitacao evento(long id, EventoSolicitacao.Tipo tipo, Prioridade prioridade) {
+        return new EventoSolicitacao(tipo, id, "Solicitação " + id, StatusSolicitacao.ABERTA, null, prioridade,
+                LocalDateTime.of(2025, 11, 3, 10, 0));
+    }
+
+    private static void esperar(java.util.function.BooleanSupplier condicao) throws InterruptedException {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condicao.getAsBoolean() && System.nanoTime() < limite) {
+            Thread.sleep(10);
+        }
+        assertTrue(condicao.getAsBoolean(), "condição não atingida em 5 s");
+    }
+
+    @Test
+    void agrupaEventosEmLotesLimitadosEntregandoTodosEmOrdem() throws InterruptedException {
+        DespachanteWebhook despachante = despachante(destino(), 1_000);
+        liberar = new CountDownLatch(1);
+        for (long id = 1; id <= 25; id++) {
+            despachante.aoEvento(evento(id, EventoSolicitacao.Tipo.CRIADA, Prioridade.ALTA));
+        }
+        liberar.countDown();
+
+        esperar(() -> despachante.estatisticas().get(0).entregues() == 25);
+        long esperado = 1;
+        for (JsonNode lote : lotes) {
+            assertTrue(lote.size() <= 10);
+            for (JsonNode evento : lote) {
+                assertEquals(esperado++, evento.get("id").asLong());
+                assertEquals("CRIADA", evento.get("tipo").asText());
+            }
+        }
+        assertTrue(lotes.size() >= 3, "25 eventos em lotes de até 10");
+    }
+
+    @Test
+    void repeteComBackoffMantendoOIdDoLote() throws InterruptedException {
+        falhasRestantes.set(2);
+        DespachanteWebhook despachante = despachante(destino(), 1_000);
+        despachante.aoEvento(evento(1, EventoSolicitacao.Tipo.ENCERRADA, Prioridade.BAIXA));
+
+        esperar(() -> despachante.estatisticas().get(0).entregues() == 1);
+        DespachanteWebhook.EstatisticasDestino estatisticas = despachante.estatisticas().get(0);
+        assertEquals(2, estatisticas.tentativasFalhas());
+        assertEquals(1, estatisticas.lotesEntregues());
+        assertEquals(List.of("teste-1"), idsLote);
+    }
+
+    @Test
+    void filtraPorTipoEPrioridade() throws InterruptedException {
+        WebhookProperties.Destino destino = destino();
+        destino.setEventos(EnumSet.of(EventoSolicitacao.Tipo.CRIADA));
+        destino.setPrioridades(EnumSet.of(Prioridade.CRITICA));
+        DespachanteWebhook despachante = despachante(destino, 1_000);
+
+        despachante.aoEvento(evento(1, EventoSolicitacao.Tipo.CRIADA, Prioridade.ALTA));
+        despachante.aoEvento(evento(2, EventoSolicitacao.Tipo.ENCERRADA, Prioridade.CRITICA));
+        despachante.aoEvento(evento(3, EventoSolicitacao.Tipo.CRIADA, Prioridade.CRITICA));
+
+        esperar(() -> despachante.estatisticas().get(0).entregues() == 1);
+        assertEquals(3, lotes.get(0).get(0).get("id").asLong());
+    }
+
+    @Test
+    void receptorLentoNaoBloqueiaQuemPublica() throws InterruptedException {
+        liberar = new CountDownLatch(1);
+        DespachanteWebhook despachante = despachante(destino(), 100);
+
+        long inicio = System.nanoTime();
+        for (long id = 1; id <= 10_000; id++) {
+            despachante.aoEvento(evento(id, EventoSolicitacao.Tipo.CRIADA, Prioridade.MEDIA));
+        }
+        long decorridoMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio);
+
+        DespachanteWebhook.EstatisticasDestino estatisticas = despachante.estatisticas().get(0);
+        assertTrue(decorridoMs < 1_000, "publicação levou " + decorridoMs + " ms");
+        assertTrue(estatisticas.descartadosFilaCheia() >= 10_000 - 100 - 10);
+        assertTrue(estatisticas.pendentes() <= 100);
+    }
+}